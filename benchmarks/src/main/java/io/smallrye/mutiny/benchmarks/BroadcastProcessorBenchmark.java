@@ -0,0 +1,101 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Measures a {@link BroadcastProcessor} emitting items to {@code subscribers} long-lived subscribers while other
+ * threads keep subscribing and cancelling short-lived subscribers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class BroadcastProcessorBenchmark {
+
+    @Param({ "10", "1000" })
+    public int subscribers;
+
+    private BroadcastProcessor<Integer> processor;
+
+    @Setup
+    public void setup() {
+        processor = BroadcastProcessor.create();
+        for (int i = 0; i < subscribers; i++) {
+            processor.subscribe().withSubscriber(new CountingSubscriber());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        processor.onComplete();
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(1)
+    public void emit() {
+        processor.onNext(1);
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(3)
+    public void subscribeAndCancel(Blackhole blackhole) {
+        CountingSubscriber subscriber = processor.subscribe().withSubscriber(new CountingSubscriber());
+        subscriber.cancel();
+        blackhole.consume(subscriber.count);
+    }
+
+    static final class CountingSubscriber implements MultiSubscriber<Integer> {
+
+        private Subscription subscription;
+        long count;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onItem(Integer item) {
+            count++;
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            // ignored
+        }
+
+        @Override
+        public void onCompletion() {
+            // ignored
+        }
+
+        void cancel() {
+            subscription.cancel();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Measures the buffering of items into lists ({@code group().intoLists().of(size)}). With a synchronous source, the
+ * buffer fuses with the source and fills the lists by polling it, without any per-item signal or request. The
+ * {@code bufferWithoutFusion} variant inserts a {@code map}, which does not negotiate fusion, in between.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BufferBenchmark {
+
+    @Param({ "1000000" })
+    public int count;
+
+    @Param({ "256" })
+    public int size;
+
+    private Multi<Integer> source;
+
+    @Setup
+    public void setup() {
+        List<Integer> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(i);
+        }
+        source = Multi.createFrom().iterable(items);
+    }
+
+    @Benchmark
+    public void buffer(Blackhole blackhole) {
+        source
+                .group().intoLists().of(size)
+                .subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void bufferWithoutFusion(Blackhole blackhole) {
+        source
+                .map(Function.identity())
+                .group().intoLists().of(size)
+                .subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+}
@@ -0,0 +1,83 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Measures the registry of the inner subscribers of the flatMap operators: thousands of short-lived inner {@link Uni}
+ * are merged, and complete on different threads, so the inner subscribers are constantly added and removed while the
+ * upstream emits.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlatMapRegistryBenchmark {
+
+    @Param({ "10000" })
+    public int count;
+
+    @Param({ "4", "256" })
+    public int concurrency;
+
+    @Param({ "4" })
+    public int threads;
+
+    private Multi<Integer> source;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        List<Integer> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(i);
+        }
+        source = Multi.createFrom().iterable(items);
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void mergeShortLivedUnis(Blackhole blackhole) throws InterruptedException {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        source
+                .onItem().transformToUni(i -> Uni.createFrom().item(i).emitOn(executor)).merge(concurrency)
+                .subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+
+    @Benchmark
+    public void mergeShortLivedMultis(Blackhole blackhole) throws InterruptedException {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        source
+                .onItem().transformToMulti(i -> Multi.createFrom().items(i, i).emitOn(executor)).merge(concurrency)
+                .subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+}
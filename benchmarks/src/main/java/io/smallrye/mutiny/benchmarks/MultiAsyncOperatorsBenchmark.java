@@ -0,0 +1,113 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Measures the hot-path {@link Multi} operators on asynchronous pipelines: items cross a thread boundary before
+ * reaching the operators, or the inner streams of the flatMap operators complete on another thread.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MultiAsyncOperatorsBenchmark {
+
+    @Param({ "1", "1000", "100000" })
+    public int count;
+
+    private Multi<Integer> source;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        List<Integer> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(i);
+        }
+        source = Multi.createFrom().iterable(items);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void emitOn(Blackhole blackhole) throws InterruptedException {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        source
+                .emitOn(executor)
+                .subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+
+    @Benchmark
+    public void runSubscriptionOn(Blackhole blackhole) throws InterruptedException {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        source
+                .runSubscriptionOn(executor)
+                .subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+
+    @Benchmark
+    public void emitOnMapFilter(Blackhole blackhole) throws InterruptedException {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        source
+                .emitOn(executor)
+                .map(i -> i + 1)
+                .filter(i -> (i & 1) == 0)
+                .subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+
+    @Benchmark
+    public void flatMapMergeAsyncInners(Blackhole blackhole) throws InterruptedException {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        source
+                .onItem().transformToMultiAndMerge(i -> Multi.createFrom().item(i).emitOn(executor))
+                .subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+
+    @Benchmark
+    public void transformToUniAndMergeAsyncInners(Blackhole blackhole) throws InterruptedException {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        source
+                .onItem().transformToUniAndMerge(i -> Uni.createFrom().item(i).emitOn(executor))
+                .subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+
+    @Benchmark
+    public void concatAsync(Blackhole blackhole) throws InterruptedException {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        Multi.createBy().concatenating().streams(source.emitOn(executor), source.emitOn(executor))
+                .subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+}
@@ -0,0 +1,106 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Measures the hot-path {@link Multi} operators on synchronous pipelines: the source, the operators and the subscriber
+ * all run on the benchmark thread.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MultiOperatorsBenchmark {
+
+    @Param({ "1", "1000", "1000000" })
+    public int count;
+
+    private Multi<Integer> source;
+
+    @Setup
+    public void setup() {
+        List<Integer> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(i);
+        }
+        source = Multi.createFrom().iterable(items);
+    }
+
+    @Benchmark
+    public void source(Blackhole blackhole) {
+        source.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void map(Blackhole blackhole) {
+        source
+                .map(i -> i + 1)
+                .subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void filter(Blackhole blackhole) {
+        source
+                .filter(i -> (i & 1) == 0)
+                .subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void mapFilterInvokeChain(Blackhole blackhole) {
+        source
+                .map(i -> i + 1)
+                .filter(i -> (i & 1) == 0)
+                .invoke(blackhole::consume)
+                .map(i -> i * 2)
+                .filter(i -> i % 3 != 0)
+                .invoke(blackhole::consume)
+                .subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void flatMapMerge(Blackhole blackhole) {
+        source
+                .onItem().transformToMultiAndMerge(i -> Multi.createFrom().item(i))
+                .subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void flatMapConcatenate(Blackhole blackhole) {
+        source
+                .onItem().transformToMultiAndConcatenate(i -> Multi.createFrom().item(i))
+                .subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void transformToUniAndMerge(Blackhole blackhole) {
+        source
+                .onItem().transformToUniAndMerge(i -> Uni.createFrom().item(i))
+                .subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void concat(Blackhole blackhole) {
+        Multi.createBy().concatenating().streams(source, source)
+                .subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+}
@@ -0,0 +1,76 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Subscribes to short streams going through stateful operators ({@code flatMap}, {@code emitOn}, {@code group().by()}).
+ * With so few items, the cost is dominated by the per-subscription setup, and so by the operator state allocated on
+ * each subscription.
+ * <p>
+ * Run it with the GC profiler ({@code -prof gc}) and compare the {@code gc.alloc.rate.norm} values (bytes allocated
+ * per operation).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OperatorAllocationBenchmark {
+
+    private static final Executor CALLER_THREAD = Runnable::run;
+
+    @Param({ "1", "10" })
+    public int count;
+
+    private Multi<Integer> source;
+
+    @Setup
+    public void setup() {
+        List<Integer> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(i);
+        }
+        source = Multi.createFrom().iterable(items);
+    }
+
+    @Benchmark
+    public void flatMap(Blackhole blackhole) {
+        source
+                .onItem().transformToMultiAndMerge(i -> Multi.createFrom().item(i))
+                .subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void emitOn(Blackhole blackhole) {
+        source
+                .emitOn(CALLER_THREAD)
+                .subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void groupBy(Blackhole blackhole) {
+        source
+                .group().by(i -> i & 1)
+                .onItem().transformToMultiAndMerge(group -> group)
+                .subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+}
@@ -0,0 +1,72 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.mutiny.helpers.PaddedAtomicLong;
+
+/**
+ * Two threads each updating their own counter, like a producer index and a consumer index, or a {@code requested}
+ * counter and a {@code wip} counter. With plain {@link AtomicLong}, allocated next to each other, both counters share a
+ * cache line and the threads keep invalidating each other's cache. {@link PaddedAtomicLong} avoids that.
+ * Run it on a multi-core machine.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaddedCounterBenchmark {
+
+    @State(Scope.Group)
+    public static class PlainCounters {
+        final AtomicLong producer = new AtomicLong();
+        final AtomicLong consumer = new AtomicLong();
+    }
+
+    @State(Scope.Group)
+    public static class PaddedCounters {
+        final PaddedAtomicLong producer = new PaddedAtomicLong();
+        final PaddedAtomicLong consumer = new PaddedAtomicLong();
+    }
+
+    @Benchmark
+    @Group("plain")
+    @GroupThreads(1)
+    public long plainProducer(PlainCounters counters) {
+        return counters.producer.incrementAndGet();
+    }
+
+    @Benchmark
+    @Group("plain")
+    @GroupThreads(1)
+    public long plainConsumer(PlainCounters counters) {
+        return counters.consumer.incrementAndGet();
+    }
+
+    @Benchmark
+    @Group("padded")
+    @GroupThreads(1)
+    public long paddedProducer(PaddedCounters counters) {
+        return counters.producer.incrementAndGet();
+    }
+
+    @Benchmark
+    @Group("padded")
+    @GroupThreads(1)
+    public long paddedConsumer(PaddedCounters counters) {
+        return counters.consumer.incrementAndGet();
+    }
+}
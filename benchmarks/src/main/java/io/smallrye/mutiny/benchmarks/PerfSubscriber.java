@@ -0,0 +1,60 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * A {@link MultiSubscriber} requesting everything and sinking the received items into a {@link Blackhole}.
+ * <p>
+ * Asynchronous benchmarks must call {@link #await()} to wait for the terminal event.
+ *
+ * @param <T> the type of item
+ */
+public final class PerfSubscriber<T> implements MultiSubscriber<T> {
+
+    private final Blackhole blackhole;
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    public PerfSubscriber(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onItem(T item) {
+        blackhole.consume(item);
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        blackhole.consume(failure);
+        latch.countDown();
+    }
+
+    @Override
+    public void onCompletion() {
+        blackhole.consume(true);
+        latch.countDown();
+    }
+
+    /**
+     * Waits for the terminal event.
+     *
+     * @throws InterruptedException if the waiting thread has been interrupted
+     * @throws IllegalStateException if the stream has not terminated within 30 seconds
+     */
+    public void await() throws InterruptedException {
+        if (!latch.await(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("The stream did not terminate in time");
+        }
+    }
+}
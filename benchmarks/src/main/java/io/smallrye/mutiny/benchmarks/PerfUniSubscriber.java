@@ -0,0 +1,55 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+/**
+ * A {@link UniSubscriber} sinking the received item or failure into a {@link Blackhole}.
+ * <p>
+ * Asynchronous benchmarks must call {@link #await()} to wait for the event.
+ *
+ * @param <T> the type of item
+ */
+public final class PerfUniSubscriber<T> implements UniSubscriber<T> {
+
+    private final Blackhole blackhole;
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    public PerfUniSubscriber(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void onSubscribe(UniSubscription subscription) {
+        // Nothing to do, the item is requested by subscribing.
+    }
+
+    @Override
+    public void onItem(T item) {
+        blackhole.consume(item);
+        latch.countDown();
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        blackhole.consume(failure);
+        latch.countDown();
+    }
+
+    /**
+     * Waits for the item or failure event.
+     *
+     * @throws InterruptedException if the waiting thread has been interrupted
+     * @throws IllegalStateException if no event has been received within 30 seconds
+     */
+    public void await() throws InterruptedException {
+        if (!latch.await(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("The uni did not emit in time");
+        }
+    }
+}
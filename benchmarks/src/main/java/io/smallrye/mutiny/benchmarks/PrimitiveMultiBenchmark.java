@@ -0,0 +1,69 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Compares a numeric pipeline (map, filter, sum) on boxed {@link Multi Multi&lt;Integer&gt;} and on
+ * {@link io.smallrye.mutiny.MultiInt}. Run it with {@code -prof gc} to also compare the allocations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveMultiBenchmark {
+
+    @Param({ "1000", "1000000" })
+    public int count;
+
+    @Benchmark
+    public void boxedSum(Blackhole blackhole) {
+        Multi.createFrom().range(0, count)
+                .map(i -> i * 3)
+                .filter(i -> (i & 1) == 0)
+                .collect().with(Collectors.summingLong(i -> i))
+                .subscribe().with(blackhole::consume);
+    }
+
+    @Benchmark
+    public void primitiveSum(Blackhole blackhole) {
+        Multi.createFrom().intRange(0, count)
+                .map(i -> i * 3)
+                .filter(i -> (i & 1) == 0)
+                .sum()
+                .subscribe().with(blackhole::consume);
+    }
+
+    @Benchmark
+    public void boxedStream(Blackhole blackhole) {
+        Multi.createFrom().range(0, count)
+                .map(i -> i * 3)
+                .filter(i -> (i & 1) == 0)
+                .subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void primitiveStream(Blackhole blackhole) {
+        Multi.createFrom().intRange(0, count)
+                .map(i -> i * 3)
+                .filter(i -> (i & 1) == 0)
+                .boxed()
+                .subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+}
@@ -0,0 +1,88 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.mutiny.helpers.queues.MpscArrayQueue;
+import io.smallrye.mutiny.helpers.queues.MpscLinkedArrayQueue;
+import io.smallrye.mutiny.helpers.queues.SpscArrayQueue;
+import io.smallrye.mutiny.helpers.queues.SpscLinkedArrayQueue;
+
+/**
+ * Measures the throughput of the queues with a producer thread and a consumer thread running concurrently.
+ * <p>
+ * The producer and consumer indices are updated by different threads: this benchmark is sensitive to false sharing
+ * between them. Run it on a multi-core machine.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class QueueBenchmark {
+
+    private static final Integer ITEM = 1;
+    private static final int CAPACITY = 1024;
+    private static final int CHUNK_SIZE = 256;
+
+    @Param({ "spsc-array", "spsc-linked", "mpsc-array", "mpsc-linked" })
+    public String type;
+
+    private Queue<Integer> queue;
+    private boolean bounded;
+
+    @Setup
+    public void setup() {
+        switch (type) {
+            case "spsc-array":
+                queue = new SpscArrayQueue<>(CAPACITY);
+                bounded = true;
+                break;
+            case "spsc-linked":
+                queue = new SpscLinkedArrayQueue<>(CHUNK_SIZE);
+                break;
+            case "mpsc-array":
+                queue = new MpscArrayQueue<>(CAPACITY);
+                bounded = true;
+                break;
+            case "mpsc-linked":
+                queue = new MpscLinkedArrayQueue<>(CHUNK_SIZE);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown queue type " + type);
+        }
+    }
+
+    @Benchmark
+    @Group("producerConsumer")
+    @GroupThreads(1)
+    public boolean offer() {
+        // Do not let the unbounded queues grow forever when the producer is faster
+        if (!bounded && queue.size() >= CAPACITY) {
+            return false;
+        }
+        return queue.offer(ITEM);
+    }
+
+    @Benchmark
+    @Group("producerConsumer")
+    @GroupThreads(1)
+    public Integer poll() {
+        return queue.poll();
+    }
+}
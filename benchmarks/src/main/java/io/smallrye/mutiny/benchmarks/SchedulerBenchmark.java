@@ -0,0 +1,67 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.mutiny.infrastructure.MutinyScheduler;
+import io.smallrye.mutiny.infrastructure.TimerWheelScheduler;
+
+/**
+ * Measures the cost of arming a timeout and cancelling it before it expires, the typical pattern of
+ * {@code uni.ifNoItem().after(...)}, from several threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class SchedulerBenchmark {
+
+    @Param({ "MutinyScheduler", "TimerWheelScheduler" })
+    public String scheduler;
+
+    private ExecutorService executor;
+    private ScheduledExecutorService service;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newFixedThreadPool(4);
+        if ("MutinyScheduler".equals(scheduler)) {
+            service = new MutinyScheduler(executor);
+        } else {
+            service = new TimerWheelScheduler(executor);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        ScheduledFuture<?> future = service.schedule(() -> {
+        }, 10, TimeUnit.SECONDS);
+        return future.cancel(false);
+    }
+}
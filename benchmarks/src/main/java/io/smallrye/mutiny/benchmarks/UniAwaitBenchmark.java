@@ -0,0 +1,72 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Measures {@code await().indefinitely()} and {@code await().atMost(...)} on a {@link Uni} already resolved and on
+ * a {@link Uni} resolved from another thread, measuring the wake-up latency of the awaiting thread.
+ * Run with {@code -prof gc} to observe the allocations per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UniAwaitBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private Uni<Integer> resolved;
+    private Uni<Integer> async;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+        resolved = Uni.createFrom().item(1);
+        async = resolved.emitOn(executor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Integer awaitResolved() {
+        return resolved.await().indefinitely();
+    }
+
+    @Benchmark
+    public Integer awaitResolvedWithTimeout() {
+        return resolved.await().atMost(TIMEOUT);
+    }
+
+    @Benchmark
+    public Integer awaitAsync() {
+        return async.await().indefinitely();
+    }
+
+    @Benchmark
+    public Integer awaitAsyncWithTimeout() {
+        return async.await().atMost(TIMEOUT);
+    }
+}
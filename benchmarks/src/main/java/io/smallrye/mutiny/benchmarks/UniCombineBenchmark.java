@@ -0,0 +1,75 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Measures {@code Uni.combine().all().unis(list)} with large lists of {@link Uni unis}, completing synchronously or on
+ * another thread.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UniCombineBenchmark {
+
+    @Param({ "100", "5000", "20000" })
+    public int count;
+
+    private List<Uni<Integer>> unis;
+    private List<Uni<Integer>> asyncUnis;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+        unis = new ArrayList<>(count);
+        asyncUnis = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            unis.add(Uni.createFrom().item(i));
+            asyncUnis.add(Uni.createFrom().item(i).emitOn(executor));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void combineAll(Blackhole blackhole) {
+        Uni.combine().all().unis(unis)
+                .combinedWith(items -> items.size())
+                .subscribe().withSubscriber(new PerfUniSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void combineAllAsync(Blackhole blackhole) throws InterruptedException {
+        PerfUniSubscriber<Integer> subscriber = new PerfUniSubscriber<>(blackhole);
+        Uni.combine().all().unis(asyncUnis)
+                .combinedWith(items -> items.size())
+                .subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+}
@@ -0,0 +1,92 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Measures the {@link Uni} transformation operators ({@code onItem().transform(...)} and
+ * {@code onItem().transformToUni(...)}) on pipelines of {@code stages} operators, both synchronously and when the
+ * item is emitted from another thread.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UniOperatorsBenchmark {
+
+    @Param({ "1", "10" })
+    public int stages;
+
+    private Uni<Integer> source;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        source = Uni.createFrom().item(1);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void transform(Blackhole blackhole) {
+        Uni<Integer> uni = source;
+        for (int i = 0; i < stages; i++) {
+            uni = uni.onItem().transform(x -> x + 1);
+        }
+        uni.subscribe().withSubscriber(new PerfUniSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void transformToUni(Blackhole blackhole) {
+        Uni<Integer> uni = source;
+        for (int i = 0; i < stages; i++) {
+            uni = uni.onItem().transformToUni(x -> Uni.createFrom().item(x + 1));
+        }
+        uni.subscribe().withSubscriber(new PerfUniSubscriber<>(blackhole));
+    }
+
+    @Benchmark
+    public void transformAsync(Blackhole blackhole) throws InterruptedException {
+        Uni<Integer> uni = source.emitOn(executor);
+        for (int i = 0; i < stages; i++) {
+            uni = uni.onItem().transform(x -> x + 1);
+        }
+        PerfUniSubscriber<Integer> subscriber = new PerfUniSubscriber<>(blackhole);
+        uni.subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+
+    @Benchmark
+    public void transformToUniAsync(Blackhole blackhole) throws InterruptedException {
+        Uni<Integer> uni = source;
+        for (int i = 0; i < stages; i++) {
+            uni = uni.onItem().transformToUni(x -> Uni.createFrom().item(x + 1).emitOn(executor));
+        }
+        PerfUniSubscriber<Integer> subscriber = new PerfUniSubscriber<>(blackhole);
+        uni.subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+}
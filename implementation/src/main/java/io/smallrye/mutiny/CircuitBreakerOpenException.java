@@ -0,0 +1,21 @@
+package io.smallrye.mutiny;
+
+/**
+ * Exception propagated when a circuit breaker rejects a subscription because it is open.
+ *
+ * @see io.smallrye.mutiny.helpers.CircuitBreaker
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+
+    private static final long serialVersionUID = 4790391874251963187L;
+
+    /**
+     * Constructs a {@code CircuitBreakerOpenException} with the given detail message.
+     *
+     * @param message the message
+     */
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+
+}
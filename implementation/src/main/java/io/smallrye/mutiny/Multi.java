@@ -12,8 +12,11 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.groups.*;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.infrastructure.MetricsProvider;
+import io.smallrye.mutiny.operators.multi.MultiInstrumentOp;
 
 @SuppressWarnings({ "ReactiveStreamsPublisherImplementation" })
 public interface Multi<T> extends Publisher<T> {
@@ -554,4 +557,26 @@ public interface Multi<T> extends Publisher<T> {
      * @return the new multi.
      */
     Multi<T> toHotStream();
+
+    /**
+     * Instruments this {@link Multi}: the subscriptions, requests, items, failures, completions and cancellations are
+     * reported to the {@link io.smallrye.mutiny.infrastructure.PipelineMetrics} named {@code name}, provided by the
+     * configured {@link io.smallrye.mutiny.infrastructure.MetricsProvider}. The time to the first item and the
+     * subscription lifetimes are also reported.
+     * <p>
+     * If no {@link io.smallrye.mutiny.infrastructure.MetricsProvider} is configured, this method returns this
+     * {@link Multi} unchanged.
+     *
+     * @param name the name of the pipeline, must not be {@code null}
+     * @return the instrumented {@link Multi}
+     */
+    @Experimental("Instrumentation is an experimental feature at this stage")
+    default Multi<T> instrument(String name) {
+        nonNull(name, "name");
+        MetricsProvider provider = Infrastructure.getMetricsProvider();
+        if (provider == null) {
+            return this;
+        }
+        return Infrastructure.onMultiCreation(new MultiInstrumentOp<>(this, provider.getPipelineMetrics(name)));
+    }
 }
@@ -0,0 +1,162 @@
+package io.smallrye.mutiny;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.primitives.PrimitivePipeline;
+import io.smallrye.mutiny.operators.multi.primitives.PrimitiveReduceUni;
+import io.smallrye.mutiny.operators.multi.primitives.PrimitiveToMulti;
+
+/**
+ * A stream of {@code double} values.
+ * <p>
+ * Unlike {@code Multi<Double>}, the values are not boxed while going through the {@link #map(DoubleUnaryOperator)}
+ * and {@link #filter(DoublePredicate)} stages, and the reductions ({@link #sum()}, {@link #min()}, {@link #max()},
+ * {@link #average()}...) only box their result. The stages are fused: they run on the thread emitting the values.
+ * <p>
+ * A {@link MultiDouble} is not a {@link org.reactivestreams.Publisher}. Use {@link #boxed()} or
+ * {@link #mapToObj(DoubleFunction)} to get a {@link Multi}; the requests of its subscribers are honored, and the
+ * values are boxed at this boundary only.
+ * <p>
+ * Instances are created using {@link io.smallrye.mutiny.groups.MultiCreate#doubles(double...)} or
+ * {@link io.smallrye.mutiny.groups.MultiOnItem#transformToDouble(java.util.function.ToDoubleFunction)}.
+ */
+@Experimental("Primitive streams are an experimental feature at this stage")
+public final class MultiDouble {
+
+    private final PrimitivePipeline<DoubleConsumer> pipeline;
+
+    /**
+     * Creates a new {@link MultiDouble}.
+     *
+     * @param pipeline the pipeline emitting the values, must not be {@code null}
+     */
+    public MultiDouble(PrimitivePipeline<DoubleConsumer> pipeline) {
+        this.pipeline = nonNull(pipeline, "pipeline");
+    }
+
+    /**
+     * Transforms each value.
+     *
+     * @param mapper the mapper, must not be {@code null}
+     * @return the new {@link MultiDouble}
+     */
+    public MultiDouble map(DoubleUnaryOperator mapper) {
+        nonNull(mapper, "mapper");
+        return new MultiDouble(pipeline.then(sink -> value -> sink.accept(mapper.applyAsDouble(value))));
+    }
+
+    /**
+     * Only keeps the values passing the given predicate. The dropped values are replenished.
+     *
+     * @param predicate the predicate, must not be {@code null}
+     * @return the new {@link MultiDouble}
+     */
+    public MultiDouble filter(DoublePredicate predicate) {
+        nonNull(predicate, "predicate");
+        return new MultiDouble(pipeline.then(sink -> value -> {
+            if (predicate.test(value)) {
+                sink.accept(value);
+            }
+        }));
+    }
+
+    /**
+     * Transforms each value into an {@code int}.
+     *
+     * @param mapper the mapper, must not be {@code null}
+     * @return the new {@link MultiInt}
+     */
+    public MultiInt mapToInt(DoubleToIntFunction mapper) {
+        nonNull(mapper, "mapper");
+        return new MultiInt(pipeline.then((IntConsumer sink) -> value -> sink.accept(mapper.applyAsInt(value))));
+    }
+
+    /**
+     * Transforms each value into a {@code long}.
+     *
+     * @param mapper the mapper, must not be {@code null}
+     * @return the new {@link MultiLong}
+     */
+    public MultiLong mapToLong(DoubleToLongFunction mapper) {
+        nonNull(mapper, "mapper");
+        return new MultiLong(pipeline.then((LongConsumer sink) -> value -> sink.accept(mapper.applyAsLong(value))));
+    }
+
+    /**
+     * Transforms each value into an item, and returns the resulting {@link Multi}.
+     *
+     * @param mapper the mapper, must not be {@code null}, must not return {@code null}
+     * @param <T> the type of item
+     * @return the new {@link Multi}
+     */
+    public <T> Multi<T> mapToObj(DoubleFunction<? extends T> mapper) {
+        nonNull(mapper, "mapper");
+        return Infrastructure.onMultiCreation(
+                new PrimitiveToMulti<DoubleConsumer, T>(pipeline,
+                        emitter -> value -> emitter.emit(mapper.apply(value))));
+    }
+
+    /**
+     * @return a {@link Multi} emitting the boxed values
+     */
+    public Multi<Double> boxed() {
+        return Infrastructure.onMultiCreation(
+                new PrimitiveToMulti<DoubleConsumer, Double>(pipeline, emitter -> emitter::emit));
+    }
+
+    /**
+     * @return a {@link Uni} emitting the number of values
+     */
+    public Uni<Long> count() {
+        return summaryStatistics().map(DoubleSummaryStatistics::getCount);
+    }
+
+    /**
+     * @return a {@link Uni} emitting the sum of the values, 0 if the stream is empty
+     */
+    public Uni<Double> sum() {
+        return summaryStatistics().map(DoubleSummaryStatistics::getSum);
+    }
+
+    /**
+     * @return a {@link Uni} emitting the smallest value, {@code null} if the stream is empty
+     */
+    public Uni<Double> min() {
+        return summaryStatistics().map(stats -> stats.getCount() == 0 ? null : stats.getMin());
+    }
+
+    /**
+     * @return a {@link Uni} emitting the largest value, {@code null} if the stream is empty
+     */
+    public Uni<Double> max() {
+        return summaryStatistics().map(stats -> stats.getCount() == 0 ? null : stats.getMax());
+    }
+
+    /**
+     * @return a {@link Uni} emitting the arithmetic mean of the values, {@code null} if the stream is empty
+     */
+    public Uni<Double> average() {
+        return summaryStatistics().map(stats -> stats.getCount() == 0 ? null : stats.getAverage());
+    }
+
+    /**
+     * @return a {@link Uni} emitting the count, sum, min, max and average of the values, computed in a single pass
+     */
+    public Uni<DoubleSummaryStatistics> summaryStatistics() {
+        return Infrastructure.onUniCreation(
+                new PrimitiveReduceUni<DoubleConsumer, DoubleSummaryStatistics, DoubleSummaryStatistics>(pipeline,
+                        DoubleSummaryStatistics::new, stats -> stats));
+    }
+}
@@ -0,0 +1,164 @@
+package io.smallrye.mutiny;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.util.IntSummaryStatistics;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongConsumer;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.primitives.PrimitivePipeline;
+import io.smallrye.mutiny.operators.multi.primitives.PrimitiveReduceUni;
+import io.smallrye.mutiny.operators.multi.primitives.PrimitiveToMulti;
+
+/**
+ * A stream of {@code int} values.
+ * <p>
+ * Unlike {@code Multi<Integer>}, the values are not boxed while going through the {@link #map(IntUnaryOperator)} and
+ * {@link #filter(IntPredicate)} stages, and the reductions ({@link #sum()}, {@link #min()}, {@link #max()},
+ * {@link #average()}...) only box their result. The stages are fused: they run on the thread emitting the values.
+ * <p>
+ * A {@link MultiInt} is not a {@link org.reactivestreams.Publisher}. Use {@link #boxed()} or
+ * {@link #mapToObj(IntFunction)} to get a {@link Multi}; the requests of its subscribers are honored, and the values
+ * are boxed at this boundary only.
+ * <p>
+ * Instances are created using {@link io.smallrye.mutiny.groups.MultiCreate#intRange(int, int)},
+ * {@link io.smallrye.mutiny.groups.MultiCreate#ints(int...)} or
+ * {@link io.smallrye.mutiny.groups.MultiOnItem#transformToInt(java.util.function.ToIntFunction)}.
+ */
+@Experimental("Primitive streams are an experimental feature at this stage")
+public final class MultiInt {
+
+    private final PrimitivePipeline<IntConsumer> pipeline;
+
+    /**
+     * Creates a new {@link MultiInt}.
+     *
+     * @param pipeline the pipeline emitting the values, must not be {@code null}
+     */
+    public MultiInt(PrimitivePipeline<IntConsumer> pipeline) {
+        this.pipeline = nonNull(pipeline, "pipeline");
+    }
+
+    /**
+     * Transforms each value.
+     *
+     * @param mapper the mapper, must not be {@code null}
+     * @return the new {@link MultiInt}
+     */
+    public MultiInt map(IntUnaryOperator mapper) {
+        nonNull(mapper, "mapper");
+        return new MultiInt(pipeline.then(sink -> value -> sink.accept(mapper.applyAsInt(value))));
+    }
+
+    /**
+     * Only keeps the values passing the given predicate. The dropped values are replenished.
+     *
+     * @param predicate the predicate, must not be {@code null}
+     * @return the new {@link MultiInt}
+     */
+    public MultiInt filter(IntPredicate predicate) {
+        nonNull(predicate, "predicate");
+        return new MultiInt(pipeline.then(sink -> value -> {
+            if (predicate.test(value)) {
+                sink.accept(value);
+            }
+        }));
+    }
+
+    /**
+     * Transforms each value into a {@code long}.
+     *
+     * @param mapper the mapper, must not be {@code null}
+     * @return the new {@link MultiLong}
+     */
+    public MultiLong mapToLong(IntToLongFunction mapper) {
+        nonNull(mapper, "mapper");
+        return new MultiLong(pipeline.then((LongConsumer sink) -> value -> sink.accept(mapper.applyAsLong(value))));
+    }
+
+    /**
+     * Transforms each value into a {@code double}.
+     *
+     * @param mapper the mapper, must not be {@code null}
+     * @return the new {@link MultiDouble}
+     */
+    public MultiDouble mapToDouble(IntToDoubleFunction mapper) {
+        nonNull(mapper, "mapper");
+        return new MultiDouble(
+                pipeline.then((DoubleConsumer sink) -> value -> sink.accept(mapper.applyAsDouble(value))));
+    }
+
+    /**
+     * Transforms each value into an item, and returns the resulting {@link Multi}.
+     *
+     * @param mapper the mapper, must not be {@code null}, must not return {@code null}
+     * @param <T> the type of item
+     * @return the new {@link Multi}
+     */
+    public <T> Multi<T> mapToObj(IntFunction<? extends T> mapper) {
+        nonNull(mapper, "mapper");
+        return Infrastructure.onMultiCreation(
+                new PrimitiveToMulti<IntConsumer, T>(pipeline, emitter -> value -> emitter.emit(mapper.apply(value))));
+    }
+
+    /**
+     * @return a {@link Multi} emitting the boxed values
+     */
+    public Multi<Integer> boxed() {
+        return Infrastructure.onMultiCreation(
+                new PrimitiveToMulti<IntConsumer, Integer>(pipeline, emitter -> emitter::emit));
+    }
+
+    /**
+     * @return a {@link Uni} emitting the number of values
+     */
+    public Uni<Long> count() {
+        return summaryStatistics().map(IntSummaryStatistics::getCount);
+    }
+
+    /**
+     * @return a {@link Uni} emitting the sum of the values, as a {@code long} so it does not overflow, 0 if the stream
+     *         is empty
+     */
+    public Uni<Long> sum() {
+        return summaryStatistics().map(IntSummaryStatistics::getSum);
+    }
+
+    /**
+     * @return a {@link Uni} emitting the smallest value, {@code null} if the stream is empty
+     */
+    public Uni<Integer> min() {
+        return summaryStatistics().map(stats -> stats.getCount() == 0 ? null : stats.getMin());
+    }
+
+    /**
+     * @return a {@link Uni} emitting the largest value, {@code null} if the stream is empty
+     */
+    public Uni<Integer> max() {
+        return summaryStatistics().map(stats -> stats.getCount() == 0 ? null : stats.getMax());
+    }
+
+    /**
+     * @return a {@link Uni} emitting the arithmetic mean of the values, {@code null} if the stream is empty
+     */
+    public Uni<Double> average() {
+        return summaryStatistics().map(stats -> stats.getCount() == 0 ? null : stats.getAverage());
+    }
+
+    /**
+     * @return a {@link Uni} emitting the count, sum, min, max and average of the values, computed in a single pass
+     */
+    public Uni<IntSummaryStatistics> summaryStatistics() {
+        return Infrastructure.onUniCreation(
+                new PrimitiveReduceUni<IntConsumer, IntSummaryStatistics, IntSummaryStatistics>(pipeline,
+                        IntSummaryStatistics::new, stats -> stats));
+    }
+}
@@ -0,0 +1,163 @@
+package io.smallrye.mutiny;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.util.LongSummaryStatistics;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.primitives.PrimitivePipeline;
+import io.smallrye.mutiny.operators.multi.primitives.PrimitiveReduceUni;
+import io.smallrye.mutiny.operators.multi.primitives.PrimitiveToMulti;
+
+/**
+ * A stream of {@code long} values.
+ * <p>
+ * Unlike {@code Multi<Long>}, the values are not boxed while going through the {@link #map(LongUnaryOperator)} and
+ * {@link #filter(LongPredicate)} stages, and the reductions ({@link #sum()}, {@link #min()}, {@link #max()},
+ * {@link #average()}...) only box their result. The stages are fused: they run on the thread emitting the values.
+ * <p>
+ * A {@link MultiLong} is not a {@link org.reactivestreams.Publisher}. Use {@link #boxed()} or
+ * {@link #mapToObj(LongFunction)} to get a {@link Multi}; the requests of its subscribers are honored, and the values
+ * are boxed at this boundary only.
+ * <p>
+ * Instances are created using {@link io.smallrye.mutiny.groups.MultiCreate#longRange(long, long)},
+ * {@link io.smallrye.mutiny.groups.MultiCreate#longs(long...)} or
+ * {@link io.smallrye.mutiny.groups.MultiOnItem#transformToLong(java.util.function.ToLongFunction)}.
+ */
+@Experimental("Primitive streams are an experimental feature at this stage")
+public final class MultiLong {
+
+    private final PrimitivePipeline<LongConsumer> pipeline;
+
+    /**
+     * Creates a new {@link MultiLong}.
+     *
+     * @param pipeline the pipeline emitting the values, must not be {@code null}
+     */
+    public MultiLong(PrimitivePipeline<LongConsumer> pipeline) {
+        this.pipeline = nonNull(pipeline, "pipeline");
+    }
+
+    /**
+     * Transforms each value.
+     *
+     * @param mapper the mapper, must not be {@code null}
+     * @return the new {@link MultiLong}
+     */
+    public MultiLong map(LongUnaryOperator mapper) {
+        nonNull(mapper, "mapper");
+        return new MultiLong(pipeline.then(sink -> value -> sink.accept(mapper.applyAsLong(value))));
+    }
+
+    /**
+     * Only keeps the values passing the given predicate. The dropped values are replenished.
+     *
+     * @param predicate the predicate, must not be {@code null}
+     * @return the new {@link MultiLong}
+     */
+    public MultiLong filter(LongPredicate predicate) {
+        nonNull(predicate, "predicate");
+        return new MultiLong(pipeline.then(sink -> value -> {
+            if (predicate.test(value)) {
+                sink.accept(value);
+            }
+        }));
+    }
+
+    /**
+     * Transforms each value into an {@code int}.
+     *
+     * @param mapper the mapper, must not be {@code null}
+     * @return the new {@link MultiInt}
+     */
+    public MultiInt mapToInt(LongToIntFunction mapper) {
+        nonNull(mapper, "mapper");
+        return new MultiInt(pipeline.then((IntConsumer sink) -> value -> sink.accept(mapper.applyAsInt(value))));
+    }
+
+    /**
+     * Transforms each value into a {@code double}.
+     *
+     * @param mapper the mapper, must not be {@code null}
+     * @return the new {@link MultiDouble}
+     */
+    public MultiDouble mapToDouble(LongToDoubleFunction mapper) {
+        nonNull(mapper, "mapper");
+        return new MultiDouble(
+                pipeline.then((DoubleConsumer sink) -> value -> sink.accept(mapper.applyAsDouble(value))));
+    }
+
+    /**
+     * Transforms each value into an item, and returns the resulting {@link Multi}.
+     *
+     * @param mapper the mapper, must not be {@code null}, must not return {@code null}
+     * @param <T> the type of item
+     * @return the new {@link Multi}
+     */
+    public <T> Multi<T> mapToObj(LongFunction<? extends T> mapper) {
+        nonNull(mapper, "mapper");
+        return Infrastructure.onMultiCreation(
+                new PrimitiveToMulti<LongConsumer, T>(pipeline, emitter -> value -> emitter.emit(mapper.apply(value))));
+    }
+
+    /**
+     * @return a {@link Multi} emitting the boxed values
+     */
+    public Multi<Long> boxed() {
+        return Infrastructure.onMultiCreation(
+                new PrimitiveToMulti<LongConsumer, Long>(pipeline, emitter -> emitter::emit));
+    }
+
+    /**
+     * @return a {@link Uni} emitting the number of values
+     */
+    public Uni<Long> count() {
+        return summaryStatistics().map(LongSummaryStatistics::getCount);
+    }
+
+    /**
+     * @return a {@link Uni} emitting the sum of the values, 0 if the stream is empty
+     */
+    public Uni<Long> sum() {
+        return summaryStatistics().map(LongSummaryStatistics::getSum);
+    }
+
+    /**
+     * @return a {@link Uni} emitting the smallest value, {@code null} if the stream is empty
+     */
+    public Uni<Long> min() {
+        return summaryStatistics().map(stats -> stats.getCount() == 0 ? null : stats.getMin());
+    }
+
+    /**
+     * @return a {@link Uni} emitting the largest value, {@code null} if the stream is empty
+     */
+    public Uni<Long> max() {
+        return summaryStatistics().map(stats -> stats.getCount() == 0 ? null : stats.getMax());
+    }
+
+    /**
+     * @return a {@link Uni} emitting the arithmetic mean of the values, {@code null} if the stream is empty
+     */
+    public Uni<Double> average() {
+        return summaryStatistics().map(stats -> stats.getCount() == 0 ? null : stats.getAverage());
+    }
+
+    /**
+     * @return a {@link Uni} emitting the count, sum, min, max and average of the values, computed in a single pass
+     */
+    public Uni<LongSummaryStatistics> summaryStatistics() {
+        return Infrastructure.onUniCreation(
+                new PrimitiveReduceUni<LongConsumer, LongSummaryStatistics, LongSummaryStatistics>(pipeline,
+                        LongSummaryStatistics::new, stats -> stats));
+    }
+}
@@ -10,6 +10,8 @@ import java.util.function.*;
 import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.groups.*;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.infrastructure.MetricsProvider;
+import io.smallrye.mutiny.operators.uni.UniInstrumentOp;
 import io.smallrye.mutiny.subscription.UniEmitter;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
@@ -804,4 +806,26 @@ public interface Uni<T> {
     default Uni<T> replaceWithNull() {
         return onItem().transform(ignore -> null);
     }
+
+    /**
+     * Instruments this {@link Uni}: the subscriptions, items, failures and cancellations are reported to the
+     * {@link io.smallrye.mutiny.infrastructure.PipelineMetrics} named {@code name}, provided by the configured
+     * {@link io.smallrye.mutiny.infrastructure.MetricsProvider}. The time to the item and the subscription lifetimes
+     * are also reported.
+     * <p>
+     * If no {@link io.smallrye.mutiny.infrastructure.MetricsProvider} is configured, this method returns this
+     * {@link Uni} unchanged.
+     *
+     * @param name the name of the pipeline, must not be {@code null}
+     * @return the instrumented {@link Uni}
+     */
+    @Experimental("Instrumentation is an experimental feature at this stage")
+    default Uni<T> instrument(String name) {
+        nonNull(name, "name");
+        MetricsProvider provider = Infrastructure.getMetricsProvider();
+        if (provider == null) {
+            return this;
+        }
+        return Infrastructure.onUniCreation(new UniInstrumentOp<>(this, provider.getPipelineMetrics(name)));
+    }
 }
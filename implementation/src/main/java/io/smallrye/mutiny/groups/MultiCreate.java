@@ -18,12 +18,17 @@ import java.util.stream.Stream;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.MultiDouble;
+import io.smallrye.mutiny.MultiInt;
+import io.smallrye.mutiny.MultiLong;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.converters.MultiConverter;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.operators.multi.builders.*;
+import io.smallrye.mutiny.operators.multi.primitives.PrimitiveSources;
 import io.smallrye.mutiny.subscription.BackPressureStrategy;
 import io.smallrye.mutiny.subscription.MultiEmitter;
 import io.smallrye.mutiny.subscription.SafeSubscriber;
@@ -512,6 +517,70 @@ public class MultiCreate {
         return Multi.createFrom().iterable(() -> IntStream.range(startInclusive, endExclusive).iterator());
     }
 
+    /**
+     * Creates a {@link MultiInt} emitting the sequence of integers from {@code startInclusive} to
+     * {@code endExclusive}. Unlike {@link #range(int, int)}, the integers are not boxed.
+     *
+     * @param startInclusive the start integer (inclusive)
+     * @param endExclusive the end integer (exclusive)
+     * @return the {@link MultiInt} emitting the values
+     */
+    @Experimental("Primitive streams are an experimental feature at this stage")
+    public MultiInt intRange(int startInclusive, int endExclusive) {
+        if (endExclusive <= startInclusive) {
+            throw new IllegalArgumentException("end must be greater than start");
+        }
+        return new MultiInt(PrimitiveSources.intRange(startInclusive, endExclusive));
+    }
+
+    /**
+     * Creates a {@link MultiLong} emitting the sequence of longs from {@code startInclusive} to {@code endExclusive}.
+     *
+     * @param startInclusive the start long (inclusive)
+     * @param endExclusive the end long (exclusive)
+     * @return the {@link MultiLong} emitting the values
+     */
+    @Experimental("Primitive streams are an experimental feature at this stage")
+    public MultiLong longRange(long startInclusive, long endExclusive) {
+        if (endExclusive <= startInclusive) {
+            throw new IllegalArgumentException("end must be greater than start");
+        }
+        return new MultiLong(PrimitiveSources.longRange(startInclusive, endExclusive));
+    }
+
+    /**
+     * Creates a {@link MultiInt} emitting the given values. The array is not copied, it must not be modified.
+     *
+     * @param values the values, must not be {@code null}
+     * @return the {@link MultiInt} emitting the values
+     */
+    @Experimental("Primitive streams are an experimental feature at this stage")
+    public MultiInt ints(int... values) {
+        return new MultiInt(PrimitiveSources.ints(nonNull(values, "values")));
+    }
+
+    /**
+     * Creates a {@link MultiLong} emitting the given values. The array is not copied, it must not be modified.
+     *
+     * @param values the values, must not be {@code null}
+     * @return the {@link MultiLong} emitting the values
+     */
+    @Experimental("Primitive streams are an experimental feature at this stage")
+    public MultiLong longs(long... values) {
+        return new MultiLong(PrimitiveSources.longs(nonNull(values, "values")));
+    }
+
+    /**
+     * Creates a {@link MultiDouble} emitting the given values. The array is not copied, it must not be modified.
+     *
+     * @param values the values, must not be {@code null}
+     * @return the {@link MultiDouble} emitting the values
+     */
+    @Experimental("Primitive streams are an experimental feature at this stage")
+    public MultiDouble doubles(double... values) {
+        return new MultiDouble(PrimitiveSources.doubles(nonNull(values, "values")));
+    }
+
     /**
      * Creates a {@link Multi} from a <em>resource</em>, generated by a supplier function called for each individual
      * {@link Subscriber}, while streaming the items from a {@link Publisher Publisher/Multi} created from the resource.
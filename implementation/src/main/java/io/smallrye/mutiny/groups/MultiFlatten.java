@@ -6,6 +6,7 @@ import java.util.function.Function;
 
 import org.reactivestreams.Publisher;
 
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.queues.Queues;
@@ -98,6 +99,28 @@ public class MultiFlatten<I, O> {
                 new MultiFlatMapOp<>(upstream, mapper, collectFailureUntilCompletion, concurrency, requests));
     }
 
+    /**
+     * Produces a {@link Multi} containing the items from {@link Publisher} produced by the {@code mapper} for each
+     * item emitted by this {@link Multi}, like {@link #merge(int)}, but with a concurrency adjusted while the stream
+     * runs.
+     * <p>
+     * The number of in-flight/subscribed inner streams starts at {@code minConcurrency}, and evolves between
+     * {@code minConcurrency} and {@code maxConcurrency} according to the time taken by the inner streams to
+     * terminate: it grows while this latency stays close to the lowest one observed, and shrinks when the latency
+     * increases (meaning the inner streams queue up) or when inner streams fail. This suits inner streams calling
+     * remote services, whose optimal concurrency depends on their load.
+     *
+     * @param minConcurrency the minimum concurrency, must be strictly positive
+     * @param maxConcurrency the maximum concurrency, must be greater than or equal to {@code minConcurrency}
+     * @return the object to configure the {@code flatMap} operation.
+     */
+    @Experimental("Adaptive concurrency is an experimental feature at this stage")
+    public Multi<O> mergeAdaptively(int minConcurrency, int maxConcurrency) {
+        return Infrastructure.onMultiCreation(
+                new MultiFlatMapOp<>(upstream, mapper, collectFailureUntilCompletion, minConcurrency, maxConcurrency,
+                        requests));
+    }
+
     /**
      * Produces a {@link Multi} containing the items from {@link Publisher} produced by the {@code mapper} for each
      * item emitted by this {@link Multi}.
@@ -116,4 +139,28 @@ public class MultiFlatten<I, O> {
         return Infrastructure.onMultiCreation(
                 new MultiFlatMapOp<>(upstream, mapper, collectFailureUntilCompletion, 1, requests));
     }
+
+    /**
+     * Produces a {@link Multi} containing the items from {@link Publisher} produced by the {@code mapper} for each
+     * item emitted by this {@link Multi}, like {@link #concatenate()}, but subscribing to several <em>streams</em>
+     * concurrently.
+     * <p>
+     * Up to {@code concurrency} <em>streams</em> are subscribed at the same time, as with {@link #merge(int)}, but
+     * their items are <strong>concatenated</strong>: the items of a <em>stream</em> are emitted once all the
+     * <em>streams</em> produced for the previous upstream items have completed, and are buffered until then. The
+     * memory stays bounded: at most {@code concurrency} <em>streams</em> are subscribed, and each one buffers at most
+     * the number of items configured with {@link #withRequests(int)}.
+     * <p>
+     * This is typically used with {@link MultiOnItem#transformToUni(Function)} to call a remote service concurrently
+     * while preserving the order of the items.
+     *
+     * @param concurrency the maximum number of concurrently subscribed <em>streams</em>, must be strictly positive
+     * @return the object to configure the {@code concatMap} operation.
+     */
+    @Experimental("Concurrent concatenation is an experimental feature at this stage")
+    public Multi<O> concatenate(int concurrency) {
+        return Infrastructure.onMultiCreation(
+                new MultiFlatMapOp<>(upstream, mapper, collectFailureUntilCompletion, concurrency, concurrency,
+                        requests, true));
+    }
 }
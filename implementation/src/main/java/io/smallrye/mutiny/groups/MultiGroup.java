@@ -4,6 +4,7 @@ import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
 import java.util.function.Function;
 
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.GroupedMulti;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -39,7 +40,21 @@ public class MultiGroup<T> {
         return new MultiGroupIntoMultis<>(upstream);
     }
 
-    // TODO grouping can also have prefetch and failure collection delay.
+    /**
+     * Splits the upstream {@code Multi} into {@link GroupedMulti groups} of items sharing the same key. The returned
+     * object configures the prefetch, the replenishment of the requests, the maximum number of groups and the
+     * eviction of the idle groups, before selecting the key with {@link MultiGroupIntoGroups#by(Function)}.
+     * <p>
+     * {@code group().by(mapper)} is equivalent to {@code group().intoGroups().by(mapper)}.
+     *
+     * @return the split configuration
+     */
+    @Experimental("Configuring the groups is an experimental feature at this stage")
+    public MultiGroupIntoGroups<T> intoGroups() {
+        return new MultiGroupIntoGroups<>(upstream);
+    }
+
+    // TODO grouping can also have failure collection delay.
 
     public <K> Multi<GroupedMulti<K, T>> by(Function<? super T, ? extends K> keyMapper) {
         Function<? super T, ? extends K> mapper = Infrastructure.decorate(nonNull(keyMapper, "keyMapper"));
@@ -0,0 +1,133 @@
+package io.smallrye.mutiny.groups;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.GroupedMulti;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.MultiGroupByOp;
+
+/**
+ * Configures how the items of the upstream {@link Multi} are split into {@link GroupedMulti groups} sharing the same
+ * key, before selecting the key with {@link #by(Function)}.
+ * <p>
+ * By default, {@code 128} items are requested upfront to the upstream, more items are requested once 75% of them have
+ * been consumed, the number of groups is not limited, and the groups are kept until the upstream terminates.
+ *
+ * @param <T> the type of item
+ */
+@Experimental("Configuring the groups is an experimental feature at this stage")
+public class MultiGroupIntoGroups<T> {
+
+    private final Multi<T> upstream;
+    private final int prefetch;
+    private final double replenishmentRatio;
+    private final int maxGroups;
+    private final Duration idleTimeout;
+
+    public MultiGroupIntoGroups(Multi<T> upstream) {
+        this(nonNull(upstream, "upstream"), MultiGroupByOp.DEFAULT_PREFETCH,
+                MultiGroupByOp.DEFAULT_REPLENISHMENT_RATIO, Integer.MAX_VALUE, null);
+    }
+
+    private MultiGroupIntoGroups(Multi<T> upstream, int prefetch, double replenishmentRatio, int maxGroups,
+            Duration idleTimeout) {
+        this.upstream = upstream;
+        this.prefetch = prefetch;
+        this.replenishmentRatio = replenishmentRatio;
+        this.maxGroups = maxGroups;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Configures the number of items requested upfront to the upstream. These items are buffered in the groups until
+     * the group subscribers request them.
+     *
+     * @param prefetch the number of items, must be strictly positive
+     * @return this {@link MultiGroupIntoGroups}
+     */
+    public MultiGroupIntoGroups<T> withPrefetch(int prefetch) {
+        return new MultiGroupIntoGroups<>(upstream, positive(prefetch, "prefetch"), replenishmentRatio, maxGroups,
+                idleTimeout);
+    }
+
+    /**
+     * Configures when more items are requested to the upstream: once {@code ratio * prefetch} items have been
+     * consumed, these items are requested in a single request. A small ratio requests often and in small amounts, a
+     * ratio of {@code 1} waits for all the prefetched items to be consumed.
+     *
+     * @param ratio the ratio, must be greater than 0 and less than or equal to 1
+     * @return this {@link MultiGroupIntoGroups}
+     */
+    public MultiGroupIntoGroups<T> withReplenishmentRatio(double ratio) {
+        if (!(ratio > 0.0 && ratio <= 1.0)) {
+            throw new IllegalArgumentException("`ratio` must be greater than 0 and less than or equal to 1");
+        }
+        return new MultiGroupIntoGroups<>(upstream, prefetch, ratio, maxGroups, idleTimeout);
+    }
+
+    /**
+     * Configures the maximum number of live groups. A group is live until the upstream terminates, its subscriber
+     * cancels it, or it is evicted (see {@link #evictingIdleGroupsAfter(Duration)}). If an item requires a new group
+     * while the maximum is reached, the upstream is cancelled and the stream fails with an
+     * {@link IllegalStateException}.
+     *
+     * @param max the maximum number of groups, must be strictly positive
+     * @return this {@link MultiGroupIntoGroups}
+     */
+    public MultiGroupIntoGroups<T> withMaxGroups(int max) {
+        return new MultiGroupIntoGroups<>(upstream, prefetch, replenishmentRatio, positive(max, "max"), idleTimeout);
+    }
+
+    /**
+     * Completes and forgets the groups which have not received any item for the given duration. If an item with the
+     * same key is received later, a new group is emitted for it.
+     * <p>
+     * The idle groups are detected periodically, using the default worker pool, so a group can stay idle a bit longer
+     * than the given duration.
+     *
+     * @param duration the duration, must not be {@code null}, must be strictly positive
+     * @return this {@link MultiGroupIntoGroups}
+     */
+    public MultiGroupIntoGroups<T> evictingIdleGroupsAfter(Duration duration) {
+        return new MultiGroupIntoGroups<>(upstream, prefetch, replenishmentRatio, maxGroups,
+                validate(duration, "duration"));
+    }
+
+    /**
+     * Splits the upstream items into groups sharing the same key, computed with the given mapper. Each group is
+     * emitted as a {@link GroupedMulti}, when its first item is received.
+     *
+     * @param keyMapper the key mapper, must not be {@code null}
+     * @param <K> the type of key
+     * @return the {@link Multi} emitting the groups
+     */
+    public <K> Multi<GroupedMulti<K, T>> by(Function<? super T, ? extends K> keyMapper) {
+        return by(keyMapper, Function.identity());
+    }
+
+    /**
+     * Splits the upstream items into groups sharing the same key, computed with the given key mapper. Each group is
+     * emitted as a {@link GroupedMulti}, when its first item is received, and emits the values computed with the given
+     * value mapper.
+     *
+     * @param keyMapper the key mapper, must not be {@code null}
+     * @param valueMapper the value mapper, must not be {@code null}, must not return {@code null}
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the {@link Multi} emitting the groups
+     */
+    public <K, V> Multi<GroupedMulti<K, V>> by(Function<? super T, ? extends K> keyMapper,
+            Function<? super T, ? extends V> valueMapper) {
+        Function<? super T, ? extends K> k = Infrastructure.decorate(nonNull(keyMapper, "keyMapper"));
+        Function<? super T, ? extends V> v = Infrastructure.decorate(nonNull(valueMapper, "valueMapper"));
+        return Infrastructure.onMultiCreation(new MultiGroupByOp<>(upstream, k, v, prefetch, replenishmentRatio,
+                maxGroups, idleTimeout, Infrastructure.getDefaultWorkerPool()));
+    }
+}
@@ -8,10 +8,13 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.CircuitBreaker;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.MultiCircuitBreakerOp;
 import io.smallrye.mutiny.operators.multi.MultiFlatMapOnFailure;
 import io.smallrye.mutiny.operators.multi.MultiOnFailureInvoke;
 import io.smallrye.mutiny.operators.multi.MultiOnFailureTransform;
@@ -307,4 +310,21 @@ public class MultiOnFailure<T> {
         return new MultiRetry<>(upstream, predicate);
     }
 
+    /**
+     * Protects the upstream {@link Multi} with the given circuit breaker. Each subscription is a call to the protected
+     * service: when the breaker is open, the subscription is rejected with a
+     * {@link io.smallrye.mutiny.CircuitBreakerOpenException}, without subscribing to the upstream.
+     * <p>
+     * The call succeeds when the {@link Multi} completes. The failures matching the predicate are recorded as failed calls, the
+     * others are propagated but recorded as successful calls, as they do not indicate that the service is failing.
+     *
+     * @param breaker the circuit breaker, must not be {@code null}
+     * @return the new {@link Multi}
+     */
+    @Experimental("Circuit breakers are an experimental feature at this stage")
+    public Multi<T> circuitBreaker(CircuitBreaker breaker) {
+        CircuitBreaker actual = nonNull(breaker, "breaker");
+        return Infrastructure.onMultiCreation(new MultiCircuitBreakerOp<>(upstream, actual, predicate));
+    }
+
 }
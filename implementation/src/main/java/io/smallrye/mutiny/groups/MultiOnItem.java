@@ -8,10 +8,15 @@ import java.util.function.*;
 
 import org.reactivestreams.Publisher;
 
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.MultiDouble;
+import io.smallrye.mutiny.MultiInt;
+import io.smallrye.mutiny.MultiLong;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.multi.*;
+import io.smallrye.mutiny.operators.multi.primitives.PrimitiveSources;
 import io.smallrye.mutiny.subscription.BackPressureStrategy;
 
 public class MultiOnItem<T> {
@@ -53,7 +58,52 @@ public class MultiOnItem<T> {
      */
     public <R> Multi<R> transform(Function<? super T, ? extends R> mapper) {
         Function<? super T, ? extends R> actual = Infrastructure.decorate(nonNull(mapper, "mapper"));
-        return Infrastructure.onMultiCreation(new MultiMapOp<>(upstream, actual));
+        return Infrastructure.onMultiCreation(MultiFusedOp.map(upstream, actual));
+    }
+
+    /**
+     * Produces a {@link MultiInt} invoking the given function for each item emitted by the upstream {@link Multi}.
+     * <p>
+     * The following stages of the {@link MultiInt} process the {@code int} values without boxing them.
+     *
+     * @param mapper the mapper function, must not be {@code null}
+     * @return the new {@link MultiInt}
+     */
+    @Experimental("Primitive streams are an experimental feature at this stage")
+    public MultiInt transformToInt(ToIntFunction<? super T> mapper) {
+        ToIntFunction<? super T> actual = Infrastructure.decorate(nonNull(mapper, "mapper"));
+        return new MultiInt(PrimitiveSources.from(upstream,
+                (IntConsumer sink, T item) -> sink.accept(actual.applyAsInt(item))));
+    }
+
+    /**
+     * Produces a {@link MultiLong} invoking the given function for each item emitted by the upstream {@link Multi}.
+     * <p>
+     * The following stages of the {@link MultiLong} process the {@code long} values without boxing them.
+     *
+     * @param mapper the mapper function, must not be {@code null}
+     * @return the new {@link MultiLong}
+     */
+    @Experimental("Primitive streams are an experimental feature at this stage")
+    public MultiLong transformToLong(ToLongFunction<? super T> mapper) {
+        ToLongFunction<? super T> actual = Infrastructure.decorate(nonNull(mapper, "mapper"));
+        return new MultiLong(PrimitiveSources.from(upstream,
+                (LongConsumer sink, T item) -> sink.accept(actual.applyAsLong(item))));
+    }
+
+    /**
+     * Produces a {@link MultiDouble} invoking the given function for each item emitted by the upstream {@link Multi}.
+     * <p>
+     * The following stages of the {@link MultiDouble} process the {@code double} values without boxing them.
+     *
+     * @param mapper the mapper function, must not be {@code null}
+     * @return the new {@link MultiDouble}
+     */
+    @Experimental("Primitive streams are an experimental feature at this stage")
+    public MultiDouble transformToDouble(ToDoubleFunction<? super T> mapper) {
+        ToDoubleFunction<? super T> actual = Infrastructure.decorate(nonNull(mapper, "mapper"));
+        return new MultiDouble(PrimitiveSources.from(upstream,
+                (DoubleConsumer sink, T item) -> sink.accept(actual.applyAsDouble(item))));
     }
 
     /**
@@ -69,7 +119,7 @@ public class MultiOnItem<T> {
      */
     public Multi<T> invoke(Consumer<? super T> callback) {
         Consumer<? super T> actual = Infrastructure.decorate(nonNull(callback, "callback"));
-        return Infrastructure.onMultiCreation(new MultiOnItemInvoke<>(upstream, actual));
+        return Infrastructure.onMultiCreation(MultiFusedOp.invoke(upstream, actual));
     }
 
     /**
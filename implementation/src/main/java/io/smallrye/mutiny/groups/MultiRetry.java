@@ -9,13 +9,17 @@ import java.util.function.Predicate;
 
 import org.reactivestreams.Publisher;
 
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.ExponentialBackoff;
 import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.RetryBackOff;
+import io.smallrye.mutiny.helpers.RetryBudget;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.multi.MultiRetryOp;
 import io.smallrye.mutiny.operators.multi.MultiRetryWhenOp;
+import io.smallrye.mutiny.operators.multi.MultiRetryWithBackOffOp;
 
 public class MultiRetry<T> {
 
@@ -24,6 +28,8 @@ public class MultiRetry<T> {
     private Duration initialBackOff = Duration.ofSeconds(1);
     private Duration maxBackoff = ExponentialBackoff.MAX_BACKOFF;
     private double jitter = ExponentialBackoff.DEFAULT_JITTER;
+    private RetryBackOff.Jitter jitterStrategy = RetryBackOff.Jitter.PROPORTIONAL;
+    private RetryBudget budget;
     private boolean backOffConfigured = false;
 
     public MultiRetry(Multi<T> upstream, Predicate<? super Throwable> predicate) {
@@ -55,21 +61,12 @@ public class MultiRetry<T> {
      */
     public Multi<T> atMost(long numberOfAttempts) {
         ParameterValidation.positive(numberOfAttempts, "numberOfAttempts");
-        if (backOffConfigured) {
-            Function<Multi<Throwable>, Publisher<Long>> whenStreamFactory = ExponentialBackoff
-                    .randomExponentialBackoffFunction(numberOfAttempts, initialBackOff, maxBackoff, jitter,
-                            Infrastructure.getDefaultWorkerPool());
-
-            if (predicate != null) {
-                whenStreamFactory = addPredicateToBackoffFactory(whenStreamFactory);
-            }
-
-            return Infrastructure.onMultiCreation(
-                    new MultiRetryWhenOp<>(upstream, whenStreamFactory));
+        if (backOffConfigured || budget != null) {
+            return Infrastructure.onMultiCreation(new MultiRetryWithBackOffOp<>(upstream, predicate, numberOfAttempts,
+                    Long.MAX_VALUE, backOff(), budget, Infrastructure.getDefaultWorkerPool()));
         } else {
             return Infrastructure.onMultiCreation(new MultiRetryOp<>(upstream, numberOfAttempts));
         }
-
     }
 
     /**
@@ -91,33 +88,15 @@ public class MultiRetry<T> {
             throw new IllegalArgumentException(
                     "Invalid retry configuration, `expiresAt/expiresIn` must be used with a back-off configuration");
         }
-        Function<Multi<Throwable>, Publisher<Long>> whenStreamFactory = ExponentialBackoff
-                .randomExponentialBackoffFunctionExpireAt(expireAt,
-                        initialBackOff, maxBackoff, jitter,
-                        Infrastructure.getDefaultWorkerPool());
-
-        if (predicate != null) {
-            whenStreamFactory = addPredicateToBackoffFactory(whenStreamFactory);
-        }
-
-        return Infrastructure.onMultiCreation(
-                new MultiRetryWhenOp<>(upstream, whenStreamFactory));
+        return Infrastructure.onMultiCreation(new MultiRetryWithBackOffOp<>(upstream, predicate, Long.MAX_VALUE,
+                expireAt, backOff(), budget, Infrastructure.getDefaultWorkerPool()));
     }
 
-    private Function<Multi<Throwable>, Publisher<Long>> addPredicateToBackoffFactory(
-            Function<Multi<Throwable>, Publisher<Long>> whenStreamFactory) {
-        return whenStreamFactory.compose(value -> value.onItem()
-                .transformToUni(throwable -> Uni.createFrom().<Throwable> emitter(emitter -> {
-                    try {
-                        if (predicate.test(throwable)) {
-                            emitter.complete(throwable);
-                        } else {
-                            emitter.fail(throwable);
-                        }
-                    } catch (RuntimeException e) {
-                        emitter.fail(e);
-                    }
-                })).concatenate());
+    private RetryBackOff backOff() {
+        if (!backOffConfigured) {
+            return null;
+        }
+        return new RetryBackOff(initialBackOff, maxBackoff, jitterStrategy, jitter);
     }
 
     /**
@@ -231,4 +210,54 @@ public class MultiRetry<T> {
         this.jitter = jitter;
         return this;
     }
+
+    /**
+     * Configures the back-off to use <em>full jitter</em>: the delay before each attempt is randomly picked between 0
+     * and the exponential back-off. It spreads the retries of concurrent subscribers the most, at the cost of some
+     * retries happening almost immediately.
+     * <p>
+     * The back-off is configured with {@link #withBackOff(Duration, Duration)}, or defaults to 1 second.
+     *
+     * @return this object to configure the retry policy.
+     */
+    @Experimental("Full jitter is an experimental feature at this stage")
+    public MultiRetry<T> withFullJitter() {
+        this.backOffConfigured = true;
+        this.jitterStrategy = RetryBackOff.Jitter.FULL;
+        return this;
+    }
+
+    /**
+     * Configures the back-off to use <em>decorrelated jitter</em>: the delay before each attempt is randomly picked
+     * between the initial back-off and three times the previous delay, capped to the max back-off. The delays grow
+     * exponentially on average, but the retries of concurrent subscribers quickly drift apart.
+     * <p>
+     * The back-off is configured with {@link #withBackOff(Duration, Duration)}, or defaults to 1 second.
+     *
+     * @return this object to configure the retry policy.
+     */
+    @Experimental("Decorrelated jitter is an experimental feature at this stage")
+    public MultiRetry<T> withDecorrelatedJitter() {
+        this.backOffConfigured = true;
+        this.jitterStrategy = RetryBackOff.Jitter.DECORRELATED;
+        return this;
+    }
+
+    /**
+     * Limits the retries with the given budget. Each subscription to the produced {@link Multi} deposits into the budget,
+     * and each retry withdraws from it. When the budget is exhausted, the failure is propagated instead of retrying.
+     * <p>
+     * Share the same budget between the pipelines calling the same service, so that retries cannot amplify the load on
+     * this service when it fails. The budget only applies to {@link #atMost(long)}, {@link #indefinitely()},
+     * {@link #expireAt(long)} and {@link #expireIn(long)}.
+     *
+     * @param budget the budget, must not be {@code null}
+     * @return this object to configure the retry policy.
+     */
+    @Experimental("Retry budgets are an experimental feature at this stage")
+    public MultiRetry<T> withBudget(RetryBudget budget) {
+        this.budget = nonNull(budget, "budget");
+        return this;
+    }
+
 }
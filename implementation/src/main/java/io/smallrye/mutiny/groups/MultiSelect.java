@@ -6,11 +6,15 @@ import java.time.Duration;
 import java.util.Comparator;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.multi.*;
+import io.smallrye.mutiny.operators.multi.distinct.DistinctStore;
+import io.smallrye.mutiny.operators.multi.distinct.DistinctStores;
 
 /**
  * Selects items from the upstream {@link Multi}.
@@ -148,7 +152,7 @@ public class MultiSelect<T> {
      */
     public Multi<T> where(Predicate<? super T> predicate) {
         Predicate<? super T> actual = Infrastructure.decorate(nonNull(predicate, "predicate"));
-        return Infrastructure.onMultiCreation(new MultiSelectWhereOp<>(upstream, actual));
+        return Infrastructure.onMultiCreation(MultiFusedOp.filter(upstream, actual));
     }
 
     /**
@@ -239,4 +243,52 @@ public class MultiSelect<T> {
         return Infrastructure.onMultiCreation(new MultiDistinctOp<>(upstream, comparator));
     }
 
+    /**
+     * Selects the items from the upstream whose key has not been seen before. The key is computed with the given
+     * function, and only the keys (not the items) are retained, using {@link Object#hashCode()} and
+     * {@link Object#equals(Object)} to compare them.
+     * <p>
+     * Do NOT call this method on unbounded upstream, as it would lead to an {@link OutOfMemoryError}. Use
+     * {@link #distinctBy(Function, Supplier)} with a bounded store instead.
+     * <p>
+     * If the key extraction or the comparison throws an exception, the produced {@link Multi} fails.
+     * The produced {@link Multi} completes when the upstream sends the completion event.
+     *
+     * @param keyExtractor the function computing the key of each item, must not be {@code null}, must not return
+     *        {@code null}
+     * @param <K> the type of key
+     * @return the resulting {@link Multi}.
+     */
+    @Experimental("Distinct stores are an experimental feature at this stage")
+    public <K> Multi<T> distinctBy(Function<? super T, ? extends K> keyExtractor) {
+        return distinctBy(keyExtractor, DistinctStores.unbounded());
+    }
+
+    /**
+     * Selects the items from the upstream whose key has not been seen before. The key is computed with the given
+     * function, and the keys already seen are remembered in a {@link DistinctStore} created for each subscription.
+     * <p>
+     * {@link DistinctStores} provides stores bounding the memory: the {@link DistinctStores#lru(int) most recent keys},
+     * the {@link DistinctStores#timeWindow(java.time.Duration) keys seen during a time window}, or a
+     * {@link DistinctStores#bloomFilter(long, double) Bloom filter}. With the first two, a forgotten key lets a
+     * duplicate through. With the Bloom filter, a false positive drops an item seen for the first time.
+     * <p>
+     * Use {@code Function.identity()} as key extractor to compare the items themselves.
+     * <p>
+     * If the key extraction, the comparison, or the store throws an exception, the produced {@link Multi} fails.
+     * The produced {@link Multi} completes when the upstream sends the completion event.
+     *
+     * @param keyExtractor the function computing the key of each item, must not be {@code null}, must not return
+     *        {@code null}
+     * @param store the supplier of the stores, called for each subscription, must not be {@code null}
+     * @param <K> the type of key
+     * @return the resulting {@link Multi}.
+     */
+    @Experimental("Distinct stores are an experimental feature at this stage")
+    public <K> Multi<T> distinctBy(Function<? super T, ? extends K> keyExtractor,
+            Supplier<? extends DistinctStore<? super K>> store) {
+        Function<? super T, ? extends K> extractor = Infrastructure.decorate(nonNull(keyExtractor, "keyExtractor"));
+        return Infrastructure.onMultiCreation(new MultiDistinctOp<>(upstream, extractor, nonNull(store, "store")));
+    }
+
 }
@@ -1,12 +1,16 @@
 package io.smallrye.mutiny.groups;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.uni.UniAndCombination;
@@ -17,6 +21,7 @@ public class UniAndGroupIterable<T1> {
     private final List<? extends Uni<?>> unis;
 
     private boolean collectFailures;
+    private int concurrency = Integer.MAX_VALUE;
 
     public UniAndGroupIterable(Iterable<? extends Uni<?>> iterable) {
         this(null, iterable, false);
@@ -44,10 +49,26 @@ public class UniAndGroupIterable<T1> {
         return this;
     }
 
+    /**
+     * Limits the number of {@link Uni unis} subscribed at the same time. By default, all the {@link Uni unis} are
+     * subscribed upfront. With a limit, the first {@code level} {@link Uni unis} are subscribed, and the next one is
+     * subscribed each time a subscribed {@link Uni} emits its item (or its failure when the failures are collected).
+     * <p>
+     * The items are still combined in the order of the {@link Uni unis}.
+     *
+     * @param level the maximum number of concurrently subscribed {@link Uni unis}, must be strictly positive
+     * @return this {@link UniAndGroupIterable}
+     */
+    @Experimental("Limiting the concurrency of combined unis is an experimental feature at this stage")
+    public UniAndGroupIterable<T1> usingConcurrencyOf(int level) {
+        concurrency = positive(level, "level");
+        return this;
+    }
+
     public <O> Uni<O> combinedWith(Function<List<?>, O> function) {
         Function<List<?>, O> actual = Infrastructure.decorate(nonNull(function, "function"));
         return Infrastructure
-                .onUniCreation(new UniAndCombination<>(source, unis, actual, collectFailures));
+                .onUniCreation(new UniAndCombination<>(source, unis, actual, collectFailures, concurrency));
     }
 
     /**
@@ -59,7 +80,40 @@ public class UniAndGroupIterable<T1> {
      */
     public Uni<Void> discardItems() {
         return Infrastructure
-                .onUniCreation(new UniAndCombination<>(source, unis, x -> null, collectFailures));
+                .onUniCreation(new UniAndCombination<>(source, unis, x -> null, collectFailures, concurrency));
     }
 
+    /**
+     * Emits the items of the {@link Uni unis} as a {@link Multi}, as soon as each {@link Uni} emits its item, instead
+     * of waiting for all of them to be combined.
+     * <p>
+     * The {@link Uni unis} are subscribed when the returned {@link Multi} is subscribed, and requested, up to the
+     * limit configured with {@link #usingConcurrencyOf(int)}. The {@link Uni unis} emitting {@code null} are skipped.
+     * <p>
+     * If a {@link Uni} fails, the other ones are cancelled, the {@link Uni unis} not subscribed yet are never
+     * subscribed, and the {@link Multi} fails. If the failures are collected (see {@link #collectFailures()}), the
+     * {@link Multi} emits the items of all the {@link Uni unis} before propagating the failures.
+     *
+     * @param ordered {@code true} to emit the items in the order of the {@link Uni unis}, buffering the items emitted
+     *        early, {@code false} to emit them in the order they are emitted by the {@link Uni unis}
+     * @param <O> the type of the items emitted by the {@link Uni unis}
+     * @return the {@link Multi} emitting the items of the {@link Uni unis}
+     */
+    @Experimental("Streaming the items of combined unis is an experimental feature at this stage")
+    @SuppressWarnings("unchecked")
+    public <O> Multi<O> asMulti(boolean ordered) {
+        List<Uni<? extends O>> all = new ArrayList<>(unis.size() + 1);
+        if (source != null) {
+            all.add((Uni<? extends O>) source);
+        }
+        for (Uni<?> uni : unis) {
+            all.add((Uni<? extends O>) uni);
+        }
+        MultiFlatten<Uni<? extends O>, O> flatten = Multi.createFrom().iterable(all)
+                .onItem().transformToUni(Function.identity());
+        if (collectFailures) {
+            flatten = flatten.collectFailures();
+        }
+        return ordered ? flatten.concatenate(concurrency) : flatten.merge(concurrency);
+    }
 }
@@ -0,0 +1,109 @@
+package io.smallrye.mutiny.groups;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.uni.UniHedge;
+import io.smallrye.mutiny.operators.uni.hedging.AdaptiveHedgeDelay;
+import io.smallrye.mutiny.operators.uni.hedging.HedgeBudget;
+
+/**
+ * Configures hedged requests: if the upstream {@link Uni} does not emit an item after the delay configured with
+ * {@link UniIfNoItem#after(Duration)}, another attempt is subscribed, while the first one keeps running. The first
+ * item emitted by an attempt is propagated, and the other attempts are cancelled.
+ * <p>
+ * By default, a single hedge is sent, without budget, after the configured delay. Hedging targets tail latency: the
+ * delay is typically a high percentile of the latency (see {@link #withAdaptiveDelay(AdaptiveHedgeDelay)}), and a
+ * {@link HedgeBudget} bounds the extra load.
+ * <p>
+ * A failing attempt does not trigger a hedge: the failure is propagated once no attempt is running anymore.
+ *
+ * @param <T> the type of item
+ */
+@Experimental("Hedged requests are an experimental feature at this stage")
+public class UniHedging<T> {
+
+    private final Uni<T> upstream;
+    private final Duration delay;
+    private final ScheduledExecutorService executor;
+    private final int maxHedges;
+    private final HedgeBudget budget;
+    private final AdaptiveHedgeDelay adaptiveDelay;
+
+    public UniHedging(Uni<T> upstream, Duration delay, ScheduledExecutorService executor) {
+        this(nonNull(upstream, "upstream"), delay, executor, 1, null, null);
+    }
+
+    private UniHedging(Uni<T> upstream, Duration delay, ScheduledExecutorService executor, int maxHedges,
+            HedgeBudget budget, AdaptiveHedgeDelay adaptiveDelay) {
+        this.upstream = upstream;
+        this.delay = delay;
+        this.executor = executor;
+        this.maxHedges = maxHedges;
+        this.budget = budget;
+        this.adaptiveDelay = adaptiveDelay;
+    }
+
+    /**
+     * Configures the maximum number of hedges. Each hedge is sent after the delay following the previous attempt.
+     *
+     * @param hedges the maximum number of hedges, must be strictly positive
+     * @return a new {@link UniHedging}
+     */
+    public UniHedging<T> atMost(int hedges) {
+        return new UniHedging<>(upstream, delay, executor, positive(hedges, "hedges"), budget, adaptiveDelay);
+    }
+
+    /**
+     * Limits the hedges with the given budget. When the budget is exhausted, no hedge is sent and the running attempt
+     * continues. The budget is typically shared by all the requests to the same service.
+     *
+     * @param budget the budget, must not be {@code null}
+     * @return a new {@link UniHedging}
+     */
+    public UniHedging<T> withBudget(HedgeBudget budget) {
+        return new UniHedging<>(upstream, delay, executor, maxHedges, nonNull(budget, "budget"), adaptiveDelay);
+    }
+
+    /**
+     * Uses the given adaptive delay before sending a hedge, and records the latency of the successful attempts into
+     * it. The delay configured with {@link UniIfNoItem#after(Duration)} is used until the adaptive delay has enough
+     * samples. The adaptive delay is typically shared by all the requests to the same service.
+     *
+     * @param delay the adaptive delay, must not be {@code null}
+     * @return a new {@link UniHedging}
+     */
+    public UniHedging<T> withAdaptiveDelay(AdaptiveHedgeDelay delay) {
+        return new UniHedging<>(upstream, this.delay, executor, maxHedges, budget, nonNull(delay, "delay"));
+    }
+
+    /**
+     * Produces a {@link Uni} sending the hedges by subscribing to the upstream {@link Uni} again.
+     *
+     * @return the new {@link Uni}
+     */
+    public Uni<T> resubscribe() {
+        return Infrastructure.onUniCreation(
+                new UniHedge<>(upstream, null, delay, maxHedges, budget, adaptiveDelay, executor));
+    }
+
+    /**
+     * Produces a {@link Uni} sending the hedges by subscribing to the {@link Uni unis} produced by the given supplier,
+     * for example calling another replica.
+     *
+     * @param supplier the supplier, must not be {@code null}, must not produce {@code null}
+     * @return the new {@link Uni}
+     */
+    public Uni<T> using(Supplier<Uni<? extends T>> supplier) {
+        Supplier<Uni<? extends T>> actual = Infrastructure.decorate(nonNull(supplier, "supplier"));
+        return Infrastructure.onUniCreation(
+                new UniHedge<>(upstream, actual, delay, maxHedges, budget, adaptiveDelay, executor));
+    }
+}
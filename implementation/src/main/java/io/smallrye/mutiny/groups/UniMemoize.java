@@ -27,6 +27,9 @@ public class UniMemoize<T> {
      * New subscribers will receive the memoized item or failure.
      * When the boolean supplier evaluates to {@code true} then a new upstream subscription happens and the next
      * subscribers get a chance to observe new values.
+     * <p>
+     * The boolean supplier is not evaluated while an upstream subscription is in flight: the subscribers arriving in
+     * the meantime receive the result of this subscription.
      *
      * @param invalidationGuard the invalidation guard, which evaluates to {@code false} for as long as the item or failure must
      *        be memoized, must not be {@code null}
@@ -8,9 +8,12 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.CircuitBreaker;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.uni.UniCircuitBreaker;
 import io.smallrye.mutiny.operators.uni.UniOnFailureFlatMap;
 import io.smallrye.mutiny.operators.uni.UniOnFailureTransform;
 import io.smallrye.mutiny.operators.uni.UniOnItemConsume;
@@ -276,4 +279,23 @@ public class UniOnFailure<T> {
     public Uni<T> recoverWithNull() {
         return recoverWithItem(failure -> null);
     }
+
+    /**
+     * Protects the upstream {@link Uni} with the given circuit breaker. Each subscription is a call to the protected
+     * service: when the breaker is open, the subscription is rejected with a
+     * {@link io.smallrye.mutiny.CircuitBreakerOpenException}, without subscribing to the upstream.
+     * <p>
+     * The call succeeds when the {@link Uni} emits an item. The failures matching the predicate are recorded as failed
+     * calls, the others are propagated but recorded as successful calls, as they do not indicate that the service is
+     * failing.
+     *
+     * @param breaker the circuit breaker, must not be {@code null}
+     * @return the new {@link Uni}
+     */
+    @Experimental("Circuit breakers are an experimental feature at this stage")
+    public Uni<T> circuitBreaker(CircuitBreaker breaker) {
+        CircuitBreaker actual = nonNull(breaker, "breaker");
+        return Infrastructure.onUniCreation(new UniCircuitBreaker<>(upstream, actual, predicate));
+    }
+
 }
@@ -7,6 +7,7 @@ import java.time.Duration;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.TimeoutException;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -45,6 +46,17 @@ public class UniOnTimeout<T> {
         return new UniOnTimeout<>(failure, timeout, nonNull(executor, "executor"));
     }
 
+    /**
+     * Sends hedged requests instead of failing: if the upstream {@link Uni} does not emit an item before the timeout,
+     * another attempt is subscribed while the first one keeps running, and the first item wins.
+     *
+     * @return the object to configure the hedged requests
+     */
+    @Experimental("Hedged requests are an experimental feature at this stage")
+    public UniHedging<T> hedge() {
+        return new UniHedging<>(failure, validate(timeout, "timeout"), executor);
+    }
+
     public Uni<T> fail() {
         return Infrastructure.onUniCreation(failWith(TimeoutException::new));
     }
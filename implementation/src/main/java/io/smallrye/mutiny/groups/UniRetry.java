@@ -9,12 +9,16 @@ import java.util.function.Predicate;
 
 import org.reactivestreams.Publisher;
 
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.ExponentialBackoff;
 import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.RetryBackOff;
+import io.smallrye.mutiny.helpers.RetryBudget;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.uni.UniRetryAtMost;
+import io.smallrye.mutiny.operators.uni.UniRetryWithBackOff;
 
 // TODO This method should be renamed to UniOnFailureRetry, however it's a breaking change.
 public class UniRetry<T> {
@@ -26,6 +30,9 @@ public class UniRetry<T> {
     private Duration maxBackoffDuration = ExponentialBackoff.MAX_BACKOFF;
     private double jitter = ExponentialBackoff.DEFAULT_JITTER;
 
+    private RetryBackOff.Jitter jitterStrategy = RetryBackOff.Jitter.PROPORTIONAL;
+    private RetryBudget budget;
+
     private boolean backOffConfigured = false;
 
     public UniRetry(Uni<T> upstream, Predicate<? super Throwable> predicate) {
@@ -55,18 +62,11 @@ public class UniRetry<T> {
      *         has been configured, a delay is introduced between the attempts.
      */
     public Uni<T> atMost(long numberOfAttempts) {
-        if (!backOffConfigured) {
+        if (!backOffConfigured && budget == null) {
             return Infrastructure.onUniCreation(new UniRetryAtMost<>(upstream, predicate, numberOfAttempts));
         } else {
-            Function<Multi<Throwable>, Publisher<Long>> factory = ExponentialBackoff
-                    .randomExponentialBackoffFunction(numberOfAttempts,
-                            initialBackOffDuration, maxBackoffDuration, jitter, Infrastructure.getDefaultWorkerPool());
-
-            if (predicate != null) {
-                factory = addPredicateToBackoffFactory(factory);
-            }
-
-            return upstream.toMulti().onFailure().retry().when(factory).toUni();
+            return Infrastructure.onUniCreation(new UniRetryWithBackOff<>(upstream, predicate, numberOfAttempts,
+                    Long.MAX_VALUE, backOff(), budget, Infrastructure.getDefaultWorkerPool()));
         }
     }
 
@@ -88,31 +88,15 @@ public class UniRetry<T> {
             throw new IllegalArgumentException(
                     "Invalid retry configuration, `expiresAt/expiresIn` must be used with a back-off configuration");
         }
-        Function<Multi<Throwable>, Publisher<Long>> factory = ExponentialBackoff
-                .randomExponentialBackoffFunctionExpireAt(expireAt,
-                        initialBackOffDuration, maxBackoffDuration, jitter, Infrastructure.getDefaultWorkerPool());
-
-        if (predicate != null) {
-            factory = addPredicateToBackoffFactory(factory);
-        }
-
-        return upstream.toMulti().onFailure().retry().when(factory).toUni();
+        return Infrastructure.onUniCreation(new UniRetryWithBackOff<>(upstream, predicate, Long.MAX_VALUE,
+                expireAt, backOff(), budget, Infrastructure.getDefaultWorkerPool()));
     }
 
-    private Function<Multi<Throwable>, Publisher<Long>> addPredicateToBackoffFactory(
-            Function<Multi<Throwable>, Publisher<Long>> factory) {
-        return factory.compose(value -> value.onItem()
-                .transformToUni(throwable -> Uni.createFrom().<Throwable> emitter(emitter -> {
-                    try {
-                        if (predicate.test(throwable)) {
-                            emitter.complete(throwable);
-                        } else {
-                            emitter.fail(throwable);
-                        }
-                    } catch (RuntimeException e) {
-                        emitter.fail(e);
-                    }
-                })).concatenate());
+    private RetryBackOff backOff() {
+        if (!backOffConfigured) {
+            return null;
+        }
+        return new RetryBackOff(initialBackOffDuration, maxBackoffDuration, jitterStrategy, jitter);
     }
 
     /**
@@ -223,4 +207,53 @@ public class UniRetry<T> {
         return this;
     }
 
+    /**
+     * Configures the back-off to use <em>full jitter</em>: the delay before each attempt is randomly picked between 0
+     * and the exponential back-off. It spreads the retries of concurrent subscribers the most, at the cost of some
+     * retries happening almost immediately.
+     * <p>
+     * The back-off is configured with {@link #withBackOff(Duration, Duration)}, or defaults to 1 second.
+     *
+     * @return this object to configure the retry policy.
+     */
+    @Experimental("Full jitter is an experimental feature at this stage")
+    public UniRetry<T> withFullJitter() {
+        this.backOffConfigured = true;
+        this.jitterStrategy = RetryBackOff.Jitter.FULL;
+        return this;
+    }
+
+    /**
+     * Configures the back-off to use <em>decorrelated jitter</em>: the delay before each attempt is randomly picked
+     * between the initial back-off and three times the previous delay, capped to the max back-off. The delays grow
+     * exponentially on average, but the retries of concurrent subscribers quickly drift apart.
+     * <p>
+     * The back-off is configured with {@link #withBackOff(Duration, Duration)}, or defaults to 1 second.
+     *
+     * @return this object to configure the retry policy.
+     */
+    @Experimental("Decorrelated jitter is an experimental feature at this stage")
+    public UniRetry<T> withDecorrelatedJitter() {
+        this.backOffConfigured = true;
+        this.jitterStrategy = RetryBackOff.Jitter.DECORRELATED;
+        return this;
+    }
+
+    /**
+     * Limits the retries with the given budget. Each subscription to the produced {@link Uni} deposits into the budget,
+     * and each retry withdraws from it. When the budget is exhausted, the failure is propagated instead of retrying.
+     * <p>
+     * Share the same budget between the pipelines calling the same service, so that retries cannot amplify the load on
+     * this service when it fails. The budget only applies to {@link #atMost(long)}, {@link #indefinitely()},
+     * {@link #expireAt(long)} and {@link #expireIn(long)}.
+     *
+     * @param budget the budget, must not be {@code null}
+     * @return this object to configure the retry policy.
+     */
+    @Experimental("Retry budgets are an experimental feature at this stage")
+    public UniRetry<T> withBudget(RetryBudget budget) {
+        this.budget = nonNull(budget, "budget");
+        return this;
+    }
+
 }
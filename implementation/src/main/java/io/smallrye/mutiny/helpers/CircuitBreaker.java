@@ -0,0 +1,364 @@
+package io.smallrye.mutiny.helpers;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.CircuitBreakerOpenException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.MultiCircuitBreakerOp;
+import io.smallrye.mutiny.operators.uni.UniCircuitBreaker;
+
+/**
+ * Stops the calls to a failing service, so the callers fail fast instead of queueing work for a dead backend.
+ * <p>
+ * The breaker is a state machine:
+ * <ul>
+ * <li>{@link State#CLOSED}: the calls go through, and their outcomes are recorded in a sliding window of the last
+ * {@code windowSize} calls. Once the window contains at least {@code minimumNumberOfCalls} calls, and the rate of
+ * failed calls or the rate of slow calls reaches its threshold, the breaker opens.</li>
+ * <li>{@link State#OPEN}: the calls are rejected with a {@link CircuitBreakerOpenException}, without subscribing to
+ * the upstream. After {@code openDuration}, the breaker becomes half-open.</li>
+ * <li>{@link State#HALF_OPEN}: only {@code permittedCallsInHalfOpen} calls go through, the others are rejected. If
+ * one of them fails or is slow, the breaker opens again. If they all succeed, the breaker closes.</li>
+ * </ul>
+ * A call is a subscription to a protected {@link Uni} or {@link Multi}: it succeeds when the {@link Uni} emits an item
+ * or the {@link Multi} completes, and fails when a failure is propagated. Cancelled calls are not recorded. A call is
+ * slow when it takes at least {@code slowCallDuration} to terminate.
+ * <p>
+ * The breaker is lock-free, and meant to be shared by all the pipelines calling the same service. Use
+ * {@code uni.plug(breaker::protect)}, {@code multi.plug(breaker::protect)}, or
+ * {@code onFailure(predicate).circuitBreaker(breaker)} to only record the failures matching the predicate.
+ * <p>
+ * The {@code withX} methods return a new breaker, in the closed state, so the configuration must happen before
+ * sharing the breaker.
+ */
+@Experimental("Circuit breakers are an experimental feature at this stage")
+public final class CircuitBreaker {
+
+    /**
+     * The states of a circuit breaker.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * The slow call duration of the breakers not configured with
+     * {@link #withSlowCallRateThreshold(double, Duration)}: no call is ever recorded as slow.
+     */
+    private static final Duration NEVER_SLOW = Duration.ofNanos(Long.MAX_VALUE);
+
+    private static final int FAILED = 1;
+    private static final int SLOW = 2;
+
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final int windowSize;
+    private final int minimumNumberOfCalls;
+    private final long openDurationNanos;
+    private final int permittedCallsInHalfOpen;
+
+    private final AtomicReference<Status> status;
+
+    private CircuitBreaker(double failureRateThreshold, double slowCallRateThreshold, Duration slowCallDuration,
+            int windowSize, int minimumNumberOfCalls, Duration openDuration, int permittedCallsInHalfOpen) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDurationNanos = toNanos(slowCallDuration);
+        this.windowSize = windowSize;
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        this.openDurationNanos = toNanos(openDuration);
+        this.permittedCallsInHalfOpen = permittedCallsInHalfOpen;
+        this.status = new AtomicReference<>(closed());
+    }
+
+    /**
+     * Creates a new {@link CircuitBreaker}, opening when 50% of the last 100 calls have failed (once 10 calls have
+     * been recorded), staying open for 30 seconds, and permitting 5 calls when half-open. The slow calls are not
+     * recorded until configured with {@link #withSlowCallRateThreshold(double, Duration)}.
+     *
+     * @return the new {@link CircuitBreaker}
+     */
+    public static CircuitBreaker create() {
+        return new CircuitBreaker(0.5, 1.0, NEVER_SLOW, 100, 10, Duration.ofSeconds(30), 5);
+    }
+
+    /**
+     * Configures the rate of failed calls opening the breaker.
+     *
+     * @param threshold the rate, must be greater than 0 and less than or equal to 1
+     * @return a new {@link CircuitBreaker}
+     */
+    public CircuitBreaker withFailureRateThreshold(double threshold) {
+        return new CircuitBreaker(rate(threshold, "threshold"), slowCallRateThreshold,
+                Duration.ofNanos(slowCallDurationNanos), windowSize, minimumNumberOfCalls,
+                Duration.ofNanos(openDurationNanos), permittedCallsInHalfOpen);
+    }
+
+    /**
+     * Configures the rate of slow calls opening the breaker, and the duration from which a call is slow.
+     *
+     * @param threshold the rate, must be greater than 0 and less than or equal to 1
+     * @param slowCallDuration the duration, must not be {@code null}, must be strictly positive
+     * @return a new {@link CircuitBreaker}
+     */
+    public CircuitBreaker withSlowCallRateThreshold(double threshold, Duration slowCallDuration) {
+        return new CircuitBreaker(failureRateThreshold, rate(threshold, "threshold"),
+                validate(slowCallDuration, "slowCallDuration"), windowSize, minimumNumberOfCalls,
+                Duration.ofNanos(openDurationNanos), permittedCallsInHalfOpen);
+    }
+
+    /**
+     * Configures the sliding window: the rates are computed over the last {@code size} calls, once at least
+     * {@code minimumNumberOfCalls} calls have been recorded.
+     *
+     * @param size the number of calls in the window, must be strictly positive
+     * @param minimumNumberOfCalls the minimum number of calls, must be strictly positive, and less than or equal to
+     *        {@code size}
+     * @return a new {@link CircuitBreaker}
+     */
+    public CircuitBreaker withSlidingWindow(int size, int minimumNumberOfCalls) {
+        positive(size, "size");
+        positive(minimumNumberOfCalls, "minimumNumberOfCalls");
+        if (minimumNumberOfCalls > size) {
+            throw new IllegalArgumentException("`minimumNumberOfCalls` must be less than or equal to `size`");
+        }
+        return new CircuitBreaker(failureRateThreshold, slowCallRateThreshold, Duration.ofNanos(slowCallDurationNanos),
+                size, minimumNumberOfCalls, Duration.ofNanos(openDurationNanos), permittedCallsInHalfOpen);
+    }
+
+    /**
+     * Configures how long the breaker stays open, before permitting calls again.
+     *
+     * @param duration the duration, must not be {@code null}, must be strictly positive
+     * @return a new {@link CircuitBreaker}
+     */
+    public CircuitBreaker withOpenDuration(Duration duration) {
+        return new CircuitBreaker(failureRateThreshold, slowCallRateThreshold, Duration.ofNanos(slowCallDurationNanos),
+                windowSize, minimumNumberOfCalls, validate(duration, "duration"), permittedCallsInHalfOpen);
+    }
+
+    /**
+     * Configures the number of calls permitted when the breaker is half-open. The breaker closes once they have all
+     * succeeded.
+     *
+     * @param calls the number of calls, must be strictly positive
+     * @return a new {@link CircuitBreaker}
+     */
+    public CircuitBreaker withPermittedCallsInHalfOpen(int calls) {
+        return new CircuitBreaker(failureRateThreshold, slowCallRateThreshold, Duration.ofNanos(slowCallDurationNanos),
+                windowSize, minimumNumberOfCalls, Duration.ofNanos(openDurationNanos), positive(calls, "calls"));
+    }
+
+    /**
+     * Protects the given {@link Uni}: each subscription is a call, rejected with a {@link CircuitBreakerOpenException}
+     * when the breaker is open.
+     *
+     * @param upstream the upstream, must not be {@code null}
+     * @param <T> the type of item
+     * @return the new {@link Uni}
+     */
+    public <T> Uni<T> protect(Uni<T> upstream) {
+        Uni<T> actual = nonNull(upstream, "upstream");
+        return Infrastructure.onUniCreation(new UniCircuitBreaker<>(actual, this, x -> true));
+    }
+
+    /**
+     * Protects the given {@link Multi}: each subscription is a call, rejected with a
+     * {@link CircuitBreakerOpenException} when the breaker is open.
+     *
+     * @param upstream the upstream, must not be {@code null}
+     * @param <T> the type of item
+     * @return the new {@link Multi}
+     */
+    public <T> Multi<T> protect(Multi<T> upstream) {
+        Multi<T> actual = nonNull(upstream, "upstream");
+        return Infrastructure.onMultiCreation(new MultiCircuitBreakerOp<>(actual, this, x -> true));
+    }
+
+    /**
+     * @return the current state of the breaker
+     */
+    public State state() {
+        Status current = status.get();
+        if (current.state == State.OPEN && System.nanoTime() - current.openedAt >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return current.state;
+    }
+
+    /**
+     * Acquires the permission to call the service.
+     *
+     * @return the permit, to notify of the outcome of the call, or {@code null} if the call is rejected
+     */
+    public Permit tryAcquirePermission() {
+        for (;;) {
+            Status current = status.get();
+            switch (current.state) {
+                case CLOSED:
+                    return new Permit(current);
+                case OPEN:
+                    if (System.nanoTime() - current.openedAt < openDurationNanos) {
+                        return null;
+                    }
+                    status.compareAndSet(current, halfOpen());
+                    break;
+                default:
+                    int permits;
+                    do {
+                        permits = current.permits.get();
+                        if (permits == 0) {
+                            return null;
+                        }
+                    } while (!current.permits.compareAndSet(permits, permits - 1));
+                    return new Permit(current);
+            }
+        }
+    }
+
+    /**
+     * The permission to call the service, acquired with {@link #tryAcquirePermission()}. Exactly one of its methods
+     * must be called, when the call terminates.
+     */
+    public final class Permit {
+
+        private final Status acquired;
+        private final long start = System.nanoTime();
+
+        private Permit(Status acquired) {
+            this.acquired = acquired;
+        }
+
+        /**
+         * Records a successful call.
+         */
+        public void onSuccess() {
+            long duration = System.nanoTime() - start;
+            record(acquired, duration >= slowCallDurationNanos ? SLOW : 0);
+        }
+
+        /**
+         * Records a failed call.
+         */
+        public void onFailure() {
+            long duration = System.nanoTime() - start;
+            record(acquired, duration >= slowCallDurationNanos ? FAILED | SLOW : FAILED);
+        }
+
+        /**
+         * Releases the permission of a cancelled call, without recording it.
+         */
+        public void onCancellation() {
+            if (acquired.state == State.HALF_OPEN) {
+                acquired.permits.incrementAndGet();
+            }
+        }
+    }
+
+    private void record(Status acquired, int outcome) {
+        if (status.get() != acquired) {
+            // The breaker has changed its state since the call started
+            return;
+        }
+        if (acquired.state == State.CLOSED) {
+            if (acquired.window.record(outcome)) {
+                status.compareAndSet(acquired, open());
+            }
+        } else if (outcome != 0) {
+            status.compareAndSet(acquired, open());
+        } else if (acquired.successes.incrementAndGet() >= permittedCallsInHalfOpen) {
+            status.compareAndSet(acquired, closed());
+        }
+    }
+
+    private Status closed() {
+        return new Status(State.CLOSED, 0L, new Window(), null, null);
+    }
+
+    private Status open() {
+        return new Status(State.OPEN, System.nanoTime(), null, null, null);
+    }
+
+    private Status halfOpen() {
+        return new Status(State.HALF_OPEN, 0L, null, new AtomicInteger(permittedCallsInHalfOpen),
+                new AtomicInteger());
+    }
+
+    private static double rate(double rate, String name) {
+        if (!(rate > 0.0 && rate <= 1.0)) {
+            throw new IllegalArgumentException("`" + name + "` must be greater than 0 and less than or equal to 1");
+        }
+        return rate;
+    }
+
+    private static long toNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException overflow) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * An immutable state, with the mutable counters of this state. The state transitions replace the instance with a
+     * compare-and-set, so the outcomes of the calls started in a previous state are ignored.
+     */
+    private static final class Status {
+        final State state;
+        final long openedAt;
+        final Window window;
+        final AtomicInteger permits;
+        final AtomicInteger successes;
+
+        Status(State state, long openedAt, Window window, AtomicInteger permits, AtomicInteger successes) {
+            this.state = state;
+            this.openedAt = openedAt;
+            this.window = window;
+            this.permits = permits;
+            this.successes = successes;
+        }
+    }
+
+    /**
+     * The sliding window of the closed state: a ring buffer of the outcomes of the last calls, with the number of
+     * failed and slow calls it contains.
+     */
+    private final class Window {
+        final AtomicIntegerArray outcomes = new AtomicIntegerArray(windowSize);
+        final AtomicLong index = new AtomicLong();
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicInteger slow = new AtomicInteger();
+
+        /**
+         * Records an outcome.
+         *
+         * @param outcome the outcome
+         * @return {@code true} if the breaker must open
+         */
+        boolean record(int outcome) {
+            long i = index.getAndIncrement();
+            int previous = outcomes.getAndSet((int) (i % windowSize), outcome);
+            int failures = failed.addAndGet((outcome & FAILED) - (previous & FAILED));
+            int slowCalls = slow.addAndGet(((outcome & SLOW) - (previous & SLOW)) >> 1);
+            long calls = Math.min(i + 1, windowSize);
+            if (calls < minimumNumberOfCalls) {
+                return false;
+            }
+            return failures >= failureRateThreshold * calls || slowCalls >= slowCallRateThreshold * calls;
+        }
+    }
+}
@@ -52,6 +52,57 @@ public class ExponentialBackoff {
                 }).concatenate();
     }
 
+    /**
+     * Computes the delay before the given retry, using an exponential backoff with a random factor proportional to
+     * the backoff.
+     *
+     * @param firstBackoff the delay of the first backoff
+     * @param maxBackoff the max backoff
+     * @param jitterFactor the jitter factor in [0, 1]
+     * @param iteration the retry, starting at 1
+     * @return the delay
+     */
+    public static Duration proportionalJitterDelay(Duration firstBackoff, Duration maxBackoff, double jitterFactor,
+            int iteration) {
+        return getNextDelay(firstBackoff, maxBackoff, jitterFactor, iteration);
+    }
+
+    /**
+     * Computes the delay before the given retry, using an exponential backoff with <em>full jitter</em>: the delay is
+     * randomly picked between 0 and the backoff. The first retry waits at most {@code firstBackoff}.
+     *
+     * @param firstBackoff the delay of the first backoff
+     * @param maxBackoff the max backoff
+     * @param iteration the retry, starting at 1
+     * @return the delay
+     */
+    public static Duration fullJitterDelay(Duration firstBackoff, Duration maxBackoff, int iteration) {
+        long backoff = getNextAttemptDelay(firstBackoff, maxBackoff, iteration - 1).toMillis();
+        if (backoff <= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(backoff + 1));
+    }
+
+    /**
+     * Computes the delay before a retry using <em>decorrelated jitter</em>: the delay is randomly picked between
+     * {@code firstBackoff} and three times the previous delay, and capped to {@code maxBackoff}. The delays of
+     * concurrent retries drift apart, while growing exponentially on average.
+     *
+     * @param firstBackoff the delay of the first backoff
+     * @param maxBackoff the max backoff
+     * @param previousDelay the previous delay, {@code null} for the first retry
+     * @return the delay
+     */
+    public static Duration decorrelatedJitterDelay(Duration firstBackoff, Duration maxBackoff, Duration previousDelay) {
+        long first = firstBackoff.toMillis();
+        long max = maxBackoff.toMillis();
+        long previous = previousDelay == null ? first : previousDelay.toMillis();
+        long upper = previous > Long.MAX_VALUE / 3 ? Long.MAX_VALUE : previous * 3;
+        long delay = upper > first ? ThreadLocalRandom.current().nextLong(first, upper) : first;
+        return Duration.ofMillis(Math.min(max, delay));
+    }
+
     private static Duration getNextDelay(Duration firstBackoff, Duration maxBackoff, double jitterFactor, int iteration) {
         Duration nextBackoff = getNextAttemptDelay(firstBackoff, maxBackoff, iteration);
 
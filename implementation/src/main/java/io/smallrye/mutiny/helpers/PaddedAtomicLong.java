@@ -0,0 +1,94 @@
+package io.smallrye.mutiny.helpers;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A counter similar to {@link AtomicLong}, with padding fields before and after the value, so that the value does not
+ * share its cache line with the objects allocated right before or after it.
+ * <p>
+ * Counters updated by different threads for the whole life of a long-lived structure cause false sharing when they
+ * are allocated next to other hot fields. The JVM lays out the fields of the super classes first, so the value is
+ * declared between two classes of padding fields.
+ * <p>
+ * Each instance costs about 270 bytes: do not use it for short-lived or rarely contended counters. Queues and
+ * per-subscription operators pad their hot fields through their own class hierarchy instead (like
+ * {@link io.smallrye.mutiny.helpers.queues.MpscArrayQueue}), which does not allocate an additional object.
+ */
+public final class PaddedAtomicLong extends PaddedAtomicLongTailPad {
+
+    public PaddedAtomicLong() {
+        super(0L);
+    }
+
+    public PaddedAtomicLong(long initialValue) {
+        super(initialValue);
+    }
+
+    public long get() {
+        return value;
+    }
+
+    public void set(long newValue) {
+        value = newValue;
+    }
+
+    public void lazySet(long newValue) {
+        VALUE.lazySet(this, newValue);
+    }
+
+    public boolean compareAndSet(long expect, long update) {
+        return VALUE.compareAndSet(this, expect, update);
+    }
+
+    public long getAndAdd(long delta) {
+        return VALUE.getAndAdd(this, delta);
+    }
+
+    public long addAndGet(long delta) {
+        return VALUE.addAndGet(this, delta);
+    }
+
+    public long incrementAndGet() {
+        return VALUE.incrementAndGet(this);
+    }
+
+    public long decrementAndGet() {
+        return VALUE.decrementAndGet(this);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+}
+
+// The classes below only define the field layout of the counter: the value is surrounded by (unused) padding fields,
+// 16 longs (128 bytes) on each side, covering the adjacent cache line prefetch.
+
+@SuppressWarnings("unused")
+abstract class PaddedAtomicLongHeadPad {
+    long p100, p101, p102, p103, p104, p105, p106, p107;
+    long p108, p109, p110, p111, p112, p113, p114, p115;
+}
+
+abstract class PaddedAtomicLongValue extends PaddedAtomicLongHeadPad {
+    static final AtomicLongFieldUpdater<PaddedAtomicLongValue> VALUE = AtomicLongFieldUpdater
+            .newUpdater(PaddedAtomicLongValue.class, "value");
+
+    volatile long value;
+
+    PaddedAtomicLongValue(long initialValue) {
+        this.value = initialValue;
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class PaddedAtomicLongTailPad extends PaddedAtomicLongValue {
+    long p200, p201, p202, p203, p204, p205, p206, p207;
+    long p208, p209, p210, p211, p212, p213, p214, p215;
+
+    PaddedAtomicLongTailPad(long initialValue) {
+        super(initialValue);
+    }
+}
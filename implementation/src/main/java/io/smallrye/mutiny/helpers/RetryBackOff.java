@@ -0,0 +1,69 @@
+package io.smallrye.mutiny.helpers;
+
+import java.time.Duration;
+
+/**
+ * Computes the delays between the retries, using an exponential backoff and a random factor (jitter).
+ * <p>
+ * The jitter spreads the retries of concurrent subscribers over time, so they do not retry in lock-step:
+ * <ul>
+ * <li>{@link Jitter#PROPORTIONAL}: the exponential backoff, plus or minus a random fraction of it (see
+ * {@link ExponentialBackoff#proportionalJitterDelay(Duration, Duration, double, int)})</li>
+ * <li>{@link Jitter#FULL}: a random delay between 0 and the exponential backoff (see
+ * {@link ExponentialBackoff#fullJitterDelay(Duration, Duration, int)})</li>
+ * <li>{@link Jitter#DECORRELATED}: a random delay between the first backoff and three times the previous delay (see
+ * {@link ExponentialBackoff#decorrelatedJitterDelay(Duration, Duration, Duration)})</li>
+ * </ul>
+ */
+public final class RetryBackOff {
+
+    /**
+     * The jitter strategies.
+     */
+    public enum Jitter {
+        PROPORTIONAL,
+        FULL,
+        DECORRELATED
+    }
+
+    private final Duration firstBackOff;
+    private final Duration maxBackOff;
+    private final Jitter jitter;
+    private final double jitterFactor;
+
+    /**
+     * Creates a new {@link RetryBackOff}.
+     *
+     * @param firstBackOff the delay of the first backoff, must not be {@code null}
+     * @param maxBackOff the max backoff, must not be {@code null}
+     * @param jitter the jitter strategy, must not be {@code null}
+     * @param jitterFactor the jitter factor in [0, 1], only used with {@link Jitter#PROPORTIONAL}
+     */
+    public RetryBackOff(Duration firstBackOff, Duration maxBackOff, Jitter jitter, double jitterFactor) {
+        this.firstBackOff = ParameterValidation.nonNull(firstBackOff, "firstBackOff");
+        this.maxBackOff = ParameterValidation.nonNull(maxBackOff, "maxBackOff");
+        this.jitter = ParameterValidation.nonNull(jitter, "jitter");
+        if (jitterFactor < 0 || jitterFactor > 1) {
+            throw new IllegalArgumentException("jitterFactor must be between 0 and 1 (default 0.5)");
+        }
+        this.jitterFactor = jitterFactor;
+    }
+
+    /**
+     * Computes the delay before a retry.
+     *
+     * @param iteration the retry, starting at 1
+     * @param previousDelay the delay before the previous retry, {@code null} for the first retry
+     * @return the delay
+     */
+    public Duration nextDelay(int iteration, Duration previousDelay) {
+        switch (jitter) {
+            case FULL:
+                return ExponentialBackoff.fullJitterDelay(firstBackOff, maxBackOff, iteration);
+            case DECORRELATED:
+                return ExponentialBackoff.decorrelatedJitterDelay(firstBackOff, maxBackOff, previousDelay);
+            default:
+                return ExponentialBackoff.proportionalJitterDelay(firstBackOff, maxBackOff, jitterFactor, iteration);
+        }
+    }
+}
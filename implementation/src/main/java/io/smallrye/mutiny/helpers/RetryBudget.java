@@ -0,0 +1,83 @@
+package io.smallrye.mutiny.helpers;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the retries to a percentage of the subscriptions, so retries cannot amplify the load on a failing service.
+ * <p>
+ * Each subscription to a retrying {@link io.smallrye.mutiny.Uni} or {@link io.smallrye.mutiny.Multi} deposits
+ * {@code ratio} token in the budget, and each retry withdraws a whole token. When the budget is exhausted, the failure
+ * is propagated instead of retrying. The balance is capped to {@code maxBurst} tokens, so a period without failures
+ * does not allow a burst of retries afterwards.
+ * <p>
+ * The budget is meant to be shared: a single instance is typically passed to all the retrying pipelines calling the
+ * same service.
+ */
+public final class RetryBudget {
+
+    /**
+     * The tokens are stored as fixed-point numbers, with this scale.
+     */
+    private static final long SCALE = 1000;
+
+    private final long deposit;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    /**
+     * Creates a new {@link RetryBudget}. The budget starts full, allowing {@code maxBurst} retries.
+     *
+     * @param ratio the maximum number of retries per subscription, must be strictly positive
+     * @param maxBurst the maximum number of retries allowed in a row, must be strictly positive
+     */
+    public RetryBudget(double ratio, int maxBurst) {
+        if (!(ratio > 0.0)) {
+            throw new IllegalArgumentException("`ratio` must be greater than zero");
+        }
+        ParameterValidation.positive(maxBurst, "maxBurst");
+        this.deposit = Math.max(1L, Math.round(ratio * SCALE));
+        this.maxBalance = maxBurst * SCALE;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    /**
+     * Creates a new {@link RetryBudget} allowing up to 10 retries in a row.
+     *
+     * @param ratio the maximum number of retries per subscription, must be strictly positive
+     * @return the new {@link RetryBudget}
+     */
+    public static RetryBudget of(double ratio) {
+        return new RetryBudget(ratio, 10);
+    }
+
+    /**
+     * Records a subscription, making more retries available.
+     */
+    public void onSubscription() {
+        long current;
+        long next;
+        do {
+            current = balance.get();
+            if (current >= maxBalance) {
+                return;
+            }
+            next = Math.min(maxBalance, current + deposit);
+        } while (!balance.compareAndSet(current, next));
+    }
+
+    /**
+     * Withdraws a retry from the budget.
+     *
+     * @return {@code true} if the retry can happen, {@code false} if the budget is exhausted
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+}
@@ -3,13 +3,17 @@ package io.smallrye.mutiny.helpers;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 import io.smallrye.mutiny.subscription.UniSubscription;
 
 public class Subscriptions {
@@ -104,6 +108,28 @@ public class Subscriptions {
         }
     }
 
+    /**
+     * Same as {@link #add(AtomicLong, long)} for a requested field updated with an {@link AtomicLongFieldUpdater}.
+     *
+     * @param updater the updater of the field holding the current requested value
+     * @param instance the instance owning the field
+     * @param requests the value to add, must be positive (not verified)
+     * @param <T> the type of the instance
+     * @return the original value before the add
+     */
+    public static <T> long add(AtomicLongFieldUpdater<T> updater, T instance, long requests) {
+        for (;;) {
+            long r = updater.get(instance);
+            if (r == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            long u = add(r, requests);
+            if (updater.compareAndSet(instance, r, u)) {
+                return r;
+            }
+        }
+    }
+
     /**
      * Atomically subtract the given number (positive, not validated) from the target field unless it contains Long.MAX_VALUE.
      *
@@ -156,6 +182,38 @@ public class Subscriptions {
         return true;
     }
 
+    /**
+     * Same as {@link #addFailure(AtomicReference, Throwable)} for a failure field updated with an
+     * {@link AtomicReferenceFieldUpdater}.
+     *
+     * @param updater the updater of the field containing the failures
+     * @param instance the instance owning the field
+     * @param failure the failure to add
+     * @param <T> the type of the instance
+     * @return {@code true} if the failure has been added, {@code false} if the failures are already terminated
+     */
+    public static <T> boolean addFailure(AtomicReferenceFieldUpdater<T, Throwable> updater, T instance,
+            Throwable failure) {
+        Throwable current = updater.get(instance);
+
+        if (current == Subscriptions.TERMINATED) {
+            return false;
+        }
+
+        if (current instanceof CompositeException) {
+            updater.set(instance, new CompositeException((CompositeException) current, failure));
+            return true;
+        }
+
+        if (current == null) {
+            updater.set(instance, failure);
+        } else {
+            updater.set(instance, new CompositeException(current, failure));
+        }
+
+        return true;
+    }
+
     public static void cancel(AtomicReference<Subscription> reference) {
         Subscription actual = reference.getAndSet(CANCELLED);
         if (actual != null && actual != CANCELLED) {
@@ -163,6 +221,21 @@ public class Subscriptions {
         }
     }
 
+    /**
+     * Same as {@link #cancel(AtomicReference)} for a subscription field updated with an
+     * {@link AtomicReferenceFieldUpdater}.
+     *
+     * @param updater the updater of the field containing the subscription
+     * @param instance the instance owning the field
+     * @param <T> the type of the instance
+     */
+    public static <T> void cancel(AtomicReferenceFieldUpdater<T, Subscription> updater, T instance) {
+        Subscription actual = updater.getAndSet(instance, CANCELLED);
+        if (actual != null && actual != CANCELLED) {
+            actual.cancel();
+        }
+    }
+
     public static Throwable markFailureAsTerminated(AtomicReference<Throwable> failures) {
         return failures.getAndSet(TERMINATED);
     }
@@ -219,6 +292,35 @@ public class Subscriptions {
         }
     }
 
+    /**
+     * Same as {@link #requestIfNotNullOrAccumulate(AtomicReference, AtomicLong, long)} for fields updated with field
+     * updaters.
+     *
+     * @param field the updater of the field that may already contain a Subscription
+     * @param requested the updater of the field holding the current requested amount
+     * @param instance the instance owning the fields
+     * @param requests the request amount, positive (verified)
+     * @param <T> the type of the instance
+     */
+    public static <T> void requestIfNotNullOrAccumulate(AtomicReferenceFieldUpdater<T, Subscription> field,
+            AtomicLongFieldUpdater<T> requested, T instance, long requests) {
+        Subscription subscription = field.get(instance);
+        if (subscription != null) {
+            subscription.request(requests);
+        } else {
+            if (requests > 0) {
+                add(requested, instance, requests);
+                subscription = field.get(instance);
+                if (subscription != null) {
+                    long r = requested.getAndSet(instance, 0L);
+                    if (r != 0L) {
+                        subscription.request(r);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Atomically sets the new {@link Subscription} in the container and requests any accumulated amount
      * from the requested counter.
@@ -299,6 +401,30 @@ public class Subscriptions {
         return u;
     }
 
+    /**
+     * Same as {@link #produced(AtomicLong, long)} for a requested field updated with an
+     * {@link AtomicLongFieldUpdater}.
+     *
+     * @param updater the updater of the field holding the current requested value
+     * @param instance the instance owning the field
+     * @param amount the produced amount
+     * @param <T> the type of the instance
+     * @return the new requested value
+     */
+    public static <T> long produced(AtomicLongFieldUpdater<T> updater, T instance, long amount) {
+        long r;
+        long u;
+        do {
+            r = updater.get(instance);
+            if (r == 0 || r == Long.MAX_VALUE) {
+                return r;
+            }
+            u = subOrZero(r, amount);
+        } while (!updater.compareAndSet(instance, r, u));
+
+        return u;
+    }
+
     /**
      * Cap a subtraction to 0
      *
@@ -318,6 +444,83 @@ public class Subscriptions {
         return new SingleItemSubscription<>(downstream, item);
     }
 
+    /**
+     * Hides the {@link QueueSubscription} nature of the given subscription.
+     * <p>
+     * A subscriber passing the subscription it receives as-is to its downstream must use this method. Otherwise, the
+     * downstream could establish a fusion mode with the source, and the source would bypass the subscriber (and
+     * signal {@code onItem(null)} to it in the {@code ASYNC} mode).
+     *
+     * @param subscription the subscription
+     * @return the subscription if it does not support fusion, a view rejecting fusion otherwise
+     */
+    public static Subscription nonFuseable(Subscription subscription) {
+        if (subscription instanceof QueueSubscription) {
+            return new NonFuseableSubscription(subscription);
+        }
+        return subscription;
+    }
+
+    /**
+     * Wraps the given subscriber so that it never receives a {@link QueueSubscription}, and so its downstream cannot
+     * fuse with the source, see {@link #nonFuseable(Subscription)}.
+     *
+     * @param subscriber the subscriber, potentially forwarding the subscription as-is
+     * @param <T> the type of item
+     * @return the wrapped subscriber
+     */
+    public static <T> MultiSubscriber<T> nonFuseable(MultiSubscriber<T> subscriber) {
+        return new NonFuseableSubscriber<>(subscriber);
+    }
+
+    private static final class NonFuseableSubscription implements Subscription {
+
+        private final Subscription upstream;
+
+        private NonFuseableSubscription(Subscription upstream) {
+            this.upstream = upstream;
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+
+    private static final class NonFuseableSubscriber<T> implements MultiSubscriber<T> {
+
+        private final MultiSubscriber<T> downstream;
+
+        private NonFuseableSubscriber(MultiSubscriber<T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            downstream.onSubscribe(nonFuseable(subscription));
+        }
+
+        @Override
+        public void onItem(T item) {
+            downstream.onItem(item);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            downstream.onFailure(failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            downstream.onCompletion();
+        }
+    }
+
     public static final class SingleItemSubscription<T> implements Subscription {
 
         private final Subscriber<? super T> downstream;
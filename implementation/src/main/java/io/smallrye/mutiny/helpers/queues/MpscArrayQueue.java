@@ -0,0 +1,280 @@
+package io.smallrye.mutiny.helpers.queues;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded Multi-Producer-Single-Consumer queue backed by a pre-allocated buffer.
+ * <p>
+ * Producers claim a slot with a CAS on the producer index, and never take a lock. The producer index, the cached
+ * producer limit and the consumer index are separated by padding fields (declared in the super classes, the JVM
+ * lays out the fields of the super classes first) so that producers and the consumer do not write to the same cache
+ * line.
+ * <p>
+ * Code inspired from https://github.com/JCTools/JCTools/blob/master/jctools-core/src/main/java/org/jctools/queues/atomic.
+ *
+ * @param <E> the element type of the queue
+ */
+public final class MpscArrayQueue<E> extends MpscArrayQueueConsumerIndexPad<E> implements Queue<E> {
+
+    public MpscArrayQueue(int capacity) {
+        super(SpscArrayQueue.roundToPowerOfTwo(Math.max(2, capacity)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Offer is allowed from multiple threads.
+     *
+     * @return {@code false} if the queue is full
+     */
+    @Override
+    public boolean offer(E e) {
+        if (null == e) {
+            throw new NullPointerException("Null is not a valid element");
+        }
+        final int mask = this.mask;
+        long limit = producerLimit;
+        long index;
+        do {
+            index = producerIndex;
+            if (index >= limit) {
+                limit = consumerIndex + mask + 1;
+                if (index >= limit) {
+                    return false;
+                }
+                // Cache the limit, avoids reading the consumer index on every offer
+                PRODUCER_LIMIT.lazySet(this, limit);
+            }
+        } while (!PRODUCER_INDEX.compareAndSet(this, index, index + 1));
+        buffer.lazySet((int) index & mask, e); // StoreStore
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Poll must only be called by the (single) consumer thread. If a producer has claimed the next slot but not yet
+     * stored its element, this method spins until the element is visible.
+     */
+    @Override
+    public E poll() {
+        final long index = consumerIndex;
+        final int offset = (int) index & mask;
+        E e = buffer.get(offset);
+        if (e == null) {
+            if (index == producerIndex) {
+                return null;
+            }
+            do {
+                e = buffer.get(offset);
+            } while (e == null);
+        }
+        buffer.lazySet(offset, null);
+        CONSUMER_INDEX.lazySet(this, index + 1);
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        final long index = consumerIndex;
+        final int offset = (int) index & mask;
+        E e = buffer.get(offset);
+        if (e == null && index != producerIndex) {
+            do {
+                e = buffer.get(offset);
+            } while (e == null);
+        }
+        return e;
+    }
+
+    @Override
+    public int size() {
+        long ci = consumerIndex;
+        for (;;) {
+            long pi = producerIndex;
+            long ci2 = consumerIndex;
+            if (ci == ci2) {
+                return (int) (pi - ci);
+            }
+            ci = ci2;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return consumerIndex == producerIndex;
+    }
+
+    @Override
+    public void clear() {
+        //noinspection StatementWithEmptyBody
+        while (poll() != null) {
+        }
+    }
+
+    /**
+     * @return the capacity of the queue
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object[] toArray() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <R> R[] toArray(R[] a) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E element() {
+        throw new UnsupportedOperationException();
+    }
+}
+
+// The classes below only define the field layout of the queue: hot fields are separated by (unused) padding fields.
+
+@SuppressWarnings("unused")
+abstract class MpscArrayQueueHeadPad<E> {
+    long p100, p101, p102, p103, p104, p105, p106, p107;
+    long p108, p109, p110, p111, p112, p113, p114, p115;
+}
+
+abstract class MpscArrayQueueFields<E> extends MpscArrayQueueHeadPad<E> {
+    final AtomicReferenceArray<E> buffer;
+    final int mask;
+
+    MpscArrayQueueFields(int capacity) {
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class MpscArrayQueueProducerIndexPad<E> extends MpscArrayQueueFields<E> {
+    long p200, p201, p202, p203, p204, p205, p206, p207;
+    long p208, p209, p210, p211, p212, p213, p214, p215;
+
+    MpscArrayQueueProducerIndexPad(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpscArrayQueueProducerIndex<E> extends MpscArrayQueueProducerIndexPad<E> {
+    @SuppressWarnings("rawtypes")
+    static final AtomicLongFieldUpdater<MpscArrayQueueProducerIndex> PRODUCER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(MpscArrayQueueProducerIndex.class, "producerIndex");
+
+    volatile long producerIndex;
+
+    MpscArrayQueueProducerIndex(int capacity) {
+        super(capacity);
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class MpscArrayQueueProducerLimitPad<E> extends MpscArrayQueueProducerIndex<E> {
+    long p300, p301, p302, p303, p304, p305, p306, p307;
+    long p308, p309, p310, p311, p312, p313, p314, p315;
+
+    MpscArrayQueueProducerLimitPad(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpscArrayQueueProducerLimit<E> extends MpscArrayQueueProducerLimitPad<E> {
+    @SuppressWarnings("rawtypes")
+    static final AtomicLongFieldUpdater<MpscArrayQueueProducerLimit> PRODUCER_LIMIT = AtomicLongFieldUpdater
+            .newUpdater(MpscArrayQueueProducerLimit.class, "producerLimit");
+
+    volatile long producerLimit;
+
+    MpscArrayQueueProducerLimit(int capacity) {
+        super(capacity);
+        this.producerLimit = capacity;
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class MpscArrayQueueConsumerIndexPad0<E> extends MpscArrayQueueProducerLimit<E> {
+    long p400, p401, p402, p403, p404, p405, p406, p407;
+    long p408, p409, p410, p411, p412, p413, p414, p415;
+
+    MpscArrayQueueConsumerIndexPad0(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpscArrayQueueConsumerIndex<E> extends MpscArrayQueueConsumerIndexPad0<E> {
+    @SuppressWarnings("rawtypes")
+    static final AtomicLongFieldUpdater<MpscArrayQueueConsumerIndex> CONSUMER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(MpscArrayQueueConsumerIndex.class, "consumerIndex");
+
+    volatile long consumerIndex;
+
+    MpscArrayQueueConsumerIndex(int capacity) {
+        super(capacity);
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class MpscArrayQueueConsumerIndexPad<E> extends MpscArrayQueueConsumerIndex<E> {
+    long p500, p501, p502, p503, p504, p505, p506, p507;
+    long p508, p509, p510, p511, p512, p513, p514, p515;
+
+    MpscArrayQueueConsumerIndexPad(int capacity) {
+        super(capacity);
+    }
+}
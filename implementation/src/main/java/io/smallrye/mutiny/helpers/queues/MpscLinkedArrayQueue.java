@@ -0,0 +1,296 @@
+package io.smallrye.mutiny.helpers.queues;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * An unbounded Multi-Producer-Single-Consumer queue made of linked array chunks.
+ * <p>
+ * Unlike {@link MpscLinkedQueue}, it does not allocate a node per element: producers claim a slot in the current
+ * chunk with an atomic increment, and only allocate when the chunk is full. The producer that links the new chunk
+ * stores its element in the first slot. Producers never take a lock. The producer and consumer fields are separated
+ * by padding fields to avoid false sharing.
+ *
+ * @param <E> the element type of the queue
+ */
+public final class MpscLinkedArrayQueue<E> extends MpscLinkedArrayQueueConsumerPad<E> implements Queue<E> {
+
+    public MpscLinkedArrayQueue(int chunkSize) {
+        super(Math.max(2, chunkSize));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Offer is allowed from multiple threads.
+     *
+     * @return always {@code true}
+     */
+    @Override
+    public boolean offer(E e) {
+        if (null == e) {
+            throw new NullPointerException("Null is not a valid element");
+        }
+        for (;;) {
+            Chunk<E> chunk = producerChunk;
+            int index = Chunk.CLAIMED.getAndIncrement(chunk);
+            if (index < chunkSize) {
+                chunk.lazySet(index, e); // StoreStore
+                return true;
+            }
+            // The chunk is full
+            Chunk<E> next = chunk.next;
+            if (next == null) {
+                Chunk<E> created = new Chunk<>(chunkSize, e);
+                if (Chunk.NEXT.compareAndSet(chunk, null, created)) {
+                    PRODUCER_CHUNK.compareAndSet(this, chunk, created);
+                    return true;
+                }
+                next = chunk.next;
+            }
+            PRODUCER_CHUNK.compareAndSet(this, chunk, next);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Poll must only be called by the (single) consumer thread. If a producer has claimed the next slot but not yet
+     * stored its element, this method spins until the element is visible.
+     */
+    @Override
+    public E poll() {
+        Chunk<E> chunk = consumerChunk;
+        int offset = consumerOffset;
+        if (offset == chunkSize) {
+            Chunk<E> next = chunk.next;
+            if (next == null) {
+                return null;
+            }
+            consumerChunk = chunk = next;
+            consumerOffset = offset = 0;
+        }
+        E e = chunk.get(offset);
+        if (e == null) {
+            if (offset >= chunk.claimed) {
+                return null;
+            }
+            do {
+                e = chunk.get(offset);
+            } while (e == null);
+        }
+        chunk.lazySet(offset, null);
+        consumerOffset = offset + 1;
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        Chunk<E> chunk = consumerChunk;
+        int offset = consumerOffset;
+        if (offset == chunkSize) {
+            chunk = chunk.next;
+            if (chunk == null) {
+                return null;
+            }
+            offset = 0;
+        }
+        E e = chunk.get(offset);
+        if (e == null && offset < chunk.claimed) {
+            do {
+                e = chunk.get(offset);
+            } while (e == null);
+        }
+        return e;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Must only be called by the consumer thread.
+     */
+    @Override
+    public boolean isEmpty() {
+        Chunk<E> chunk = consumerChunk;
+        int offset = consumerOffset;
+        if (offset == chunkSize) {
+            chunk = chunk.next;
+            if (chunk == null) {
+                return true;
+            }
+            offset = 0;
+        }
+        return offset >= chunk.claimed;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Must only be called by the consumer thread. Elements being offered concurrently may or may not be counted.
+     */
+    @Override
+    public int size() {
+        long size = -consumerOffset;
+        Chunk<E> chunk = consumerChunk;
+        while (chunk != null) {
+            size += Math.min(chunk.claimed, chunkSize);
+            chunk = chunk.next;
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void clear() {
+        //noinspection StatementWithEmptyBody
+        while (poll() != null) {
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object[] toArray() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <R> R[] toArray(R[] a) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E element() {
+        throw new UnsupportedOperationException();
+    }
+
+    static final class Chunk<E> extends AtomicReferenceArray<E> {
+
+        private static final long serialVersionUID = -1583637183342931227L;
+
+        @SuppressWarnings("rawtypes")
+        static final AtomicIntegerFieldUpdater<Chunk> CLAIMED = AtomicIntegerFieldUpdater.newUpdater(Chunk.class,
+                "claimed");
+        @SuppressWarnings("rawtypes")
+        static final AtomicReferenceFieldUpdater<Chunk, Chunk> NEXT = AtomicReferenceFieldUpdater
+                .newUpdater(Chunk.class, Chunk.class, "next");
+
+        /**
+         * The number of claimed slots, may exceed the chunk size when producers race for the last slots.
+         */
+        volatile int claimed;
+        volatile Chunk<E> next;
+
+        Chunk(int size) {
+            super(size);
+        }
+
+        Chunk(int size, E first) {
+            super(size);
+            lazySet(0, first);
+            claimed = 1;
+        }
+    }
+}
+
+// The classes below only define the field layout of the queue: hot fields are separated by (unused) padding fields.
+
+@SuppressWarnings("unused")
+abstract class MpscLinkedArrayQueueHeadPad<E> {
+    long p100, p101, p102, p103, p104, p105, p106, p107;
+    long p108, p109, p110, p111, p112, p113, p114, p115;
+}
+
+abstract class MpscLinkedArrayQueueProducerChunk<E> extends MpscLinkedArrayQueueHeadPad<E> {
+    @SuppressWarnings("rawtypes")
+    static final AtomicReferenceFieldUpdater<MpscLinkedArrayQueueProducerChunk, MpscLinkedArrayQueue.Chunk> PRODUCER_CHUNK = AtomicReferenceFieldUpdater
+            .newUpdater(MpscLinkedArrayQueueProducerChunk.class, MpscLinkedArrayQueue.Chunk.class, "producerChunk");
+
+    final int chunkSize;
+    volatile MpscLinkedArrayQueue.Chunk<E> producerChunk;
+
+    MpscLinkedArrayQueueProducerChunk(int chunkSize, MpscLinkedArrayQueue.Chunk<E> first) {
+        this.chunkSize = chunkSize;
+        this.producerChunk = first;
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class MpscLinkedArrayQueueProducerPad<E> extends MpscLinkedArrayQueueProducerChunk<E> {
+    long p200, p201, p202, p203, p204, p205, p206, p207;
+    long p208, p209, p210, p211, p212, p213, p214, p215;
+
+    MpscLinkedArrayQueueProducerPad(int chunkSize, MpscLinkedArrayQueue.Chunk<E> first) {
+        super(chunkSize, first);
+    }
+}
+
+abstract class MpscLinkedArrayQueueConsumerFields<E> extends MpscLinkedArrayQueueProducerPad<E> {
+    MpscLinkedArrayQueue.Chunk<E> consumerChunk;
+    int consumerOffset;
+
+    MpscLinkedArrayQueueConsumerFields(int chunkSize, MpscLinkedArrayQueue.Chunk<E> first) {
+        super(chunkSize, first);
+        this.consumerChunk = first;
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class MpscLinkedArrayQueueConsumerPad<E> extends MpscLinkedArrayQueueConsumerFields<E> {
+    long p300, p301, p302, p303, p304, p305, p306, p307;
+    long p308, p309, p310, p311, p312, p313, p314, p315;
+
+    MpscLinkedArrayQueueConsumerPad(int chunkSize) {
+        this(chunkSize, new MpscLinkedArrayQueue.Chunk<>(chunkSize));
+    }
+
+    private MpscLinkedArrayQueueConsumerPad(int chunkSize, MpscLinkedArrayQueue.Chunk<E> first) {
+        super(chunkSize, first);
+    }
+}
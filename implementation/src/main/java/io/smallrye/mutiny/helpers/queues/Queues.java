@@ -98,6 +98,30 @@ public class Queues {
         return new MpscLinkedQueue<>();
     }
 
+    /**
+     * Creates a new multi-producer single consumer bounded queue, backed by a pre-allocated array.
+     * Producers never take a lock, {@link Queue#offer(Object)} returns {@code false} when the queue is full.
+     *
+     * @param capacity the capacity, rounded to the next power of 2
+     * @param <T> the type of item
+     * @return the queue
+     */
+    public static <T> Queue<T> createMpscArrayQueue(int capacity) {
+        return new MpscArrayQueue<>(capacity);
+    }
+
+    /**
+     * Creates a new multi-producer single consumer unbounded queue made of linked arrays of the given size.
+     * Unlike {@link #createMpscQueue()}, it only allocates when an array is full, not for each item.
+     *
+     * @param chunkSize the size of the arrays
+     * @param <T> the type of item
+     * @return the queue
+     */
+    public static <T> Queue<T> createMpscUnboundedArrayQueue(int chunkSize) {
+        return new MpscLinkedArrayQueue<>(chunkSize);
+    }
+
     /**
      * Create a queue of a strict fixed size.
      * 
@@ -3,29 +3,24 @@ package io.smallrye.mutiny.helpers.queues;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Queue;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * A Single-Producer-Single-Consumer queue backed by a pre-allocated buffer.
  * <p>
+ * The producer index and the consumer index are separated by padding fields (declared in the super classes) so that
+ * the producer and the consumer do not write to the same cache line.
+ * <p>
  * Code inspired from https://github.com/JCTools/JCTools/blob/master/jctools-core/src/main/java/org/jctools/queues/atomic,
  * and it's RX Java 2 version.
  *
  * @param <E> the element type of the queue
  */
-public final class SpscArrayQueue<E> extends AtomicReferenceArray<E> implements Queue<E> {
-    private static final Integer MAX_LOOK_AHEAD_STEP = 4096;
-    private final int mask;
-    private final AtomicLong producerIndex = new AtomicLong();
-    private long producerLookAhead;
-    private final AtomicLong consumerIndex = new AtomicLong();
-    private final int lookAheadStep;
+public final class SpscArrayQueue<E> extends SpscArrayQueueConsumerIndexPad<E> implements Queue<E> {
 
     public SpscArrayQueue(int capacity) {
-        super(roundToPowerOfTwo(capacity));
-        this.mask = length() - 1;
-        this.lookAheadStep = Math.min(capacity / 4, MAX_LOOK_AHEAD_STEP);
+        super(roundToPowerOfTwo(capacity), capacity);
     }
 
     /**
@@ -46,7 +41,7 @@ public final class SpscArrayQueue<E> extends AtomicReferenceArray<E> implements
         }
         // local load of field to avoid repeated loads after volatile reads
         final int mask = this.mask;
-        final long index = producerIndex.get();
+        final long index = producerIndex;
         final int offset = calcElementOffset(index, mask);
         if (index >= producerLookAhead) {
             int step = lookAheadStep;
@@ -63,7 +58,7 @@ public final class SpscArrayQueue<E> extends AtomicReferenceArray<E> implements
 
     @Override
     public E poll() {
-        final long index = consumerIndex.get();
+        final long index = consumerIndex;
         final int offset = calcElementOffset(index);
         // local load of field to avoid repeated loads after volatile reads
         final E e = lvElement(offset); // LoadLoad
@@ -77,10 +72,10 @@ public final class SpscArrayQueue<E> extends AtomicReferenceArray<E> implements
 
     @Override
     public int size() {
-        long ci = consumerIndex.get();
+        long ci = consumerIndex;
         for (;;) {
-            long pi = producerIndex.get();
-            long ci2 = consumerIndex.get();
+            long pi = producerIndex;
+            long ci2 = consumerIndex;
             if (ci == ci2) {
                 return (int) (pi - ci);
             }
@@ -89,21 +84,21 @@ public final class SpscArrayQueue<E> extends AtomicReferenceArray<E> implements
     }
 
     public E peek() {
-        int offset = (int) consumerIndex.get() & mask;
+        int offset = (int) consumerIndex & mask;
         return get(offset);
     }
 
     @Override
     public boolean isEmpty() {
-        return producerIndex.get() == consumerIndex.get();
+        return producerIndex == consumerIndex;
     }
 
     void soProducerIndex(long newIndex) {
-        producerIndex.lazySet(newIndex);
+        PRODUCER_INDEX.lazySet(this, newIndex);
     }
 
     void soConsumerIndex(long newIndex) {
-        consumerIndex.lazySet(newIndex);
+        CONSUMER_INDEX.lazySet(this, newIndex);
     }
 
     @Override
@@ -190,3 +185,73 @@ public final class SpscArrayQueue<E> extends AtomicReferenceArray<E> implements
         throw new UnsupportedOperationException();
     }
 }
+
+// The classes below only define the field layout of the queue: hot fields are separated by (unused) padding fields.
+
+abstract class SpscArrayQueueFields<E> extends AtomicReferenceArray<E> {
+    static final int MAX_LOOK_AHEAD_STEP = 4096;
+
+    final int mask;
+    final int lookAheadStep;
+
+    SpscArrayQueueFields(int length, int capacity) {
+        super(length);
+        this.mask = length - 1;
+        this.lookAheadStep = Math.min(capacity / 4, MAX_LOOK_AHEAD_STEP);
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class SpscArrayQueueProducerIndexPad<E> extends SpscArrayQueueFields<E> {
+    long p100, p101, p102, p103, p104, p105, p106, p107;
+    long p108, p109, p110, p111, p112, p113, p114, p115;
+
+    SpscArrayQueueProducerIndexPad(int length, int capacity) {
+        super(length, capacity);
+    }
+}
+
+abstract class SpscArrayQueueProducerIndex<E> extends SpscArrayQueueProducerIndexPad<E> {
+    @SuppressWarnings("rawtypes")
+    static final AtomicLongFieldUpdater<SpscArrayQueueProducerIndex> PRODUCER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(SpscArrayQueueProducerIndex.class, "producerIndex");
+
+    volatile long producerIndex;
+    long producerLookAhead;
+
+    SpscArrayQueueProducerIndex(int length, int capacity) {
+        super(length, capacity);
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class SpscArrayQueueConsumerIndexPad0<E> extends SpscArrayQueueProducerIndex<E> {
+    long p200, p201, p202, p203, p204, p205, p206, p207;
+    long p208, p209, p210, p211, p212, p213, p214, p215;
+
+    SpscArrayQueueConsumerIndexPad0(int length, int capacity) {
+        super(length, capacity);
+    }
+}
+
+abstract class SpscArrayQueueConsumerIndex<E> extends SpscArrayQueueConsumerIndexPad0<E> {
+    @SuppressWarnings("rawtypes")
+    static final AtomicLongFieldUpdater<SpscArrayQueueConsumerIndex> CONSUMER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(SpscArrayQueueConsumerIndex.class, "consumerIndex");
+
+    volatile long consumerIndex;
+
+    SpscArrayQueueConsumerIndex(int length, int capacity) {
+        super(length, capacity);
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class SpscArrayQueueConsumerIndexPad<E> extends SpscArrayQueueConsumerIndex<E> {
+    long p300, p301, p302, p303, p304, p305, p306, p307;
+    long p308, p309, p310, p311, p312, p313, p314, p315;
+
+    SpscArrayQueueConsumerIndexPad(int length, int capacity) {
+        super(length, capacity);
+    }
+}
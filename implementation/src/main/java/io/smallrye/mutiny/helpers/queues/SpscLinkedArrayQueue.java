@@ -3,31 +3,23 @@ package io.smallrye.mutiny.helpers.queues;
 import java.util.AbstractQueue;
 import java.util.Iterator;
 import java.util.Queue;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * A single-producer single-consumer array-backed queue which can allocate new arrays in case the consumer is slower
  * than the producer.
  * <p>
+ * The producer fields and the consumer fields are separated by padding fields (declared in the super classes) so
+ * that the producer and the consumer do not write to the same cache line.
+ * <p>
  * Code inspired from https://github.com/JCTools/JCTools/blob/master/jctools-core/src/main/java/org/jctools/queues/atomic,
  * and it's RX Java 2 version.
  *
  * @param <E> the element type of the queue
  */
-public final class SpscLinkedArrayQueue<E> extends AbstractQueue<E> implements Queue<E> {
+public final class SpscLinkedArrayQueue<E> extends SpscLinkedArrayQueueConsumerPad<E> implements Queue<E> {
     private static final int MAX_LOOK_AHEAD_STEP = 4096;
-    private final AtomicLong producerIndex = new AtomicLong();
-
-    private int producerLookAheadStep;
-    private long producerLookAhead;
-
-    private final int producerMask;
-
-    private AtomicReferenceArray<Object> producerBuffer;
-    private final int consumerMask;
-    private AtomicReferenceArray<Object> consumerBuffer;
-    private final AtomicLong consumerIndex = new AtomicLong();
 
     private static final Object HAS_NEXT = new Object();
 
@@ -208,27 +200,27 @@ public final class SpscLinkedArrayQueue<E> extends AbstractQueue<E> implements Q
     }
 
     private long lvProducerIndex() {
-        return producerIndex.get();
+        return producerIndex;
     }
 
     private long lvConsumerIndex() {
-        return consumerIndex.get();
+        return consumerIndex;
     }
 
     private long lpProducerIndex() {
-        return producerIndex.get();
+        return producerIndex;
     }
 
     private long lpConsumerIndex() {
-        return consumerIndex.get();
+        return consumerIndex;
     }
 
     private void soProducerIndex(long v) {
-        producerIndex.lazySet(v);
+        PRODUCER_INDEX.lazySet(this, v);
     }
 
     private void soConsumerIndex(long v) {
-        consumerIndex.lazySet(v);
+        CONSUMER_INDEX.lazySet(this, v);
     }
 
     private static int calcWrappedOffset(long index, int mask) {
@@ -286,3 +278,46 @@ public final class SpscLinkedArrayQueue<E> extends AbstractQueue<E> implements Q
         return true;
     }
 }
+
+// The classes below only define the field layout of the queue: the producer fields and the consumer fields are
+// separated by (unused) padding fields.
+
+@SuppressWarnings("unused")
+abstract class SpscLinkedArrayQueueHeadPad<E> extends AbstractQueue<E> {
+    long p100, p101, p102, p103, p104, p105, p106, p107;
+    long p108, p109, p110, p111, p112, p113, p114, p115;
+}
+
+abstract class SpscLinkedArrayQueueProducerFields<E> extends SpscLinkedArrayQueueHeadPad<E> {
+    @SuppressWarnings("rawtypes")
+    static final AtomicLongFieldUpdater<SpscLinkedArrayQueueProducerFields> PRODUCER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(SpscLinkedArrayQueueProducerFields.class, "producerIndex");
+
+    volatile long producerIndex;
+    int producerLookAheadStep;
+    long producerLookAhead;
+    int producerMask;
+    AtomicReferenceArray<Object> producerBuffer;
+}
+
+@SuppressWarnings("unused")
+abstract class SpscLinkedArrayQueueProducerPad<E> extends SpscLinkedArrayQueueProducerFields<E> {
+    long p200, p201, p202, p203, p204, p205, p206, p207;
+    long p208, p209, p210, p211, p212, p213, p214, p215;
+}
+
+abstract class SpscLinkedArrayQueueConsumerFields<E> extends SpscLinkedArrayQueueProducerPad<E> {
+    @SuppressWarnings("rawtypes")
+    static final AtomicLongFieldUpdater<SpscLinkedArrayQueueConsumerFields> CONSUMER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(SpscLinkedArrayQueueConsumerFields.class, "consumerIndex");
+
+    volatile long consumerIndex;
+    int consumerMask;
+    AtomicReferenceArray<Object> consumerBuffer;
+}
+
+@SuppressWarnings("unused")
+abstract class SpscLinkedArrayQueueConsumerPad<E> extends SpscLinkedArrayQueueConsumerFields<E> {
+    long p300, p301, p302, p303, p304, p305, p306, p307;
+    long p308, p309, p310, p311, p312, p313, p314, p315;
+}
@@ -46,6 +46,39 @@ public interface CallbackDecorator extends MutinyInterceptor {
         return consumer;
     }
 
+    /**
+     * Allows decorating a {@link ToIntFunction}.
+     *
+     * @param function the function
+     * @param <T> the input type
+     * @return the decorated function
+     */
+    default <T> ToIntFunction<T> decorate(ToIntFunction<T> function) {
+        return function;
+    }
+
+    /**
+     * Allows decorating a {@link ToLongFunction}.
+     *
+     * @param function the function
+     * @param <T> the input type
+     * @return the decorated function
+     */
+    default <T> ToLongFunction<T> decorate(ToLongFunction<T> function) {
+        return function;
+    }
+
+    /**
+     * Allows decorating a {@link ToDoubleFunction}.
+     *
+     * @param function the function
+     * @param <T> the input type
+     * @return the decorated function
+     */
+    default <T> ToDoubleFunction<T> decorate(ToDoubleFunction<T> function) {
+        return function;
+    }
+
     /**
      * Allows decorating a {@link Runnable}.
      *
@@ -8,6 +8,8 @@ import java.util.concurrent.Executor;
  * {@code META-INF/services/io.smallrye.infrastructure.ExecutorConfiguration} file.
  * <p>
  * The SPI implementation is responsible for creating and terminating the created thread pools.
+ * <p>
+ * {@link VirtualThreadExecutorConfiguration} is an implementation using virtual threads (Java 21+).
  */
 public interface ExecutorConfiguration {
 
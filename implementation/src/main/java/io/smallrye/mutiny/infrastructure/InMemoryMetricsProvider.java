@@ -0,0 +1,232 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.smallrye.mutiny.helpers.Subscriptions;
+
+/**
+ * A {@link MetricsProvider} keeping the metrics in memory, without any dependency.
+ * <p>
+ * Pipelines instrumented with the same name share the same {@link Metrics}. To enable it, either declare it in the
+ * {@code META-INF/services/io.smallrye.mutiny.infrastructure.MetricsProvider} file or use:
+ *
+ * <pre>
+ * {@code
+ * InMemoryMetricsProvider provider = new InMemoryMetricsProvider();
+ * Infrastructure.setMetricsProvider(provider);
+ * // ...
+ * InMemoryMetricsProvider.Metrics metrics = provider.get("my-pipeline");
+ * }
+ * </pre>
+ */
+public class InMemoryMetricsProvider implements MetricsProvider {
+
+    private final Map<String, Metrics> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public PipelineMetrics getPipelineMetrics(String name) {
+        return metrics.computeIfAbsent(nonNull(name, "name"), Metrics::new);
+    }
+
+    /**
+     * Gets the metrics of the pipeline with the given name.
+     *
+     * @param name the name
+     * @return the metrics, {@code null} if no pipeline has been instrumented with this name
+     */
+    public Metrics get(String name) {
+        return metrics.get(name);
+    }
+
+    /**
+     * @return the metrics of all instrumented pipelines, indexed by name
+     */
+    public Map<String, Metrics> getAll() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    /**
+     * Discards all the collected metrics.
+     */
+    public void reset() {
+        metrics.clear();
+    }
+
+    /**
+     * The metrics of a pipeline.
+     */
+    public static final class Metrics implements PipelineMetrics {
+
+        private final String name;
+        private final long createdAt = System.nanoTime();
+        private final LongAdder subscriptions = new LongAdder();
+        private final LongAdder items = new LongAdder();
+        private final AtomicLong requested = new AtomicLong();
+        private final LongAdder completions = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder cancellations = new LongAdder();
+        private final Timing timeToFirstItem = new Timing();
+        private final Timing lifetime = new Timing();
+
+        Metrics(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void onSubscription() {
+            subscriptions.increment();
+        }
+
+        @Override
+        public void onRequest(long n) {
+            Subscriptions.add(requested, n);
+        }
+
+        @Override
+        public void onItem() {
+            items.increment();
+        }
+
+        @Override
+        public void onFirstItem(long nanos) {
+            timeToFirstItem.record(nanos);
+        }
+
+        @Override
+        public void onCompletion(long lifetimeNanos) {
+            completions.increment();
+            lifetime.record(lifetimeNanos);
+        }
+
+        @Override
+        public void onFailure(Throwable failure, long lifetimeNanos) {
+            failures.increment();
+            lifetime.record(lifetimeNanos);
+        }
+
+        @Override
+        public void onCancellation(long lifetimeNanos) {
+            cancellations.increment();
+            lifetime.record(lifetimeNanos);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getSubscriptions() {
+            return subscriptions.sum();
+        }
+
+        /**
+         * @return the number of subscriptions not terminated or cancelled yet
+         */
+        public long getActiveSubscriptions() {
+            return subscriptions.sum() - lifetime.getCount();
+        }
+
+        public long getItems() {
+            return items.sum();
+        }
+
+        /**
+         * @return the average number of items emitted per second since the creation of these metrics
+         */
+        public double getItemsPerSecond() {
+            long elapsed = System.nanoTime() - createdAt;
+            if (elapsed <= 0) {
+                return 0;
+            }
+            return items.sum() * 1_000_000_000.0 / elapsed;
+        }
+
+        /**
+         * @return the total number of requested items, capped to {@code Long.MAX_VALUE}
+         */
+        public long getRequested() {
+            return requested.get();
+        }
+
+        public long getCompletions() {
+            return completions.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        public long getCancellations() {
+            return cancellations.sum();
+        }
+
+        /**
+         * @return the time elapsed between the subscriptions and their first items
+         */
+        public Timing getTimeToFirstItem() {
+            return timeToFirstItem;
+        }
+
+        /**
+         * @return the lifetime of the terminated or cancelled subscriptions
+         */
+        public Timing getSubscriptionLifetime() {
+            return lifetime;
+        }
+
+        @Override
+        public String toString() {
+            return "Metrics{name=" + name + ", subscriptions=" + getSubscriptions() + ", items=" + getItems()
+                    + ", requested=" + getRequested() + ", completions=" + getCompletions()
+                    + ", failures=" + getFailures() + ", cancellations=" + getCancellations()
+                    + ", timeToFirstItem=" + timeToFirstItem + ", lifetime=" + lifetime + "}";
+        }
+    }
+
+    /**
+     * Aggregated durations.
+     */
+    public static final class Timing {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        void record(long nanos) {
+            count.increment();
+            total.add(nanos);
+            long current;
+            do {
+                current = max.get();
+            } while (nanos > current && !max.compareAndSet(current, nanos));
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public Duration getTotal() {
+            return Duration.ofNanos(total.sum());
+        }
+
+        public Duration getMax() {
+            return Duration.ofNanos(max.get());
+        }
+
+        public Duration getMean() {
+            long c = count.sum();
+            return c == 0 ? Duration.ZERO : Duration.ofNanos(total.sum() / c);
+        }
+
+        @Override
+        public String toString() {
+            return "Timing{count=" + getCount() + ", mean=" + getMean() + ", max=" + getMax() + "}";
+        }
+    }
+}
@@ -12,6 +12,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.function.*;
 
 import org.reactivestreams.Publisher;
@@ -20,12 +21,16 @@ import org.reactivestreams.Subscriber;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.tuples.Functions;
 
 public class Infrastructure {
 
     static {
+        schedulerFactory = MutinyScheduler::new;
+
         ServiceLoader<ExecutorConfiguration> executorLoader = ServiceLoader.load(ExecutorConfiguration.class);
         Iterator<ExecutorConfiguration> iterator = executorLoader.iterator();
         if (iterator.hasNext()) {
@@ -41,20 +46,24 @@ public class Infrastructure {
     }
 
     private static ScheduledExecutorService DEFAULT_SCHEDULER;
+    private static Function<Executor, ScheduledExecutorService> schedulerFactory;
 
     private static Executor DEFAULT_EXECUTOR;
     private static UniInterceptor[] UNI_INTERCEPTORS;
     private static MultiInterceptor[] MULTI_INTERCEPTORS;
     private static CallbackDecorator[] CALLBACK_DECORATORS;
+    private static MetricsProvider METRICS_PROVIDER;
     private static UnaryOperator<CompletableFuture<?>> completableFutureWrapper;
     private static Consumer<Throwable> droppedExceptionHandler = Infrastructure::printAndDump;
     private static BooleanSupplier canCallerThreadBeBlockedSupplier;
+    private static volatile ExecutorService virtualThreadExecutor;
 
     public static void reload() {
         clearInterceptors();
         reloadUniInterceptors();
         reloadMultiInterceptors();
         reloadCallbackDecorators();
+        reloadMetricsProvider();
     }
 
     /**
@@ -74,7 +83,57 @@ public class Infrastructure {
             ((ExecutorService) existing).shutdownNow();
         }
         DEFAULT_EXECUTOR = s;
-        DEFAULT_SCHEDULER = new MutinyScheduler(s);
+        ScheduledExecutorService previous = DEFAULT_SCHEDULER;
+        DEFAULT_SCHEDULER = schedulerFactory.apply(s);
+        if (previous != null && previous != DEFAULT_SCHEDULER) {
+            release(previous);
+        }
+    }
+
+    /**
+     * Shuts down a replaced default scheduler, releasing its resources (such as the tick thread of a
+     * {@link TimerWheelScheduler}) once its tasks are done. The periodic tasks keep running until they are cancelled,
+     * so the streams relying on them, such as {@code Multi.createFrom().ticks()}, are not interrupted.
+     *
+     * @param scheduler the replaced scheduler
+     */
+    private static void release(ScheduledExecutorService scheduler) {
+        if (scheduler instanceof ScheduledThreadPoolExecutor) {
+            ((ScheduledThreadPoolExecutor) scheduler).setContinueExistingPeriodicTasksAfterShutdownPolicy(true);
+        } else if (scheduler instanceof TimerWheelScheduler) {
+            ((TimerWheelScheduler) scheduler).setContinueExistingPeriodicTasksAfterShutdownPolicy(true);
+        }
+        scheduler.shutdown();
+    }
+
+    /**
+     * Configures the factory creating the default scheduler (returned by {@link #getDefaultWorkerPool()}) from the
+     * default executor. The default scheduler is immediately re-created using the current default executor.
+     * <p>
+     * By default, the scheduler is a {@link MutinyScheduler}. Use {@code TimerWheelScheduler::new} to select the
+     * {@link TimerWheelScheduler}, better suited when lots of timeouts are armed and cancelled.
+     * <p>
+     * The previous default scheduler is shut down: it rejects new tasks, but the delayed tasks it already accepted
+     * still run, and its periodic tasks (such as the ones of the {@code Multi.createFrom().ticks()} streams) keep
+     * running until they are cancelled. It terminates once all these tasks are done. Custom schedulers other than
+     * {@link MutinyScheduler} and {@link TimerWheelScheduler} are shut down with their own shutdown policy.
+     *
+     * @param factory the factory receiving the default executor and creating the scheduler, must not be {@code null}
+     */
+    public static void setDefaultSchedulerFactory(Function<Executor, ScheduledExecutorService> factory) {
+        nonNull(factory, "factory");
+        ScheduledExecutorService scheduler = nonNull(factory.apply(DEFAULT_EXECUTOR), "scheduler");
+        ScheduledExecutorService existing = DEFAULT_SCHEDULER;
+        schedulerFactory = factory;
+        DEFAULT_SCHEDULER = scheduler;
+        if (existing != null && existing != scheduler) {
+            release(existing);
+        }
+    }
+
+    // For testing purpose only
+    static void resetDefaultSchedulerFactory() {
+        setDefaultSchedulerFactory(MutinyScheduler::new);
     }
 
     public static ScheduledExecutorService getDefaultWorkerPool() {
@@ -85,6 +144,49 @@ public class Infrastructure {
         return DEFAULT_EXECUTOR;
     }
 
+    /**
+     * @return {@code true} if the JVM supports virtual threads (Java 21+), {@code false} otherwise.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VirtualThreads.isSupported();
+    }
+
+    /**
+     * @return {@code true} if the current thread is a virtual thread, {@code false} otherwise (including when the JVM
+     *         does not support virtual threads).
+     */
+    public static boolean isVirtualThread() {
+        return VirtualThreads.isVirtual(Thread.currentThread());
+    }
+
+    /**
+     * Gets an executor starting a new virtual thread for each task.
+     * <p>
+     * Passed to {@code runSubscriptionOn}, the subscription (and so the potentially blocking code producing the items)
+     * runs on its own virtual thread. Passed to {@code emitOn}, the downstream processing runs on virtual threads.
+     * Virtual threads can be blocked: a custom supplier set with
+     * {@link #setCanCallerThreadBeBlockedSupplier(BooleanSupplier)} can allow it using {@link #isVirtualThread()}.
+     * <p>
+     * The executor is created lazily and shared. To use it as the default executor, see
+     * {@link VirtualThreadExecutorConfiguration}.
+     *
+     * @return the executor
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     */
+    public static Executor getVirtualThreadExecutor() {
+        ExecutorService executor = virtualThreadExecutor;
+        if (executor == null || executor.isShutdown()) {
+            synchronized (Infrastructure.class) {
+                executor = virtualThreadExecutor;
+                if (executor == null || executor.isShutdown()) {
+                    executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+                    virtualThreadExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
     public static <T> Uni<T> onUniCreation(Uni<T> instance) {
         Uni<T> current = instance;
         for (UniInterceptor itcp : UNI_INTERCEPTORS) {
@@ -115,6 +217,11 @@ public class Infrastructure {
         for (MultiInterceptor itcp : MULTI_INTERCEPTORS) {
             current = itcp.onSubscription(instance, current);
         }
+        if (current != subscriber && current instanceof MultiSubscriber) {
+            // The substituted subscriber may forward the subscription as-is, it must not let the source fuse with
+            // the original subscriber. Other subscribers are wrapped in a StrictMultiSubscriber, which does not.
+            current = Subscriptions.nonFuseable((MultiSubscriber<? super T>) current);
+        }
         return current;
     }
 
@@ -142,6 +249,30 @@ public class Infrastructure {
         return current;
     }
 
+    public static <T> ToIntFunction<T> decorate(ToIntFunction<T> function) {
+        ToIntFunction<T> current = function;
+        for (CallbackDecorator interceptor : CALLBACK_DECORATORS) {
+            current = interceptor.decorate(current);
+        }
+        return current;
+    }
+
+    public static <T> ToLongFunction<T> decorate(ToLongFunction<T> function) {
+        ToLongFunction<T> current = function;
+        for (CallbackDecorator interceptor : CALLBACK_DECORATORS) {
+            current = interceptor.decorate(current);
+        }
+        return current;
+    }
+
+    public static <T> ToDoubleFunction<T> decorate(ToDoubleFunction<T> function) {
+        ToDoubleFunction<T> current = function;
+        for (CallbackDecorator interceptor : CALLBACK_DECORATORS) {
+            current = interceptor.decorate(current);
+        }
+        return current;
+    }
+
     public static Runnable decorate(Runnable runnable) {
         Runnable current = runnable;
         for (CallbackDecorator interceptor : CALLBACK_DECORATORS) {
@@ -269,6 +400,10 @@ public class Infrastructure {
 
     /**
      * Defines a custom caller thread blocking check supplier.
+     * <p>
+     * The supplier decides for every thread, virtual threads included. The default supplier allows blocking on all
+     * threads. To always allow blocking on virtual threads, combine the check with {@link #isVirtualThread()}, such as
+     * {@code () -> Infrastructure.isVirtualThread() || !isEventLoopThread()}.
      *
      * @param supplier the supplier, must not be {@code null} and must not throw an exception or it will also be lost.
      */
@@ -277,6 +412,12 @@ public class Infrastructure {
         canCallerThreadBeBlockedSupplier = supplier;
     }
 
+    /**
+     * Checks whether the current thread can be blocked, using the supplier configured with
+     * {@link #setCanCallerThreadBeBlockedSupplier(BooleanSupplier)}.
+     *
+     * @return {@code true} if the current thread can be blocked
+     */
     public static boolean canCallerThreadBeBlocked() {
         return canCallerThreadBeBlockedSupplier.getAsBoolean();
     }
@@ -323,6 +464,32 @@ public class Infrastructure {
         CALLBACK_DECORATORS = interceptors.toArray(CALLBACK_DECORATORS);
     }
 
+    /**
+     * Loads the {@link MetricsProvider} using the {@link ServiceLoader}. If several providers are found, the first one
+     * is used.
+     */
+    public static void reloadMetricsProvider() {
+        Iterator<MetricsProvider> iterator = ServiceLoader.load(MetricsProvider.class).iterator();
+        METRICS_PROVIDER = iterator.hasNext() ? iterator.next() : null;
+    }
+
+    /**
+     * Sets the {@link MetricsProvider} used by the {@code instrument(name)} operators. Pipelines instrumented before
+     * the call keep their metrics.
+     *
+     * @param provider the provider, {@code null} to disable the instrumentation
+     */
+    public static void setMetricsProvider(MetricsProvider provider) {
+        METRICS_PROVIDER = provider;
+    }
+
+    /**
+     * @return the {@link MetricsProvider}, {@code null} if none
+     */
+    public static MetricsProvider getMetricsProvider() {
+        return METRICS_PROVIDER;
+    }
+
     public static void clearInterceptors() {
         UNI_INTERCEPTORS = new UniInterceptor[0];
         MULTI_INTERCEPTORS = new MultiInterceptor[0];
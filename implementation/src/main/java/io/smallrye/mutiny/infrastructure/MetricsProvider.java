@@ -0,0 +1,31 @@
+package io.smallrye.mutiny.infrastructure;
+
+/**
+ * Provides the {@link PipelineMetrics} receiving the events observed by the {@code instrument(name)} operators
+ * ({@link io.smallrye.mutiny.Uni#instrument(String)} and {@link io.smallrye.mutiny.Multi#instrument(String)}).
+ * <p>
+ * Implementations are expected to be exposed as SPI, and so the implementation class must be declared in the
+ * {@code META-INF/services/io.smallrye.mutiny.infrastructure.MetricsProvider} file. Only the first provider found is
+ * used. A provider can also be set using {@link Infrastructure#setMetricsProvider(MetricsProvider)}.
+ * <p>
+ * When no provider is configured, the {@code instrument(name)} operators return the upstream unchanged, and so
+ * instrumented pipelines do not have any overhead.
+ * <p>
+ * {@link InMemoryMetricsProvider} is a reference implementation keeping the metrics in memory. Bridges to metrics
+ * libraries such as Micrometer can map the {@link PipelineMetrics} events to counters and timers.
+ */
+public interface MetricsProvider {
+
+    /**
+     * Gets the metrics of the pipeline with the given name.
+     * <p>
+     * This method is called when the {@code instrument(name)} operator is used, not on every subscription.
+     * Instrumenting several pipelines with the same name is allowed, implementations may return the same
+     * {@link PipelineMetrics} for a given name to aggregate the events.
+     *
+     * @param name the name of the pipeline, not {@code null}
+     * @return the metrics, must not be {@code null}
+     */
+    PipelineMetrics getPipelineMetrics(String name);
+
+}
@@ -0,0 +1,75 @@
+package io.smallrye.mutiny.infrastructure;
+
+/**
+ * Receives the events observed by an {@code instrument(name)} operator.
+ * <p>
+ * Methods are called from the threads emitting the events, potentially concurrently for different subscriptions.
+ * Implementations must be thread-safe, fast and must not throw exceptions.
+ * <p>
+ * All methods are no-op by default.
+ *
+ * @see MetricsProvider
+ */
+public interface PipelineMetrics {
+
+    /**
+     * Called when a subscriber subscribes to the instrumented pipeline.
+     */
+    default void onSubscription() {
+        // Do nothing by default.
+    }
+
+    /**
+     * Called when the subscriber requests items. This method is not called for {@link io.smallrye.mutiny.Uni}.
+     *
+     * @param n the number of requested items, strictly positive
+     */
+    default void onRequest(long n) {
+        // Do nothing by default.
+    }
+
+    /**
+     * Called when an item is emitted.
+     */
+    default void onItem() {
+        // Do nothing by default.
+    }
+
+    /**
+     * Called when the first item of a subscription is emitted, before {@link #onItem()}.
+     *
+     * @param nanos the time elapsed between the subscription and the first item, in nanoseconds
+     */
+    default void onFirstItem(long nanos) {
+        // Do nothing by default.
+    }
+
+    /**
+     * Called when the pipeline completes. For {@link io.smallrye.mutiny.Uni}, it is called after {@link #onItem()}.
+     *
+     * @param lifetimeNanos the subscription lifetime, in nanoseconds
+     */
+    default void onCompletion(long lifetimeNanos) {
+        // Do nothing by default.
+    }
+
+    /**
+     * Called when the pipeline fails.
+     *
+     * @param failure the failure
+     * @param lifetimeNanos the subscription lifetime, in nanoseconds
+     */
+    default void onFailure(Throwable failure, long lifetimeNanos) {
+        // Do nothing by default.
+    }
+
+    /**
+     * Called when the subscriber cancels its subscription.
+     *
+     * @param lifetimeNanos the subscription lifetime, in nanoseconds
+     */
+    default void onCancellation(long lifetimeNanos) {
+        // Do nothing by default.
+    }
+
+}
@@ -0,0 +1,577 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import io.smallrye.mutiny.helpers.queues.Queues;
+
+/**
+ * Implementation of {@link ScheduledExecutorService} based on a hashed timer wheel, delegating the execution of the
+ * expired tasks to a configured {@link Executor}.
+ * <p>
+ * Unlike {@link MutinyScheduler}, which relies on a heap-based delay queue, scheduling and cancelling a task are O(1)
+ * operations: a scheduled task is offered to a lock-free queue, and a cancelled task is unlinked from its bucket by
+ * the timer thread. This makes this scheduler well-suited when lots of timeouts are armed and almost always cancelled,
+ * such as with {@code uni.ifNoItem().after(...)}.
+ * <p>
+ * The timer thread advances the wheel every {@code tick}, collects the expired tasks of the current bucket, and hands
+ * them off to the executor. Tasks are never executed before their deadline, but can be executed up to one tick after
+ * it. The timer thread is started on the first scheduled task, and parks when no tasks are pending.
+ * <p>
+ * To use it as default scheduler, call {@code Infrastructure.setDefaultSchedulerFactory(TimerWheelScheduler::new)}.
+ * <p>
+ * Important: the delay of the periodic tasks is computed from the tick precision, so periods shorter than a tick are
+ * rounded up to a tick.
+ * <p>
+ * Like {@link ScheduledThreadPoolExecutor}, {@link #shutdown()} lets the delayed tasks already accepted run, but
+ * cancels the periodic tasks, unless {@link #setContinueExistingPeriodicTasksAfterShutdownPolicy(boolean)} is
+ * enabled. When they are cancelled, the streams relying on a periodic task of the scheduler, such as
+ * {@code Multi.createFrom().ticks()}, stop emitting without sending a completion or failure event. The scheduler is
+ * terminated once the accepted tasks have been executed by the executor, or cancelled.
+ */
+public class TimerWheelScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+    /**
+     * The default tick duration: 1 millisecond.
+     */
+    public static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * The default number of buckets: 512.
+     */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    /**
+     * The maximum number of tasks transferred from the pending queue to the wheel on each tick, to avoid starving the
+     * expiration when lots of tasks are scheduled.
+     */
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private static final int STATE_CREATED = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_SHUTDOWN = 2;
+    private static final int STATE_STOPPED = 3;
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private final Executor executor;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime;
+
+    private final Queue<TimerTask<?>> pending = Queues.createMpscQueue();
+    private final Queue<TimerTask<?>> cancelled = Queues.createMpscQueue();
+
+    private final AtomicInteger state = new AtomicInteger(STATE_CREATED);
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    /**
+     * Number of tasks handed off to the executor and not finished yet, plus 1 while the timer thread runs: the
+     * scheduler is terminated when it reaches 0.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger(1);
+    private volatile boolean continueExistingPeriodicTasksAfterShutdown;
+    private final Thread worker;
+    private volatile boolean idle;
+
+    /**
+     * Number of tasks in the wheel, only accessed from the timer thread.
+     */
+    private int size;
+
+    /**
+     * Creates a new {@link TimerWheelScheduler} with a tick of 1 millisecond and 512 buckets.
+     *
+     * @param executor the executor running the expired tasks, must not be {@code null}
+     */
+    public TimerWheelScheduler(Executor executor) {
+        this(executor, DEFAULT_TICK_NANOS, TimeUnit.NANOSECONDS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Creates a new {@link TimerWheelScheduler}.
+     *
+     * @param executor the executor running the expired tasks, must not be {@code null}
+     * @param tick the duration of a tick, must be strictly positive
+     * @param unit the unit of {@code tick}, must not be {@code null}
+     * @param wheelSize the number of buckets of the wheel, must be strictly positive, rounded up to the next power
+     *        of 2
+     */
+    public TimerWheelScheduler(Executor executor, long tick, TimeUnit unit, int wheelSize) {
+        this.executor = nonNull(executor, "executor");
+        this.tickNanos = nonNull(unit, "unit").toNanos(positive(tick, "tick"));
+        if (this.tickNanos <= 0) {
+            throw new IllegalArgumentException("`tick` must be at least 1 nanosecond");
+        }
+        int buckets = roundToPowerOfTwo(positive(wheelSize, "wheelSize"));
+        this.wheel = new Bucket[buckets];
+        for (int i = 0; i < buckets; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = buckets - 1;
+        this.worker = new Thread(this::loop, "mutiny-timer-wheel-" + COUNTER.getAndIncrement());
+        this.worker.setDaemon(true);
+        this.startTime = System.nanoTime();
+    }
+
+    private static int roundToPowerOfTwo(int value) {
+        if (value > 1 << 30) {
+            throw new IllegalArgumentException("`wheelSize` must be less than 2^30");
+        }
+        int n = 1;
+        while (n < value) {
+            n <<= 1;
+        }
+        return n;
+    }
+
+    /**
+     * Configures whether the periodic tasks keep running after {@link #shutdown()}, until they are cancelled. By
+     * default, they are cancelled on shutdown. This policy is ignored by {@link #shutdownNow()}.
+     *
+     * @param value {@code true} to keep running the periodic tasks after shutdown
+     */
+    public void setContinueExistingPeriodicTasksAfterShutdownPolicy(boolean value) {
+        continueExistingPeriodicTasksAfterShutdown = value;
+    }
+
+    /**
+     * @return {@code true} if the periodic tasks keep running after {@link #shutdown()}
+     */
+    public boolean getContinueExistingPeriodicTasksAfterShutdownPolicy() {
+        return continueExistingPeriodicTasksAfterShutdown;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        nonNull(command, "command");
+        return enqueue(new TimerTask<>(Executors.callable(command, null), deadline(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        nonNull(callable, "callable");
+        return enqueue(new TimerTask<>(callable, deadline(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        nonNull(command, "command");
+        positive(period, "period");
+        return enqueue(new TimerTask<>(Executors.callable(command, null), deadline(initialDelay, unit),
+                unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        nonNull(command, "command");
+        positive(delay, "delay");
+        return enqueue(new TimerTask<>(Executors.callable(command, null), deadline(initialDelay, unit),
+                -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        nonNull(command, "command");
+        if (isShutdown()) {
+            throw new RejectedExecutionException("The scheduler has been shut down");
+        }
+        executor.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        if (state.compareAndSet(STATE_CREATED, STATE_STOPPED)) {
+            terminated.countDown();
+            return;
+        }
+        if (state.compareAndSet(STATE_STARTED, STATE_SHUTDOWN)) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        if (state.compareAndSet(STATE_CREATED, STATE_STOPPED)) {
+            terminated.countDown();
+            return Collections.emptyList();
+        }
+        int current = state.getAndSet(STATE_STOPPED);
+        if (current == STATE_STOPPED) {
+            return Collections.emptyList();
+        }
+        LockSupport.unpark(worker);
+        if (Thread.currentThread() != worker) {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    worker.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // The worker is terminated, the wheel can be safely accessed.
+        List<Runnable> remaining = new ArrayList<>();
+        for (Bucket bucket : wheel) {
+            bucket.drain(remaining);
+        }
+        TimerTask<?> task;
+        while ((task = pending.poll()) != null) {
+            if (!task.isCancelled()) {
+                remaining.add(task);
+            }
+        }
+        cancelled.clear();
+        return remaining;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return state.get() >= STATE_SHUTDOWN;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    private long deadline(long delay, TimeUnit unit) {
+        nonNull(unit, "unit");
+        long nanos = unit.toNanos(Math.max(0, delay));
+        return saturatedAdd(System.nanoTime() - startTime, nanos);
+    }
+
+    private static long saturatedAdd(long time, long nanos) {
+        // Both are positive, an overflow (very large delay) must not produce a deadline in the past
+        long sum = time + nanos;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private <V> TimerTask<V> enqueue(TimerTask<V> task) {
+        start();
+        if (isShutdown()) {
+            throw new RejectedExecutionException("The scheduler has been shut down");
+        }
+        pending.offer(task);
+        if (idle) {
+            LockSupport.unpark(worker);
+        }
+        return task;
+    }
+
+    private void start() {
+        if (state.get() == STATE_CREATED && state.compareAndSet(STATE_CREATED, STATE_STARTED)) {
+            worker.start();
+        }
+    }
+
+    private void loop() {
+        long tick = 0;
+        boolean periodicTasksCancelled = false;
+        try {
+            while (true) {
+                int current = state.get();
+                if (current == STATE_STOPPED) {
+                    return;
+                }
+                if (current == STATE_SHUTDOWN && !periodicTasksCancelled && !continueExistingPeriodicTasksAfterShutdown) {
+                    cancelPeriodicTasks(tick);
+                    periodicTasksCancelled = true;
+                }
+                // A running periodic task may still offer its next execution
+                if (current == STATE_SHUTDOWN && size == 0 && pending.isEmpty() && inFlight.get() == 1) {
+                    return;
+                }
+                long now = waitForTick(tick);
+                if (now < 0) {
+                    // Woke up after being idle, skip the ticks elapsed while idle as the wheel is empty.
+                    tick = -now / tickNanos;
+                    continue;
+                }
+                removeCancelledTasks();
+                transferPendingTasks(tick);
+                expire(wheel[(int) (tick & mask)], now);
+                tick++;
+            }
+        } finally {
+            taskCompleted();
+        }
+    }
+
+    private void taskCompleted() {
+        if (inFlight.decrementAndGet() == 0) {
+            terminated.countDown();
+        }
+    }
+
+    private boolean isRunningPeriodicTasks() {
+        int current = state.get();
+        return current == STATE_STARTED
+                || (current == STATE_SHUTDOWN && continueExistingPeriodicTasksAfterShutdown);
+    }
+
+    /**
+     * Waits until the end of the given tick.
+     *
+     * @param tick the tick
+     * @return the current time (relative to the start time), negative if the thread has been idle and so the tick
+     *         must be recomputed
+     */
+    private long waitForTick(long tick) {
+        long deadline = (tick + 1) * tickNanos;
+        while (true) {
+            long now = System.nanoTime() - startTime;
+            if (now >= deadline) {
+                return now;
+            }
+            if (size == 0 && pending.isEmpty() && cancelled.isEmpty() && state.get() == STATE_STARTED) {
+                idle = true;
+                // Re-check after publishing the idle flag, to not miss a task offered concurrently.
+                if (pending.isEmpty() && state.get() == STATE_STARTED) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                return -Math.max(1, System.nanoTime() - startTime);
+            }
+            if (state.get() == STATE_STOPPED) {
+                return now;
+            }
+            LockSupport.parkNanos(this, deadline - now);
+        }
+    }
+
+    /**
+     * Cancels the periodic tasks on shutdown, so that the scheduler terminates once the delayed tasks have run.
+     *
+     * @param tick the current tick
+     */
+    private void cancelPeriodicTasks(long tick) {
+        while (!pending.isEmpty()) {
+            transferPendingTasks(tick);
+        }
+        for (Bucket bucket : wheel) {
+            TimerTask<?> task = bucket.head;
+            while (task != null) {
+                TimerTask<?> next = task.next;
+                if (task.isPeriodic()) {
+                    bucket.remove(task);
+                    size--;
+                    task.cancel(false);
+                }
+                task = next;
+            }
+        }
+    }
+
+    private void removeCancelledTasks() {
+        TimerTask<?> task;
+        while ((task = cancelled.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+                size--;
+            }
+        }
+    }
+
+    private void transferPendingTasks(long tick) {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            TimerTask<?> task = pending.poll();
+            if (task == null) {
+                return;
+            }
+            if (task.isCancelled()) {
+                continue;
+            }
+            long expectedTick = task.deadline / tickNanos;
+            task.remainingRounds = (expectedTick - tick) / wheel.length;
+            long target = Math.max(expectedTick, tick);
+            wheel[(int) (target & mask)].add(task);
+            size++;
+        }
+    }
+
+    private void expire(Bucket bucket, long now) {
+        TimerTask<?> task = bucket.head;
+        while (task != null) {
+            TimerTask<?> next = task.next;
+            if (task.isCancelled()) {
+                bucket.remove(task);
+                size--;
+            } else if (task.remainingRounds <= 0 && task.deadline <= now) {
+                bucket.remove(task);
+                size--;
+                dispatch(task);
+            } else {
+                task.remainingRounds--;
+            }
+            task = next;
+        }
+    }
+
+    private void dispatch(TimerTask<?> task) {
+        if (task.isPeriodic() && !isRunningPeriodicTasks()) {
+            // Periodic tasks are not executed anymore once the scheduler is shut down.
+            task.cancel(false);
+            return;
+        }
+        inFlight.incrementAndGet();
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            taskCompleted();
+            task.reject(e);
+            Infrastructure.handleDroppedException(e);
+        }
+    }
+
+    /**
+     * Doubly-linked list of tasks. Only accessed from the timer thread.
+     */
+    private static final class Bucket {
+        private TimerTask<?> head;
+        private TimerTask<?> tail;
+
+        void add(TimerTask<?> task) {
+            task.bucket = this;
+            if (head == null) {
+                head = tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        void remove(TimerTask<?> task) {
+            TimerTask<?> next = task.next;
+            if (task.prev != null) {
+                task.prev.next = next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            }
+            if (task == head) {
+                head = next;
+            }
+            if (task == tail) {
+                tail = task.prev;
+            }
+            task.prev = null;
+            task.next = null;
+            task.bucket = null;
+        }
+
+        void drain(List<Runnable> tasks) {
+            TimerTask<?> task = head;
+            while (task != null) {
+                TimerTask<?> next = task.next;
+                remove(task);
+                if (!task.isCancelled()) {
+                    tasks.add(task);
+                }
+                task = next;
+            }
+        }
+    }
+
+    private final class TimerTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        /**
+         * The deadline, relative to the scheduler start time.
+         */
+        private volatile long deadline;
+
+        /**
+         * The period: positive for fixed rate, negative for fixed delay and 0 for one-shot tasks.
+         */
+        private final long period;
+
+        // The following fields are only accessed from the timer thread.
+        private long remainingRounds;
+        private Bucket bucket;
+        private TimerTask<?> prev;
+        private TimerTask<?> next;
+
+        TimerTask(Callable<V> callable, long deadline, long period) {
+            super(callable);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - (System.nanoTime() - startTime), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!isPeriodic()) {
+                    super.run();
+                } else if (runAndReset()) {
+                    if (period > 0) {
+                        deadline = saturatedAdd(deadline, period);
+                    } else {
+                        deadline = System.nanoTime() - startTime - period;
+                    }
+                    if (isRunningPeriodicTasks()) {
+                        pending.offer(this);
+                        if (idle) {
+                            LockSupport.unpark(worker);
+                        }
+                    } else {
+                        // Shut down while running, the task is not rescheduled.
+                        cancel(false);
+                    }
+                }
+            } finally {
+                taskCompleted();
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean done = super.cancel(mayInterruptIfRunning);
+            if (done) {
+                // Let the timer thread unlink the task from its bucket.
+                cancelled.offer(this);
+            }
+            return done;
+        }
+
+        void reject(Throwable failure) {
+            setException(failure);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.smallrye.mutiny.infrastructure;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@link ExecutorConfiguration} using virtual threads: each task submitted to the default executor runs on a new
+ * virtual thread. Blocking operations (such as JDBC calls in {@code Uni.createFrom().item(...)}) can then be executed
+ * on the default executor without starving a pool of platform threads.
+ * <p>
+ * To enable it, add a {@code META-INF/services/io.smallrye.mutiny.infrastructure.ExecutorConfiguration} file
+ * containing {@code io.smallrye.mutiny.infrastructure.VirtualThreadExecutorConfiguration}.
+ * <p>
+ * Virtual threads require Java 21+. On older JVMs, this configuration falls back to
+ * {@link ForkJoinPool#commonPool()}, the regular default executor.
+ */
+public class VirtualThreadExecutorConfiguration implements ExecutorConfiguration {
+
+    @Override
+    public Executor getDefaultWorkerExecutor() {
+        if (Infrastructure.isVirtualThreadSupported()) {
+            return Infrastructure.getVirtualThreadExecutor();
+        }
+        return ForkJoinPool.commonPool();
+    }
+}
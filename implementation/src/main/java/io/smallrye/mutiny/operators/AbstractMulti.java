@@ -159,5 +159,4 @@ public abstract class AbstractMulti<T> implements Multi<T> {
         this.subscribe(processor);
         return processor;
     }
-
 }
@@ -0,0 +1,77 @@
+package io.smallrye.mutiny.operators.multi;
+
+/**
+ * A concurrency limit adjusted from the latency and the failures of the inner streams of a <em>flatMap</em>.
+ * <p>
+ * The limit follows a gradient algorithm derived from Little's law: the ratio between the lowest observed latency (the
+ * latency without queuing) and the current latency estimates how much the limit saturates the inner streams' target.
+ * While the latency stays close to the lowest one, the limit grows by about its square root per sample. When the
+ * latency increases, the limit shrinks proportionally. A failure divides the limit by two.
+ * <p>
+ * The limit always stays within the {@code [min, max]} bounds. The lowest latency is forgotten periodically, so the
+ * limit adapts when the latency of the inner streams changes durably.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    /**
+     * The weight of a new sample in the smoothed limit.
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * The number of samples after which the lowest latency is measured again.
+     */
+    private static final int MIN_LATENCY_RESET_INTERVAL = 1000;
+
+    private final int min;
+    private final int max;
+
+    private volatile int limit;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private long minLatency = Long.MAX_VALUE;
+    private int samples;
+
+    public AdaptiveConcurrencyLimit(int min, int max) {
+        this.min = min;
+        this.max = max;
+        this.estimatedLimit = min;
+        this.limit = min;
+    }
+
+    /**
+     * @return the current limit, between {@code min} and {@code max}
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Records the termination of an inner stream.
+     *
+     * @param latencyNanos the time between the subscription and the termination of the inner stream, in nanoseconds
+     * @param failed whether the inner stream has failed
+     */
+    public synchronized void onSample(long latencyNanos, boolean failed) {
+        double estimated = estimatedLimit;
+        if (failed) {
+            estimated = estimated / 2;
+        } else {
+            if (++samples >= MIN_LATENCY_RESET_INTERVAL) {
+                samples = 0;
+                minLatency = Long.MAX_VALUE;
+            }
+            long latency = Math.max(latencyNanos, 1L);
+            if (latency < minLatency) {
+                minLatency = latency;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, (double) minLatency / latency));
+            double target = estimated * gradient + Math.sqrt(estimated);
+            estimated = estimated * (1 - SMOOTHING) + target * SMOOTHING;
+        }
+        estimated = Math.max(min, Math.min(max, estimated));
+        estimatedLimit = estimated;
+        limit = (int) estimated;
+    }
+}
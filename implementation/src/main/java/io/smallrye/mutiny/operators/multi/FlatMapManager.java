@@ -1,21 +1,44 @@
 package io.smallrye.mutiny.operators.multi;
 
+import java.util.Queue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import io.smallrye.mutiny.helpers.queues.SpscLinkedArrayQueue;
+
+/**
+ * Registry of the inner subscribers of a <em>flatMap</em>, stored in an array whose slots are reused.
+ * <p>
+ * The registry is lock-free, and relies on the threading of the <em>flatMap</em>:
+ * <ul>
+ * <li>{@link #add(Object)} is only called serially, from the upstream {@code onItem}. It is the only method writing
+ * entries into the slots, and growing the array.</li>
+ * <li>{@link #remove(Object)} is only called serially, from the drain loop. It hands the slot of the removed entry back
+ * to {@link #add(Object)} through a single-producer single-consumer queue.</li>
+ * <li>{@link #unsubscribe()} can be called from any thread, and replaces the array with {@link #terminated()}.</li>
+ * </ul>
+ * The array is published with a compare-and-set, so an entry is either added before the termination (and unsubscribed
+ * by {@link #unsubscribe()}), or rejected.
+ * <p>
+ * When the array grows while an entry is removed, the removed entry can be copied into the new array. Implementations
+ * must therefore {@link #markRemoved(Object) mark} the removed entries, and the drain loop must skip them.
+ *
+ * @param <T> the type of entry
+ */
 abstract class FlatMapManager<T> {
 
     protected AtomicReference<T[]> inners = new AtomicReference<>(empty());
 
-    private int[] free = FREE_EMPTY;
+    /**
+     * The removed entries, whose slots can be reused. Created by the drain loop on the first removal.
+     */
+    private volatile Queue<T> free;
 
-    private long producerIndex;
-    private long consumerIndex;
+    // Only accessed from add
+    private int nextUnusedIndex;
 
     private final AtomicInteger size = new AtomicInteger();
 
-    private static final int[] FREE_EMPTY = new int[0];
-
     abstract T[] empty();
 
     abstract T[] terminated();
@@ -26,22 +49,26 @@ abstract class FlatMapManager<T> {
 
     abstract void setIndex(T entry, int index);
 
+    abstract int getIndex(T entry);
+
+    /**
+     * Marks the given entry as removed. Called from the drain loop, before the slot can be reused.
+     *
+     * @param entry the entry
+     */
+    abstract void markRemoved(T entry);
+
     final void unsubscribe() {
         unsubscribe(false);
     }
 
     final void unsubscribe(boolean fromOnError) {
-        T[] a;
         T[] t = terminated();
-        synchronized (this) {
-            a = inners.get();
-            if (a == t) {
-                return;
-            }
-            size.lazySet(0);
-            free = null;
-            inners.set(t);
+        T[] a = inners.getAndSet(t);
+        if (a == t) {
+            return;
         }
+        size.lazySet(0);
         for (T e : a) {
             if (e != null) {
                 unsubscribeEntry(e, fromOnError);
@@ -58,69 +85,55 @@ abstract class FlatMapManager<T> {
         if (a == terminated()) {
             return false;
         }
-        synchronized (this) {
-            a = inners.get();
-            if (a == terminated()) {
-                return false;
-            }
 
-            int idx = pollFree();
-            if (idx < 0) {
-                int n = a.length;
-                T[] b = n != 0 ? newArray(n << 1) : newArray(4);
-                System.arraycopy(a, 0, b, 0, n);
-
-                inners.set(b);
-                a = b;
-
-                int m = b.length;
-                int[] u = new int[m];
-                for (int i = n + 1; i < m; i++) {
-                    u[i] = i;
-                }
-                free = u;
-                consumerIndex = n + 1L;
-                producerIndex = m;
-
-                idx = n;
-            }
+        int idx;
+        Queue<T> q = free;
+        T reusable = q == null ? null : q.poll();
+        if (reusable != null) {
+            idx = getIndex(reusable);
+        } else if (nextUnusedIndex < a.length) {
+            idx = nextUnusedIndex++;
+        } else {
+            int n = a.length;
+            T[] b = n != 0 ? newArray(n << 1) : newArray(4);
+            System.arraycopy(a, 0, b, 0, n);
+            idx = n;
+            nextUnusedIndex = n + 1;
             setIndex(entry, idx);
-            a[idx] = entry;
+            b[idx] = entry;
+            if (!inners.compareAndSet(a, b)) {
+                // Terminated concurrently
+                return false;
+            }
             size.incrementAndGet();
+            return true;
         }
-        return true;
-    }
 
-    final void remove(int index) {
-        synchronized (this) {
-            T[] a = inners.get();
-            if (a != terminated()) {
-                a[index] = null;
-                offerFree(index);
-                size.decrementAndGet();
-            }
+        setIndex(entry, idx);
+        a[idx] = entry;
+        // Publishes the slot, and checks that the registry has not been terminated concurrently
+        if (!inners.compareAndSet(a, a)) {
+            a[idx] = null;
+            return false;
         }
+        size.incrementAndGet();
+        return true;
     }
 
-    private int pollFree() {
-        int[] a = free;
-        int m = a.length - 1;
-        long ci = consumerIndex;
-        if (producerIndex == ci) {
-            return -1;
+    final void remove(T entry) {
+        T[] a = inners.get();
+        if (a != terminated()) {
+            markRemoved(entry);
+            // A concurrent growth may have copied the entry already, hence the mark
+            a[getIndex(entry)] = null;
+            size.decrementAndGet();
+            Queue<T> q = free;
+            if (q == null) {
+                q = new SpscLinkedArrayQueue<>(16);
+                free = q;
+            }
+            q.offer(entry);
         }
-        int offset = (int) ci & m;
-        consumerIndex = ci + 1;
-        return a[offset];
-    }
-
-    private void offerFree(int index) {
-        int[] a = free;
-        int m = a.length - 1;
-        long pi = producerIndex;
-        int offset = (int) pi & m;
-        a[offset] = index;
-        producerIndex = pi + 1;
     }
 
     final boolean isEmpty() {
@@ -23,7 +23,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.function.Supplier;
 
 import org.reactivestreams.Subscription;
@@ -34,6 +36,7 @@ import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.DrainUtils;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 /**
  * Buffers a given number of items and emits the <em>groups</em> as a single item downstream.
@@ -76,20 +79,139 @@ public class MultiBufferOp<T> extends AbstractMultiOperator<T, List<T>> {
         private final int size;
         private List<T> current;
 
+        /**
+         * Set when the upstream accepted the synchronous fusion: the lists are filled by polling the upstream, without
+         * any per-item signal.
+         */
+        private QueueSubscription<T> fused;
+
+        private volatile long requested;
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<BufferExactProcessor> REQUESTED = AtomicLongFieldUpdater
+                .newUpdater(BufferExactProcessor.class, "requested");
+
+        private volatile int wip;
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<BufferExactProcessor> WIP = AtomicIntegerFieldUpdater
+                .newUpdater(BufferExactProcessor.class, "wip");
+
         BufferExactProcessor(MultiSubscriber<? super List<T>> downstream, int size, Supplier<List<T>> supplier) {
             super(downstream);
             this.size = size;
             this.supplier = supplier;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (subscription instanceof QueueSubscription && upstream.get() == null) {
+                QueueSubscription<T> qs = (QueueSubscription<T>) subscription;
+                if (qs.requestFusion(QueueSubscription.SYNC) == QueueSubscription.SYNC) {
+                    fused = qs;
+                }
+            }
+            super.onSubscribe(subscription);
+        }
+
         @Override
         public void request(long n) {
+            if (fused != null) {
+                if (n <= 0) {
+                    // Signal the failure before releasing the upstream, cancelling first would drop it
+                    onFailure(Subscriptions.getInvalidRequestException());
+                    clearFused();
+                    return;
+                }
+                Subscriptions.add(REQUESTED, this, n);
+                drainFused();
+                return;
+            }
             Subscription subscription = upstream.get();
             if (subscription != CANCELLED) {
                 subscription.request(Subscriptions.multiply(n, size));
             }
         }
 
+        private void drainFused() {
+            if (WIP.getAndIncrement(this) != 0) {
+                return;
+            }
+            QueueSubscription<T> qs = fused;
+            int missed = 1;
+            for (;;) {
+                long r = requested;
+                long e = 0L;
+                while (e != r) {
+                    if (isDone()) {
+                        // Cancelled or failed by an invalid request
+                        qs.clear();
+                        return;
+                    }
+                    List<T> buffer = supplier.get();
+                    boolean exhausted = false;
+                    try {
+                        while (buffer.size() != size) {
+                            T item = qs.poll();
+                            if (item == null) {
+                                exhausted = true;
+                                break;
+                            }
+                            buffer.add(item);
+                        }
+                    } catch (Throwable failure) {
+                        onFailure(failure);
+                        return;
+                    }
+                    if (!buffer.isEmpty()) {
+                        downstream.onItem(buffer);
+                        e++;
+                    }
+                    if (exhausted) {
+                        completeFused();
+                        return;
+                    }
+                }
+
+                if (isDone()) {
+                    qs.clear();
+                    return;
+                }
+                if (qs.isEmpty()) {
+                    completeFused();
+                    return;
+                }
+
+                if (e != 0L) {
+                    Subscriptions.produced(REQUESTED, this, e);
+                }
+                missed = WIP.addAndGet(this, -missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            clearFused();
+        }
+
+        private void clearFused() {
+            // In fused mode, the upstream is released by clearing it, outside of the drain loop. If a drain is in
+            // progress, the drain loop clears it.
+            QueueSubscription<T> qs = fused;
+            if (qs != null && WIP.getAndIncrement(this) == 0) {
+                qs.clear();
+            }
+        }
+
+        private void completeFused() {
+            if (upstream.getAndSet(CANCELLED) != CANCELLED) {
+                downstream.onCompletion();
+            }
+        }
+
         @Override
         public void onItem(T t) {
             if (isDone()) {
@@ -1,10 +1,9 @@
 package io.smallrye.mutiny.operators.multi;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -16,24 +15,58 @@ import io.smallrye.mutiny.subscription.MultiSubscriber;
 /**
  * A {@code multi} caching the events emitted from upstreams and replaying it to subscribers.
  * This multi can have several subscribers.
+ * <p>
+ * The items are stored in an append-only list of fixed-size segments (arrays whose last slot links to the next
+ * segment). Only the upstream appends items and publishes them by incrementing the volatile {@code size}. Each
+ * subscription replays the items with its own cursor, without locking: storing an item does not copy the history,
+ * and replaying does not contend with the other subscribers.
  *
  * @param <T> the type of item
  */
 @SuppressWarnings("SubscriberImplementation")
 public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subscriber<T> {
 
+    /**
+     * The number of items per segment.
+     */
+    static final int SEGMENT_SIZE = 64;
+
+    @SuppressWarnings("rawtypes")
+    private static final CacheSubscription[] EMPTY = new CacheSubscription[0];
+
+    @SuppressWarnings("rawtypes")
+    private static final CacheSubscription[] TERMINATED = new CacheSubscription[0];
+
     /**
      * Stores whether we already subscribed to the upstream.
      */
     private final AtomicBoolean hasSubscribedToUpstream = new AtomicBoolean();
 
     /**
-     * The current set of downstream subscribers.
+     * The current set of downstream subscribers, {@link #TERMINATED} once the upstream has terminated.
+     */
+    @SuppressWarnings("unchecked")
+    private final AtomicReference<CacheSubscription<T>[]> subscribers = new AtomicReference<>(EMPTY);
+
+    /**
+     * The first segment, read by the subscriptions to start the replay.
      */
-    private final List<CacheSubscription<T>> subscribers = new CopyOnWriteArrayList<>();
-    private volatile boolean terminated;
+    private final Object[] head = new Object[SEGMENT_SIZE + 1];
 
-    private final CopyOnWriteArrayList<Node<T>> history = new CopyOnWriteArrayList<>();
+    /**
+     * The segment receiving the next item, only accessed by the upstream.
+     */
+    private Object[] tail = head;
+
+    /**
+     * The position of the next item in {@link #tail}, only accessed by the upstream.
+     */
+    private int tailOffset;
+
+    /**
+     * The number of items stored, written after storing an item to publish it.
+     */
+    private volatile int size;
 
     /**
      * If the upstream has terminated with a failure, this stores the failure.
@@ -63,15 +96,50 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
         }
     }
 
-    private synchronized void addDownstreamSubscription(CacheSubscription<T> consumer) {
-        if (terminated) {
-            return;
+    private void addDownstreamSubscription(CacheSubscription<T> consumer) {
+        for (;;) {
+            CacheSubscription<T>[] current = subscribers.get();
+            if (current == TERMINATED) {
+                return;
+            }
+            int n = current.length;
+            @SuppressWarnings({ "rawtypes", "unchecked" })
+            CacheSubscription<T>[] updated = new CacheSubscription[n + 1];
+            System.arraycopy(current, 0, updated, 0, n);
+            updated[n] = consumer;
+            if (subscribers.compareAndSet(current, updated)) {
+                return;
+            }
         }
-        subscribers.add(consumer);
     }
 
-    private synchronized void remove(CacheSubscription<T> consumer) {
-        subscribers.remove(consumer);
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void remove(CacheSubscription<T> consumer) {
+        for (;;) {
+            CacheSubscription<T>[] current = subscribers.get();
+            int n = current.length;
+            int index = -1;
+            for (int i = 0; i < n; i++) {
+                if (current[i] == consumer) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return;
+            }
+            CacheSubscription<T>[] updated;
+            if (n == 1) {
+                updated = EMPTY;
+            } else {
+                updated = new CacheSubscription[n - 1];
+                System.arraycopy(current, 0, updated, 0, index);
+                System.arraycopy(current, index + 1, updated, index, n - index - 1);
+            }
+            if (subscribers.compareAndSet(current, updated)) {
+                return;
+            }
+        }
     }
 
     @Override
@@ -80,9 +148,21 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
     }
 
     @Override
-    public synchronized void onNext(T item) {
-        history.add(new Node<>(item));
-        for (CacheSubscription<T> consumer : subscribers) {
+    public void onNext(T item) {
+        int offset = tailOffset;
+        if (offset == SEGMENT_SIZE) {
+            Object[] segment = new Object[SEGMENT_SIZE + 1];
+            segment[0] = item;
+            tail[SEGMENT_SIZE] = segment;
+            tail = segment;
+            tailOffset = 1;
+        } else {
+            tail[offset] = item;
+            tailOffset = offset + 1;
+        }
+        // publish the item
+        size = size + 1;
+        for (CacheSubscription<T> consumer : subscribers.get()) {
             // replay
             consumer.replay();
         }
@@ -95,17 +175,18 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
         }
         failure = t;
         done = true;
-        terminated = true;
-        for (CacheSubscription<T> consumer : subscribers) {
-            consumer.replay();
-        }
+        terminate();
     }
 
     @Override
     public void onComplete() {
         done = true;
-        terminated = true;
-        for (CacheSubscription<T> consumer : subscribers) {
+        terminate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void terminate() {
+        for (CacheSubscription<T> consumer : subscribers.getAndSet(TERMINATED)) {
             consumer.replay();
         }
     }
@@ -118,55 +199,94 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
      */
     static final class CacheSubscription<T> implements Subscription {
 
+        private static final long CANCELLED = Long.MIN_VALUE;
+
         private final MultiSubscriber<? super T> downstream;
         private final MultiCacheOp<T> cache;
         private final AtomicLong requested = new AtomicLong();
         private final AtomicInteger wip = new AtomicInteger();
-        private int lastIndex;
+
+        /**
+         * The segment containing the next item to replay.
+         */
+        private Object[] segment;
+
+        /**
+         * The position of the next item to replay in {@link #segment}.
+         */
+        private int offset;
+
+        /**
+         * The number of items replayed.
+         */
+        private int index;
 
         CacheSubscription(MultiSubscriber<? super T> downstream, MultiCacheOp<T> cache) {
             this.downstream = downstream;
             this.cache = cache;
-            this.lastIndex = -1;
+            this.segment = cache.head;
         }
 
         @Override
         public void request(long n) {
             if (n > 0) {
-                Subscriptions.add(requested, n);
+                Subscriptions.addAndHandledAlreadyCancelled(requested, n);
                 replay();
             }
         }
 
+        @SuppressWarnings("unchecked")
         public void replay() {
             if (wip.getAndIncrement() != 0) {
                 return;
             }
             int missed = 1;
-            CopyOnWriteArrayList<Node<T>> history = cache.history;
+            final MultiSubscriber<? super T> downstream = this.downstream;
+            final MultiCacheOp<T> cache = this.cache;
 
             for (;;) {
-
-                if (cache.done && !hasNext()) {
-                    if (cache.failure != null) {
-                        downstream.onError(cache.failure);
-                    } else {
-                        downstream.onCompletion();
-                    }
+                long consumerRequested = requested.get();
+                if (consumerRequested == CANCELLED) {
                     return;
                 }
 
-                long consumerRequested = requested.get();
-                if (consumerRequested == Long.MIN_VALUE) { // cancelled.
-                    return;
+                long emitted = 0L;
+                for (;;) {
+                    // Read done before size, so all the items are visible when done is true.
+                    boolean done = cache.done;
+                    boolean empty = index == cache.size;
+
+                    if (done && empty) {
+                        if (requested.getAndSet(CANCELLED) != CANCELLED) {
+                            if (cache.failure != null) {
+                                downstream.onError(cache.failure);
+                            } else {
+                                downstream.onCompletion();
+                            }
+                        }
+                        return;
+                    }
+
+                    if (empty || emitted == consumerRequested) {
+                        break;
+                    }
+
+                    if (offset == SEGMENT_SIZE) {
+                        segment = (Object[]) segment[SEGMENT_SIZE];
+                        offset = 0;
+                    }
+                    T item = (T) segment[offset++];
+                    index++;
+                    downstream.onItem(item);
+                    emitted++;
+
+                    if (requested.get() == CANCELLED) {
+                        return;
+                    }
                 }
 
-                if (consumerRequested > 0L && hasNext()) {
-                    lastIndex = lastIndex + 1;
-                    Node<T> node = history.get(lastIndex);
-                    downstream.onItem(node.item);
-                    Subscriptions.subtract(requested, 1);
-                    continue;
+                if (emitted != 0L && consumerRequested != Long.MAX_VALUE) {
+                    Subscriptions.producedAndHandleAlreadyCancelled(requested, emitted);
                 }
 
                 missed = wip.addAndGet(-missed);
@@ -174,32 +294,13 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
                     break;
                 }
             }
-
         }
 
         @Override
         public void cancel() {
-            if (requested.getAndSet(Long.MIN_VALUE) != Long.MIN_VALUE) {
+            if (requested.getAndSet(CANCELLED) != CANCELLED) {
                 cache.remove(this);
             }
         }
-
-        boolean hasNext() {
-            return lastIndex < cache.history.size() - 1;
-        }
-    }
-
-    /**
-     * Node stored in the list.
-     *
-     * @param <T> the type of item.
-     */
-    static final class Node<T> {
-
-        private final T item;
-
-        Node(T item) {
-            this.item = item;
-        }
     }
 }
@@ -0,0 +1,99 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Predicate;
+
+import io.smallrye.mutiny.CircuitBreakerOpenException;
+import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.CircuitBreaker;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Multi operator protecting the upstream with a {@link CircuitBreaker}. Each subscription is a call: when the breaker
+ * rejects it, the subscriber receives a {@link CircuitBreakerOpenException} and the upstream is not subscribed.
+ * Otherwise, the completion is recorded as a success, and the failures matching the predicate are recorded as
+ * failures.
+ *
+ * @param <T> the type of item
+ */
+public final class MultiCircuitBreakerOp<T> extends AbstractMultiOperator<T, T> {
+
+    private final CircuitBreaker breaker;
+    private final Predicate<? super Throwable> predicate;
+
+    public MultiCircuitBreakerOp(Multi<? extends T> upstream, CircuitBreaker breaker,
+            Predicate<? super Throwable> predicate) {
+        super(upstream);
+        this.breaker = nonNull(breaker, "breaker");
+        this.predicate = nonNull(predicate, "predicate");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> downstream) {
+        nonNull(downstream, "downstream");
+        CircuitBreaker.Permit permit = breaker.tryAcquirePermission();
+        if (permit == null) {
+            Subscriptions.fail(downstream, new CircuitBreakerOpenException("The circuit breaker is open"));
+            return;
+        }
+        upstream.subscribe().withSubscriber(new CircuitBreakerProcessor<>(downstream, permit, predicate));
+    }
+
+    static final class CircuitBreakerProcessor<T> extends MultiOperatorProcessor<T, T> {
+
+        private final CircuitBreaker.Permit permit;
+        private final Predicate<? super Throwable> predicate;
+        private volatile int done;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<CircuitBreakerProcessor> DONE = AtomicIntegerFieldUpdater
+                .newUpdater(CircuitBreakerProcessor.class, "done");
+
+        CircuitBreakerProcessor(MultiSubscriber<? super T> downstream, CircuitBreaker.Permit permit,
+                Predicate<? super Throwable> predicate) {
+            super(downstream);
+            this.permit = permit;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onCompletion() {
+            if (DONE.compareAndSet(this, 0, 1)) {
+                permit.onSuccess();
+            }
+            super.onCompletion();
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (DONE.compareAndSet(this, 0, 1)) {
+                boolean recorded;
+                try {
+                    recorded = predicate.test(failure);
+                } catch (Throwable e) {
+                    permit.onFailure();
+                    super.onFailure(new CompositeException(failure, e));
+                    return;
+                }
+                if (recorded) {
+                    permit.onFailure();
+                } else {
+                    permit.onSuccess();
+                }
+            }
+            super.onFailure(failure);
+        }
+
+        @Override
+        public void cancel() {
+            if (DONE.compareAndSet(this, 0, 1)) {
+                permit.onCancellation();
+            }
+            super.cancel();
+        }
+    }
+}
@@ -1,45 +1,79 @@
 package io.smallrye.mutiny.operators.multi;
 
+import static io.smallrye.mutiny.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
+
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.multi.distinct.DistinctStore;
+import io.smallrye.mutiny.operators.multi.distinct.DistinctStores;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 /**
  * Eliminates the duplicated items from the upstream.
+ * <p>
+ * The items are compared using a key extracted from each item (the item itself by default), and the keys already seen
+ * are remembered in a {@link DistinctStore} created for each subscription.
  *
  * @param <T> the type of items
  */
 public final class MultiDistinctOp<T> extends AbstractMultiOperator<T, T> {
 
-    private final Comparator<? super T> comparator;
+    private final Function<? super T, ?> keyExtractor;
+    private final Supplier<? extends DistinctStore<?>> storeSupplier;
 
     public MultiDistinctOp(Multi<? extends T> upstream) {
         this(upstream, null);
     }
 
     public MultiDistinctOp(Multi<? extends T> upstream, Comparator<? super T> comparator) {
+        this(upstream, null, DistinctStores.unbounded(comparator));
+    }
+
+    /**
+     * Creates a new {@link MultiDistinctOp}.
+     *
+     * @param upstream the upstream
+     * @param keyExtractor the function extracting the key from the items, {@code null} to use the items as keys
+     * @param storeSupplier the supplier of the store remembering the keys, called for each subscription
+     * @param <K> the type of key
+     */
+    public <K> MultiDistinctOp(Multi<? extends T> upstream, Function<? super T, ? extends K> keyExtractor,
+            Supplier<? extends DistinctStore<? super K>> storeSupplier) {
         super(upstream);
-        this.comparator = comparator;
+        this.keyExtractor = keyExtractor;
+        this.storeSupplier = storeSupplier;
     }
 
     @Override
     public void subscribe(MultiSubscriber<? super T> subscriber) {
-        upstream.subscribe(new DistinctProcessor<>(ParameterValidation.nonNullNpe(subscriber, "subscriber"), comparator));
+        ParameterValidation.nonNullNpe(subscriber, "subscriber");
+        DistinctStore<?> store;
+        try {
+            store = ParameterValidation.nonNullNpe(storeSupplier.get(), "store");
+        } catch (Throwable e) {
+            Subscriptions.fail(subscriber, e);
+            return;
+        }
+        upstream.subscribe(new DistinctProcessor<>(subscriber, keyExtractor, store));
     }
 
     static final class DistinctProcessor<T> extends MultiOperatorProcessor<T, T> {
 
-        final Collection<T> collection;
+        private final Function<? super T, ?> keyExtractor;
+        final DistinctStore<Object> store;
 
-        DistinctProcessor(MultiSubscriber<? super T> downstream, Comparator<? super T> comparator) {
+        @SuppressWarnings("unchecked")
+        DistinctProcessor(MultiSubscriber<? super T> downstream, Function<? super T, ?> keyExtractor,
+                DistinctStore<?> store) {
             super(downstream);
-            if (comparator == null) {
-                this.collection = new HashSet<>();
-            } else {
-                this.collection = new TreeSet<>(comparator);
-            }
+            this.keyExtractor = keyExtractor;
+            // The key extractor and the store have been checked to be compatible when creating the operator
+            this.store = (DistinctStore<Object>) store;
         }
 
         @Override
@@ -50,9 +84,18 @@ public final class MultiDistinctOp<T> extends AbstractMultiOperator<T, T> {
 
             boolean added;
             try {
-                added = collection.add(t);
+                Object key;
+                if (keyExtractor == null) {
+                    key = t;
+                } else {
+                    key = keyExtractor.apply(t);
+                    if (key == null) {
+                        throw new NullPointerException(MAPPER_RETURNED_NULL);
+                    }
+                }
+                added = store.add(key);
             } catch (Throwable e) {
-                // catch exception thrown by the equals / comparator
+                // catch exception thrown by the key extractor, equals / comparator, or the store
                 failAndCancel(e);
                 return;
             }
@@ -68,19 +111,19 @@ public final class MultiDistinctOp<T> extends AbstractMultiOperator<T, T> {
         @Override
         public void onFailure(Throwable t) {
             super.onFailure(t);
-            collection.clear();
+            store.clear();
         }
 
         @Override
         public void onCompletion() {
             super.onCompletion();
-            collection.clear();
+            store.clear();
         }
 
         @Override
         public void cancel() {
             super.cancel();
-            collection.clear();
+            store.clear();
         }
     }
 
@@ -5,9 +5,8 @@ import static io.smallrye.mutiny.helpers.Subscriptions.CANCELLED;
 import java.util.Queue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.function.Supplier;
 
 import org.reactivestreams.Subscription;
@@ -18,9 +17,13 @@ import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 /**
  * Emits events from upstream on a thread managed by the given scheduler.
+ * <p>
+ * If the upstream subscription is a {@link QueueSubscription}, the operator fuses with it and polls the items
+ * directly from the upstream instead of storing them in its own queue.
  *
  * @param <T> the type of item
  */
@@ -40,7 +43,7 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
         upstream.subscribe().withSubscriber(new MultiEmitOnProcessor<>(downstream, executor, queueSupplier));
     }
 
-    static final class MultiEmitOnProcessor<T> extends MultiOperatorProcessor<T, T> implements Runnable {
+    static final class MultiEmitOnProcessor<T> extends MultiEmitOnProcessorRequestedPad<T> implements Runnable {
 
         private final Executor executor;
 
@@ -48,10 +51,22 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
 
         // State variables
 
+        private final Supplier<? extends Queue<T>> queueSupplier;
+
+        /**
+         * Store the items, {@code null} when fused with the upstream.
+         */
+        private Queue<T> queue;
+
+        /**
+         * The upstream subscription, when fused.
+         */
+        private QueueSubscription<T> fused;
+
         /**
-         * Store the items
+         * The fusion mode established with the upstream.
          */
-        private final Queue<T> queue;
+        private int sourceMode;
 
         /**
          * {@code true} if the subscription has been cancelled.
@@ -66,10 +81,12 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
         /**
          * Stores the failure
          */
-        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private volatile Throwable failure;
 
-        private final AtomicInteger wip = new AtomicInteger();
-        private final AtomicLong requested = new AtomicLong();
+        private volatile int wip;
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<MultiEmitOnProcessor> WIP = AtomicIntegerFieldUpdater
+                .newUpdater(MultiEmitOnProcessor.class, "wip");
 
         private long produced;
 
@@ -79,12 +96,33 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
             super(downstream);
             this.executor = executor;
             this.limit = 16;
-            this.queue = queueSupplier.get();
+            this.queueSupplier = queueSupplier;
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public void onSubscribe(Subscription subscription) {
             if (upstream.compareAndSet(null, subscription)) {
+                if (subscription instanceof QueueSubscription) {
+                    QueueSubscription<T> qs = (QueueSubscription<T>) subscription;
+                    int mode = qs.requestFusion(QueueSubscription.ANY);
+                    if (mode == QueueSubscription.SYNC) {
+                        // All the items are available, no need to request.
+                        fused = qs;
+                        sourceMode = mode;
+                        done = true;
+                        downstream.onSubscribe(this);
+                        return;
+                    }
+                    if (mode == QueueSubscription.ASYNC) {
+                        fused = qs;
+                        sourceMode = mode;
+                        downstream.onSubscribe(this);
+                        subscription.request(16);
+                        return;
+                    }
+                }
+                queue = queueSupplier.get();
                 downstream.onSubscribe(this);
                 subscription.request(16);
             } else {
@@ -94,6 +132,11 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
 
         @Override
         public void onItem(T t) {
+            if (sourceMode == QueueSubscription.ASYNC) {
+                // the item is in the upstream queue.
+                schedule();
+                return;
+            }
             if (done) {
                 // we should not receive any items.
                 return;
@@ -114,7 +157,7 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
         public void onFailure(Throwable throwable) {
             if (!done || !cancelled) {
                 done = true;
-                failure.set(throwable);
+                failure = throwable;
                 schedule();
             }
         }
@@ -131,7 +174,7 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
         public void request(long n) {
             if (n > 0) {
                 if (!done || !cancelled) {
-                    Subscriptions.add(requested, n);
+                    Subscriptions.add(REQUESTED, this, n);
                     schedule();
                 }
             } else {
@@ -146,14 +189,14 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
             }
             cancelled = true;
             Subscriptions.cancel(upstream);
-            if (wip.getAndIncrement() == 0) {
+            if (WIP.getAndIncrement(this) == 0) {
                 // nothing was currently dispatched, clearing the queue.
-                queue.clear();
+                clearQueue();
             }
         }
 
         void schedule() {
-            if (wip.getAndIncrement() != 0) {
+            if (WIP.getAndIncrement(this) != 0) {
                 // we already have a thread running the loop
                 return;
             }
@@ -165,7 +208,7 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
                 if (s != CANCELLED) {
                     done = true;
                     Subscriptions.cancel(upstream);
-                    queue.clear();
+                    clearQueue();
                     downstream.onFailure(rejected);
                     super.cancel();
                 }
@@ -174,15 +217,98 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
 
         @Override
         public void run() {
+            if (sourceMode == QueueSubscription.SYNC) {
+                runSync();
+            } else {
+                runAsync();
+            }
+        }
+
+        private void runSync() {
             int missed = 1;
-            final Queue<T> q = queue;
+            final QueueSubscription<T> q = fused;
             long emitted = produced;
 
             for (;;) {
-                long requests = requested.get();
+                Throwable maybeFailure = failure;
+                if (maybeFailure != null) {
+                    // invalid request
+                    q.clear();
+                    downstream.onFailure(maybeFailure);
+                    return;
+                }
+
+                long requests = requested;
+                while (emitted != requests) {
+                    if (cancelled) {
+                        q.clear();
+                        return;
+                    }
+
+                    T item;
+                    try {
+                        item = q.poll();
+                    } catch (Throwable failure) {
+                        q.clear();
+                        downstream.onFailure(failure);
+                        return;
+                    }
+
+                    if (cancelled) {
+                        q.clear();
+                        return;
+                    }
+
+                    if (item == null) {
+                        // the upstream is exhausted.
+                        downstream.onCompletion();
+                        return;
+                    }
+
+                    downstream.onItem(item);
+                    emitted++;
+                }
+
+                if (cancelled) {
+                    q.clear();
+                    return;
+                }
+
+                if (q.isEmpty()) {
+                    downstream.onCompletion();
+                    return;
+                }
+
+                int w = wip;
+                if (missed == w) {
+                    produced = emitted;
+                    missed = WIP.addAndGet(this, -missed);
+                    if (missed == 0) {
+                        break;
+                    }
+                } else {
+                    missed = w;
+                }
+            }
+        }
+
+        private void runAsync() {
+            int missed = 1;
+            long emitted = produced;
+
+            for (;;) {
+                long requests = requested;
                 while (emitted != requests) {
                     boolean wasDone = done;
-                    T item = q.poll();
+                    T item;
+                    try {
+                        item = poll();
+                    } catch (Throwable failure) {
+                        Subscriptions.cancel(upstream);
+                        clearQueue();
+                        downstream.onFailure(failure);
+                        return;
+                    }
 
                     boolean empty = item == null;
                     if (isDoneOrCancelled(wasDone, empty)) {
@@ -202,7 +328,7 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
                     emitted++;
                     if (emitted == limit) {
                         if (requests != Long.MAX_VALUE) {
-                            requests = requested.addAndGet(-emitted);
+                            requests = REQUESTED.addAndGet(this, -emitted);
                         }
                         // request another batch
                         super.request(emitted);
@@ -212,15 +338,15 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
 
                 // we have emitted `limits` items, reached the end of the queue, or reached the number of requests
                 // check if we are down for now (requests meet) or for ever (cancelled or done)
-                if (emitted == requests && isDoneOrCancelled(done, q.isEmpty())) {
+                if (emitted == requests && isDoneOrCancelled(done, isQueueEmpty())) {
                     return;
                 }
 
                 // check if we still have missed notifications.
-                int w = wip.get();
+                int w = wip;
                 if (missed == w) {
                     produced = emitted;
-                    missed = wip.addAndGet(-missed);
+                    missed = WIP.addAndGet(this, -missed);
                     if (missed == 0) {
                         break;
                     }
@@ -230,13 +356,29 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
             }
         }
 
+        private T poll() {
+            return fused != null ? fused.poll() : queue.poll();
+        }
+
+        private boolean isQueueEmpty() {
+            return fused != null ? fused.isEmpty() : queue.isEmpty();
+        }
+
+        private void clearQueue() {
+            if (fused != null) {
+                fused.clear();
+            } else if (queue != null) {
+                queue.clear();
+            }
+        }
+
         boolean isDoneOrCancelled(boolean upstreamDone, boolean queueEmpty) {
             if (cancelled) {
-                queue.clear();
+                clearQueue();
                 return true;
             }
 
-            Throwable maybeFailure = failure.get();
+            Throwable maybeFailure = failure;
             if (upstreamDone && maybeFailure != null) {
                 // failing
                 downstream.onFailure(maybeFailure);
@@ -252,4 +394,39 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
             return false;
         }
     }
+
+    // The classes below only define the field layout of MultiEmitOnProcessor: the requested counter, updated by the
+    // downstream and by the emitting thread, is surrounded by (unused) padding fields.
+
+    @SuppressWarnings("unused")
+    abstract static class MultiEmitOnProcessorHeadPad<T> extends MultiOperatorProcessor<T, T> {
+        long p100, p101, p102, p103, p104, p105, p106, p107;
+        long p108, p109, p110, p111, p112, p113, p114, p115;
+
+        MultiEmitOnProcessorHeadPad(MultiSubscriber<? super T> downstream) {
+            super(downstream);
+        }
+    }
+
+    abstract static class MultiEmitOnProcessorRequested<T> extends MultiEmitOnProcessorHeadPad<T> {
+        @SuppressWarnings("rawtypes")
+        static final AtomicLongFieldUpdater<MultiEmitOnProcessorRequested> REQUESTED = AtomicLongFieldUpdater
+                .newUpdater(MultiEmitOnProcessorRequested.class, "requested");
+
+        volatile long requested;
+
+        MultiEmitOnProcessorRequested(MultiSubscriber<? super T> downstream) {
+            super(downstream);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    abstract static class MultiEmitOnProcessorRequestedPad<T> extends MultiEmitOnProcessorRequested<T> {
+        long p200, p201, p202, p203, p204, p205, p206, p207;
+        long p208, p209, p210, p211, p212, p213, p214, p215;
+
+        MultiEmitOnProcessorRequestedPad(MultiSubscriber<? super T> downstream) {
+            super(downstream);
+        }
+    }
 }
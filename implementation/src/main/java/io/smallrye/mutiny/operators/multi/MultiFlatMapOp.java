@@ -2,9 +2,9 @@ package io.smallrye.mutiny.operators.multi;
 
 import java.util.Objects;
 import java.util.Queue;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -18,13 +18,16 @@ import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
     private final Function<? super I, ? extends Publisher<? extends O>> mapper;
 
     private final boolean postponeFailurePropagation;
+    private final int minConcurrency;
     private final int maxConcurrency;
     private final int requests;
+    private final boolean ordered;
 
     private final Supplier<? extends Queue<O>> mainQueueSupplier;
 
@@ -33,12 +36,61 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             boolean postponeFailurePropagation,
             int maxConcurrency,
             int requests) {
+        this(upstream, mapper, postponeFailurePropagation, maxConcurrency, maxConcurrency, requests);
+    }
+
+    /**
+     * Creates a new {@link MultiFlatMapOp} whose concurrency adapts between {@code minConcurrency} and
+     * {@code maxConcurrency} according to the latency and the failures of the inner streams, see
+     * {@link AdaptiveConcurrencyLimit}. If both are equal, the concurrency is fixed.
+     *
+     * @param upstream the upstream
+     * @param mapper the mapper
+     * @param postponeFailurePropagation whether the failures are propagated once all the streams have terminated
+     * @param minConcurrency the minimum number of concurrent inner streams
+     * @param maxConcurrency the maximum number of concurrent inner streams
+     * @param requests the number of items requested to each inner stream
+     */
+    public MultiFlatMapOp(Multi<? extends I> upstream,
+            Function<? super I, ? extends Publisher<? extends O>> mapper,
+            boolean postponeFailurePropagation,
+            int minConcurrency,
+            int maxConcurrency,
+            int requests) {
+        this(upstream, mapper, postponeFailurePropagation, minConcurrency, maxConcurrency, requests, false);
+    }
+
+    /**
+     * Creates a new {@link MultiFlatMapOp}, emitting the items of the inner streams in the order of the upstream items
+     * if {@code ordered} is {@code true}. In this case, the inner streams still run concurrently, but the items of an
+     * inner stream are buffered until all the previous inner streams have completed.
+     *
+     * @param upstream the upstream
+     * @param mapper the mapper
+     * @param postponeFailurePropagation whether the failures are propagated once all the streams have terminated
+     * @param minConcurrency the minimum number of concurrent inner streams
+     * @param maxConcurrency the maximum number of concurrent inner streams
+     * @param requests the number of items requested to each inner stream
+     * @param ordered whether the items are emitted in the order of the upstream items
+     */
+    public MultiFlatMapOp(Multi<? extends I> upstream,
+            Function<? super I, ? extends Publisher<? extends O>> mapper,
+            boolean postponeFailurePropagation,
+            int minConcurrency,
+            int maxConcurrency,
+            int requests,
+            boolean ordered) {
         super(upstream);
         this.mapper = ParameterValidation.nonNull(mapper, "mapper");
         this.postponeFailurePropagation = postponeFailurePropagation;
+        this.minConcurrency = ParameterValidation.positive(minConcurrency, "minConcurrency");
         this.maxConcurrency = ParameterValidation.positive(maxConcurrency, "maxConcurrency");
+        if (minConcurrency > maxConcurrency) {
+            throw new IllegalArgumentException("`minConcurrency` must be less than or equal to `maxConcurrency`");
+        }
         this.mainQueueSupplier = Queues.get(maxConcurrency);
         this.requests = ParameterValidation.positive(requests, "requests");
+        this.ordered = ordered;
     }
 
     @Override
@@ -51,12 +103,14 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                 postponeFailurePropagation,
                 maxConcurrency,
                 mainQueueSupplier,
-                requests);
+                requests,
+                minConcurrency == maxConcurrency ? null : new AdaptiveConcurrencyLimit(minConcurrency, maxConcurrency),
+                ordered);
 
         upstream.subscribe(Infrastructure.onMultiSubscription(upstream, sub));
     }
 
-    public static final class FlatMapMainSubscriber<I, O> extends FlatMapManager<FlatMapInner<O>>
+    public static final class FlatMapMainSubscriber<I, O> extends FlatMapMainSubscriberRequestedPad<FlatMapInner<O>>
             implements MultiSubscriber<I>, Subscription {
 
         final boolean delayError;
@@ -67,19 +121,40 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
         final Supplier<? extends Queue<O>> mainQueueSupplier;
         final Supplier<? extends Queue<O>> innerQueueSupplier;
         final MultiSubscriber<? super O> downstream;
+        /**
+         * The adaptive concurrency limit, {@code null} if the concurrency is fixed.
+         */
+        final AdaptiveConcurrencyLimit concurrencyLimit;
+        /**
+         * The inner streams in the order of the upstream items, {@code null} if the items are not emitted in order.
+         * Offered from {@code onItem}, consumed by the drain loop. Its size is bounded by the concurrency, as an item
+         * is only requested to the upstream when an inner stream is removed.
+         */
+        final Queue<FlatMapInner<O>> pending;
+
+        // Only used with an adaptive concurrency, from onSubscribe and then from the drain loop
+        long requestedInners;
+        long terminatedInners;
 
         volatile Queue<O> queue;
 
-        final AtomicReference<Throwable> failures = new AtomicReference<>();
+        volatile Throwable failures;
+        @SuppressWarnings("rawtypes")
+        static final AtomicReferenceFieldUpdater<FlatMapMainSubscriber, Throwable> FAILURES = AtomicReferenceFieldUpdater
+                .newUpdater(FlatMapMainSubscriber.class, Throwable.class, "failures");
 
         volatile boolean done;
         volatile boolean cancelled;
 
-        final AtomicReference<Subscription> upstream = new AtomicReference<>();
-
-        AtomicLong requested = new AtomicLong();
+        volatile Subscription upstream;
+        @SuppressWarnings("rawtypes")
+        static final AtomicReferenceFieldUpdater<FlatMapMainSubscriber, Subscription> UPSTREAM = AtomicReferenceFieldUpdater
+                .newUpdater(FlatMapMainSubscriber.class, Subscription.class, "upstream");
 
-        AtomicInteger wip = new AtomicInteger();
+        volatile int wip;
+        @SuppressWarnings("rawtypes")
+        static final AtomicIntegerFieldUpdater<FlatMapMainSubscriber> WIP = AtomicIntegerFieldUpdater
+                .newUpdater(FlatMapMainSubscriber.class, "wip");
 
         @SuppressWarnings("rawtypes")
         static final FlatMapInner[] EMPTY_INNER_ARRAY = new FlatMapInner[0];
@@ -95,7 +170,29 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                 int concurrency,
                 Supplier<? extends Queue<O>> mainQueueSupplier,
                 int requests) {
+            this(downstream, mapper, delayError, concurrency, mainQueueSupplier, requests, null);
+        }
+
+        public FlatMapMainSubscriber(MultiSubscriber<? super O> downstream,
+                Function<? super I, ? extends Publisher<? extends O>> mapper,
+                boolean delayError,
+                int concurrency,
+                Supplier<? extends Queue<O>> mainQueueSupplier,
+                int requests,
+                AdaptiveConcurrencyLimit concurrencyLimit) {
+            this(downstream, mapper, delayError, concurrency, mainQueueSupplier, requests, concurrencyLimit, false);
+        }
+
+        public FlatMapMainSubscriber(MultiSubscriber<? super O> downstream,
+                Function<? super I, ? extends Publisher<? extends O>> mapper,
+                boolean delayError,
+                int concurrency,
+                Supplier<? extends Queue<O>> mainQueueSupplier,
+                int requests,
+                AdaptiveConcurrencyLimit concurrencyLimit,
+                boolean ordered) {
             this.downstream = downstream;
+            this.concurrencyLimit = concurrencyLimit;
             this.mapper = mapper;
             this.delayError = delayError;
             this.maxConcurrency = concurrency;
@@ -103,6 +200,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             this.requests = requests;
             this.innerQueueSupplier = requests == 0 ? Queues.getXsQueueSupplier() : Queues.get(requests);
             this.limit = Subscriptions.unboundedOrLimit(concurrency);
+            this.pending = ordered ? Queues.<FlatMapInner<O>> get(concurrency).get() : null;
         }
 
         @SuppressWarnings("unchecked")
@@ -128,6 +226,16 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             entry.index = index;
         }
 
+        @Override
+        int getIndex(FlatMapInner<O> entry) {
+            return entry.index;
+        }
+
+        @Override
+        void markRemoved(FlatMapInner<O> entry) {
+            entry.removed = true;
+        }
+
         @Override
         void unsubscribeEntry(FlatMapInner<O> entry, boolean fromOnError) {
             entry.cancel(fromOnError);
@@ -136,7 +244,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
         @Override
         public void request(long n) {
             if (n > 0) {
-                Subscriptions.add(requested, n);
+                Subscriptions.add(REQUESTED, this, n);
                 drain();
             } else {
                 downstream.onFailure(new IllegalArgumentException("Invalid requests, must be greater than 0"));
@@ -148,9 +256,9 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             if (!cancelled) {
                 cancelled = true;
 
-                if (wip.getAndIncrement() == 0) {
+                if (WIP.getAndIncrement(this) == 0) {
                     clearQueue();
-                    upstream.getAndSet(Subscriptions.CANCELLED).cancel();
+                    UPSTREAM.getAndSet(this, Subscriptions.CANCELLED).cancel();
                     unsubscribe();
                 }
             }
@@ -158,7 +266,15 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
         @Override
         public void onSubscribe(Subscription s) {
-            if (upstream.compareAndSet(null, s)) {
+            if (UPSTREAM.compareAndSet(this, null, s)) {
+                if (concurrencyLimit != null) {
+                    // Recorded before the downstream can trigger the drain loop
+                    int initial = concurrencyLimit.limit();
+                    requestedInners = initial;
+                    downstream.onSubscribe(this);
+                    s.request(initial);
+                    return;
+                }
                 downstream.onSubscribe(this);
                 s.request(Subscriptions.unboundedOrRequests(maxConcurrency));
             }
@@ -180,14 +296,20 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             } catch (Throwable e) {
                 cancelled = true;
                 done = true;
-                Subscriptions.addFailure(failures, e);
+                Subscriptions.addFailure(FAILURES, this, e);
                 cancelUpstream(false);
                 handleTerminationIfDone();
                 return;
             }
 
             FlatMapInner<O> inner = new FlatMapInner<>(this, requests);
+            if (concurrencyLimit != null) {
+                inner.subscribedAt = System.nanoTime();
+            }
             if (add(inner)) {
+                if (pending != null) {
+                    pending.offer(inner);
+                }
                 p.subscribe(inner);
             }
         }
@@ -198,7 +320,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                 Infrastructure.handleDroppedException(failure);
                 return;
             }
-            Subscriptions.addFailure(failures, failure);
+            Subscriptions.addFailure(FAILURES, this, failure);
             done = true;
             if (!delayError) {
                 for (FlatMapInner<O> inner : inners.getAndSet(terminated())) {
@@ -221,14 +343,14 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
         }
 
         void tryEmit(FlatMapInner<O> inner, O item) {
-            if (wip.compareAndSet(0, 1)) {
-                long req = requested.get();
+            if (WIP.compareAndSet(this, 0, 1)) {
+                long req = requested;
                 Queue<O> q = inner.queue;
-                if (req != 0 && (q == null || q.isEmpty())) {
+                if (req != 0 && (q == null || q.isEmpty()) && (pending == null || pending.peek() == inner)) {
                     downstream.onNext(item);
 
                     if (req != Long.MAX_VALUE) {
-                        requested.decrementAndGet();
+                        REQUESTED.decrementAndGet(this);
                     }
 
                     inner.request(1);
@@ -244,7 +366,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                         return;
                     }
                 }
-                if (wip.decrementAndGet() == 0) {
+                if (WIP.decrementAndGet(this) == 0) {
                     return;
                 }
 
@@ -260,7 +382,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
         }
 
         void drain() {
-            if (wip.getAndIncrement() != 0) {
+            if (WIP.getAndIncrement(this) != 0) {
                 return;
             }
             drainLoop();
@@ -289,7 +411,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
                 boolean again = false;
 
-                long r = requested.get();
+                long r = requested;
                 long e = 0L;
                 long replenishMain = 0L;
 
@@ -318,13 +440,24 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                     if (e != 0L) {
                         replenishMain += e;
                         if (r != Long.MAX_VALUE) {
-                            r = requested.addAndGet(-e);
+                            r = REQUESTED.addAndGet(this, -e);
                         }
                         e = 0L;
                         again = true;
                     }
                 }
-                if (r != 0L && !noSources) {
+                if (pending != null) {
+                    if (!noSources) {
+                        long drained = drainInOrder(r);
+                        if (drained < 0) {
+                            return;
+                        }
+                        if (drained != 0) {
+                            replenishMain += drained;
+                            again = true;
+                        }
+                    }
+                } else if (r != 0L && !noSources) {
 
                     int j = lastIndex;
                     for (int i = 0; i < n; i++) {
@@ -334,23 +467,28 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                         }
 
                         FlatMapInner<O> inner = as[j];
-                        if (inner != null) {
+                        if (inner != null && !inner.removed) {
                             d = inner.done;
-                            Queue<O> q = inner.queue;
-                            if (d && q == null) {
-                                remove(inner.index);
+                            boolean buffered = inner.hasQueue();
+                            if (d && !buffered) {
+                                remove(inner);
                                 again = true;
                                 replenishMain++;
-                            } else if (q != null) {
+                            } else if (buffered) {
                                 while (e != r) {
                                     d = inner.done;
 
                                     O v;
 
                                     try {
-                                        v = q.poll();
+                                        v = inner.poll();
                                     } catch (Throwable ex) {
-                                        Subscriptions.addFailure(failures, ex);
+                                        Subscriptions.addFailure(FAILURES, this, ex);
+                                        if (!delayError) {
+                                            cancelUpstream(true);
+                                            a.onFailure(ex);
+                                            return;
+                                        }
                                         v = null;
                                         d = true;
                                     }
@@ -362,7 +500,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                                     }
 
                                     if (d && empty) {
-                                        remove(inner.index);
+                                        remove(inner);
                                         again = true;
                                         replenishMain++;
                                         break;
@@ -379,9 +517,9 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
                                 if (e == r) {
                                     d = inner.done;
-                                    boolean empty = q.isEmpty();
+                                    boolean empty = inner.isQueueEmpty();
                                     if (d && empty) {
-                                        remove(inner.index);
+                                        remove(inner);
                                         again = true;
                                         replenishMain++;
                                     }
@@ -392,7 +530,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                                         inner.request(e);
                                     }
                                     if (r != Long.MAX_VALUE) {
-                                        r = requested.addAndGet(-e);
+                                        r = REQUESTED.addAndGet(this, -e);
                                         if (r == 0L) {
                                             break; // 0 .. numberOfItems - 1
                                         }
@@ -414,7 +552,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                     lastIndex = j;
                 }
 
-                if (r == 0L && !noSources) {
+                if (pending == null && r == 0L && !noSources) {
                     as = get();
                     n = as.length;
 
@@ -425,13 +563,12 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                         }
 
                         FlatMapInner<O> inner = as[i];
-                        if (inner == null) {
+                        if (inner == null || inner.removed) {
                             continue;
                         }
 
                         d = inner.done;
-                        Queue<O> q = inner.queue;
-                        boolean empty = (q == null || q.isEmpty());
+                        boolean empty = inner.isQueueEmpty();
 
                         // if we have a non-empty source then quit the cleanup
                         if (!empty) {
@@ -439,7 +576,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                         }
 
                         if (d && empty) {
-                            remove(inner.index);
+                            remove(inner);
                             again = true;
                             replenishMain++;
                         }
@@ -447,23 +584,130 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                 }
 
                 if (replenishMain != 0L && !done && !cancelled) {
-                    upstream.get().request(replenishMain);
+                    if (concurrencyLimit == null) {
+                        upstream.request(replenishMain);
+                    } else {
+                        requestAdaptively(replenishMain);
+                    }
                 }
 
                 if (again) {
                     continue;
                 }
 
-                missed = wip.addAndGet(-missed);
+                missed = WIP.addAndGet(this, -missed);
                 if (missed == 0) {
                     break;
                 }
             }
         }
 
+        /**
+         * Emits the items of the inner streams in the order of the upstream items: only the oldest inner stream is
+         * drained, the items of the other ones stay in their queues. Once the oldest inner stream has completed and its
+         * queue is empty, it is removed and the next one is drained.
+         *
+         * @param r the current downstream requests
+         * @return the number of inner streams removed, or {@code -1} if the stream has terminated
+         */
+        private long drainInOrder(long r) {
+            long removed = 0L;
+            long e = 0L;
+            for (;;) {
+                FlatMapInner<O> inner = pending.peek();
+                if (inner == null) {
+                    return removed;
+                }
+                if (cancelled) {
+                    cancelUpstream(false);
+                    return -1;
+                }
+
+                if (inner.hasQueue()) {
+                    while (e != r) {
+                        O v;
+                        try {
+                            v = inner.poll();
+                        } catch (Throwable ex) {
+                            Subscriptions.addFailure(FAILURES, this, ex);
+                            if (!delayError) {
+                                cancelUpstream(true);
+                                downstream.onFailure(ex);
+                                return -1;
+                            }
+                            inner.clearQueue();
+                            inner.done = true;
+                            v = null;
+                        }
+
+                        if (ifDoneOrCancelled()) {
+                            return -1;
+                        }
+
+                        if (v == null) {
+                            break;
+                        }
+
+                        downstream.onItem(v);
+
+                        e++;
+                    }
+
+                    if (e != 0L) {
+                        if (!inner.done) {
+                            inner.request(e);
+                        }
+                        if (r != Long.MAX_VALUE) {
+                            r = REQUESTED.addAndGet(this, -e);
+                        }
+                        e = 0L;
+                    }
+                }
+
+                // Read done before the queue, so no item can be added once the queue is seen empty
+                boolean d = inner.done;
+                if (d && inner.isQueueEmpty()) {
+                    pending.poll();
+                    remove(inner);
+                    removed++;
+                } else {
+                    return removed;
+                }
+            }
+        }
+
+        /**
+         * Requests the number of items bringing the number of in-flight inner streams (requested from the upstream
+         * and not terminated) to the current limit. When the limit decreases, nothing is requested until enough
+         * inner streams have terminated.
+         *
+         * @param terminated the number of inner streams which have terminated since the last call
+         */
+        private void requestAdaptively(long terminated) {
+            terminatedInners += terminated;
+            long inFlight = requestedInners - terminatedInners;
+            long permits = concurrencyLimit.limit() - inFlight;
+            if (permits > 0) {
+                requestedInners += permits;
+                upstream.request(permits);
+            }
+        }
+
+        /**
+         * Records the latency of a terminated inner stream, when the concurrency is adaptive.
+         *
+         * @param inner the inner stream
+         * @param failed whether the inner stream has failed
+         */
+        void onInnerTerminated(FlatMapInner<O> inner, boolean failed) {
+            if (concurrencyLimit != null) {
+                concurrencyLimit.onSample(System.nanoTime() - inner.subscribedAt, failed);
+            }
+        }
+
         private void cancelUpstream(boolean fromOnError) {
             clearQueue();
-            Subscription subscription = upstream.getAndSet(Subscriptions.CANCELLED);
+            Subscription subscription = UPSTREAM.getAndSet(this, Subscriptions.CANCELLED);
             if (subscription != null) {
                 subscription.cancel();
             }
@@ -492,9 +736,9 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             boolean isEmpty = isEmpty() && (queue == null || queue.isEmpty());
             if (delayError) {
                 if (wasDone && isEmpty) {
-                    Throwable e = failures.get();
+                    Throwable e = failures;
                     if (e != null && e != Subscriptions.TERMINATED) {
-                        Throwable throwable = failures.getAndSet(Subscriptions.TERMINATED);
+                        Throwable throwable = FAILURES.getAndSet(this, Subscriptions.TERMINATED);
                         downstream.onFailure(throwable);
                     } else {
                         downstream.onCompletion();
@@ -503,9 +747,9 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                 }
             } else {
                 if (wasDone) {
-                    Throwable e = failures.get();
+                    Throwable e = failures;
                     if (e != null && e != Subscriptions.TERMINATED) {
-                        Throwable throwable = failures.getAndSet(Subscriptions.TERMINATED);
+                        Throwable throwable = FAILURES.getAndSet(this, Subscriptions.TERMINATED);
                         clearQueue();
                         unsubscribe(true);
                         downstream.onFailure(throwable);
@@ -521,7 +765,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
         void innerError(FlatMapInner<O> inner, Throwable fail) {
             if (fail != null) {
-                if (Subscriptions.addFailure(failures, fail)) {
+                if (Subscriptions.addFailure(FAILURES, this, fail)) {
                     inner.done = true;
                     if (!delayError) {
                         cancelUpstream(true);
@@ -537,11 +781,11 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
         void failOverflow() {
             Throwable e = new BackPressureFailure("Buffer full, cannot emit item");
-            Subscriptions.addFailure(failures, e);
+            Subscriptions.addFailure(FAILURES, this, e);
         }
 
         void innerComplete() {
-            if (wip.getAndIncrement() != 0) {
+            if (WIP.getAndIncrement(this) != 0) {
                 return;
             }
             drainLoop();
@@ -558,6 +802,29 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
     }
 
+    // The classes below only define the field layout of FlatMapMainSubscriber: the requested counter, updated by the
+    // downstream and by the threads emitting the items, is surrounded by (unused) padding fields.
+
+    @SuppressWarnings("unused")
+    abstract static class FlatMapMainSubscriberHeadPad<T> extends FlatMapManager<T> {
+        long p100, p101, p102, p103, p104, p105, p106, p107;
+        long p108, p109, p110, p111, p112, p113, p114, p115;
+    }
+
+    abstract static class FlatMapMainSubscriberRequested<T> extends FlatMapMainSubscriberHeadPad<T> {
+        @SuppressWarnings("rawtypes")
+        static final AtomicLongFieldUpdater<FlatMapMainSubscriberRequested> REQUESTED = AtomicLongFieldUpdater
+                .newUpdater(FlatMapMainSubscriberRequested.class, "requested");
+
+        volatile long requested;
+    }
+
+    @SuppressWarnings("unused")
+    abstract static class FlatMapMainSubscriberRequestedPad<T> extends FlatMapMainSubscriberRequested<T> {
+        long p200, p201, p202, p203, p204, p205, p206, p207;
+        long p208, p209, p210, p211, p212, p213, p214, p215;
+    }
+
     static final class FlatMapInner<O> implements Subscription, MultiSubscriber<O> {
 
         final FlatMapMainSubscriber<?, O> parent;
@@ -566,7 +833,10 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
         final int limit;
 
-        final AtomicReference<Subscription> subscription = new AtomicReference<>();
+        volatile Subscription subscription;
+        @SuppressWarnings("rawtypes")
+        static final AtomicReferenceFieldUpdater<FlatMapInner, Subscription> SUBSCRIPTION = AtomicReferenceFieldUpdater
+                .newUpdater(FlatMapInner.class, Subscription.class, "subscription");
 
         long produced;
 
@@ -576,34 +846,79 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
         int index;
 
+        /**
+         * Whether the inner has been removed from the registry. Only accessed from the drain loop.
+         */
+        boolean removed;
+
+        /**
+         * The fusion mode established with the inner source.
+         */
+        int sourceMode;
+
+        /**
+         * The subscription of the inner source when the fusion is established ({@code SYNC} or {@code ASYNC}). The
+         * drain loop polls it instead of {@link #queue}.
+         */
+        volatile QueueSubscription<O> fused;
+
+        /**
+         * When the inner stream has been created ({@link System#nanoTime()}), only set with an adaptive concurrency.
+         */
+        long subscribedAt;
+
         FlatMapInner(FlatMapMainSubscriber<?, O> parent, int requests) {
             this.parent = parent;
             this.requests = requests;
             this.limit = Subscriptions.unboundedOrLimit(requests);
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public void onSubscribe(Subscription s) {
             Objects.requireNonNull(s);
-            if (subscription.compareAndSet(null, s)) {
+            if (SUBSCRIPTION.compareAndSet(this, null, s)) {
+                if (s instanceof QueueSubscription) {
+                    QueueSubscription<O> qs = (QueueSubscription<O>) s;
+                    int mode = qs.requestFusion(QueueSubscription.ANY);
+                    if (mode == QueueSubscription.SYNC) {
+                        // All the items are available, the parent polls them directly.
+                        sourceMode = mode;
+                        fused = qs;
+                        done = true;
+                        parent.drain();
+                        return;
+                    }
+                    if (mode == QueueSubscription.ASYNC) {
+                        sourceMode = mode;
+                        fused = qs;
+                    }
+                }
                 s.request(Subscriptions.unboundedOrRequests(requests));
             }
         }
 
         @Override
         public void onItem(O item) {
-            parent.tryEmit(this, item);
+            if (sourceMode == QueueSubscription.ASYNC) {
+                // the item is in the inner queue.
+                parent.drain();
+            } else {
+                parent.tryEmit(this, item);
+            }
         }
 
         @Override
         public void onFailure(Throwable failure) {
             Objects.requireNonNull(failure);
+            parent.onInnerTerminated(this, true);
             done = true;
             parent.innerError(this, failure);
         }
 
         @Override
         public void onCompletion() {
+            parent.onInnerTerminated(this, false);
             done = true;
             parent.innerComplete();
         }
@@ -613,7 +928,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             long p = produced + n;
             if (p >= limit) {
                 produced = 0L;
-                subscription.get().request(p);
+                subscription.request(p);
             } else {
                 produced = p;
             }
@@ -626,13 +941,49 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
         public void cancel(boolean doNotCancel) {
             if (!doNotCancel) {
-                Subscription last = subscription.getAndSet(Subscriptions.CANCELLED);
+                Subscription last = SUBSCRIPTION.getAndSet(this, Subscriptions.CANCELLED);
                 if (last != null) {
                     last.cancel();
                 }
             }
-            if (queue != null) {
-                queue.clear();
+            clearQueue();
+        }
+
+        /**
+         * @return {@code true} if items may be buffered for this inner: it is fused with its source, or it has
+         *         created its queue
+         */
+        boolean hasQueue() {
+            return fused != null || queue != null;
+        }
+
+        O poll() {
+            QueueSubscription<O> qs = fused;
+            if (qs != null) {
+                return qs.poll();
+            }
+            Queue<O> q = queue;
+            return q == null ? null : q.poll();
+        }
+
+        boolean isQueueEmpty() {
+            QueueSubscription<O> qs = fused;
+            if (qs != null) {
+                return qs.isEmpty();
+            }
+            Queue<O> q = queue;
+            return q == null || q.isEmpty();
+        }
+
+        void clearQueue() {
+            QueueSubscription<O> qs = fused;
+            if (qs != null) {
+                qs.clear();
+                fused = null;
+            }
+            Queue<O> q = queue;
+            if (q != null) {
+                q.clear();
                 queue = null;
             }
         }
@@ -0,0 +1,207 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
+import static io.smallrye.mutiny.helpers.Subscriptions.CANCELLED;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Operator resulting from the fusion of consecutive {@link MultiMapOp}, {@link MultiSelectWhereOp} and
+ * {@link MultiOnItemInvoke} stages.
+ * <p>
+ * Instead of chaining one operator (and one processor per subscription) per stage, the stages are collapsed at
+ * assembly time into a single operator applying them in a loop. So, each item goes through a single {@code onItem}
+ * call and the request bookkeeping happens once.
+ * <p>
+ * The fusion is done by the {@link #map(Multi, Function)}, {@link #filter(Multi, Predicate)} and
+ * {@link #invoke(Multi, Consumer)} factory methods: if the upstream is one of the fusable operators, the new stage is
+ * appended to the upstream stages, otherwise the non-fused operator is created. The behavior (including failure
+ * handling and {@code null} checks) is the same as the non-fused chain.
+ *
+ * @param <O> the type of item emitted by the last stage
+ */
+public final class MultiFusedOp<O> extends AbstractMultiOperator<Object, O> {
+
+    private final Stage[] stages;
+
+    MultiFusedOp(Multi<?> upstream, Stage[] stages) {
+        super(upstream);
+        this.stages = stages;
+    }
+
+    /**
+     * Creates a {@link Multi} applying the given mapper on each item from the upstream, fusing the mapper with the
+     * upstream stages when possible.
+     *
+     * @param upstream the upstream, must not be {@code null}
+     * @param mapper the mapper, must not be {@code null}
+     * @param <I> the type of item emitted by the upstream
+     * @param <O> the type of item produced by the mapper
+     * @return the new {@link Multi}
+     */
+    public static <I, O> Multi<O> map(Multi<I> upstream, Function<? super I, ? extends O> mapper) {
+        ParameterValidation.nonNull(mapper, "mapper");
+        if (isFusable(upstream)) {
+            return fuse(upstream, new Stage(Stage.MAP, mapper));
+        }
+        return new MultiMapOp<>(upstream, mapper);
+    }
+
+    /**
+     * Creates a {@link Multi} dropping the items from the upstream not passing the given predicate, fusing the
+     * predicate with the upstream stages when possible.
+     *
+     * @param upstream the upstream, must not be {@code null}
+     * @param predicate the predicate, must not be {@code null}
+     * @param <T> the type of item
+     * @return the new {@link Multi}
+     */
+    public static <T> Multi<T> filter(Multi<T> upstream, Predicate<? super T> predicate) {
+        ParameterValidation.nonNull(predicate, "predicate");
+        if (isFusable(upstream)) {
+            return fuse(upstream, new Stage(Stage.FILTER, predicate));
+        }
+        return new MultiSelectWhereOp<>(upstream, predicate);
+    }
+
+    /**
+     * Creates a {@link Multi} invoking the given callback for each item from the upstream, fusing the callback with
+     * the upstream stages when possible.
+     *
+     * @param upstream the upstream, must not be {@code null}
+     * @param callback the callback, must not be {@code null}
+     * @param <T> the type of item
+     * @return the new {@link Multi}
+     */
+    public static <T> Multi<T> invoke(Multi<T> upstream, Consumer<? super T> callback) {
+        ParameterValidation.nonNull(callback, "callback");
+        if (isFusable(upstream)) {
+            return fuse(upstream, new Stage(Stage.INVOKE, callback));
+        }
+        return new MultiOnItemInvoke<>(upstream, callback);
+    }
+
+    private static boolean isFusable(Multi<?> upstream) {
+        return upstream instanceof MultiMapOp
+                || upstream instanceof MultiSelectWhereOp
+                || upstream instanceof MultiOnItemInvoke
+                || upstream instanceof MultiFusedOp;
+    }
+
+    private static <O> MultiFusedOp<O> fuse(Multi<?> upstream, Stage stage) {
+        if (upstream instanceof MultiFusedOp) {
+            MultiFusedOp<?> fused = (MultiFusedOp<?>) upstream;
+            Stage[] stages = Arrays.copyOf(fused.stages, fused.stages.length + 1);
+            stages[fused.stages.length] = stage;
+            return new MultiFusedOp<>(fused.upstream(), stages);
+        }
+        Stage first;
+        if (upstream instanceof MultiMapOp) {
+            first = new Stage(Stage.MAP, ((MultiMapOp<?, ?>) upstream).mapper);
+        } else if (upstream instanceof MultiSelectWhereOp) {
+            first = new Stage(Stage.FILTER, ((MultiSelectWhereOp<?>) upstream).predicate);
+        } else {
+            first = new Stage(Stage.INVOKE, ((MultiOnItemInvoke<?>) upstream).callback);
+        }
+        return new MultiFusedOp<>(((AbstractMultiOperator<?, ?>) upstream).upstream(), new Stage[] { first, stage });
+    }
+
+    /**
+     * @return the number of fused stages.
+     */
+    public int stages() {
+        return stages.length;
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super O> subscriber) {
+        ParameterValidation.nonNullNpe(subscriber, "subscriber");
+        upstream.subscribe().withSubscriber(new MultiFusedProcessor<>(subscriber, stages));
+    }
+
+    static final class Stage {
+        static final int MAP = 0;
+        static final int FILTER = 1;
+        static final int INVOKE = 2;
+
+        final int kind;
+        final Object function;
+
+        Stage(int kind, Object function) {
+            this.kind = kind;
+            this.function = function;
+        }
+    }
+
+    static final class MultiFusedProcessor<O> extends MultiOperatorProcessor<Object, O> {
+
+        private final Stage[] stages;
+        private boolean requestedMax = false;
+
+        MultiFusedProcessor(MultiSubscriber<? super O> downstream, Stage[] stages) {
+            super(downstream);
+            this.stages = stages;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onItem(Object item) {
+            if (isDone()) {
+                return;
+            }
+            Object current = item;
+            boolean passed = true;
+            try {
+                for (Stage stage : stages) {
+                    if (stage.kind == Stage.MAP) {
+                        current = ((Function<Object, Object>) stage.function).apply(current);
+                        if (current == null) {
+                            failAndCancel(new NullPointerException(MAPPER_RETURNED_NULL));
+                            return;
+                        }
+                    } else if (stage.kind == Stage.FILTER) {
+                        if (!((Predicate<Object>) stage.function).test(current)) {
+                            passed = false;
+                            break;
+                        }
+                    } else {
+                        ((Consumer<Object>) stage.function).accept(current);
+                    }
+                }
+            } catch (Throwable failure) {
+                failAndCancel(failure);
+                return;
+            }
+
+            if (passed) {
+                downstream.onItem((O) current);
+            } else if (!requestedMax) {
+                request(1);
+            }
+        }
+
+        @Override
+        public void request(long numberOfItems) {
+            Subscription subscription = upstream.get();
+            if (subscription != CANCELLED) {
+                if (numberOfItems <= 0) {
+                    onFailure(new IllegalArgumentException("Invalid number of request, must be greater than 0"));
+                    return;
+                }
+                if (numberOfItems == Long.MAX_VALUE) {
+                    requestedMax = true;
+                }
+                subscription.request(numberOfItems);
+            }
+        }
+    }
+}
@@ -2,14 +2,18 @@ package io.smallrye.mutiny.operators.multi;
 
 import static io.smallrye.mutiny.helpers.Subscriptions.CANCELLED;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
 
 import org.reactivestreams.Publisher;
@@ -25,15 +29,58 @@ import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, GroupedMulti<K, V>> {
+
+    /**
+     * The default number of items requested upfront to the upstream.
+     */
+    public static final int DEFAULT_PREFETCH = 128;
+
+    /**
+     * The default fraction of the prefetched items to consume before requesting more items to the upstream.
+     */
+    public static final double DEFAULT_REPLENISHMENT_RATIO = 0.75;
+
     private final Function<? super T, ? extends K> keySelector;
     private final Function<? super T, ? extends V> valueSelector;
+    private final int prefetch;
+    private final int replenishmentLimit;
+    private final int maxGroups;
+    private final long idleTimeoutNanos;
+    private final ScheduledExecutorService executor;
 
     public MultiGroupByOp(Multi<T> upstream,
             Function<? super T, ? extends K> keySelector,
             Function<? super T, ? extends V> valueSelector) {
+        this(upstream, keySelector, valueSelector, DEFAULT_PREFETCH, DEFAULT_REPLENISHMENT_RATIO, Integer.MAX_VALUE,
+                null, null);
+    }
+
+    /**
+     * Creates a new {@link MultiGroupByOp}.
+     *
+     * @param upstream the upstream
+     * @param keySelector the key selector
+     * @param valueSelector the value selector
+     * @param prefetch the number of items requested upfront to the upstream
+     * @param replenishmentRatio the fraction of {@code prefetch} to consume before requesting more items
+     * @param maxGroups the maximum number of live groups, the stream fails when it would be exceeded
+     * @param idleTimeout the duration without item after which a group is completed and forgotten, {@code null} to
+     *        keep the groups until the upstream terminates
+     * @param executor the executor used to detect the idle groups, used only if {@code idleTimeout} is set
+     */
+    public MultiGroupByOp(Multi<T> upstream,
+            Function<? super T, ? extends K> keySelector,
+            Function<? super T, ? extends V> valueSelector,
+            int prefetch, double replenishmentRatio, int maxGroups,
+            Duration idleTimeout, ScheduledExecutorService executor) {
         super(upstream);
         this.keySelector = keySelector;
         this.valueSelector = valueSelector;
+        this.prefetch = prefetch;
+        this.replenishmentLimit = Math.max(1, (int) (prefetch * replenishmentRatio));
+        this.maxGroups = maxGroups;
+        this.idleTimeoutNanos = idleTimeout == null ? 0L : idleTimeout.toNanos();
+        this.executor = executor;
     }
 
     @Override
@@ -41,7 +88,7 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         Objects.requireNonNull(downstream, "The subscriber must not be `null`");
         final Map<Object, GroupedUnicast<K, V>> groups = new ConcurrentHashMap<>();
         MultiGroupByProcessor<T, K, V> processor = new MultiGroupByProcessor<>(downstream, keySelector, valueSelector,
-                groups);
+                groups, prefetch, replenishmentLimit, maxGroups, idleTimeoutNanos, executor);
         upstream.subscribe().withSubscriber(processor);
     }
 
@@ -50,15 +97,43 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         private final Function<? super T, ? extends V> valueSelector;
         private final Map<Object, GroupedUnicast<K, V>> groups;
         private final Queue<GroupedMulti<K, V>> queue;
+        private final int prefetch;
+        private final int replenishmentLimit;
+        private final int maxGroups;
+        private final long idleTimeoutNanos;
+        private final ScheduledExecutorService executor;
 
         private static final Object NO_KEY = new Object();
 
-        private final AtomicBoolean cancelled = new AtomicBoolean();
-
-        private final AtomicLong requested = new AtomicLong();
-
-        private final AtomicInteger groupCount = new AtomicInteger(1);
-        private final AtomicInteger wip = new AtomicInteger();
+        /**
+         * The number of items consumed (dispatched to a group subscriber, or creating a group) and not requested again
+         * yet, requested again by batches of {@code replenishmentLimit}.
+         */
+        private volatile long consumed;
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<MultiGroupByProcessor> CONSUMED = AtomicLongFieldUpdater
+                .newUpdater(MultiGroupByProcessor.class, "consumed");
+
+        private volatile ScheduledFuture<?> evictionTask;
+
+        private volatile long requested;
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<MultiGroupByProcessor> REQUESTED = AtomicLongFieldUpdater
+                .newUpdater(MultiGroupByProcessor.class, "requested");
+
+        private volatile int cancelled;
+        private volatile int groupCount = 1;
+        private volatile int wip;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<MultiGroupByProcessor> CANCELLED_FLAG = AtomicIntegerFieldUpdater
+                .newUpdater(MultiGroupByProcessor.class, "cancelled");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<MultiGroupByProcessor> GROUP_COUNT = AtomicIntegerFieldUpdater
+                .newUpdater(MultiGroupByProcessor.class, "groupCount");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<MultiGroupByProcessor> WIP = AtomicIntegerFieldUpdater
+                .newUpdater(MultiGroupByProcessor.class, "wip");
 
         Throwable failure;
         volatile boolean finished;
@@ -68,11 +143,26 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
                 Function<? super T, ? extends K> keySelector,
                 Function<? super T, ? extends V> valueSelector,
                 Map<Object, GroupedUnicast<K, V>> groups) {
+            this(downstream, keySelector, valueSelector, groups, DEFAULT_PREFETCH,
+                    Math.max(1, (int) (DEFAULT_PREFETCH * DEFAULT_REPLENISHMENT_RATIO)), Integer.MAX_VALUE, 0L, null);
+        }
+
+        public MultiGroupByProcessor(MultiSubscriber<? super GroupedMulti<K, V>> downstream,
+                Function<? super T, ? extends K> keySelector,
+                Function<? super T, ? extends V> valueSelector,
+                Map<Object, GroupedUnicast<K, V>> groups,
+                int prefetch, int replenishmentLimit, int maxGroups,
+                long idleTimeoutNanos, ScheduledExecutorService executor) {
             super(downstream);
             this.keySelector = keySelector;
             this.valueSelector = valueSelector;
             this.groups = groups;
             this.queue = Queues.<GroupedMulti<K, V>> unbounded(Queues.BUFFER_S).get();
+            this.prefetch = prefetch;
+            this.replenishmentLimit = replenishmentLimit;
+            this.maxGroups = maxGroups;
+            this.idleTimeoutNanos = idleTimeoutNanos;
+            this.executor = executor;
         }
 
         @Override
@@ -80,7 +170,19 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             if (upstream.compareAndSet(null, subscription)) {
                 // Propagate subscription to downstream.
                 downstream.onSubscribe(this);
-                subscription.request(128);
+                if (idleTimeoutNanos > 0L) {
+                    // Check twice per timeout period, so an idle group lives at most 1.5 timeout period
+                    long period = Math.max(idleTimeoutNanos / 2, 1L);
+                    try {
+                        evictionTask = executor.scheduleAtFixedRate(this::evictIdleGroups, period, period,
+                                TimeUnit.NANOSECONDS);
+                    } catch (RejectedExecutionException e) {
+                        subscription.cancel();
+                        onFailure(e);
+                        return;
+                    }
+                }
+                subscription.request(prefetch);
             } else {
                 subscription.cancel();
             }
@@ -104,14 +206,27 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             boolean newGroup = false;
             Object mapKey = key != null ? key : NO_KEY;
             GroupedUnicast<K, V> group = groups.get(mapKey);
+            if (group != null && idleTimeoutNanos > 0L && !group.acquire()) {
+                // Evicted concurrently, a new group is created for the key
+                group = null;
+            }
             if (group == null) {
                 if (isCancelled()) {
                     return;
                 }
+                if (maxGroups != Integer.MAX_VALUE && groups.size() >= maxGroups) {
+                    Subscription subscription = upstream.get();
+                    onFailure(new IllegalStateException(
+                            "Unable to create a new group, the maximum number of groups (" + maxGroups
+                                    + ") has been reached"));
+                    subscription.cancel();
+                    return;
+                }
 
+                // New groups are acquired until the first item has been dispatched
                 group = GroupedUnicast.createWith(key, this);
                 groups.put(mapKey, group);
-                groupCount.getAndIncrement();
+                GROUP_COUNT.getAndIncrement(this);
                 newGroup = true;
             }
 
@@ -128,6 +243,9 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             }
 
             group.onItem(value);
+            if (idleTimeoutNanos > 0L) {
+                group.release(System.nanoTime());
+            }
             if (newGroup) {
                 this.queue.offer(group);
                 drain();
@@ -139,6 +257,7 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             Subscription subscription = upstream.getAndSet(CANCELLED);
             if (subscription != CANCELLED) {
                 done = true;
+                stopEviction();
                 groups.values().forEach(group -> group.onFailure(throwable));
                 groups.clear();
                 failure = throwable;
@@ -154,6 +273,7 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             Subscription subscription = upstream.getAndSet(CANCELLED);
             if (subscription != CANCELLED) {
                 done = true;
+                stopEviction();
                 groups.values().forEach(GroupedUnicast::onComplete);
                 groups.clear();
                 finished = true;
@@ -164,7 +284,7 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         @Override
         public void request(long n) {
             if (n > 0) {
-                Subscriptions.add(requested, n);
+                Subscriptions.add(REQUESTED, this, n);
                 drain();
             }
         }
@@ -173,27 +293,74 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         public void cancel() {
             // cancelling the main source means we don't want any more groups
             // but running groups still require new values
-            if (cancelled.compareAndSet(false, true)) {
-                if (groupCount.decrementAndGet() == 0) {
+            if (CANCELLED_FLAG.compareAndSet(this, 0, 1)) {
+                if (GROUP_COUNT.decrementAndGet(this) == 0) {
+                    stopEviction();
                     Subscriptions.cancel(upstream);
                 }
             }
         }
 
-        public void cancel(K key) {
-            Object mapKey = key != null ? key : NO_KEY;
-            groups.remove(mapKey);
-            if (groupCount.decrementAndGet() == 0) {
+        /**
+         * Forgets the given group, which has been cancelled or evicted. Called at most once per group.
+         *
+         * @param group the group
+         */
+        void detach(GroupedUnicast<K, V> group) {
+            if (!group.detach()) {
+                return;
+            }
+            K key = group.key();
+            groups.remove(key != null ? key : NO_KEY, group);
+            if (GROUP_COUNT.decrementAndGet(this) == 0) {
+                stopEviction();
                 Subscriptions.cancel(upstream);
 
-                if (wip.getAndIncrement() == 0) {
+                if (WIP.getAndIncrement(this) == 0) {
                     queue.clear();
                 }
             }
         }
 
+        /**
+         * Requests more items to the upstream once {@code replenishmentLimit} items have been consumed.
+         *
+         * @param n the number of consumed items
+         */
+        void replenish(long n) {
+            for (;;) {
+                long current = consumed;
+                long next = current + n;
+                if (next >= replenishmentLimit) {
+                    if (CONSUMED.compareAndSet(this, current, 0L)) {
+                        upstream.get().request(next);
+                        return;
+                    }
+                } else if (CONSUMED.compareAndSet(this, current, next)) {
+                    return;
+                }
+            }
+        }
+
+        private void evictIdleGroups() {
+            long deadline = System.nanoTime() - idleTimeoutNanos;
+            for (GroupedUnicast<K, V> group : groups.values()) {
+                if (group.evictIfIdleSince(deadline)) {
+                    detach(group);
+                    group.onComplete();
+                }
+            }
+        }
+
+        private void stopEviction() {
+            ScheduledFuture<?> task = evictionTask;
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+
         private void drain() {
-            if (wip.getAndIncrement() != 0) {
+            if (WIP.getAndIncrement(this) != 0) {
                 return;
             }
             int missed = 1;
@@ -202,7 +369,7 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
 
             for (;;) {
 
-                long requests = requested.get();
+                long requests = requested;
                 long emitted = 0L;
 
                 while (emitted != requests) {
@@ -227,12 +394,12 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
 
                 if (emitted != 0L) {
                     if (requests != Long.MAX_VALUE) {
-                        requested.addAndGet(-emitted);
+                        REQUESTED.addAndGet(this, -emitted);
                     }
-                    super.request(emitted);
+                    replenish(emitted);
                 }
 
-                missed = wip.addAndGet(-missed);
+                missed = WIP.addAndGet(this, -missed);
                 if (missed == 0) {
                     break;
                 }
@@ -263,13 +430,32 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
 
     public static final class GroupedUnicast<K, T> extends AbstractMulti<T> implements GroupedMulti<K, T> {
 
+        private static final long ACQUIRED = Long.MIN_VALUE;
+        private static final long EVICTED = Long.MIN_VALUE + 1;
+
         private final State<T, K> downstream;
         private final K key;
 
+        /**
+         * The time of the last item ({@link System#nanoTime()}), {@link #ACQUIRED} while an item is being dispatched,
+         * or {@link #EVICTED}. Only maintained when idle groups are evicted.
+         */
+        private volatile long lastActivity = ACQUIRED;
+        private volatile int detached;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<GroupedUnicast> LAST_ACTIVITY = AtomicLongFieldUpdater
+                .newUpdater(GroupedUnicast.class, "lastActivity");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<GroupedUnicast> DETACHED = AtomicIntegerFieldUpdater
+                .newUpdater(GroupedUnicast.class, "detached");
+
         static <T, K> GroupedUnicast<K, T> createWith(K key,
                 MultiGroupByProcessor<?, K, T> parent) {
             State<T, K> state = new State<>(parent, key);
-            return new GroupedUnicast<>(key, state);
+            GroupedUnicast<K, T> group = new GroupedUnicast<>(key, state);
+            state.group = group;
+            return group;
         }
 
         private GroupedUnicast(K key, State<T, K> downstream) {
@@ -277,6 +463,37 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             this.downstream = downstream;
         }
 
+        /**
+         * Prevents the eviction of the group while an item is dispatched.
+         *
+         * @return {@code false} if the group has already been evicted
+         */
+        boolean acquire() {
+            for (;;) {
+                long last = lastActivity;
+                if (last == EVICTED) {
+                    return false;
+                }
+                if (LAST_ACTIVITY.compareAndSet(this, last, ACQUIRED)) {
+                    return true;
+                }
+            }
+        }
+
+        void release(long now) {
+            lastActivity = now;
+        }
+
+        boolean evictIfIdleSince(long deadline) {
+            long last = lastActivity;
+            return last != ACQUIRED && last != EVICTED && last - deadline <= 0
+                    && LAST_ACTIVITY.compareAndSet(this, last, EVICTED);
+        }
+
+        boolean detach() {
+            return DETACHED.compareAndSet(this, 0, 1);
+        }
+
         @Override
         public void subscribe(MultiSubscriber<? super T> s) {
             downstream.subscribe(s);
@@ -303,15 +520,34 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
     @SuppressWarnings({ "ReactiveStreamsPublisherImplementation" })
     private static final class State<T, K> implements Subscription, Publisher<T> {
 
-        private final AtomicReference<Subscriber<? super T>> downstream = new AtomicReference<>();
-        private final AtomicBoolean cancelled = new AtomicBoolean();
-        private final AtomicLong requested = new AtomicLong();
-        private final AtomicBoolean done = new AtomicBoolean();
-        private final AtomicInteger wip = new AtomicInteger();
+        // One State per group: plain volatile fields and updaters instead of one atomic object per field
+        private volatile Subscriber<? super T> downstream;
+        private volatile int cancelled;
+        private volatile long requested;
+        private volatile int done;
+        private volatile int wip;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<State, Subscriber> DOWNSTREAM = AtomicReferenceFieldUpdater
+                .newUpdater(State.class, Subscriber.class, "downstream");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<State> CANCELLED_FLAG = AtomicIntegerFieldUpdater
+                .newUpdater(State.class, "cancelled");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<State> REQUESTED = AtomicLongFieldUpdater
+                .newUpdater(State.class, "requested");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<State> DONE = AtomicIntegerFieldUpdater
+                .newUpdater(State.class, "done");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<State> WIP = AtomicIntegerFieldUpdater
+                .newUpdater(State.class, "wip");
 
         private final K key;
         private final Queue<T> queue;
         private final MultiGroupByProcessor<?, K, T> parent;
+        // Set right after the creation, before the group is published
+        private GroupedUnicast<K, T> group;
 
         private Throwable failure;
 
@@ -325,22 +561,22 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         @Override
         public void request(long n) {
             if (n > 0) {
-                Subscriptions.add(requested, n);
+                Subscriptions.add(REQUESTED, this, n);
                 drain();
             }
         }
 
         @Override
         public void cancel() {
-            if (cancelled.compareAndSet(false, true)) {
-                parent.cancel(key);
+            if (CANCELLED_FLAG.compareAndSet(this, 0, 1)) {
+                parent.detach(group);
                 drain();
             }
         }
 
         @Override
         public void subscribe(Subscriber<? super T> s) {
-            if (downstream.compareAndSet(null, s)) {
+            if (DOWNSTREAM.compareAndSet(this, null, s)) {
                 s.onSubscribe(this);
                 drain();
             } else {
@@ -349,14 +585,14 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         }
 
         public void onItem(T t) {
-            if (!done.get()) {
+            if (done == 0) {
                 queue.offer(t);
                 drain();
             }
         }
 
         public void onFailure(Throwable e) {
-            if (done.compareAndSet(false, true)) {
+            if (DONE.compareAndSet(this, 0, 1)) {
                 failure = e;
                 drain();
             } else {
@@ -365,27 +601,27 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         }
 
         public void onCompletion() {
-            if (done.compareAndSet(false, true)) {
+            if (DONE.compareAndSet(this, 0, 1)) {
                 drain();
             }
         }
 
         void drain() {
-            if (wip.getAndIncrement() != 0) {
+            if (WIP.getAndIncrement(this) != 0) {
                 return;
             }
 
             int missed = 1;
 
             final Queue<T> q = queue;
-            Subscriber<? super T> actual = downstream.get();
+            Subscriber<? super T> actual = downstream;
             for (;;) {
                 if (actual != null) {
-                    long r = requested.get();
+                    long r = requested;
                     long e = 0;
 
                     while (e != r) {
-                        boolean isDone = done.get();
+                        boolean isDone = done == 1;
                         T v = q.poll();
                         boolean empty = v == null;
 
@@ -402,36 +638,36 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
                         e++;
                     }
 
-                    if (e == r && hasCompleted(done.get(), q.isEmpty(), e)) {
+                    if (e == r && hasCompleted(done == 1, q.isEmpty(), e)) {
                         return;
                     }
 
                     if (e != 0L) {
                         if (r != Long.MAX_VALUE) {
-                            requested.addAndGet(-e);
+                            REQUESTED.addAndGet(this, -e);
                         }
-                        parent.upstream.get().request(e);
+                        parent.replenish(e);
                     }
                 }
 
-                missed = wip.addAndGet(-missed);
+                missed = WIP.addAndGet(this, -missed);
                 if (missed == 0) {
                     break;
                 }
                 if (actual == null) {
-                    actual = downstream.get();
+                    actual = downstream;
                 }
             }
         }
 
         boolean hasCompleted(boolean isDone, boolean isEmpty, long emitted) {
-            if (cancelled.get()) {
+            if (cancelled == 1) {
                 // make sure buffered items can get replenished
                 while (queue.poll() != null) {
                     emitted++;
                 }
                 if (emitted != 0) {
-                    parent.upstream.get().request(emitted);
+                    parent.replenish(emitted);
                 }
                 return true;
             }
@@ -440,10 +676,10 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
                 Throwable e = failure;
                 if (e != null) {
                     queue.clear();
-                    downstream.get().onError(e);
+                    downstream.onError(e);
                     return true;
                 } else if (isEmpty) {
-                    downstream.get().onComplete();
+                    downstream.onComplete();
                     return true;
                 }
             }
@@ -0,0 +1,86 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.PipelineMetrics;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Reports the events of each subscription to a {@link PipelineMetrics}.
+ *
+ * @param <T> the type of item
+ */
+public class MultiInstrumentOp<T> extends AbstractMultiOperator<T, T> {
+
+    private final PipelineMetrics metrics;
+
+    public MultiInstrumentOp(Multi<? extends T> upstream, PipelineMetrics metrics) {
+        super(upstream);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> downstream) {
+        nonNull(downstream, "downstream");
+        metrics.onSubscription();
+        upstream.subscribe().withSubscriber(new MultiInstrumentProcessor(downstream));
+    }
+
+    class MultiInstrumentProcessor extends MultiOperatorProcessor<T, T> {
+
+        private final long subscribedAt = System.nanoTime();
+        private final AtomicBoolean terminated = new AtomicBoolean();
+        private boolean receivedItem;
+
+        MultiInstrumentProcessor(MultiSubscriber<? super T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onItem(T item) {
+            if (!isDone()) {
+                if (!receivedItem) {
+                    receivedItem = true;
+                    metrics.onFirstItem(System.nanoTime() - subscribedAt);
+                }
+                metrics.onItem();
+                downstream.onItem(item);
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (terminated.compareAndSet(false, true)) {
+                metrics.onFailure(failure, System.nanoTime() - subscribedAt);
+            }
+            super.onFailure(failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            if (terminated.compareAndSet(false, true)) {
+                metrics.onCompletion(System.nanoTime() - subscribedAt);
+            }
+            super.onCompletion();
+        }
+
+        @Override
+        public void request(long numberOfItems) {
+            if (numberOfItems > 0 && !isDone()) {
+                metrics.onRequest(numberOfItems);
+            }
+            super.request(numberOfItems);
+        }
+
+        @Override
+        public void cancel() {
+            if (terminated.compareAndSet(false, true)) {
+                metrics.onCancellation(System.nanoTime() - subscribedAt);
+            }
+            super.cancel();
+        }
+    }
+}
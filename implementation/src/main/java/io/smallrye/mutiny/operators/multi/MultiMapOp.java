@@ -9,7 +9,7 @@ import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 public final class MultiMapOp<T, U> extends AbstractMultiOperator<T, U> {
-    private final Function<? super T, ? extends U> mapper;
+    final Function<? super T, ? extends U> mapper;
 
     public MultiMapOp(Multi<T> upstream, Function<? super T, ? extends U> mapper) {
         super(upstream);
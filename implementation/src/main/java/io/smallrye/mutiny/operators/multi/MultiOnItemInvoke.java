@@ -10,7 +10,7 @@ import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 public class MultiOnItemInvoke<T> extends AbstractMultiOperator<T, T> {
 
-    private final Consumer<? super T> callback;
+    final Consumer<? super T> callback;
 
     public MultiOnItemInvoke(Multi<? extends T> upstream, Consumer<? super T> callback) {
         super(upstream);
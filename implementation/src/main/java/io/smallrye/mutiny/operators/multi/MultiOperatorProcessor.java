@@ -2,7 +2,7 @@ package io.smallrye.mutiny.operators.multi;
 
 import static io.smallrye.mutiny.helpers.Subscriptions.CANCELLED;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.reactivestreams.Subscription;
@@ -16,7 +16,11 @@ public abstract class MultiOperatorProcessor<I, O> implements MultiSubscriber<I>
 
     protected final MultiSubscriber<? super O> downstream;
     protected AtomicReference<Subscription> upstream = new AtomicReference<>();
-    AtomicBoolean hasDownstreamCancelled = new AtomicBoolean();
+
+    volatile int hasDownstreamCancelled;
+    @SuppressWarnings("rawtypes")
+    static final AtomicIntegerFieldUpdater<MultiOperatorProcessor> DOWNSTREAM_CANCELLED = AtomicIntegerFieldUpdater
+            .newUpdater(MultiOperatorProcessor.class, "hasDownstreamCancelled");
 
     public MultiOperatorProcessor(MultiSubscriber<? super O> downstream) {
         this.downstream = ParameterValidation.nonNull(downstream, "downstream");
@@ -35,7 +39,7 @@ public abstract class MultiOperatorProcessor<I, O> implements MultiSubscriber<I>
     }
 
     protected boolean isCancelled() {
-        return hasDownstreamCancelled.get();
+        return hasDownstreamCancelled == 1;
     }
 
     @Override
@@ -89,7 +93,7 @@ public abstract class MultiOperatorProcessor<I, O> implements MultiSubscriber<I>
 
     @Override
     public void cancel() {
-        if (hasDownstreamCancelled.compareAndSet(false, true)) {
+        if (DOWNSTREAM_CANCELLED.compareAndSet(this, 0, 1)) {
             Subscriptions.cancel(upstream);
         }
     }
@@ -0,0 +1,199 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.time.Duration;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import org.reactivestreams.Publisher;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.RetryBackOff;
+import io.smallrye.mutiny.helpers.RetryBudget;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.SwitchableSubscriptionSubscriber;
+
+/**
+ * Multi operator re-subscribing to the upstream when it emits a failure, after a delay computed by a
+ * {@link RetryBackOff}, and within the limits of a {@link RetryBudget}.
+ * <p>
+ * With back-off, the retries are scheduled directly on the executor, and re-subscribe from the executor thread. The
+ * operator fails with an {@link IllegalStateException} once {@code maxAttempts} attempts have failed, or when the next
+ * attempt would start after {@code expireAt}. Without back-off, the operator re-subscribes immediately, at most
+ * {@code maxAttempts} times, and propagates the last failure. When the budget is exhausted, the failure is propagated.
+ *
+ * @param <T> the type of item
+ */
+public final class MultiRetryWithBackOffOp<T> extends AbstractMultiOperator<T, T> {
+
+    private final Predicate<? super Throwable> predicate;
+    private final long maxAttempts;
+    private final long expireAt;
+    private final RetryBackOff backOff;
+    private final RetryBudget budget;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Creates a new {@link MultiRetryWithBackOffOp}.
+     *
+     * @param upstream the upstream
+     * @param predicate the predicate selecting the failures to retry, {@code null} to retry all the failures
+     * @param maxAttempts the maximum number of attempts
+     * @param expireAt the time in millis after which no attempt can start, {@code Long.MAX_VALUE} for no expiration
+     * @param backOff the back-off, {@code null} to re-subscribe immediately
+     * @param budget the budget, {@code null} for no budget
+     * @param executor the executor used to delay the retries
+     */
+    public MultiRetryWithBackOffOp(Multi<? extends T> upstream, Predicate<? super Throwable> predicate,
+            long maxAttempts, long expireAt, RetryBackOff backOff, RetryBudget budget,
+            ScheduledExecutorService executor) {
+        super(upstream);
+        this.predicate = predicate;
+        this.maxAttempts = positive(maxAttempts, "maxAttempts");
+        this.expireAt = expireAt;
+        this.backOff = backOff;
+        this.budget = budget;
+        this.executor = nonNull(executor, "executor");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> downstream) {
+        if (budget != null) {
+            budget.onSubscription();
+        }
+        RetrySubscriber subscriber = new RetrySubscriber(downstream);
+
+        downstream.onSubscribe(subscriber);
+
+        if (!subscriber.isCancelled()) {
+            subscriber.resubscribe();
+        }
+    }
+
+    final class RetrySubscriber extends SwitchableSubscriptionSubscriber<T> {
+
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Future<?>> task = new AtomicReference<>();
+
+        private int failures;
+        private Duration previousDelay;
+        long produced;
+
+        RetrySubscriber(MultiSubscriber<? super T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onItem(T t) {
+            produced++;
+            downstream.onItem(t);
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+            try {
+                if (predicate != null && !predicate.test(t)) {
+                    downstream.onFailure(t);
+                    return;
+                }
+            } catch (Throwable e) {
+                downstream.onFailure(e);
+                return;
+            }
+
+            int iteration = ++failures;
+            Duration delay = null;
+            if (backOff == null) {
+                if (iteration > maxAttempts) {
+                    downstream.onFailure(t);
+                    return;
+                }
+            } else {
+                if (iteration >= maxAttempts) {
+                    downstream.onFailure(
+                            new IllegalStateException("Retries exhausted: " + iteration + "/" + maxAttempts, t));
+                    return;
+                }
+                delay = backOff.nextDelay(iteration, previousDelay);
+                previousDelay = delay;
+                if (expireAt != Long.MAX_VALUE) {
+                    long checkTime = System.currentTimeMillis() + delay.toMillis();
+                    if (checkTime > expireAt) {
+                        downstream.onFailure(new IllegalStateException("Retries exhausted : " + iteration
+                                + " attempts against " + checkTime + "/" + expireAt + " expiration", t));
+                        return;
+                    }
+                }
+            }
+            if (budget != null && !budget.tryAcquire()) {
+                downstream.onFailure(t);
+                return;
+            }
+
+            if (delay == null) {
+                resubscribe();
+            } else {
+                schedule(delay);
+            }
+        }
+
+        private void schedule(Duration delay) {
+            try {
+                Future<?> future = executor.schedule(this::subscribe, toNanos(delay), TimeUnit.NANOSECONDS);
+                task.set(future);
+                if (isCancelled()) {
+                    future.cancel(false);
+                }
+            } catch (Throwable e) {
+                downstream.onFailure(e);
+            }
+        }
+
+        private long toNanos(Duration delay) {
+            try {
+                return delay.toNanos();
+            } catch (ArithmeticException overflow) {
+                return Long.MAX_VALUE;
+            }
+        }
+
+        void resubscribe() {
+            if (wip.getAndIncrement() == 0) {
+                do {
+                    if (isCancelled()) {
+                        return;
+                    }
+                    subscribe();
+                } while (wip.decrementAndGet() != 0);
+            }
+        }
+
+        private void subscribe() {
+            if (isCancelled()) {
+                return;
+            }
+            long c = produced;
+            if (c != 0L) {
+                produced = 0L;
+                emitted(c);
+            }
+            upstream.subscribe(Infrastructure.onMultiSubscription(upstream, this));
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            Future<?> future = task.get();
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+}
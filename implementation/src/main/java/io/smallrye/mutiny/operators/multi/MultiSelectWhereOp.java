@@ -17,7 +17,7 @@ import io.smallrye.mutiny.subscription.MultiSubscriber;
  */
 public class MultiSelectWhereOp<T> extends AbstractMultiOperator<T, T> {
 
-    private final Predicate<? super T> predicate;
+    final Predicate<? super T> predicate;
 
     public MultiSelectWhereOp(Multi<? extends T> upstream, Predicate<? super T> predicate) {
         super(upstream);
@@ -162,7 +162,7 @@ public class MultiWindowOp<T> extends AbstractMultiOperator<T, Multi<T>> {
 
         @Override
         public void cancel() {
-            if (hasDownstreamCancelled.compareAndSet(false, true)) {
+            if (DOWNSTREAM_CANCELLED.compareAndSet(this, 0, 1)) {
                 if (count.decrementAndGet() == 0) {
                     upstream.get().cancel();
                 }
@@ -276,7 +276,7 @@ public class MultiWindowOp<T> extends AbstractMultiOperator<T, Multi<T>> {
 
         @Override
         public void cancel() {
-            if (hasDownstreamCancelled.compareAndSet(false, true)) {
+            if (DOWNSTREAM_CANCELLED.compareAndSet(this, 0, 1)) {
                 if (count.decrementAndGet() == 0) {
                     upstream.get().cancel();
                 }
@@ -467,7 +467,7 @@ public class MultiWindowOp<T> extends AbstractMultiOperator<T, Multi<T>> {
 
         @Override
         public void cancel() {
-            if (hasDownstreamCancelled.compareAndSet(false, true)) {
+            if (DOWNSTREAM_CANCELLED.compareAndSet(this, 0, 1)) {
                 run();
             }
         }
@@ -3,12 +3,11 @@ package io.smallrye.mutiny.operators.multi.builders;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
 
-import org.reactivestreams.Subscription;
-
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 public class CollectionBasedMulti<T> extends AbstractMulti<T> {
 
@@ -37,7 +36,7 @@ public class CollectionBasedMulti<T> extends AbstractMulti<T> {
         actual.onSubscribe(new CollectionSubscription<>(actual, collection));
     }
 
-    private static final class CollectionSubscription<T> implements Subscription {
+    private static final class CollectionSubscription<T> implements QueueSubscription<T> {
 
         private final MultiSubscriber<? super T> downstream;
         private final List<T> collection; // Immutable
@@ -133,6 +132,31 @@ public class CollectionBasedMulti<T> extends AbstractMulti<T> {
         public void cancel() {
             cancelled = true;
         }
+
+        @Override
+        public int requestFusion(int mode) {
+            return mode & SYNC;
+        }
+
+        @Override
+        public T poll() {
+            int current = index;
+            if (current == collection.size()) {
+                return null;
+            }
+            index = current + 1;
+            return collection.get(current);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return index == collection.size();
+        }
+
+        @Override
+        public void clear() {
+            index = collection.size();
+        }
     }
 
 }
@@ -3,12 +3,11 @@ package io.smallrye.mutiny.operators.multi.builders;
 import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicLong;
 
-import org.reactivestreams.Subscription;
-
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 public class IterableBasedMulti<T> extends AbstractMulti<T> {
 
@@ -49,7 +48,7 @@ public class IterableBasedMulti<T> extends AbstractMulti<T> {
         downstream.onSubscribe(new IteratorSubscription<T>(downstream, iterator));
     }
 
-    private static final class IteratorSubscription<T> implements Subscription {
+    private static final class IteratorSubscription<T> implements QueueSubscription<T> {
 
         private final Iterator<? extends T> iterator;
         private final MultiSubscriber<? super T> downstream;
@@ -57,11 +56,40 @@ public class IterableBasedMulti<T> extends AbstractMulti<T> {
         private volatile boolean cancelled;
         private final AtomicLong requested = new AtomicLong();
 
+        /**
+         * Created when the subscriber fuses with this subscription.
+         */
+        private IteratorPoller<T> poller;
+
         IteratorSubscription(MultiSubscriber<? super T> downstream, Iterator<? extends T> iterator) {
             this.downstream = downstream;
             this.iterator = iterator;
         }
 
+        @Override
+        public int requestFusion(int mode) {
+            if ((mode & SYNC) != 0) {
+                poller = new IteratorPoller<>(iterator, "Iterator.next() returned a null value");
+                return SYNC;
+            }
+            return NONE;
+        }
+
+        @Override
+        public T poll() {
+            return poller.poll();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return poller.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            poller.clear();
+        }
+
         @Override
         public final void request(long n) {
             if (n > 0) {
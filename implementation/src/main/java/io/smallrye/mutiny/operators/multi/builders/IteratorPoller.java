@@ -0,0 +1,108 @@
+package io.smallrye.mutiny.operators.multi.builders;
+
+import java.util.Iterator;
+
+/**
+ * Exposes an {@link Iterator} as a queue, used by the iterator-based sources when they are fused with their
+ * subscriber in {@link io.smallrye.mutiny.subscription.QueueSubscription#SYNC} mode.
+ * <p>
+ * The iterator must have been checked for a first item ({@code hasNext} returned {@code true}) before creating the
+ * poller. This class is not thread-safe, it must be used from the draining thread only.
+ *
+ * @param <T> the type of item
+ */
+final class IteratorPoller<T> {
+
+    private final Iterator<? extends T> iterator;
+    private final String nullItemMessage;
+
+    /**
+     * {@code true} if {@code hasNext} has been called and returned {@code true} since the last {@code next}.
+     */
+    private boolean hasNextChecked = true;
+    private boolean exhausted;
+
+    /**
+     * Failure thrown by {@code hasNext} from {@link #isEmpty()}, rethrown by the next {@link #poll()}.
+     */
+    private Throwable failure;
+
+    IteratorPoller(Iterator<? extends T> iterator, String nullItemMessage) {
+        this.iterator = iterator;
+        this.nullItemMessage = nullItemMessage;
+    }
+
+    T poll() {
+        if (failure != null) {
+            Throwable f = failure;
+            failure = null;
+            exhausted = true;
+            throw propagate(f);
+        }
+        if (exhausted) {
+            return null;
+        }
+        if (!hasNextChecked) {
+            boolean hasNext;
+            try {
+                hasNext = iterator.hasNext();
+            } catch (Throwable e) {
+                exhausted = true;
+                throw propagate(e);
+            }
+            if (!hasNext) {
+                exhausted = true;
+                return null;
+            }
+        }
+        hasNextChecked = false;
+        T item;
+        try {
+            item = iterator.next();
+        } catch (Throwable e) {
+            exhausted = true;
+            throw propagate(e);
+        }
+        if (item == null) {
+            exhausted = true;
+            throw new NullPointerException(nullItemMessage);
+        }
+        return item;
+    }
+
+    boolean isEmpty() {
+        if (failure != null) {
+            return false;
+        }
+        if (exhausted) {
+            return true;
+        }
+        if (!hasNextChecked) {
+            try {
+                if (!iterator.hasNext()) {
+                    exhausted = true;
+                    return true;
+                }
+                hasNextChecked = true;
+            } catch (Throwable e) {
+                failure = e;
+            }
+        }
+        return false;
+    }
+
+    void clear() {
+        exhausted = true;
+        failure = null;
+    }
+
+    private static RuntimeException propagate(Throwable failure) {
+        if (failure instanceof RuntimeException) {
+            return (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new RuntimeException(failure);
+    }
+}
@@ -23,7 +23,7 @@ public class SerializedMultiEmitter<T> implements MultiEmitter<T>, MultiSubscrib
     private final AtomicInteger wip = new AtomicInteger();
     private final BaseMultiEmitter<T> downstream;
     private final AtomicReference<Throwable> failure = new AtomicReference<>();
-    private final Queue<T> queue = Queues.createMpscQueue();
+    private final Queue<T> queue = Queues.createMpscUnboundedArrayQueue(Queues.BUFFER_XS);
 
     private volatile boolean done;
 
@@ -51,10 +51,7 @@ public class SerializedMultiEmitter<T> implements MultiEmitter<T>, MultiSubscrib
                 return;
             }
         } else {
-            Queue<T> q = queue;
-            synchronized (q) {
-                q.offer(item);
-            }
+            queue.offer(item);
             if (wip.getAndIncrement() != 0) {
                 return;
             }
@@ -5,12 +5,11 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
-import org.reactivestreams.Subscription;
-
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 public class StreamBasedMulti<T> extends AbstractMulti<T> {
 
@@ -67,7 +66,7 @@ public class StreamBasedMulti<T> extends AbstractMulti<T> {
         }
     }
 
-    private static class StreamSubscription<T> implements Subscription {
+    private static class StreamSubscription<T> implements QueueSubscription<T> {
 
         private final Iterator<? extends T> iterator;
         private final AutoCloseable closeable;
@@ -75,12 +74,56 @@ public class StreamBasedMulti<T> extends AbstractMulti<T> {
         private final MultiSubscriber<T> downstream;
         private volatile boolean cancelled;
 
+        /**
+         * Created when the subscriber fuses with this subscription.
+         */
+        private IteratorPoller<T> poller;
+
         StreamSubscription(MultiSubscriber<T> downstream, Iterator<? extends T> iterator, AutoCloseable closeable) {
             this.iterator = iterator;
             this.closeable = closeable;
             this.downstream = downstream;
         }
 
+        @Override
+        public int requestFusion(int mode) {
+            if ((mode & SYNC) != 0) {
+                poller = new IteratorPoller<>(iterator, "The stream iterator produced `null`");
+                return SYNC;
+            }
+            return NONE;
+        }
+
+        @Override
+        public T poll() {
+            T item;
+            try {
+                item = poller.poll();
+            } catch (Throwable e) {
+                closeQuietly(closeable);
+                throw e;
+            }
+            if (item == null) {
+                closeQuietly(closeable);
+            }
+            return item;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            if (poller.isEmpty()) {
+                closeQuietly(closeable);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear() {
+            poller.clear();
+            closeQuietly(closeable);
+        }
+
         @Override
         public void request(long n) {
             if (n > 0) {
@@ -150,6 +193,10 @@ public class StreamBasedMulti<T> extends AbstractMulti<T> {
         @Override
         public void cancel() {
             cancelled = true;
+            if (poller != null) {
+                // In fused mode, the subscriber clears the subscription.
+                return;
+            }
             request(1L);
         }
     }
@@ -0,0 +1,83 @@
+package io.smallrye.mutiny.operators.multi.distinct;
+
+import java.util.Arrays;
+
+/**
+ * A {@link DistinctStore} remembering the keys in a Bloom filter: a fixed-size bit set in which each key sets
+ * {@code hashes} bits. A key is reported as already seen when all its bits are set, which may be a false positive.
+ * <p>
+ * The bit indexes are derived from the key's {@link Object#hashCode()}, spread with a 64-bit mixing function, using
+ * double hashing.
+ *
+ * @param <K> the type of key
+ */
+public final class BloomFilterDistinctStore<K> implements DistinctStore<K> {
+
+    private final long[] words;
+    private final long bits;
+    private final int hashes;
+
+    public BloomFilterDistinctStore(long bits, int hashes) {
+        this.words = new long[(int) ((bits + 63) >>> 6)];
+        this.bits = bits;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Computes the number of bits for the given number of keys and false positive rate: {@code -n ln(p) / ln(2)^2}.
+     *
+     * @param expectedKeys the expected number of keys
+     * @param falsePositiveRate the false positive rate
+     * @return the number of bits, at least 64
+     */
+    static long optimalNumberOfBits(long expectedKeys, double falsePositiveRate) {
+        double bits = -expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        // Bounded by the size of a long[] indexed with an int
+        return Math.min(Math.max(64L, (long) Math.ceil(bits)), (long) Integer.MAX_VALUE * 64L);
+    }
+
+    /**
+     * Computes the number of hashes per key for the given number of keys and bits: {@code m / n ln(2)}.
+     *
+     * @param expectedKeys the expected number of keys
+     * @param bits the number of bits
+     * @return the number of hashes, at least 1
+     */
+    static int optimalNumberOfHashes(long expectedKeys, long bits) {
+        return Math.max(1, (int) Math.round((double) bits / expectedKeys * Math.log(2)));
+    }
+
+    @Override
+    public boolean add(K key) {
+        long hash = mix(key.hashCode());
+        long hash1 = hash;
+        // Odd, so the successive indexes cover the whole bit set
+        long hash2 = mix(hash) | 1L;
+        boolean added = false;
+        for (int i = 0; i < hashes; i++) {
+            long index = Long.remainderUnsigned(hash1 + i * hash2, bits);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                added = true;
+            }
+        }
+        return added;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * The finalizer of SplitMix64, spreading the bits of the given value.
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,27 @@
+package io.smallrye.mutiny.operators.multi.distinct;
+
+import java.util.Collection;
+
+/**
+ * A {@link DistinctStore} remembering all the keys in a collection.
+ *
+ * @param <K> the type of key
+ */
+public final class CollectionDistinctStore<K> implements DistinctStore<K> {
+
+    private final Collection<K> collection;
+
+    public CollectionDistinctStore(Collection<K> collection) {
+        this.collection = collection;
+    }
+
+    @Override
+    public boolean add(K key) {
+        return collection.add(key);
+    }
+
+    @Override
+    public void clear() {
+        collection.clear();
+    }
+}
@@ -0,0 +1,31 @@
+package io.smallrye.mutiny.operators.multi.distinct;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Remembers the keys already seen by a {@code select().distinct...} operator.
+ * <p>
+ * A store is created for each subscription, and is only accessed serially, so implementations do not need to be
+ * thread-safe. Implementations may forget keys (to bound the memory), in which case an item whose key has been
+ * forgotten is emitted again, or may report keys as already seen while they are not (probabilistic stores), in which
+ * case the item is dropped.
+ *
+ * @param <K> the type of key
+ * @see DistinctStores
+ */
+@Experimental("Distinct stores are an experimental feature at this stage")
+public interface DistinctStore<K> {
+
+    /**
+     * Adds the given key to the store.
+     *
+     * @param key the key, not {@code null}
+     * @return {@code true} if the key has not been seen before, so the item must be emitted, {@code false} otherwise
+     */
+    boolean add(K key);
+
+    /**
+     * Forgets all the keys. Called when the stream terminates or is cancelled.
+     */
+    void clear();
+}
@@ -0,0 +1,99 @@
+package io.smallrye.mutiny.operators.multi.distinct;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Factories of {@link DistinctStore}. Each method returns a {@link Supplier}, as a new store is created for each
+ * subscription.
+ */
+@Experimental("Distinct stores are an experimental feature at this stage")
+public final class DistinctStores {
+
+    private DistinctStores() {
+        // avoid direct instantiation
+    }
+
+    /**
+     * Remembers all the keys, using a {@link HashSet}. The memory grows with the number of distinct keys, so it must
+     * not be used on unbounded streams.
+     *
+     * @param <K> the type of key
+     * @return the supplier of stores
+     */
+    public static <K> Supplier<DistinctStore<K>> unbounded() {
+        return () -> new CollectionDistinctStore<>(new HashSet<>());
+    }
+
+    /**
+     * Remembers all the keys, using a {@link TreeSet} with the given comparator. The memory grows with the number of
+     * distinct keys, so it must not be used on unbounded streams.
+     *
+     * @param comparator the comparator, {@code null} to use a {@link HashSet} instead
+     * @param <K> the type of key
+     * @return the supplier of stores
+     */
+    public static <K> Supplier<DistinctStore<K>> unbounded(Comparator<? super K> comparator) {
+        if (comparator == null) {
+            return unbounded();
+        }
+        return () -> new CollectionDistinctStore<>(new TreeSet<>(comparator));
+    }
+
+    /**
+     * Remembers the {@code maxSize} most recently seen keys. When the store is full, the least recently seen key is
+     * forgotten, and the next item with this key is emitted again.
+     *
+     * @param maxSize the maximum number of keys, must be strictly positive
+     * @param <K> the type of key
+     * @return the supplier of stores
+     */
+    public static <K> Supplier<DistinctStore<K>> lru(int maxSize) {
+        int validated = positive(maxSize, "maxSize");
+        return () -> new LruDistinctStore<>(validated);
+    }
+
+    /**
+     * Remembers each key for the given duration after it has been seen for the first time. Once forgotten, the next
+     * item with this key is emitted again. The expired keys are removed when new keys are added.
+     *
+     * @param window the duration during which the keys are remembered, must be strictly positive
+     * @param <K> the type of key
+     * @return the supplier of stores
+     */
+    public static <K> Supplier<DistinctStore<K>> timeWindow(Duration window) {
+        long nanos = validate(window, "window").toNanos();
+        return () -> new TimeWindowDistinctStore<>(nanos, System::nanoTime);
+    }
+
+    /**
+     * Remembers the keys in a Bloom filter, whose memory does not depend on the number of keys. A key can be wrongly
+     * reported as already seen, and its item dropped, with a probability close to {@code falsePositiveRate} as long
+     * as at most {@code expectedKeys} distinct keys have been seen. This probability increases beyond.
+     * <p>
+     * The key's {@link Object#hashCode()} is used, so keys must have a well-distributed hash code.
+     *
+     * @param expectedKeys the expected number of distinct keys, must be strictly positive
+     * @param falsePositiveRate the false positive rate, must be greater than 0 and less than 1
+     * @param <K> the type of key
+     * @return the supplier of stores
+     */
+    public static <K> Supplier<DistinctStore<K>> bloomFilter(long expectedKeys, double falsePositiveRate) {
+        positive(expectedKeys, "expectedKeys");
+        if (!(falsePositiveRate > 0.0 && falsePositiveRate < 1.0)) {
+            throw new IllegalArgumentException("`falsePositiveRate` must be greater than 0 and less than 1");
+        }
+        // Computed once, shared by all the stores
+        long bits = BloomFilterDistinctStore.optimalNumberOfBits(expectedKeys, falsePositiveRate);
+        int hashes = BloomFilterDistinctStore.optimalNumberOfHashes(expectedKeys, bits);
+        return () -> new BloomFilterDistinctStore<>(bits, hashes);
+    }
+}
@@ -0,0 +1,34 @@
+package io.smallrye.mutiny.operators.multi.distinct;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link DistinctStore} remembering the {@code maxSize} most recently seen keys.
+ *
+ * @param <K> the type of key
+ */
+public final class LruDistinctStore<K> implements DistinctStore<K> {
+
+    private final Map<K, Boolean> keys;
+
+    public LruDistinctStore(int maxSize) {
+        // Access order: seeing a key again makes it the most recent one
+        this.keys = new LinkedHashMap<K, Boolean>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Boolean> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public boolean add(K key) {
+        return keys.put(key, Boolean.TRUE) == null;
+    }
+
+    @Override
+    public void clear() {
+        keys.clear();
+    }
+}
@@ -0,0 +1,51 @@
+package io.smallrye.mutiny.operators.multi.distinct;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link DistinctStore} remembering each key for a given duration after it has been seen for the first time.
+ * <p>
+ * The keys are kept in insertion order, which is also the expiration order, so the expired keys are removed from the
+ * head of the map when new keys are added.
+ *
+ * @param <K> the type of key
+ */
+public final class TimeWindowDistinctStore<K> implements DistinctStore<K> {
+
+    private final Map<K, Long> keys = new LinkedHashMap<>();
+    private final long windowNanos;
+    private final LongSupplier clock;
+
+    /**
+     * Creates a new {@link TimeWindowDistinctStore}.
+     *
+     * @param windowNanos the duration during which the keys are remembered, in nanoseconds
+     * @param clock the clock, in nanoseconds, such as {@link System#nanoTime()}
+     */
+    public TimeWindowDistinctStore(long windowNanos, LongSupplier clock) {
+        this.windowNanos = windowNanos;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean add(K key) {
+        long now = clock.getAsLong();
+        Iterator<Long> iterator = keys.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next() >= windowNanos) {
+                iterator.remove();
+            } else {
+                break;
+            }
+        }
+        return keys.putIfAbsent(key, now) == null;
+    }
+
+    @Override
+    public void clear() {
+        keys.clear();
+    }
+}
@@ -0,0 +1,44 @@
+package io.smallrye.mutiny.operators.multi.primitives;
+
+import java.util.function.Function;
+
+/**
+ * A primitive source followed by a chain of fused stages.
+ * <p>
+ * The stages are composed when a terminal subscribes: each stage wraps the sink of the next one (an
+ * {@link java.util.function.IntConsumer}, {@link java.util.function.LongConsumer} or
+ * {@link java.util.function.DoubleConsumer}), so the values travel from the source to the terminal without boxing.
+ *
+ * @param <S> the type of sink receiving the values at the end of the pipeline
+ */
+public abstract class PrimitivePipeline<S> {
+
+    /**
+     * Subscribes to the pipeline.
+     * <p>
+     * The source calls {@link PrimitiveTerminal#onSubscribe(org.reactivestreams.Subscription)}, and then pushes the
+     * values into the chain of stages ending with {@code sink}, according to the requests. Exceptions thrown by the
+     * stages or by the sink cancel the source and are propagated to the terminal.
+     *
+     * @param sink the sink receiving the values
+     * @param terminal the terminal, receiving the subscription and the terminal events
+     */
+    public abstract void subscribe(S sink, PrimitiveTerminal terminal);
+
+    /**
+     * Appends a stage to this pipeline.
+     *
+     * @param stage the function creating the sink of this pipeline from the sink of the new pipeline
+     * @param <R> the type of sink of the new pipeline
+     * @return the new pipeline
+     */
+    public <R> PrimitivePipeline<R> then(Function<R, S> stage) {
+        PrimitivePipeline<S> upstream = this;
+        return new PrimitivePipeline<R>() {
+            @Override
+            public void subscribe(R sink, PrimitiveTerminal terminal) {
+                upstream.subscribe(stage.apply(sink), terminal);
+            }
+        };
+    }
+}
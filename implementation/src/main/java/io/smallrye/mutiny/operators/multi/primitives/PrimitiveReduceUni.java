@@ -0,0 +1,66 @@
+package io.smallrye.mutiny.operators.multi.primitives;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.operators.AbstractUni;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+
+/**
+ * Reduces the values of a {@link PrimitivePipeline} into a {@link io.smallrye.mutiny.Uni}. The values are passed to an
+ * accumulator (such as {@link java.util.IntSummaryStatistics}) without boxing; only the result is an object.
+ *
+ * @param <S> the type of sink of the pipeline
+ * @param <A> the type of accumulator, which is also the sink
+ * @param <R> the type of result
+ */
+public final class PrimitiveReduceUni<S, A extends S, R> extends AbstractUni<R> {
+
+    private final PrimitivePipeline<S> pipeline;
+    private final Supplier<A> accumulator;
+    private final Function<A, R> finisher;
+
+    /**
+     * Creates a new {@link PrimitiveReduceUni}.
+     *
+     * @param pipeline the pipeline
+     * @param accumulator creates the accumulator, called for each subscription
+     * @param finisher computes the result from the accumulator once the pipeline completes, can return {@code null}
+     */
+    public PrimitiveReduceUni(PrimitivePipeline<S> pipeline, Supplier<A> accumulator, Function<A, R> finisher) {
+        this.pipeline = pipeline;
+        this.accumulator = accumulator;
+        this.finisher = finisher;
+    }
+
+    @Override
+    protected void subscribing(UniSubscriber<? super R> subscriber) {
+        A acc = accumulator.get();
+        pipeline.subscribe(acc, new PrimitiveTerminal() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscriber.onSubscribe(subscription::cancel);
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+                subscriber.onFailure(failure);
+            }
+
+            @Override
+            public void onCompletion() {
+                R result;
+                try {
+                    result = finisher.apply(acc);
+                } catch (Throwable failure) {
+                    subscriber.onFailure(failure);
+                    return;
+                }
+                subscriber.onItem(result);
+            }
+        });
+    }
+}
@@ -0,0 +1,360 @@
+package io.smallrye.mutiny.operators.multi.primitives;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BiConsumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * The sources of the {@link PrimitivePipeline primitive pipelines}.
+ */
+public final class PrimitiveSources {
+
+    private PrimitiveSources() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * Creates a source emitting the integers from {@code startInclusive} to {@code endExclusive}.
+     *
+     * @param startInclusive the first integer
+     * @param endExclusive the end of the range
+     * @return the pipeline
+     */
+    public static PrimitivePipeline<IntConsumer> intRange(int startInclusive, int endExclusive) {
+        return new PrimitivePipeline<IntConsumer>() {
+            @Override
+            public void subscribe(IntConsumer sink, PrimitiveTerminal terminal) {
+                start(new IntRangeSubscription(sink, terminal, startInclusive, endExclusive));
+            }
+        };
+    }
+
+    /**
+     * Creates a source emitting the longs from {@code startInclusive} to {@code endExclusive}.
+     *
+     * @param startInclusive the first long
+     * @param endExclusive the end of the range
+     * @return the pipeline
+     */
+    public static PrimitivePipeline<LongConsumer> longRange(long startInclusive, long endExclusive) {
+        return new PrimitivePipeline<LongConsumer>() {
+            @Override
+            public void subscribe(LongConsumer sink, PrimitiveTerminal terminal) {
+                start(new LongRangeSubscription(sink, terminal, startInclusive, endExclusive));
+            }
+        };
+    }
+
+    /**
+     * Creates a source emitting the values of the given array. The array is not copied.
+     *
+     * @param values the values
+     * @return the pipeline
+     */
+    public static PrimitivePipeline<IntConsumer> ints(int[] values) {
+        return new PrimitivePipeline<IntConsumer>() {
+            @Override
+            public void subscribe(IntConsumer sink, PrimitiveTerminal terminal) {
+                start(new PullSubscription<IntConsumer>(sink, terminal, values.length) {
+                    @Override
+                    void push(long index) {
+                        sink.accept(values[(int) index]);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Creates a source emitting the values of the given array. The array is not copied.
+     *
+     * @param values the values
+     * @return the pipeline
+     */
+    public static PrimitivePipeline<LongConsumer> longs(long[] values) {
+        return new PrimitivePipeline<LongConsumer>() {
+            @Override
+            public void subscribe(LongConsumer sink, PrimitiveTerminal terminal) {
+                start(new PullSubscription<LongConsumer>(sink, terminal, values.length) {
+                    @Override
+                    void push(long index) {
+                        sink.accept(values[(int) index]);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Creates a source emitting the values of the given array. The array is not copied.
+     *
+     * @param values the values
+     * @return the pipeline
+     */
+    public static PrimitivePipeline<DoubleConsumer> doubles(double[] values) {
+        return new PrimitivePipeline<DoubleConsumer>() {
+            @Override
+            public void subscribe(DoubleConsumer sink, PrimitiveTerminal terminal) {
+                start(new PullSubscription<DoubleConsumer>(sink, terminal, values.length) {
+                    @Override
+                    void push(long index) {
+                        sink.accept(values[(int) index]);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Creates a source consuming the items from the given {@link Multi}. The requests from the terminal are passed
+     * upstream, and the items which do not reach the terminal (because a stage filtered them) are replenished.
+     *
+     * @param upstream the upstream
+     * @param push pushes an upstream item into the sink, generally after converting it to a primitive value
+     * @param <T> the type of item from the upstream
+     * @param <S> the type of sink
+     * @return the pipeline
+     */
+    public static <T, S> PrimitivePipeline<S> from(Multi<T> upstream, BiConsumer<S, ? super T> push) {
+        return new PrimitivePipeline<S>() {
+            @Override
+            public void subscribe(S sink, PrimitiveTerminal terminal) {
+                upstream.subscribe().withSubscriber(new PushSubscriber<>(sink, terminal, push));
+            }
+        };
+    }
+
+    private static void start(PullSubscription<?> subscription) {
+        if (subscription.index == subscription.end) {
+            subscription.terminal.onSubscribe(Subscriptions.empty());
+            subscription.terminal.onCompletion();
+        } else {
+            subscription.terminal.onSubscribe(subscription);
+        }
+    }
+
+    private static final class IntRangeSubscription extends PullSubscription<IntConsumer> {
+
+        private final int offset;
+
+        IntRangeSubscription(IntConsumer sink, PrimitiveTerminal terminal, int startInclusive, int endExclusive) {
+            // Indexes are relative to the start, the range may not fit in an int
+            super(sink, terminal, (long) endExclusive - startInclusive);
+            this.offset = startInclusive;
+        }
+
+        @Override
+        void push(long index) {
+            sink.accept((int) (offset + index));
+        }
+    }
+
+    private static final class LongRangeSubscription extends PullSubscription<LongConsumer> {
+
+        LongRangeSubscription(LongConsumer sink, PrimitiveTerminal terminal, long startInclusive, long endExclusive) {
+            super(sink, terminal, startInclusive, endExclusive);
+        }
+
+        @Override
+        void push(long index) {
+            sink.accept(index);
+        }
+    }
+
+    /**
+     * Emits the values from {@code index} to {@code end}, according to the requests.
+     *
+     * @param <S> the type of sink
+     */
+    @SuppressWarnings("rawtypes")
+    private abstract static class PullSubscription<S> implements Subscription {
+
+        private static final AtomicLongFieldUpdater<PullSubscription> REQUESTED = AtomicLongFieldUpdater
+                .newUpdater(PullSubscription.class, "requested");
+
+        final S sink;
+        final PrimitiveTerminal terminal;
+        final long end;
+        long index;
+
+        private volatile long requested;
+        private volatile boolean cancelled;
+
+        PullSubscription(S sink, PrimitiveTerminal terminal, long end) {
+            this(sink, terminal, 0L, end);
+        }
+
+        PullSubscription(S sink, PrimitiveTerminal terminal, long start, long end) {
+            this.sink = sink;
+            this.terminal = terminal;
+            this.index = start;
+            this.end = end;
+        }
+
+        /**
+         * Pushes the value at the given index into the sink.
+         *
+         * @param index the index
+         */
+        abstract void push(long index);
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                terminal.onFailure(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            if (Subscriptions.add(REQUESTED, this, n) == 0L) {
+                drain(n);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void drain(long r) {
+            PrimitiveTerminal t = terminal;
+            long base = t.produced;
+            long e = 0L;
+            for (;;) {
+                // The filtered values do not increment `produced`, in this case we keep pulling
+                while (e != r) {
+                    if (cancelled) {
+                        return;
+                    }
+                    if (index == end) {
+                        cancelled = true;
+                        t.onCompletion();
+                        return;
+                    }
+                    try {
+                        push(index++);
+                    } catch (Throwable failure) {
+                        cancelled = true;
+                        t.onFailure(failure);
+                        return;
+                    }
+                    e = t.produced - base;
+                }
+
+                if (cancelled) {
+                    return;
+                }
+                if (index == end) {
+                    cancelled = true;
+                    t.onCompletion();
+                    return;
+                }
+
+                r = requested;
+                if (e == r) {
+                    r = REQUESTED.addAndGet(this, -e);
+                    if (r == 0L) {
+                        return;
+                    }
+                    base = t.produced;
+                    e = 0L;
+                }
+            }
+        }
+    }
+
+    /**
+     * Consumes the items from an upstream {@link Multi} and pushes them into the sink.
+     *
+     * @param <T> the type of item
+     * @param <S> the type of sink
+     */
+    @SuppressWarnings("rawtypes")
+    private static final class PushSubscriber<T, S> implements MultiSubscriber<T>, Subscription {
+
+        private static final AtomicReferenceFieldUpdater<PushSubscriber, Subscription> UPSTREAM = AtomicReferenceFieldUpdater
+                .newUpdater(PushSubscriber.class, Subscription.class, "upstream");
+
+        private final S sink;
+        private final PrimitiveTerminal terminal;
+        private final BiConsumer<S, ? super T> push;
+
+        private volatile Subscription upstream;
+        private volatile boolean unbounded;
+        private boolean done;
+
+        PushSubscriber(S sink, PrimitiveTerminal terminal, BiConsumer<S, ? super T> push) {
+            this.sink = sink;
+            this.terminal = terminal;
+            this.push = push;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (UPSTREAM.compareAndSet(this, null, subscription)) {
+                terminal.onSubscribe(this);
+            } else {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(T item) {
+            if (done) {
+                return;
+            }
+            long before = terminal.produced;
+            try {
+                push.accept(sink, item);
+            } catch (Throwable failure) {
+                cancel();
+                onFailure(failure);
+                return;
+            }
+            if (terminal.produced == before && !unbounded) {
+                // Filtered, replace it
+                upstream.request(1);
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (done) {
+                Infrastructure.handleDroppedException(failure);
+                return;
+            }
+            done = true;
+            terminal.onFailure(failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            if (!done) {
+                done = true;
+                terminal.onCompletion();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n == Long.MAX_VALUE) {
+                unbounded = true;
+            }
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            Subscriptions.cancel(UPSTREAM, this);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.smallrye.mutiny.operators.multi.primitives;
+
+import org.reactivestreams.Subscription;
+
+/**
+ * The end of a {@link PrimitivePipeline}, created for each subscription.
+ * <p>
+ * Terminals boxing the values and passing them to a downstream subscriber increment {@link #produced} for each emitted
+ * value. The sources use it to honor the requests, and to replenish the filtered values.
+ */
+public abstract class PrimitiveTerminal {
+
+    /**
+     * The number of values passed to the downstream. Only accessed from the emitting thread.
+     */
+    public long produced;
+
+    /**
+     * Receives the subscription from the source.
+     *
+     * @param subscription the subscription
+     */
+    public abstract void onSubscribe(Subscription subscription);
+
+    /**
+     * Receives the failure, either from the source or thrown by the stages.
+     *
+     * @param failure the failure
+     */
+    public abstract void onFailure(Throwable failure);
+
+    /**
+     * Receives the completion of the source.
+     */
+    public abstract void onCompletion();
+}
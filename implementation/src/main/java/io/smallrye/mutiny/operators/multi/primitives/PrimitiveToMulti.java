@@ -0,0 +1,83 @@
+package io.smallrye.mutiny.operators.multi.primitives;
+
+import java.util.function.Function;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Converts a {@link PrimitivePipeline} back to a {@link io.smallrye.mutiny.Multi}. This is where the values are boxed
+ * (or mapped to objects), and where the downstream requests enter the pipeline.
+ *
+ * @param <S> the type of sink of the pipeline
+ * @param <T> the type of item
+ */
+public final class PrimitiveToMulti<S, T> extends AbstractMulti<T> {
+
+    private final PrimitivePipeline<S> pipeline;
+    private final Function<Emitter<T>, S> sink;
+
+    /**
+     * Creates a new {@link PrimitiveToMulti}.
+     *
+     * @param pipeline the pipeline
+     * @param sink creates the sink of the pipeline, mapping the values to items and passing them to the emitter
+     */
+    public PrimitiveToMulti(PrimitivePipeline<S> pipeline, Function<Emitter<T>, S> sink) {
+        this.pipeline = pipeline;
+        this.sink = sink;
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> downstream) {
+        ParameterValidation.nonNullNpe(downstream, "subscriber");
+        Emitter<T> emitter = new Emitter<>(downstream);
+        pipeline.subscribe(sink.apply(emitter), emitter);
+    }
+
+    /**
+     * Terminal passing the items to the downstream subscriber.
+     *
+     * @param <T> the type of item
+     */
+    public static final class Emitter<T> extends PrimitiveTerminal {
+
+        private final MultiSubscriber<? super T> downstream;
+
+        Emitter(MultiSubscriber<? super T> downstream) {
+            this.downstream = downstream;
+        }
+
+        /**
+         * Emits an item. Must only be called from the sink.
+         *
+         * @param item the item, must not be {@code null}
+         */
+        public void emit(T item) {
+            if (item == null) {
+                throw new NullPointerException("The mapper returned `null`");
+            }
+            produced++;
+            downstream.onItem(item);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            downstream.onSubscribe(Subscriptions.nonFuseable(subscription));
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            downstream.onFailure(failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            downstream.onCompletion();
+        }
+    }
+}
@@ -1,8 +1,5 @@
 package io.smallrye.mutiny.operators.multi.processors;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -36,18 +33,28 @@ import io.smallrye.mutiny.subscription.MultiSubscriber;
  * not required if the processor is used as a <em>standalone</em> source. However, calling {@code onSubscribe} after
  * the {@code BroadcastProcessor} has failed or reached completion results in the given {@link Subscription} being
  * canceled immediately.
+ * <p>
+ * The subscribers are stored in an immutable array, replaced atomically when a subscriber joins or leaves. So,
+ * emitting an item iterates over a plain array, and only the subscription and cancellation pay for the copy.
  */
 public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor<T, T> {
 
+    /**
+     * Value indicating that there are no subscribers.
+     */
+    @SuppressWarnings("rawtypes")
+    static final BroadcastSubscription[] EMPTY = new BroadcastSubscription[0];
+
     /**
      * Value indicating that the upstream has been cancelled.
      */
-    static final List<?> TERMINATED = new ArrayList<>(0);
+    @SuppressWarnings("rawtypes")
+    static final BroadcastSubscription[] TERMINATED = new BroadcastSubscription[0];
 
     /**
      * The array of currently subscribed subscribers.
      */
-    final AtomicReference<List<BroadcastSubscription<T>>> subscribers;
+    final AtomicReference<BroadcastSubscription<T>[]> subscribers;
 
     /**
      * The failure, write before terminating and read after checking subscribers.
@@ -67,8 +74,9 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
     /**
      * Constructs a BroadcastProcessor.
      */
+    @SuppressWarnings("unchecked")
     private BroadcastProcessor() {
-        subscribers = new AtomicReference<>(new CopyOnWriteArrayList<>());
+        subscribers = new AtomicReference<>(EMPTY);
     }
 
     public SerializedProcessor<T, T> serialized() {
@@ -83,11 +91,20 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
      * @return {@code true} if successful, {@code false} if this processor has terminated
      */
     private boolean addSubscription(BroadcastSubscription<T> sub) {
-        List<BroadcastSubscription<T>> current = subscribers.get();
-        if (current == TERMINATED) {
-            return false;
+        for (;;) {
+            BroadcastSubscription<T>[] current = subscribers.get();
+            if (current == TERMINATED) {
+                return false;
+            }
+            int n = current.length;
+            @SuppressWarnings({ "rawtypes", "unchecked" })
+            BroadcastSubscription<T>[] updated = new BroadcastSubscription[n + 1];
+            System.arraycopy(current, 0, updated, 0, n);
+            updated[n] = sub;
+            if (subscribers.compareAndSet(current, updated)) {
+                return true;
+            }
         }
-        return current.add(sub);
     }
 
     /**
@@ -95,12 +112,37 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
      *
      * @param sub the subscription wrapping a subscriber to remove
      */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
     void remove(BroadcastSubscription<T> sub) {
-        List<BroadcastSubscription<T>> current = subscribers.get();
-        if (current == TERMINATED || current.isEmpty()) {
-            return;
+        for (;;) {
+            BroadcastSubscription<T>[] current = subscribers.get();
+            int n = current.length;
+            if (n == 0) {
+                // empty or terminated
+                return;
+            }
+            int index = -1;
+            for (int i = 0; i < n; i++) {
+                if (current[i] == sub) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return;
+            }
+            BroadcastSubscription<T>[] updated;
+            if (n == 1) {
+                updated = EMPTY;
+            } else {
+                updated = new BroadcastSubscription[n - 1];
+                System.arraycopy(current, 0, updated, 0, index);
+                System.arraycopy(current, index + 1, updated, index, n - index - 1);
+            }
+            if (subscribers.compareAndSet(current, updated)) {
+                return;
+            }
         }
-        current.remove(sub);
     }
 
     @Override
@@ -139,7 +181,7 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
         }
     }
 
-    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @SuppressWarnings("unchecked")
     @Override
     public void onError(Throwable failure) {
         ParameterValidation.nonNullNpe(failure, "failure");
@@ -147,20 +189,18 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
             return;
         }
         this.failure = failure;
-        List<BroadcastSubscription<?>> andSet = subscribers.getAndSet((List) TERMINATED);
-        for (BroadcastSubscription<?> s : andSet) {
+        for (BroadcastSubscription<T> s : subscribers.getAndSet(TERMINATED)) {
             s.onError(failure);
         }
     }
 
-    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @SuppressWarnings("unchecked")
     @Override
     public void onComplete() {
         if (subscribers.get() == TERMINATED) {
             return;
         }
-        List<BroadcastSubscription<?>> andSet = subscribers.getAndSet((List) TERMINATED);
-        for (BroadcastSubscription<?> s : andSet) {
+        for (BroadcastSubscription<T> s : subscribers.getAndSet(TERMINATED)) {
             s.onComplete();
         }
     }
@@ -7,6 +7,8 @@ import org.reactivestreams.Processor;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.helpers.Subscriptions;
+
 /**
  * Wraps a processor into a serialized version of this processor.
  *
@@ -72,7 +74,7 @@ public class SerializedProcessor<I, O> implements Processor<I, O> {
         if (cancel) {
             s.cancel();
         } else {
-            actual.onSubscribe(s);
+            actual.onSubscribe(Subscriptions.nonFuseable(s));
             emitLoop();
         }
     }
@@ -177,7 +179,7 @@ public class SerializedProcessor<I, O> implements Processor<I, O> {
         for (Object event : queue) {
             if (event != null) {
                 if (event instanceof SerializedProcessor.SubscriptionEvent) {
-                    subscriber.onSubscribe(((SubscriptionEvent) event).subscription);
+                    subscriber.onSubscribe(Subscriptions.nonFuseable(((SubscriptionEvent) event).subscription));
                 }
 
                 if (event instanceof SerializedProcessor.FailureEvent) {
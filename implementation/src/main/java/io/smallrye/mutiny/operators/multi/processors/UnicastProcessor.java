@@ -17,6 +17,7 @@ import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
 
 /**
  * Implementation of a processor using a queue to store items and allows a single subscriber to receive
@@ -24,6 +25,9 @@ import io.smallrye.mutiny.subscription.MultiSubscriber;
  * <p>
  * The back pressure model is not using the request protocol but the queue used to store the items. If the queue
  * gets full, an {@link io.smallrye.mutiny.subscription.BackPressureFailure} exception is propagated downstream.
+ * <p>
+ * The subscription passed to the subscriber supports {@link QueueSubscription#ASYNC asynchronous fusion}: a fused
+ * subscriber polls the items directly from the processor's queue.
  *
  * @param <T> the type of item
  */
@@ -39,6 +43,7 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
     private final AtomicLong requested = new AtomicLong();
     private final AtomicReference<Subscriber<? super T>> downstream = new AtomicReference<>();
     private volatile boolean hasUpstream;
+    private volatile boolean outputFused;
 
     /**
      * Creates a new {@link UnicastProcessor} using a new unbounded queue.
@@ -119,6 +124,37 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
         }
     }
 
+    void drainFused(Subscriber<? super T> actual) {
+        int missed = 1;
+
+        for (;;) {
+            if (cancelled.get()) {
+                // the fused subscriber clears the queue
+                return;
+            }
+
+            boolean d = done.get();
+
+            // signal the availability of items
+            actual.onNext(null);
+
+            if (d) {
+                Throwable failed = failure.get();
+                if (failed != null) {
+                    actual.onError(failed);
+                } else {
+                    actual.onComplete();
+                }
+                return;
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
     private void drain() {
         if (wip.getAndIncrement() != 0) {
             return;
@@ -128,7 +164,11 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
         for (;;) {
             Subscriber<? super T> actual = downstream.get();
             if (actual != null) {
-                drainWithDownstream(actual);
+                if (outputFused) {
+                    drainFused(actual);
+                } else {
+                    drainWithDownstream(actual);
+                }
                 return;
             }
             missed = wip.addAndGet(-missed);
@@ -175,7 +215,7 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
     public void subscribe(MultiSubscriber<? super T> downstream) {
         ParameterValidation.nonNull(downstream, "downstream");
         if (this.downstream.compareAndSet(null, downstream)) {
-            downstream.onSubscribe(this);
+            downstream.onSubscribe(new UnicastSubscription());
             if (!cancelled.get()) {
                 drain();
             }
@@ -237,7 +277,7 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
     public void cancel() {
         if (cancelled.compareAndSet(false, true)) {
             onTerminate();
-            if (wip.getAndIncrement() == 0) {
+            if (!outputFused && wip.getAndIncrement() == 0) {
                 queue.clear();
             }
             downstream.set(null);
@@ -257,4 +297,44 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
     public SerializedProcessor<T, T> serialized() {
         return new SerializedProcessor<>(this);
     }
+
+    /**
+     * The subscription passed to the subscriber, supporting the asynchronous fusion with the queue of the processor.
+     */
+    private final class UnicastSubscription implements QueueSubscription<T> {
+
+        @Override
+        public void request(long n) {
+            UnicastProcessor.this.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            UnicastProcessor.this.cancel();
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            if ((mode & ASYNC) != 0) {
+                outputFused = true;
+                return ASYNC;
+            }
+            return NONE;
+        }
+
+        @Override
+        public T poll() {
+            return queue.poll();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            queue.clear();
+        }
+    }
 }
@@ -1,17 +1,18 @@
 package io.smallrye.mutiny.operators.uni;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.EmptyUniSubscription;
+import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniOperator;
@@ -20,18 +21,34 @@ import io.smallrye.mutiny.subscription.UniSubscription;
 
 public class UniAndCombination<I, O> extends UniOperator<I, O> {
 
-    private static final Object SENTINEL = new Object();
-
     private final Function<List<?>, O> combinator;
     private final List<Uni<?>> unis;
     private final boolean collectAllFailureBeforeFiring;
+    private final int concurrency;
 
     public UniAndCombination(Uni<? extends I> upstream, List<? extends Uni<?>> others,
             Function<List<?>, O> combinator,
             boolean collectAllFailureBeforeFiring) {
+        this(upstream, others, combinator, collectAllFailureBeforeFiring, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new {@link UniAndCombination} subscribing to at most {@code concurrency} {@link Uni unis} at the same
+     * time. The next {@link Uni} is subscribed when one of the subscribed ones emits its item or failure.
+     *
+     * @param upstream the upstream, can be {@code null}
+     * @param others the other unis
+     * @param combinator the combinator
+     * @param collectAllFailureBeforeFiring whether the failures are propagated once all the unis have terminated
+     * @param concurrency the maximum number of concurrently subscribed unis, must be strictly positive
+     */
+    public UniAndCombination(Uni<? extends I> upstream, List<? extends Uni<?>> others,
+            Function<List<?>, O> combinator,
+            boolean collectAllFailureBeforeFiring,
+            int concurrency) {
         super(upstream);
 
-        this.unis = new ArrayList<>();
+        this.unis = new ArrayList<>(others.size() + 1);
         // upstream can be null when using the all (static) operator.
         if (upstream != null) {
             this.unis.add(upstream);
@@ -40,41 +57,101 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
 
         this.combinator = combinator;
         this.collectAllFailureBeforeFiring = collectAllFailureBeforeFiring;
+        this.concurrency = ParameterValidation.positive(concurrency, "concurrency");
     }
 
     @Override
     protected void subscribing(UniSubscriber<? super O> subscriber) {
-        AndSupervisor andSupervisor = new AndSupervisor(subscriber);
+        AndSupervisor<O> andSupervisor = new AndSupervisor<>(this, subscriber);
         subscriber.onSubscribe(andSupervisor);
         // Must wait until the subscriber get a subscription before subscribing to the sources.
         andSupervisor.run();
     }
 
-    private class AndSupervisor implements UniSubscription {
+    private static class AndSupervisor<O> implements UniSubscription {
 
-        private final List<UniHandler> handlers = new ArrayList<>();
+        private final UniAndCombination<?, O> operator;
+        private final List<UniHandler> handlers;
+        private final Object[] items;
         private final UniSubscriber<? super O> subscriber;
 
-        AtomicBoolean cancelled = new AtomicBoolean();
+        /**
+         * The number of unis which have not emitted their item or failure yet.
+         */
+        private volatile int remaining;
+
+        /**
+         * Whether one of the unis has emitted a failure, only used when the failures are collected.
+         */
+        private volatile boolean failed;
 
-        AndSupervisor(UniSubscriber<? super O> sub) {
+        /**
+         * The number of pending subscriptions, when the concurrency is bounded. The unis are subscribed from a loop,
+         * so synchronous unis do not subscribe the next ones recursively.
+         */
+        private volatile int wip;
+        // Only accessed from the subscription loop
+        private int next;
+
+        private volatile int cancelled;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<AndSupervisor> REMAINING = AtomicIntegerFieldUpdater
+                .newUpdater(AndSupervisor.class, "remaining");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<AndSupervisor> WIP = AtomicIntegerFieldUpdater
+                .newUpdater(AndSupervisor.class, "wip");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<AndSupervisor> CANCELLED = AtomicIntegerFieldUpdater
+                .newUpdater(AndSupervisor.class, "cancelled");
+
+        AndSupervisor(UniAndCombination<?, O> operator, UniSubscriber<? super O> sub) {
+            this.operator = operator;
             subscriber = sub;
 
-            for (Uni u : unis) {
-                UniHandler result = new UniHandler(this, u);
-                handlers.add(result);
+            int size = operator.unis.size();
+            handlers = new ArrayList<>(size);
+            items = new Object[size];
+            remaining = size;
+            for (int i = 0; i < size; i++) {
+                handlers.add(new UniHandler(this, operator.unis.get(i), i));
             }
-
         }
 
         private void run() {
-            handlers.forEach(UniHandler::subscribe);
+            if (operator.concurrency >= handlers.size()) {
+                for (UniHandler handler : handlers) {
+                    handler.subscribe();
+                }
+            } else {
+                for (int i = 0; i < operator.concurrency; i++) {
+                    subscribeNext();
+                }
+            }
+        }
+
+        private void subscribeNext() {
+            if (WIP.getAndIncrement(this) != 0) {
+                return;
+            }
+            do {
+                int index = next++;
+                if (index < handlers.size() && cancelled == 0) {
+                    handlers.get(index).subscribe();
+                }
+            } while (WIP.decrementAndGet(this) != 0);
         }
 
         @Override
         public void cancel() {
-            if (cancelled.compareAndSet(false, true)) {
-                handlers.forEach(UniHandler::cancel);
+            if (CANCELLED.compareAndSet(this, 0, 1)) {
+                cancelAll();
+            }
+        }
+
+        private void cancelAll() {
+            for (UniHandler handler : handlers) {
+                handler.cancel();
             }
         }
 
@@ -86,83 +163,78 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
          * @param failed whether the {@code res} just fired a failure
          */
         void check(UniHandler res, boolean failed) {
-            int incomplete = unis.size();
-
-            // One of the uni failed, and we can fire a failure immediately.
-            if (failed && !collectAllFailureBeforeFiring) {
-                if (cancelled.compareAndSet(false, true)) {
-                    // Cancel all subscriptions
-                    handlers.forEach(UniHandler::cancel);
-                    // Invoke observer
-                    subscriber.onFailure(res.failure);
-                }
-                return;
-            }
-
-            for (UniHandler result : handlers) {
-                if (result.failure != null || result.item != SENTINEL) {
-                    incomplete = incomplete - 1;
+            if (failed) {
+                // One of the uni failed, and we can fire a failure immediately.
+                if (!operator.collectAllFailureBeforeFiring) {
+                    if (CANCELLED.compareAndSet(this, 0, 1)) {
+                        // Cancel all subscriptions
+                        cancelAll();
+                        // Invoke observer
+                        subscriber.onFailure(res.failure);
+                    }
+                    return;
                 }
+                this.failed = true;
             }
 
-            if (incomplete == 0) {
+            // The item and failure fields are published by the decrement
+            if (REMAINING.decrementAndGet(this) == 0) {
                 // All unis has fired an event, check the outcome
-                if (cancelled.compareAndSet(false, true)) {
-                    List<Throwable> failures = getFailures();
-                    List<Object> items = getItems();
-                    computeAndFireTheOutcome(failures, items);
+                if (CANCELLED.compareAndSet(this, 0, 1)) {
+                    computeAndFireTheOutcome();
                 }
+            } else if (operator.concurrency < handlers.size()) {
+                subscribeNext();
             }
-
         }
 
-        private void computeAndFireTheOutcome(List<Throwable> failures, List<Object> items) {
-            if (failures.isEmpty()) {
+        private void computeAndFireTheOutcome() {
+            if (!failed) {
                 O aggregated;
                 try {
-                    aggregated = combinator.apply(items);
+                    aggregated = operator.combinator.apply(Arrays.asList(items));
                 } catch (Throwable e) {
                     subscriber.onFailure(e);
                     return;
                 }
                 subscriber.onItem(aggregated);
-            } else if (failures.size() == 1) {
+                return;
+            }
+            List<Throwable> failures = new ArrayList<>();
+            for (UniHandler handler : handlers) {
+                if (handler.failure != null) {
+                    failures.add(handler.failure);
+                }
+            }
+            if (failures.size() == 1) {
                 // If we had a single failure, fire it without the CompositeException envelope.
                 subscriber.onFailure(failures.get(0));
             } else {
                 subscriber.onFailure(new CompositeException(failures));
             }
         }
-
-        private List<Object> getItems() {
-            return this.handlers.stream()
-                    .map(u -> u.item)
-                    .collect(Collectors.toList());
-        }
-
-        private List<Throwable> getFailures() {
-            return handlers.stream()
-                    .filter(u -> u.failure != null).map(u -> u.failure)
-                    .collect(Collectors.toList());
-        }
     }
 
-    private class UniHandler implements UniSubscription, UniSubscriber {
+    private static class UniHandler implements UniSubscription, UniSubscriber {
 
-        final AtomicReference<UniSubscription> subscription = new AtomicReference<>();
-        private final AndSupervisor supervisor;
+        private volatile UniSubscription subscription;
+        private final AndSupervisor<?> supervisor;
         private final Uni uni;
-        Object item = SENTINEL;
+        private final int index;
         Throwable failure;
 
-        UniHandler(AndSupervisor supervisor, Uni observed) {
+        private static final AtomicReferenceFieldUpdater<UniHandler, UniSubscription> SUBSCRIPTION = AtomicReferenceFieldUpdater
+                .newUpdater(UniHandler.class, UniSubscription.class, "subscription");
+
+        UniHandler(AndSupervisor<?> supervisor, Uni observed, int index) {
             this.supervisor = supervisor;
             this.uni = observed;
+            this.index = index;
         }
 
         @Override
         public final void onSubscribe(UniSubscription sub) {
-            if (!subscription.compareAndSet(null, sub)) {
+            if (!SUBSCRIPTION.compareAndSet(this, null, sub)) {
                 // cancelling this second subscription
                 // because we already add a subscription (most probably CANCELLED)
                 sub.cancel();
@@ -171,7 +243,7 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
 
         @Override
         public final void onFailure(Throwable t) {
-            if (subscription.getAndSet(EmptyUniSubscription.CANCELLED) == EmptyUniSubscription.CANCELLED) {
+            if (SUBSCRIPTION.getAndSet(this, EmptyUniSubscription.CANCELLED) == EmptyUniSubscription.CANCELLED) {
                 // Already cancelled, do nothing
                 Infrastructure.handleDroppedException(t);
                 return;
@@ -182,17 +254,17 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
 
         @Override
         public final void onItem(Object x) {
-            if (subscription.getAndSet(EmptyUniSubscription.CANCELLED) == EmptyUniSubscription.CANCELLED) {
+            if (SUBSCRIPTION.getAndSet(this, EmptyUniSubscription.CANCELLED) == EmptyUniSubscription.CANCELLED) {
                 // Already cancelled, do nothing
                 return;
             }
-            this.item = x;
+            supervisor.items[index] = x;
             supervisor.check(this, false);
         }
 
         @Override
         public void cancel() {
-            Subscription sub = subscription.getAndSet(EmptyUniSubscription.CANCELLED);
+            Subscription sub = SUBSCRIPTION.getAndSet(this, EmptyUniSubscription.CANCELLED);
             if (sub != null) {
                 sub.cancel();
             }
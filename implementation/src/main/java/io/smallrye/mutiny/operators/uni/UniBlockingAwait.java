@@ -5,9 +5,7 @@ import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
 
 import java.time.Duration;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 import io.smallrye.mutiny.TimeoutException;
 import io.smallrye.mutiny.Uni;
@@ -18,6 +16,12 @@ import io.smallrye.mutiny.subscription.UniSubscription;
 
 public class UniBlockingAwait {
 
+    /**
+     * Number of times the awaiting thread checks for the outcome before parking. Spinning only makes sense when
+     * the outcome can be produced by another core in the meantime.
+     */
+    static final int SPINS = Runtime.getRuntime().availableProcessors() > 1 ? 256 : 0;
+
     private UniBlockingAwait() {
         // Avoid direct instantiation.
     }
@@ -30,49 +34,114 @@ public class UniBlockingAwait {
             throw new IllegalStateException("The current thread cannot be blocked: " + Thread.currentThread().getName());
         }
 
-        CountDownLatch latch = new CountDownLatch(1);
-        AtomicReference<T> reference = new AtomicReference<>();
-        AtomicReference<Throwable> referenceToFailure = new AtomicReference<>();
-        UniSubscriber<T> subscriber = new UniSubscriber<T>() {
-            @Override
-            public void onSubscribe(UniSubscription subscription) {
-                // Do nothing.
-            }
-
-            @Override
-            public void onItem(T item) {
-                reference.set(item);
-                latch.countDown();
-            }
-
-            @Override
-            public void onFailure(Throwable failure) {
-                referenceToFailure.compareAndSet(null, failure);
-                latch.countDown();
-            }
-        };
+        BlockingSubscriber<T> subscriber = new BlockingSubscriber<>(Thread.currentThread());
         AbstractUni.subscribe(upstream, subscriber);
-        try {
-            if (duration != null) {
-                if (!latch.await(duration.toMillis(), TimeUnit.MILLISECONDS)) {
-                    referenceToFailure.compareAndSet(null, new TimeoutException());
-                }
-            } else {
-                latch.await();
-            }
-        } catch (InterruptedException e) {
-            referenceToFailure.compareAndSet(null, e);
-            Thread.currentThread().interrupt();
+        if (!subscriber.await(toNanos(duration))) {
+            subscriber.failure = new TimeoutException();
         }
 
-        Throwable throwable = referenceToFailure.get();
+        Throwable throwable = subscriber.failure;
         if (throwable != null) {
             if (throwable instanceof RuntimeException) {
                 throw (RuntimeException) throwable;
             }
             throw new CompletionException(throwable);
         } else {
-            return reference.get();
+            return subscriber.item;
+        }
+    }
+
+    /**
+     * Subscriber receiving the outcome and acting as the latch on which the awaiting thread parks, so a single object
+     * is allocated per call.
+     * <p>
+     * The item and failure fields are written before the volatile {@code done} flag and read after it, which makes
+     * them visible to the awaiting thread.
+     *
+     * @param <T> the type of item
+     */
+    private static final class BlockingSubscriber<T> implements UniSubscriber<T> {
+
+        private final Thread waiter;
+        private volatile boolean done;
+        T item;
+        Throwable failure;
+
+        BlockingSubscriber(Thread waiter) {
+            this.waiter = waiter;
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            // Do nothing.
+        }
+
+        @Override
+        public void onItem(T item) {
+            if (!done) {
+                this.item = item;
+                release();
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (!done) {
+                this.failure = failure;
+                release();
+            }
+        }
+
+        private void release() {
+            done = true;
+            LockSupport.unpark(waiter);
+        }
+
+        /**
+         * Spins, then parks until the outcome is received.
+         *
+         * @param timeoutInNanos the timeout in nanoseconds, {@code 0} to wait indefinitely
+         * @return {@code false} if the timeout expired before receiving the outcome, {@code true} otherwise
+         */
+        boolean await(long timeoutInNanos) {
+            for (int i = 0; i < SPINS; i++) {
+                if (done) {
+                    return true;
+                }
+            }
+
+            long deadline = timeoutInNanos == 0L ? 0L : System.nanoTime() + timeoutInNanos;
+            while (!done) {
+                if (Thread.interrupted()) {
+                    if (!done) {
+                        failure = new InterruptedException();
+                        done = true;
+                    }
+                    Thread.currentThread().interrupt();
+                    return true;
+                }
+                if (deadline == 0L) {
+                    LockSupport.park(this);
+                } else {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0L) {
+                        return done;
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                }
+            }
+            return true;
+        }
+    }
+
+    private static long toNanos(Duration duration) {
+        if (duration == null) {
+            return 0L;
+        }
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException overflow) {
+            return Long.MAX_VALUE;
         }
     }
 
@@ -0,0 +1,120 @@
+package io.smallrye.mutiny.operators.uni;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Predicate;
+
+import io.smallrye.mutiny.CircuitBreakerOpenException;
+import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.CircuitBreaker;
+import io.smallrye.mutiny.helpers.EmptyUniSubscription;
+import io.smallrye.mutiny.operators.AbstractUni;
+import io.smallrye.mutiny.operators.UniOperator;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+/**
+ * Uni operator protecting the upstream with a {@link CircuitBreaker}. Each subscription is a call: when the breaker
+ * rejects it, the subscriber receives a {@link CircuitBreakerOpenException} and the upstream is not subscribed.
+ * Otherwise, the item is recorded as a success, and the failures matching the predicate are recorded as failures.
+ *
+ * @param <T> the type of item
+ */
+public class UniCircuitBreaker<T> extends UniOperator<T, T> {
+
+    private final CircuitBreaker breaker;
+    private final Predicate<? super Throwable> predicate;
+
+    public UniCircuitBreaker(Uni<T> upstream, CircuitBreaker breaker, Predicate<? super Throwable> predicate) {
+        super(nonNull(upstream, "upstream"));
+        this.breaker = nonNull(breaker, "breaker");
+        this.predicate = nonNull(predicate, "predicate");
+    }
+
+    @Override
+    protected void subscribing(UniSubscriber<? super T> subscriber) {
+        CircuitBreaker.Permit permit = breaker.tryAcquirePermission();
+        if (permit == null) {
+            EmptyUniSubscription.propagateFailureEvent(subscriber,
+                    new CircuitBreakerOpenException("The circuit breaker is open"));
+            return;
+        }
+        AbstractUni.subscribe(upstream(), new CircuitBreakerSubscriber<>(subscriber, permit, predicate));
+    }
+
+    private static class CircuitBreakerSubscriber<T> implements UniSubscriber<T>, UniSubscription {
+
+        private final UniSubscriber<? super T> downstream;
+        private final CircuitBreaker.Permit permit;
+        private final Predicate<? super Throwable> predicate;
+        private volatile UniSubscription upstream;
+        private volatile int done;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<CircuitBreakerSubscriber, UniSubscription> UPSTREAM = AtomicReferenceFieldUpdater
+                .newUpdater(CircuitBreakerSubscriber.class, UniSubscription.class, "upstream");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<CircuitBreakerSubscriber> DONE = AtomicIntegerFieldUpdater
+                .newUpdater(CircuitBreakerSubscriber.class, "done");
+
+        CircuitBreakerSubscriber(UniSubscriber<? super T> downstream, CircuitBreaker.Permit permit,
+                Predicate<? super Throwable> predicate) {
+            this.downstream = downstream;
+            this.permit = permit;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            if (UPSTREAM.compareAndSet(this, null, subscription)) {
+                downstream.onSubscribe(this);
+            } else {
+                // Already cancelled
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(T item) {
+            if (DONE.compareAndSet(this, 0, 1)) {
+                permit.onSuccess();
+                downstream.onItem(item);
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (DONE.compareAndSet(this, 0, 1)) {
+                boolean recorded;
+                try {
+                    recorded = predicate.test(failure);
+                } catch (Throwable e) {
+                    permit.onFailure();
+                    downstream.onFailure(new CompositeException(failure, e));
+                    return;
+                }
+                if (recorded) {
+                    permit.onFailure();
+                } else {
+                    permit.onSuccess();
+                }
+                downstream.onFailure(failure);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (DONE.compareAndSet(this, 0, 1)) {
+                permit.onCancellation();
+            }
+            UniSubscription subscription = UPSTREAM.getAndSet(this, EmptyUniSubscription.CANCELLED);
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
+}
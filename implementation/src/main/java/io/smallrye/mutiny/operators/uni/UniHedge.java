@@ -0,0 +1,240 @@
+package io.smallrye.mutiny.operators.uni;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.EmptyUniSubscription;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.AbstractUni;
+import io.smallrye.mutiny.operators.UniOperator;
+import io.smallrye.mutiny.operators.uni.hedging.AdaptiveHedgeDelay;
+import io.smallrye.mutiny.operators.uni.hedging.HedgeBudget;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+/**
+ * Sends hedged requests: if the upstream does not emit an item after a delay, another attempt is subscribed while the
+ * first one keeps running, and so on up to the maximum number of hedges. The first item wins, and the other attempts
+ * are cancelled. A failure is only propagated when no attempt is running anymore.
+ *
+ * @param <T> the type of item
+ */
+public class UniHedge<T> extends UniOperator<T, T> {
+
+    private final Supplier<Uni<? extends T>> hedges;
+    private final Duration delay;
+    private final int maxHedges;
+    private final HedgeBudget budget;
+    private final AdaptiveHedgeDelay adaptiveDelay;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Creates a new {@link UniHedge}.
+     *
+     * @param upstream the upstream, subscribed for the first attempt
+     * @param hedges the supplier of the hedged attempts, {@code null} to subscribe to the upstream again
+     * @param delay the delay before each hedge, when no adaptive delay is available
+     * @param maxHedges the maximum number of hedges
+     * @param budget the budget limiting the hedges, {@code null} if the hedges are not limited
+     * @param adaptiveDelay the adaptive delay, {@code null} to always use {@code delay}
+     * @param executor the executor used to schedule the hedges, {@code null} to use the default worker pool
+     */
+    public UniHedge(Uni<T> upstream, Supplier<Uni<? extends T>> hedges, Duration delay, int maxHedges,
+            HedgeBudget budget, AdaptiveHedgeDelay adaptiveDelay, ScheduledExecutorService executor) {
+        super(upstream);
+        this.hedges = hedges;
+        this.delay = ParameterValidation.validate(delay, "delay");
+        this.maxHedges = ParameterValidation.positive(maxHedges, "maxHedges");
+        this.budget = budget;
+        this.adaptiveDelay = adaptiveDelay;
+        this.executor = executor == null ? Infrastructure.getDefaultWorkerPool() : executor;
+    }
+
+    @Override
+    protected void subscribing(UniSubscriber<? super T> subscriber) {
+        if (budget != null) {
+            budget.onRequest();
+        }
+        HedgeSupervisor<T> supervisor = new HedgeSupervisor<>(this, subscriber);
+        subscriber.onSubscribe(supervisor);
+        supervisor.launch(upstream());
+    }
+
+    private static class HedgeSupervisor<T> implements UniSubscription {
+
+        private final UniHedge<T> operator;
+        private final UniSubscriber<? super T> downstream;
+        private volatile int done;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<HedgeSupervisor> DONE = AtomicIntegerFieldUpdater
+                .newUpdater(HedgeSupervisor.class, "done");
+
+        // Guarded by this
+        private final List<Attempt<T>> attempts;
+        private int running;
+        private ScheduledFuture<?> task;
+
+        HedgeSupervisor(UniHedge<T> operator, UniSubscriber<? super T> downstream) {
+            this.operator = operator;
+            this.downstream = downstream;
+            this.attempts = new ArrayList<>(operator.maxHedges + 1);
+        }
+
+        void launch(Uni<? extends T> uni) {
+            Attempt<T> attempt = new Attempt<>(this);
+            synchronized (this) {
+                if (done == 1) {
+                    return;
+                }
+                attempts.add(attempt);
+                running++;
+            }
+            AbstractUni.subscribe(uni, attempt);
+            scheduleNextHedge();
+        }
+
+        private void scheduleNextHedge() {
+            long nanos = operator.adaptiveDelay == null ? -1L : operator.adaptiveDelay.delayNanos();
+            if (nanos < 0) {
+                nanos = operator.delay.toNanos();
+            }
+            synchronized (this) {
+                if (done == 1 || attempts.size() > operator.maxHedges) {
+                    return;
+                }
+                try {
+                    task = operator.executor.schedule(this::hedge, nanos, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    // Executor out of service, the running attempts continue without hedges
+                    Infrastructure.handleDroppedException(e);
+                }
+            }
+        }
+
+        private void hedge() {
+            if (done == 1 || (operator.budget != null && !operator.budget.tryAcquire())) {
+                return;
+            }
+            Uni<? extends T> uni;
+            if (operator.hedges == null) {
+                uni = operator.upstream();
+            } else {
+                try {
+                    uni = operator.hedges.get();
+                    if (uni == null) {
+                        throw new NullPointerException(ParameterValidation.SUPPLIER_PRODUCED_NULL);
+                    }
+                } catch (Throwable e) {
+                    // The hedge cannot be created, the running attempts continue
+                    Infrastructure.handleDroppedException(e);
+                    return;
+                }
+            }
+            launch(uni);
+        }
+
+        void onAttemptItem(Attempt<T> attempt, T item) {
+            if (DONE.compareAndSet(this, 0, 1)) {
+                if (operator.adaptiveDelay != null) {
+                    operator.adaptiveDelay.record(System.nanoTime() - attempt.subscribedAt);
+                }
+                cancelAttempts(attempt);
+                downstream.onItem(item);
+            }
+        }
+
+        void onAttemptFailure(Throwable failure) {
+            boolean last;
+            synchronized (this) {
+                running--;
+                // The other attempts may still emit an item, and the pending hedge is not sent
+                last = running == 0 && DONE.compareAndSet(this, 0, 1);
+            }
+            if (last) {
+                cancelAttempts(null);
+                downstream.onFailure(failure);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (DONE.compareAndSet(this, 0, 1)) {
+                cancelAttempts(null);
+            }
+        }
+
+        private void cancelAttempts(Attempt<T> winner) {
+            List<Attempt<T>> toCancel;
+            ScheduledFuture<?> future;
+            synchronized (this) {
+                toCancel = new ArrayList<>(attempts);
+                future = task;
+                task = null;
+            }
+            if (future != null) {
+                future.cancel(false);
+            }
+            for (Attempt<T> attempt : toCancel) {
+                if (attempt != winner) {
+                    attempt.cancel();
+                }
+            }
+        }
+    }
+
+    private static class Attempt<T> implements UniSubscriber<T>, UniSubscription {
+
+        private volatile UniSubscription subscription;
+        private final HedgeSupervisor<T> supervisor;
+        private final long subscribedAt = System.nanoTime();
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Attempt, UniSubscription> SUBSCRIPTION = AtomicReferenceFieldUpdater
+                .newUpdater(Attempt.class, UniSubscription.class, "subscription");
+
+        Attempt(HedgeSupervisor<T> supervisor) {
+            this.supervisor = supervisor;
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription sub) {
+            if (!SUBSCRIPTION.compareAndSet(this, null, sub)) {
+                // Already cancelled
+                sub.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(T item) {
+            if (SUBSCRIPTION.getAndSet(this, EmptyUniSubscription.CANCELLED) != EmptyUniSubscription.CANCELLED) {
+                supervisor.onAttemptItem(this, item);
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (SUBSCRIPTION.getAndSet(this, EmptyUniSubscription.CANCELLED) != EmptyUniSubscription.CANCELLED) {
+                supervisor.onAttemptFailure(failure);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            UniSubscription sub = SUBSCRIPTION.getAndSet(this, EmptyUniSubscription.CANCELLED);
+            if (sub != null) {
+                sub.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.smallrye.mutiny.operators.uni;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.PipelineMetrics;
+import io.smallrye.mutiny.operators.AbstractUni;
+import io.smallrye.mutiny.operators.UniOperator;
+import io.smallrye.mutiny.subscription.UniDelegatingSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+/**
+ * Reports the events of each subscription to a {@link PipelineMetrics}.
+ *
+ * @param <T> the type of item
+ */
+public class UniInstrumentOp<T> extends UniOperator<T, T> {
+
+    private final PipelineMetrics metrics;
+
+    public UniInstrumentOp(Uni<T> upstream, PipelineMetrics metrics) {
+        super(upstream);
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void subscribing(UniSubscriber<? super T> subscriber) {
+        metrics.onSubscription();
+        long subscribedAt = System.nanoTime();
+        AtomicBoolean terminated = new AtomicBoolean();
+        AbstractUni.subscribe(upstream(), new UniDelegatingSubscriber<T, T>(subscriber) {
+            @Override
+            public void onSubscribe(UniSubscription subscription) {
+                super.onSubscribe(() -> {
+                    if (terminated.compareAndSet(false, true)) {
+                        metrics.onCancellation(System.nanoTime() - subscribedAt);
+                    }
+                    subscription.cancel();
+                });
+            }
+
+            @Override
+            public void onItem(T item) {
+                if (terminated.compareAndSet(false, true)) {
+                    long elapsed = System.nanoTime() - subscribedAt;
+                    metrics.onFirstItem(elapsed);
+                    metrics.onItem();
+                    metrics.onCompletion(elapsed);
+                }
+                super.onItem(item);
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+                if (terminated.compareAndSet(false, true)) {
+                    metrics.onFailure(failure, System.nanoTime() - subscribedAt);
+                }
+                super.onFailure(failure);
+            }
+        });
+    }
+}
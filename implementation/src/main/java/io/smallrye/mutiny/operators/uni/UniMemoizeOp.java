@@ -1,11 +1,7 @@
 package io.smallrye.mutiny.operators.uni;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
-import static java.util.Collections.synchronizedList;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
 
@@ -16,26 +12,33 @@ import io.smallrye.mutiny.operators.UniOperator;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
 
+/**
+ * Memoizes the item or failure emitted by the upstream.
+ * <p>
+ * The state is a single atomic reference holding either {@link #INIT} (no upstream subscription), {@link #IN_FLIGHT}
+ * or a lock-free stack of {@link Node} (the upstream subscription is in flight, with no or some waiting subscribers),
+ * or a {@link Result}. Subscribers arriving while the upstream subscription is in flight are pushed on the stack, and
+ * the stack is atomically swapped with the result when it arrives. Once the result is known, subscribers receive it
+ * directly, without locking and without any allocation.
+ * <p>
+ * The nodes of the stack are immutable. When a waiting subscriber cancels, the stack is replaced with a copy without
+ * the cancelled waiters, so cancelled subscribers do not accumulate while the upstream does not resolve.
+ * <p>
+ * The invalidation guard is only evaluated when no upstream subscription is in flight: a subscriber arriving while
+ * the upstream subscription is in flight waits for its result, even if the guard would have requested an
+ * invalidation. An invalidation discards the memoized result, and the next subscriber subscribes to the upstream
+ * again. The upstream subscription is never cancelled.
+ *
+ * @param <I> the type of item
+ */
 public class UniMemoizeOp<I> extends UniOperator<I, I> implements UniSubscriber<I> {
 
-    private enum State {
-        INIT,
-        SUBSCRIBING,
-        SUBSCRIBED,
-        CACHING
-    }
+    private static final Object INIT = new Object();
+    private static final Object IN_FLIGHT = new Object();
 
     private final BooleanSupplier invalidationRequested;
 
-    private final AtomicReference<State> state = new AtomicReference<>(State.INIT);
-
-    private final AtomicInteger wip = new AtomicInteger();
-    private final List<UniSubscriber<? super I>> awaitingSubscription = synchronizedList(new ArrayList<>());
-    private final List<UniSubscriber<? super I>> awaitingResult = synchronizedList(new ArrayList<>());
-
-    private volatile UniSubscription upstreamSubscription;
-    private volatile I item;
-    private volatile Throwable failure;
+    private final AtomicReference<Object> state = new AtomicReference<>(INIT);
 
     public UniMemoizeOp(Uni<? extends I> upstream) {
         this(upstream, () -> false);
@@ -46,141 +49,195 @@ public class UniMemoizeOp<I> extends UniOperator<I, I> implements UniSubscriber<
         this.invalidationRequested = invalidationRequested;
     }
 
+    private static boolean isInFlight(Object state) {
+        return state == IN_FLIGHT || state instanceof Node;
+    }
+
+    @SuppressWarnings("unchecked")
     @Override
     protected void subscribing(UniSubscriber<? super I> subscriber) {
-        if (invalidationRequested.getAsBoolean() && state.get() != State.SUBSCRIBING) {
-            state.set(State.INIT);
-            if (upstreamSubscription != null) {
-                upstreamSubscription.cancel();
-            }
+        Object current = state.get();
+        if (!isInFlight(current) && invalidationRequested.getAsBoolean() && current != INIT) {
+            // The memoized upstream subscription has already resolved, there is nothing to cancel. Another thread may
+            // have re-subscribed to the upstream as soon as the state moves to INIT.
+            state.compareAndSet(current, INIT);
+            current = state.get();
         }
 
         // Early exit with cached data
-        if (state.get() == State.CACHING) {
+        if (current instanceof Result) {
             subscriber.onSubscribe(EmptyUniSubscription.CANCELLED);
-            if (failure != null) {
-                subscriber.onFailure(failure);
+            ((Result<I>) current).deliver(subscriber);
+            return;
+        }
+
+        Waiter waiter = new Waiter(subscriber);
+        subscriber.onSubscribe(waiter);
+        for (;;) {
+            if (waiter.cancelled) {
+                return;
+            }
+            current = state.get();
+            if (current instanceof Result) {
+                // resolved in the meantime
+                ((Result<I>) current).deliver(subscriber);
+                return;
+            }
+            if (current == INIT) {
+                if (state.compareAndSet(INIT, new Node<>(waiter, null))) {
+                    // This thread is performing the upstream subscription
+                    AbstractUni.subscribe(upstream(), this);
+                    return;
+                }
             } else {
-                subscriber.onItem(item);
+                Node<I> next = current == IN_FLIGHT ? null : (Node<I>) current;
+                if (state.compareAndSet(current, new Node<>(waiter, next))) {
+                    if (waiter.cancelled) {
+                        // Cancelled concurrently, before being reachable from the stack
+                        removeCancelledWaiters();
+                    }
+                    return;
+                }
             }
-            return;
         }
+    }
 
-        awaitingSubscription.add(subscriber);
-        if (state.compareAndSet(State.INIT, State.SUBSCRIBING)) {
-            // This thread is performing the upstream subscription
-            AbstractUni.subscribe(upstream(), this);
+    /**
+     * Replaces the stack of waiters with a copy without the cancelled waiters.
+     */
+    @SuppressWarnings("unchecked")
+    private void removeCancelledWaiters() {
+        for (;;) {
+            Object current = state.get();
+            if (!(current instanceof Node)) {
+                return;
+            }
+            Node<I> top = (Node<I>) current;
+            Node<I> node = top;
+            boolean found = false;
+            while (node != null && !found) {
+                found = node.waiter.cancelled;
+                node = node.next;
+            }
+            if (!found) {
+                return;
+            }
+            // Copy the live waiters, keeping their order
+            Node<I> reversed = null;
+            for (node = top; node != null; node = node.next) {
+                if (!node.waiter.cancelled) {
+                    reversed = new Node<>(node.waiter, reversed);
+                }
+            }
+            Node<I> copy = null;
+            for (node = reversed; node != null; node = node.next) {
+                copy = new Node<>(node.waiter, copy);
+            }
+            if (state.compareAndSet(current, copy == null ? IN_FLIGHT : copy)) {
+                return;
+            }
         }
     }
 
     @Override
     public void onSubscribe(UniSubscription subscription) {
-        if (state.compareAndSet(State.SUBSCRIBING, State.SUBSCRIBED)) {
-            upstreamSubscription = subscription;
-            drain();
-        }
+        // The upstream subscription is never cancelled, cancelled subscribers only leave the stack of waiters
+    }
+
+    @Override
+    public void onItem(I item) {
+        complete(new Result<>(item, null));
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        complete(new Result<>(null, failure));
     }
 
-    private void drain() {
-        // Check if another thread is working
-        if (wip.getAndIncrement() != 0) {
+    @SuppressWarnings("unchecked")
+    private void complete(Result<I> result) {
+        Object current;
+        do {
+            current = state.get();
+            if (!isInFlight(current)) {
+                // Already resolved
+                return;
+            }
+        } while (!state.compareAndSet(current, result));
+
+        if (current == IN_FLIGHT) {
             return;
         }
+        // Reverse the stack to dispatch the result in the subscription order
+        Node<I> head = null;
+        for (Node<I> node = (Node<I>) current; node != null; node = node.next) {
+            head = new Node<>(node.waiter, head);
+        }
+        for (Node<I> node = head; node != null; node = node.next) {
+            if (!node.waiter.cancelled) {
+                result.deliver(node.waiter.subscriber);
+            }
+        }
+    }
 
-        // Big loop
-        int missed = 1;
-        for (;;) {
+    /**
+     * A subscriber waiting for the result, and its subscription.
+     */
+    private final class Waiter implements UniSubscription {
 
-            ArrayList<UniSubscriber<? super I>> subscribers;
-            I currentItem;
-            Throwable currentFailure;
+        final UniSubscriber<? super I> subscriber;
+        volatile boolean cancelled;
 
-            if (!awaitingSubscription.isEmpty()) {
-                // Make a safe copy of the subscribers awaiting for a subscription
-                synchronized (awaitingSubscription) {
-                    subscribers = new ArrayList<>(awaitingSubscription);
-                }
+        Waiter(UniSubscriber<? super I> subscriber) {
+            this.subscriber = subscriber;
+        }
 
-                // Handle the subscribers that are awaiting a subscription
-                for (UniSubscriber<? super I> subscriber : subscribers) {
-                    currentItem = item;
-                    currentFailure = failure;
-                    State state = this.state.get();
-                    switch (state) {
-                        case INIT:
-                        case SUBSCRIBING:
-                            break;
-                        case SUBSCRIBED:
-                            subscriber.onSubscribe(() -> removeFromAwaitingLists(subscriber));
-                            awaitingSubscription.remove(subscriber);
-                            awaitingResult.add(subscriber);
-                            break;
-                        case CACHING:
-                            subscriber.onSubscribe(() -> removeFromAwaitingLists(subscriber));
-                            if (currentFailure != null) {
-                                subscriber.onFailure(currentFailure);
-                            } else {
-                                subscriber.onItem(currentItem);
-                            }
-                            awaitingSubscription.remove(subscriber);
-                            awaitingResult.remove(subscriber);
-                            break;
-                        default:
-                            throw new IllegalStateException("Current state is " + state);
-                    }
-                }
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                removeCancelledWaiters();
             }
+        }
+    }
 
-            if (!awaitingResult.isEmpty()) {
-                // Make a safe copy of the subscribers awaiting a result
-                synchronized (awaitingResult) {
-                    subscribers = new ArrayList<>(awaitingResult);
-                }
-                // Handle the subscribers that are awaiting a result
-                for (UniSubscriber<? super I> subscriber : subscribers) {
-                    currentItem = item;
-                    currentFailure = failure;
-                    if (state.get() == State.CACHING) {
-                        if (failure != null) {
-                            subscriber.onFailure(currentFailure);
-                        } else {
-                            subscriber.onItem(currentItem);
-                        }
-                        awaitingResult.remove(subscriber);
-                    }
-                }
-            }
+    /**
+     * An immutable node of the stack of waiters.
+     *
+     * @param <I> the type of item
+     */
+    private static final class Node<I> {
 
-            missed = wip.addAndGet(-missed);
-            if (missed == 0) {
-                break;
-            }
+        final UniMemoizeOp<I>.Waiter waiter;
+        final Node<I> next;
+
+        Node(UniMemoizeOp<I>.Waiter waiter, Node<I> next) {
+            this.waiter = waiter;
+            this.next = next;
         }
     }
 
-    private void removeFromAwaitingLists(UniSubscriber<? super I> subscriber) {
-        awaitingSubscription.remove(subscriber);
-        awaitingResult.remove(subscriber);
-        drain();
-    }
+    /**
+     * The memoized item or failure.
+     *
+     * @param <I> the type of item
+     */
+    private static final class Result<I> {
 
-    @Override
-    public void onItem(I item) {
-        if (state.get() == State.SUBSCRIBED) {
+        final I item;
+        final Throwable failure;
+
+        Result(I item, Throwable failure) {
             this.item = item;
-            this.failure = null;
-            state.set(State.CACHING);
-            drain();
+            this.failure = failure;
         }
-    }
 
-    @Override
-    public void onFailure(Throwable failure) {
-        if (state.get() == State.SUBSCRIBED) {
-            this.item = null;
-            this.failure = failure;
-            state.set(State.CACHING);
-            drain();
+        void deliver(UniSubscriber<? super I> subscriber) {
+            if (failure != null) {
+                subscriber.onFailure(failure);
+            } else {
+                subscriber.onItem(item);
+            }
         }
     }
 }
@@ -1,13 +1,12 @@
 package io.smallrye.mutiny.operators.uni;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.BiFunction;
 
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniOperator;
-import io.smallrye.mutiny.subscription.UniDelegatingSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
 
@@ -22,53 +21,71 @@ public class UniOnItemOrFailureMap<I, O> extends UniOperator<I, O> {
 
     @Override
     protected void subscribing(UniSubscriber<? super O> downstream) {
-        AbstractUni.subscribe(upstream(), new UniDelegatingSubscriber<I, O>(downstream) {
+        AbstractUni.subscribe(upstream(), new MapSubscriber<>(downstream, mapper));
+    }
 
-            private final AtomicBoolean done = new AtomicBoolean();
+    private static class MapSubscriber<I, O> implements UniSubscriber<I>, UniSubscription {
 
-            @Override
-            public void onSubscribe(UniSubscription subscription) {
-                super.onSubscribe(() -> {
-                    done.set(true);
-                    subscription.cancel();
-                });
-            }
+        private final UniSubscriber<? super O> downstream;
+        private final BiFunction<? super I, Throwable, ? extends O> mapper;
+        private volatile UniSubscription upstream;
+        private volatile int done;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<MapSubscriber> DONE = AtomicIntegerFieldUpdater
+                .newUpdater(MapSubscriber.class, "done");
+
+        MapSubscriber(UniSubscriber<? super O> downstream, BiFunction<? super I, Throwable, ? extends O> mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
 
-            @Override
-            public void onItem(I item) {
-                if (done.compareAndSet(false, true)) {
-                    O outcome;
-                    try {
-                        outcome = mapper.apply(item, null);
-                        // We cannot call onItem here, as if onItem would throw an exception
-                        // it would be caught and onFailure would be called. This would be illegal.
-                    } catch (Throwable e) { // NOSONAR
-                        // Be sure to not call the mapper again with the failure.
-                        downstream.onFailure(e);
-                        return;
-                    }
-
-                    downstream.onItem(outcome);
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onItem(I item) {
+            if (DONE.compareAndSet(this, 0, 1)) {
+                O outcome;
+                try {
+                    outcome = mapper.apply(item, null);
+                    // We cannot call onItem here, as if onItem would throw an exception
+                    // it would be caught and onFailure would be called. This would be illegal.
+                } catch (Throwable e) { // NOSONAR
+                    // Be sure to not call the mapper again with the failure.
+                    downstream.onFailure(e);
+                    return;
                 }
+
+                downstream.onItem(outcome);
             }
+        }
 
-            @Override
-            public void onFailure(Throwable failure) {
-                if (done.compareAndSet(false, true)) {
-                    O outcome;
-                    try {
-                        outcome = mapper.apply(null, failure);
-                        // We cannot call onItem here, as if onItem would throw an exception
-                        // it would be caught and onFailure would be called. This would be illegal.
-                    } catch (Throwable e) { // NOSONAR
-                        // Be sure to not call the mapper again with the failure.
-                        downstream.onFailure(new CompositeException(failure, e));
-                        return;
-                    }
-
-                    downstream.onItem(outcome);
+        @Override
+        public void onFailure(Throwable failure) {
+            if (DONE.compareAndSet(this, 0, 1)) {
+                O outcome;
+                try {
+                    outcome = mapper.apply(null, failure);
+                    // We cannot call onItem here, as if onItem would throw an exception
+                    // it would be caught and onFailure would be called. This would be illegal.
+                } catch (Throwable e) { // NOSONAR
+                    // Be sure to not call the mapper again with the failure.
+                    downstream.onFailure(new CompositeException(failure, e));
+                    return;
                 }
+
+                downstream.onItem(outcome);
             }
-        });
+        }
+
+        @Override
+        public void cancel() {
+            done = 1;
+            upstream.cancel();
+        }
     }
 }
@@ -2,8 +2,8 @@ package io.smallrye.mutiny.operators.uni;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
 
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
 
 import org.reactivestreams.Publisher;
@@ -40,18 +40,26 @@ public class UniOnItemTransformToMulti<I, O> extends AbstractMulti<O> {
     @SuppressWarnings("SubscriberImplementation")
     static final class FlatMapPublisherSubscriber<I, O> implements Subscriber<O>, UniSubscriber<I>, Subscription {
 
-        private AtomicReference<Subscription> secondUpstream;
-        private AtomicReference<UniSubscription> firstUpstream;
+        private volatile Subscription secondUpstream;
+        private volatile UniSubscription firstUpstream;
         private final Subscriber<? super O> downstream;
         private final Function<? super I, ? extends Publisher<? extends O>> mapper;
-        private final AtomicLong requested = new AtomicLong();
+        private volatile long requested;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<FlatMapPublisherSubscriber, Subscription> SECOND_UPSTREAM = AtomicReferenceFieldUpdater
+                .newUpdater(FlatMapPublisherSubscriber.class, Subscription.class, "secondUpstream");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<FlatMapPublisherSubscriber, UniSubscription> FIRST_UPSTREAM = AtomicReferenceFieldUpdater
+                .newUpdater(FlatMapPublisherSubscriber.class, UniSubscription.class, "firstUpstream");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<FlatMapPublisherSubscriber> REQUESTED = AtomicLongFieldUpdater
+                .newUpdater(FlatMapPublisherSubscriber.class, "requested");
 
         FlatMapPublisherSubscriber(Subscriber<? super O> downstream,
                 Function<? super I, ? extends Publisher<? extends O>> mapper) {
             this.downstream = downstream;
             this.mapper = mapper;
-            this.firstUpstream = new AtomicReference<>();
-            this.secondUpstream = new AtomicReference<>();
         }
 
         @Override
@@ -71,16 +79,16 @@ public class UniOnItemTransformToMulti<I, O> extends AbstractMulti<O> {
 
         @Override
         public void request(long n) {
-            Subscriptions.requestIfNotNullOrAccumulate(secondUpstream, requested, n);
+            Subscriptions.requestIfNotNullOrAccumulate(SECOND_UPSTREAM, REQUESTED, this, n);
         }
 
         @Override
         public void cancel() {
-            UniSubscription subscription = firstUpstream.getAndSet(EmptyUniSubscription.CANCELLED);
+            UniSubscription subscription = FIRST_UPSTREAM.getAndSet(this, EmptyUniSubscription.CANCELLED);
             if (subscription != null && subscription != EmptyUniSubscription.CANCELLED) {
                 subscription.cancel();
             }
-            Subscriptions.cancel(secondUpstream);
+            Subscriptions.cancel(SECOND_UPSTREAM, this);
         }
 
         /**
@@ -90,7 +98,7 @@ public class UniOnItemTransformToMulti<I, O> extends AbstractMulti<O> {
          */
         @Override
         public void onSubscribe(UniSubscription subscription) {
-            if (firstUpstream.compareAndSet(null, subscription)) {
+            if (FIRST_UPSTREAM.compareAndSet(this, null, subscription)) {
                 downstream.onSubscribe(this);
             }
         }
@@ -102,8 +110,8 @@ public class UniOnItemTransformToMulti<I, O> extends AbstractMulti<O> {
          */
         @Override
         public void onSubscribe(Subscription subscription) {
-            if (secondUpstream.compareAndSet(null, subscription)) {
-                long r = requested.getAndSet(0L);
+            if (SECOND_UPSTREAM.compareAndSet(this, null, subscription)) {
+                long r = REQUESTED.getAndSet(this, 0L);
                 if (r != 0L) {
                     subscription.request(r);
                 }
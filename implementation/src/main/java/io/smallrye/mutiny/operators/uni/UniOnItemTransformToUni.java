@@ -2,7 +2,7 @@ package io.smallrye.mutiny.operators.uni;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
 
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
 
 import org.reactivestreams.Subscription;
@@ -81,11 +81,14 @@ public class UniOnItemTransformToUni<I, O> extends UniOperator<I, O> {
 
     protected static class FlatMapSubscription implements UniSubscription {
 
-        private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+        private volatile Subscription upstream;
+
+        private static final AtomicReferenceFieldUpdater<FlatMapSubscription, Subscription> UPSTREAM = AtomicReferenceFieldUpdater
+                .newUpdater(FlatMapSubscription.class, Subscription.class, "upstream");
 
         @Override
         public void cancel() {
-            Subscription previous = upstream.getAndSet(EmptyUniSubscription.CANCELLED);
+            Subscription previous = UPSTREAM.getAndSet(this, EmptyUniSubscription.CANCELLED);
             if (previous != null) {
                 // We can call cancelled on CANCELLED, it's a no-op
                 previous.cancel();
@@ -93,18 +96,18 @@ public class UniOnItemTransformToUni<I, O> extends UniOperator<I, O> {
         }
 
         void setInitialUpstream(Subscription up) {
-            if (!upstream.compareAndSet(null, up)) {
+            if (!UPSTREAM.compareAndSet(this, null, up)) {
                 throw new IllegalStateException("Invalid upstream Subscription state, was expected none but got one");
             }
         }
 
         void replace(Subscription up) {
-            Subscription previous = upstream.getAndSet(up);
+            Subscription previous = UPSTREAM.getAndSet(this, up);
             if (previous == null) {
                 throw new IllegalStateException("Invalid upstream Subscription state, was expected one but got none");
             } else if (previous == EmptyUniSubscription.CANCELLED) {
                 // cancelled was called, cancelling up and releasing reference
-                upstream.set(null);
+                upstream = null;
                 up.cancel();
             }
             // We don't have to cancel the previous subscription as replace is called once the upstream
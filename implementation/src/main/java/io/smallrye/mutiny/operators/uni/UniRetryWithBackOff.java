@@ -0,0 +1,221 @@
+package io.smallrye.mutiny.operators.uni;
+
+import static io.smallrye.mutiny.helpers.EmptyUniSubscription.CANCELLED;
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.time.Duration;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Predicate;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.RetryBackOff;
+import io.smallrye.mutiny.helpers.RetryBudget;
+import io.smallrye.mutiny.operators.AbstractUni;
+import io.smallrye.mutiny.operators.UniOperator;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+/**
+ * Uni operator re-subscribing to the upstream when it emits a failure, after a delay computed by a
+ * {@link RetryBackOff}, and within the limits of a {@link RetryBudget}.
+ * <p>
+ * With back-off, the retries are scheduled directly on the executor, and re-subscribe from the executor thread. The
+ * operator fails with an {@link IllegalStateException} once {@code maxAttempts} attempts have failed, or when the next
+ * attempt would start after {@code expireAt}. Without back-off, the operator re-subscribes immediately, at most
+ * {@code maxAttempts} times, and propagates the last failure. When the budget is exhausted, the failure is propagated.
+ *
+ * @param <T> the type of item
+ */
+public class UniRetryWithBackOff<T> extends UniOperator<T, T> {
+
+    private final Predicate<? super Throwable> predicate;
+    private final long maxAttempts;
+    private final long expireAt;
+    private final RetryBackOff backOff;
+    private final RetryBudget budget;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Creates a new {@link UniRetryWithBackOff}.
+     *
+     * @param upstream the upstream
+     * @param predicate the predicate selecting the failures to retry, {@code null} to retry all the failures
+     * @param maxAttempts the maximum number of attempts
+     * @param expireAt the time in millis after which no attempt can start, {@code Long.MAX_VALUE} for no expiration
+     * @param backOff the back-off, {@code null} to re-subscribe immediately
+     * @param budget the budget, {@code null} for no budget
+     * @param executor the executor used to delay the retries
+     */
+    public UniRetryWithBackOff(Uni<T> upstream, Predicate<? super Throwable> predicate, long maxAttempts,
+            long expireAt, RetryBackOff backOff, RetryBudget budget, ScheduledExecutorService executor) {
+        super(nonNull(upstream, "upstream"));
+        this.predicate = predicate;
+        this.maxAttempts = positive(maxAttempts, "maxAttempts");
+        this.expireAt = expireAt;
+        this.backOff = backOff;
+        this.budget = budget;
+        this.executor = nonNull(executor, "executor");
+    }
+
+    @Override
+    protected void subscribing(UniSubscriber<? super T> subscriber) {
+        if (budget != null) {
+            budget.onSubscription();
+        }
+        RetrySubscriber<T> retrying = new RetrySubscriber<>(this, subscriber);
+        subscriber.onSubscribe(retrying);
+        retrying.resubscribe();
+    }
+
+    private static class RetrySubscriber<T> implements UniSubscriber<T>, UniSubscription {
+
+        private final UniRetryWithBackOff<T> operator;
+        private final UniSubscriber<? super T> downstream;
+        private volatile UniSubscription upstream;
+        private volatile Future<?> task;
+        private volatile int wip;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<RetrySubscriber, UniSubscription> UPSTREAM = AtomicReferenceFieldUpdater
+                .newUpdater(RetrySubscriber.class, UniSubscription.class, "upstream");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<RetrySubscriber> WIP = AtomicIntegerFieldUpdater
+                .newUpdater(RetrySubscriber.class, "wip");
+
+        private int failures;
+        private Duration previousDelay;
+
+        RetrySubscriber(UniRetryWithBackOff<T> operator, UniSubscriber<? super T> downstream) {
+            this.operator = operator;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            if (!UPSTREAM.compareAndSet(this, null, subscription)) {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(T item) {
+            if (UPSTREAM.getAndSet(this, CANCELLED) != CANCELLED) {
+                downstream.onItem(item);
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (upstream == CANCELLED) {
+                return;
+            }
+            try {
+                if (operator.predicate != null && !operator.predicate.test(failure)) {
+                    fail(failure);
+                    return;
+                }
+            } catch (Throwable e) {
+                fail(e);
+                return;
+            }
+
+            int iteration = ++failures;
+            Duration delay = null;
+            if (operator.backOff == null) {
+                if (iteration > operator.maxAttempts) {
+                    fail(failure);
+                    return;
+                }
+            } else {
+                if (iteration >= operator.maxAttempts) {
+                    fail(new IllegalStateException("Retries exhausted: " + iteration + "/" + operator.maxAttempts, failure));
+                    return;
+                }
+                delay = operator.backOff.nextDelay(iteration, previousDelay);
+                previousDelay = delay;
+                if (operator.expireAt != Long.MAX_VALUE) {
+                    long checkTime = System.currentTimeMillis() + delay.toMillis();
+                    if (checkTime > operator.expireAt) {
+                        fail(new IllegalStateException("Retries exhausted : " + iteration + " attempts against "
+                                + checkTime + "/" + operator.expireAt + " expiration", failure));
+                        return;
+                    }
+                }
+            }
+            if (operator.budget != null && !operator.budget.tryAcquire()) {
+                fail(failure);
+                return;
+            }
+
+            // Releases the current upstream, unless cancelled concurrently
+            UniSubscription current = upstream;
+            if (current == CANCELLED || !UPSTREAM.compareAndSet(this, current, null)) {
+                return;
+            }
+            if (delay == null) {
+                resubscribe();
+            } else {
+                schedule(delay);
+            }
+        }
+
+        private void schedule(Duration delay) {
+            try {
+                Future<?> future = operator.executor.schedule(this::subscribe, toNanos(delay), TimeUnit.NANOSECONDS);
+                task = future;
+                if (upstream == CANCELLED) {
+                    future.cancel(false);
+                }
+            } catch (Throwable e) {
+                fail(e);
+            }
+        }
+
+        private void fail(Throwable failure) {
+            if (UPSTREAM.getAndSet(this, CANCELLED) != CANCELLED) {
+                downstream.onFailure(failure);
+            }
+        }
+
+        private long toNanos(Duration delay) {
+            try {
+                return delay.toNanos();
+            } catch (ArithmeticException overflow) {
+                return Long.MAX_VALUE;
+            }
+        }
+
+        void resubscribe() {
+            if (WIP.getAndIncrement(this) == 0) {
+                do {
+                    subscribe();
+                } while (WIP.decrementAndGet(this) != 0);
+            }
+        }
+
+        private void subscribe() {
+            if (upstream != CANCELLED) {
+                AbstractUni.subscribe(operator.upstream(), this);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            UniSubscription previous = UPSTREAM.getAndSet(this, CANCELLED);
+            if (previous != CANCELLED) {
+                if (previous != null) {
+                    previous.cancel();
+                }
+                Future<?> future = task;
+                if (future != null) {
+                    future.cancel(false);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.smallrye.mutiny.operators.uni.hedging;
+
+import java.util.Arrays;
+
+/**
+ * A hedging delay following a percentile of the observed latencies.
+ * <p>
+ * The latencies of the successful attempts are recorded in a sliding window of the last {@value #WINDOW} samples, and
+ * the delay is recomputed every {@value #UPDATE_INTERVAL} samples. Until {@value #MIN_SAMPLES} samples have been
+ * recorded, no delay is available, and the hedged {@link io.smallrye.mutiny.Uni unis} use their configured delay.
+ * <p>
+ * The delay is meant to be shared by all the requests to the same service, so a single instance is typically passed to
+ * all the hedged {@link io.smallrye.mutiny.Uni unis} calling it.
+ */
+public final class AdaptiveHedgeDelay {
+
+    static final int WINDOW = 1024;
+    static final int MIN_SAMPLES = 32;
+    static final int UPDATE_INTERVAL = 16;
+
+    private final double percentile;
+
+    // Guarded by this
+    private final long[] samples = new long[WINDOW];
+    private int count;
+    private int next;
+    private int sinceUpdate;
+
+    private volatile long delayNanos = -1L;
+
+    /**
+     * Creates a new {@link AdaptiveHedgeDelay}.
+     *
+     * @param percentile the percentile of the latencies used as delay, such as {@code 0.95}, must be greater than 0
+     *        and less than 1
+     */
+    public AdaptiveHedgeDelay(double percentile) {
+        if (!(percentile > 0.0 && percentile < 1.0)) {
+            throw new IllegalArgumentException("`percentile` must be greater than 0 and less than 1");
+        }
+        this.percentile = percentile;
+    }
+
+    /**
+     * Records the latency of a successful attempt.
+     *
+     * @param latencyNanos the time between the subscription and the item, in nanoseconds
+     */
+    public synchronized void record(long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % WINDOW;
+        if (count < WINDOW) {
+            count++;
+        }
+        if (count >= MIN_SAMPLES && (++sinceUpdate >= UPDATE_INTERVAL || delayNanos < 0)) {
+            sinceUpdate = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile * count) - 1;
+            delayNanos = Math.max(1L, sorted[Math.max(0, rank)]);
+        }
+    }
+
+    /**
+     * @return the current delay in nanoseconds, {@code -1} if not enough latencies have been recorded yet
+     */
+    public long delayNanos() {
+        return delayNanos;
+    }
+}
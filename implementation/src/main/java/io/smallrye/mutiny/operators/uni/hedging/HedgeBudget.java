@@ -0,0 +1,83 @@
+package io.smallrye.mutiny.operators.uni.hedging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the hedged requests to a percentage of the requests.
+ * <p>
+ * Each request deposits {@code ratio} token in the budget, and each hedge withdraws a whole token. So, over time, the
+ * number of hedges cannot exceed {@code ratio} times the number of requests. The balance is capped to
+ * {@code maxBurst} tokens, so a long period without hedges does not allow a burst of hedges afterwards.
+ * <p>
+ * The budget is meant to be shared by all the requests to the same service, so a single instance is typically
+ * passed to all the hedged {@link io.smallrye.mutiny.Uni unis} calling it.
+ */
+public final class HedgeBudget {
+
+    /**
+     * The tokens are stored as fixed-point numbers, with this scale.
+     */
+    private static final long SCALE = 1000;
+
+    private final long deposit;
+    private final long maxBalance;
+    private final AtomicLong balance = new AtomicLong();
+
+    /**
+     * Creates a new {@link HedgeBudget}.
+     *
+     * @param ratio the maximum number of hedges per request, must be greater than 0 and less than or equal to 1
+     * @param maxBurst the maximum number of hedges allowed in a row, must be strictly positive
+     */
+    public HedgeBudget(double ratio, int maxBurst) {
+        if (!(ratio > 0.0 && ratio <= 1.0)) {
+            throw new IllegalArgumentException("`ratio` must be greater than 0 and less than or equal to 1");
+        }
+        if (maxBurst <= 0) {
+            throw new IllegalArgumentException("`maxBurst` must be greater than zero");
+        }
+        this.deposit = Math.max(1L, Math.round(ratio * SCALE));
+        this.maxBalance = maxBurst * SCALE;
+    }
+
+    /**
+     * Creates a new {@link HedgeBudget} allowing up to 10 hedges in a row.
+     *
+     * @param ratio the maximum number of hedges per request, must be greater than 0 and less than or equal to 1
+     * @return the new {@link HedgeBudget}
+     */
+    public static HedgeBudget of(double ratio) {
+        return new HedgeBudget(ratio, 10);
+    }
+
+    /**
+     * Records a request, making more hedges available.
+     */
+    public void onRequest() {
+        long current;
+        long next;
+        do {
+            current = balance.get();
+            if (current >= maxBalance) {
+                return;
+            }
+            next = Math.min(maxBalance, current + deposit);
+        } while (!balance.compareAndSet(current, next));
+    }
+
+    /**
+     * Withdraws a hedge from the budget.
+     *
+     * @return {@code true} if the hedge can be sent, {@code false} if the budget is exhausted
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+}
@@ -0,0 +1,77 @@
+package io.smallrye.mutiny.subscription;
+
+import org.reactivestreams.Subscription;
+
+/**
+ * A {@link Subscription} exposing the items it holds as a pollable queue, allowing the subscriber to fuse with it.
+ * <p>
+ * When a subscriber receives a {@code QueueSubscription} in {@code onSubscribe}, it can negotiate a fusion mode
+ * using {@link #requestFusion(int)}, before any other interaction with the subscription:
+ * <ul>
+ * <li>{@link #NONE} - the fusion is rejected, the regular Reactive Streams protocol is used.</li>
+ * <li>{@link #SYNC} - the items are already available (collection, iterator...). The subscriber must not call
+ * {@link #request(long)}, and pulls the items using {@link #poll()}. A {@code null} result indicates the completion
+ * of the stream. A failure is reported by {@link #poll()} throwing the exception. No {@code onItem},
+ * {@code onFailure} or {@code onCompletion} signals are emitted.</li>
+ * <li>{@link #ASYNC} - the items arrive asynchronously and are stored in a queue. The subscriber still uses
+ * {@link #request(long)}. Instead of pushing each item, the source calls {@code onItem(null)} to indicate that items
+ * are available and the subscriber drains them using {@link #poll()}, which returns {@code null} when the queue is
+ * empty. Failure and completion are signaled as usual.</li>
+ * </ul>
+ * <p>
+ * Fusion lets the subscriber skip its own queue and request accounting. It is an internal optimization between
+ * Mutiny operators: a source must only accept a mode if it respects the corresponding contract, and
+ * {@link #poll()}, {@link #isEmpty()} and {@link #clear()} must only be called from the draining thread.
+ *
+ * @param <T> the type of item
+ */
+public interface QueueSubscription<T> extends Subscription {
+
+    /**
+     * No fusion.
+     */
+    int NONE = 0;
+
+    /**
+     * Synchronous fusion, the items are pulled using {@link #poll()}.
+     */
+    int SYNC = 1;
+
+    /**
+     * Asynchronous fusion, the source signals the availability of items with {@code onItem(null)}.
+     */
+    int ASYNC = 2;
+
+    /**
+     * Either {@link #SYNC} or {@link #ASYNC}, used when requesting fusion.
+     */
+    int ANY = SYNC | ASYNC;
+
+    /**
+     * Requests a fusion mode.
+     *
+     * @param mode the requested mode(s), a combination of {@link #SYNC} and {@link #ASYNC}
+     * @return the established mode: {@link #NONE}, {@link #SYNC} or {@link #ASYNC}
+     */
+    int requestFusion(int mode);
+
+    /**
+     * Retrieves the next item.
+     *
+     * @return the next item, {@code null} if there are no more items available (and, in {@link #SYNC} mode, the
+     *         completion of the stream)
+     */
+    T poll();
+
+    /**
+     * @return {@code true} if there are no items available. This method does not throw, failures are reported by
+     *         {@link #poll()}.
+     */
+    boolean isEmpty();
+
+    /**
+     * Drops the items not consumed yet.
+     */
+    void clear();
+
+}
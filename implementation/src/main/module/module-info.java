@@ -19,10 +19,13 @@ module io.smallrye.mutiny {
     exports io.smallrye.mutiny.operators;
     exports io.smallrye.mutiny.operators.multi;
     exports io.smallrye.mutiny.operators.multi.builders;
+    exports io.smallrye.mutiny.operators.multi.distinct;
     exports io.smallrye.mutiny.operators.multi.multicast;
     exports io.smallrye.mutiny.operators.multi.overflow;
+    exports io.smallrye.mutiny.operators.multi.primitives;
     exports io.smallrye.mutiny.operators.multi.processors;
     exports io.smallrye.mutiny.operators.uni.builders;
+    exports io.smallrye.mutiny.operators.uni.hedging;
 
     exports io.smallrye.mutiny.subscription;
     exports io.smallrye.mutiny.tuples;
@@ -32,4 +35,5 @@ module io.smallrye.mutiny {
     uses io.smallrye.mutiny.infrastructure.ExecutorConfiguration;
     uses io.smallrye.mutiny.infrastructure.UniInterceptor;
     uses io.smallrye.mutiny.infrastructure.CallbackDecorator;
+    uses io.smallrye.mutiny.infrastructure.MetricsProvider;
 }
\ No newline at end of file
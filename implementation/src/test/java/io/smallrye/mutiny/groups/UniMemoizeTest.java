@@ -1,8 +1,10 @@
 package io.smallrye.mutiny.groups;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.lang.ref.WeakReference;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -10,6 +12,7 @@ import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
 
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +26,7 @@ import io.smallrye.mutiny.helpers.spies.Spy;
 import io.smallrye.mutiny.helpers.spies.UniOnSubscribeSpy;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import io.smallrye.mutiny.operators.uni.UniMemoizeOp;
+import io.smallrye.mutiny.subscription.UniEmitter;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
 
@@ -339,6 +343,49 @@ class UniMemoizeTest {
         }
     }
 
+    @RepeatedTest(10)
+    @DisplayName("Test uni.memoize().indefinitely() with many concurrent subscribers while the upstream is in flight")
+    void testConcurrentSubscribersWhileInFlight() throws InterruptedException {
+        AtomicInteger subscriptions = new AtomicInteger();
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        Uni<Integer> cached = Uni.createFrom().completionStage(future)
+                .onSubscribe().invoke(subscriptions::incrementAndGet)
+                .memoize().indefinitely();
+
+        int count = 8;
+        List<UniAssertSubscriber<Integer>> subscribers = new CopyOnWriteArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(count);
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        for (int j = 0; j < 100; j++) {
+                            subscribers.add(cached.subscribe().withSubscriber(new UniAssertSubscriber<>()));
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(subscriptions).hasValue(1);
+        future.complete(42);
+        assertThat(subscribers).hasSize(count * 100)
+                .allSatisfy(s -> s.assertCompleted().assertItem(42));
+        cached.subscribe().withSubscriber(new UniAssertSubscriber<>()).assertCompleted().assertItem(42);
+        assertThat(subscriptions).hasValue(1);
+    }
+
     @Test
     @DisplayName("Test the double cancellation of a subscription to uni.memoize().indefinitely()")
     void testWithDoubleCancellation() {
@@ -463,4 +510,78 @@ class UniMemoizeTest {
                 .subscribe().withSubscriber(UniAssertSubscriber.create()).await();
 
     }
+
+    @RepeatedTest(10)
+    @DisplayName("Test uni.memoize().until() for race conditions between an invalidation and a re-subscription")
+    void testInvalidationVsResubscriptionRace() {
+        AtomicInteger counter = new AtomicInteger();
+        AtomicBoolean invalidate = new AtomicBoolean();
+        ExecutorService emitters = Executors.newSingleThreadExecutor();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // The item is emitted asynchronously, so a re-subscription stays in flight for a while
+            Uni<Integer> cached = Uni.createFrom()
+                    .<Integer> emitter(e -> emitters.execute(() -> e.complete(counter.incrementAndGet())))
+                    .memoize().until(() -> invalidate.getAndSet(false));
+            for (int i = 0; i < 500; i++) {
+                UniAssertSubscriber<Integer> first = cached.subscribe().withSubscriber(new UniAssertSubscriber<>());
+                await().atMost(Duration.ofSeconds(5)).pollInterval(Duration.ofMillis(1)).untilAsserted(first::assertCompleted);
+
+                invalidate.set(true);
+                UniAssertSubscriber<Integer> subscriber1 = new UniAssertSubscriber<>();
+                UniAssertSubscriber<Integer> subscriber2 = new UniAssertSubscriber<>();
+                race(() -> cached.subscribe().withSubscriber(subscriber1),
+                        () -> cached.subscribe().withSubscriber(subscriber2), executor);
+
+                // Neither subscriber can be left waiting for a cancelled upstream subscription
+                await().atMost(Duration.ofSeconds(5)).pollInterval(Duration.ofMillis(1)).untilAsserted(() -> {
+                    subscriber1.assertCompleted();
+                    subscriber2.assertCompleted();
+                });
+            }
+        } finally {
+            executor.shutdown();
+            emitters.shutdown();
+        }
+    }
+
+    @Test
+    public void testCancelledWaitersAreReleasedWhileTheUpstreamIsPending() {
+        AtomicReference<UniEmitter<? super Integer>> emitter = new AtomicReference<>();
+        Uni<Integer> cached = Uni.createFrom().<Integer> emitter(emitter::set).memoize().indefinitely();
+
+        UniAssertSubscriber<Integer> first = cached.subscribe().withSubscriber(UniAssertSubscriber.create());
+        List<WeakReference<UniAssertSubscriber<Integer>>> cancelled = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            UniAssertSubscriber<Integer> subscriber = cached.subscribe().withSubscriber(UniAssertSubscriber.create());
+            subscriber.cancel();
+            cancelled.add(new WeakReference<>(subscriber));
+        }
+        UniAssertSubscriber<Integer> last = cached.subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            System.gc();
+            return cancelled.stream().allMatch(ref -> ref.get() == null);
+        });
+
+        emitter.get().complete(42);
+        first.assertItem(42);
+        last.assertItem(42);
+    }
+
+    @Test
+    public void testCancellingAllWaitersKeepsTheUpstreamSubscription() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        AtomicReference<UniEmitter<? super Integer>> emitter = new AtomicReference<>();
+        Uni<Integer> cached = Uni.createFrom().<Integer> emitter(emitter::set)
+                .onSubscribe().invoke(s -> subscriptions.incrementAndGet())
+                .memoize().indefinitely();
+
+        cached.subscribe().withSubscriber(UniAssertSubscriber.create()).cancel();
+        cached.subscribe().withSubscriber(UniAssertSubscriber.create()).cancel();
+        emitter.get().complete(42);
+
+        cached.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(42);
+        assertThat(subscriptions).hasValue(1);
+    }
 }
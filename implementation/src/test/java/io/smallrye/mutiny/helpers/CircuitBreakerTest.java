@@ -0,0 +1,160 @@
+package io.smallrye.mutiny.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class CircuitBreakerTest {
+
+    @Test
+    public void testValidation() {
+        CircuitBreaker breaker = CircuitBreaker.create();
+        assertThrows(IllegalArgumentException.class, () -> breaker.withFailureRateThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> breaker.withFailureRateThreshold(1.5));
+        assertThrows(IllegalArgumentException.class, () -> breaker.withSlowCallRateThreshold(0.5, null));
+        assertThrows(IllegalArgumentException.class, () -> breaker.withSlowCallRateThreshold(0.5, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> breaker.withSlidingWindow(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> breaker.withSlidingWindow(10, 11));
+        assertThrows(IllegalArgumentException.class, () -> breaker.withOpenDuration(null));
+        assertThrows(IllegalArgumentException.class, () -> breaker.withPermittedCallsInHalfOpen(0));
+    }
+
+    @Test
+    public void testOpensWhenTheFailureRateIsReached() {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(10, 4).withFailureRateThreshold(0.5);
+        breaker.tryAcquirePermission().onFailure();
+        breaker.tryAcquirePermission().onFailure();
+        breaker.tryAcquirePermission().onSuccess();
+        // Not enough calls yet
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        breaker.tryAcquirePermission().onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isNull();
+    }
+
+    @Test
+    public void testTheWindowForgetsTheOldestCalls() {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(4, 4).withFailureRateThreshold(0.5);
+        breaker.tryAcquirePermission().onFailure();
+        for (int i = 0; i < 10; i++) {
+            breaker.tryAcquirePermission().onSuccess();
+        }
+        breaker.tryAcquirePermission().onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        breaker.tryAcquirePermission().onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void testOpensWhenTheSlowCallRateIsReached() {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(2, 2)
+                .withSlowCallRateThreshold(1.0, Duration.ofMillis(20));
+        CircuitBreaker.Permit first = breaker.tryAcquirePermission();
+        CircuitBreaker.Permit second = breaker.tryAcquirePermission();
+        await().pollDelay(Duration.ofMillis(30)).until(() -> true);
+        first.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        second.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void testHalfOpenClosesAfterThePermittedCallsSucceed() {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(1, 1)
+                .withOpenDuration(Duration.ofMillis(50)).withPermittedCallsInHalfOpen(2);
+        breaker.tryAcquirePermission().onFailure();
+        assertThat(breaker.tryAcquirePermission()).isNull();
+
+        await().until(() -> breaker.state() == CircuitBreaker.State.HALF_OPEN);
+        CircuitBreaker.Permit first = breaker.tryAcquirePermission();
+        CircuitBreaker.Permit second = breaker.tryAcquirePermission();
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(breaker.tryAcquirePermission()).isNull();
+
+        first.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        second.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isNotNull();
+    }
+
+    @Test
+    public void testHalfOpenReopensOnFailure() {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(1, 1)
+                .withOpenDuration(Duration.ofMillis(50)).withPermittedCallsInHalfOpen(2);
+        breaker.tryAcquirePermission().onFailure();
+
+        await().until(() -> breaker.state() == CircuitBreaker.State.HALF_OPEN);
+        CircuitBreaker.Permit permit = breaker.tryAcquirePermission();
+        permit.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isNull();
+    }
+
+    @Test
+    public void testCancelledCallsReleaseTheirPermit() {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(1, 1)
+                .withOpenDuration(Duration.ofMillis(50)).withPermittedCallsInHalfOpen(1);
+        breaker.tryAcquirePermission().onFailure();
+
+        await().until(() -> breaker.state() == CircuitBreaker.State.HALF_OPEN);
+        CircuitBreaker.Permit permit = breaker.tryAcquirePermission();
+        assertThat(breaker.tryAcquirePermission()).isNull();
+        permit.onCancellation();
+        breaker.tryAcquirePermission().onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testOutcomesOfCallsStartedInAPreviousStateAreIgnored() {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(1, 1)
+                .withOpenDuration(Duration.ofMillis(50)).withPermittedCallsInHalfOpen(1);
+        CircuitBreaker.Permit stale = breaker.tryAcquirePermission();
+        breaker.tryAcquirePermission().onFailure();
+
+        await().until(() -> breaker.state() == CircuitBreaker.State.HALF_OPEN);
+        CircuitBreaker.Permit permit = breaker.tryAcquirePermission();
+        stale.onFailure();
+        permit.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testConcurrentCalls() throws InterruptedException {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(100, 100).withFailureRateThreshold(0.5);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch latch = new CountDownLatch(4);
+        List<Runnable> tasks = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            tasks.add(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    CircuitBreaker.Permit permit = breaker.tryAcquirePermission();
+                    if (permit != null) {
+                        // One failure every 4 calls
+                        if (i % 4 == 0) {
+                            permit.onFailure();
+                        } else {
+                            permit.onSuccess();
+                        }
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        tasks.forEach(executor::execute);
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,78 @@
+package io.smallrye.mutiny.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class RetryBackOffTest {
+
+    @Test
+    public void testValidation() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RetryBackOff(null, Duration.ofSeconds(1), RetryBackOff.Jitter.FULL, 0.5));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RetryBackOff(Duration.ofSeconds(1), null, RetryBackOff.Jitter.FULL, 0.5));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RetryBackOff(Duration.ofSeconds(1), Duration.ofSeconds(1), null, 0.5));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RetryBackOff(Duration.ofSeconds(1), Duration.ofSeconds(1), RetryBackOff.Jitter.FULL, 1.5));
+    }
+
+    @Test
+    public void testFullJitterStaysBelowTheExponentialBackOff() {
+        RetryBackOff backOff = new RetryBackOff(Duration.ofMillis(100), Duration.ofSeconds(1),
+                RetryBackOff.Jitter.FULL, 0.5);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(backOff.nextDelay(1, null)).isBetween(Duration.ZERO, Duration.ofMillis(100));
+            assertThat(backOff.nextDelay(3, null)).isBetween(Duration.ZERO, Duration.ofMillis(400));
+            assertThat(backOff.nextDelay(10, null)).isBetween(Duration.ZERO, Duration.ofSeconds(1));
+        }
+    }
+
+    @Test
+    public void testFullJitterSpreadsTheDelays() {
+        RetryBackOff backOff = new RetryBackOff(Duration.ofMillis(1000), Duration.ofSeconds(10),
+                RetryBackOff.Jitter.FULL, 0.5);
+        long below = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (backOff.nextDelay(1, null).toMillis() < 500) {
+                below++;
+            }
+        }
+        assertThat(below).isBetween(300L, 700L);
+    }
+
+    @Test
+    public void testDecorrelatedJitterGrowsFromThePreviousDelay() {
+        RetryBackOff backOff = new RetryBackOff(Duration.ofMillis(100), Duration.ofSeconds(10),
+                RetryBackOff.Jitter.DECORRELATED, 0.5);
+        Duration previous = null;
+        for (int i = 1; i < 1000; i++) {
+            Duration delay = backOff.nextDelay(i, previous);
+            Duration upper = previous == null ? Duration.ofMillis(300) : previous.multipliedBy(3);
+            assertThat(delay).isGreaterThanOrEqualTo(Duration.ofMillis(100))
+                    .isLessThanOrEqualTo(upper)
+                    .isLessThanOrEqualTo(Duration.ofSeconds(10));
+            previous = delay;
+        }
+    }
+
+    @Test
+    public void testDecorrelatedJitterIsCappedToTheMaxBackOff() {
+        RetryBackOff backOff = new RetryBackOff(Duration.ofMillis(100), Duration.ofMillis(200),
+                RetryBackOff.Jitter.DECORRELATED, 0.5);
+        assertThat(backOff.nextDelay(5, Duration.ofSeconds(10))).isEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    public void testProportionalJitterMatchesTheExponentialBackOff() {
+        RetryBackOff backOff = new RetryBackOff(Duration.ofMillis(100), Duration.ofSeconds(10),
+                RetryBackOff.Jitter.PROPORTIONAL, 0.0);
+        assertThat(backOff.nextDelay(1, null)).isEqualTo(Duration.ofMillis(200));
+        assertThat(backOff.nextDelay(2, null)).isEqualTo(Duration.ofMillis(400));
+        assertThat(backOff.nextDelay(10, null)).isEqualTo(Duration.ofSeconds(10));
+    }
+}
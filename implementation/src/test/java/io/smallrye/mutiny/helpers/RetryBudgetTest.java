@@ -0,0 +1,49 @@
+package io.smallrye.mutiny.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class RetryBudgetTest {
+
+    @Test
+    public void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.of(0));
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.of(-1));
+        assertThrows(IllegalArgumentException.class, () -> new RetryBudget(0.1, 0));
+    }
+
+    @Test
+    public void testTheBudgetStartsFull() {
+        RetryBudget budget = new RetryBudget(0.1, 3);
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+    }
+
+    @Test
+    public void testSubscriptionsRefillTheBudget() {
+        RetryBudget budget = new RetryBudget(0.2, 1);
+        assertThat(budget.tryAcquire()).isTrue();
+        for (int i = 0; i < 4; i++) {
+            budget.onSubscription();
+            assertThat(budget.tryAcquire()).isFalse();
+        }
+        budget.onSubscription();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+    }
+
+    @Test
+    public void testTheBudgetIsCapped() {
+        RetryBudget budget = new RetryBudget(1, 2);
+        for (int i = 0; i < 100; i++) {
+            budget.onSubscription();
+        }
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+    }
+}
@@ -0,0 +1,170 @@
+package io.smallrye.mutiny.helpers.queues;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+public class MpscArrayQueuesTest {
+
+    @Test
+    public void testCreation() {
+        assertThat(Queues.createMpscArrayQueue(10)).isInstanceOf(MpscArrayQueue.class);
+        assertThat(((MpscArrayQueue<?>) Queues.createMpscArrayQueue(10)).capacity()).isEqualTo(16);
+        assertThat(((MpscArrayQueue<?>) Queues.createMpscArrayQueue(1)).capacity()).isEqualTo(2);
+        assertThat(Queues.createMpscUnboundedArrayQueue(10)).isInstanceOf(MpscLinkedArrayQueue.class);
+    }
+
+    @Test
+    public void testBoundedOfferAndPoll() {
+        MpscArrayQueue<Integer> q = new MpscArrayQueue<>(4);
+        assertThat(q.isEmpty()).isTrue();
+        assertThat(q.poll()).isNull();
+        assertThat(q.peek()).isNull();
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                assertThat(q.offer(i)).isTrue();
+            }
+            assertThat(q.offer(4)).isFalse();
+            assertThat(q.size()).isEqualTo(4);
+            assertThat(q.isEmpty()).isFalse();
+            assertThat(q.peek()).isEqualTo(0);
+            assertThat(q.poll()).isEqualTo(0);
+            assertThat(q.offer(4)).isTrue();
+            for (int i = 1; i < 5; i++) {
+                assertThat(q.poll()).isEqualTo(i);
+            }
+            assertThat(q.poll()).isNull();
+            assertThat(q.isEmpty()).isTrue();
+        }
+
+        q.offer(1);
+        q.offer(2);
+        q.clear();
+        assertThat(q.isEmpty()).isTrue();
+        assertThat(q.size()).isZero();
+    }
+
+    @Test
+    public void testUnboundedOfferAndPoll() {
+        MpscLinkedArrayQueue<Integer> q = new MpscLinkedArrayQueue<>(4);
+        assertThat(q.isEmpty()).isTrue();
+        assertThat(q.poll()).isNull();
+        assertThat(q.peek()).isNull();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(q.offer(i)).isTrue();
+        }
+        assertThat(q.size()).isEqualTo(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(q.isEmpty()).isFalse();
+            assertThat(q.peek()).isEqualTo(i);
+            assertThat(q.poll()).isEqualTo(i);
+            assertThat(q.size()).isEqualTo(99 - i);
+        }
+        assertThat(q.isEmpty()).isTrue();
+        assertThat(q.poll()).isNull();
+        assertThat(q.peek()).isNull();
+
+        q.offer(1);
+        q.offer(2);
+        q.clear();
+        assertThat(q.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testThatNullCannotBeOffered() {
+        assertThatThrownBy(() -> new MpscArrayQueue<>(4).offer(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new MpscLinkedArrayQueue<>(4).offer(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void testUnsupportedAPI() {
+        for (Queue<Integer> q : Arrays.<Queue<Integer>> asList(new MpscArrayQueue<>(4), new MpscLinkedArrayQueue<>(4))) {
+            assertThatThrownBy(() -> q.add(3)).isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> q.remove(2)).isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(q::remove).isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(q::element).isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> q.contains(1)).isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(q::iterator).isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(q::toArray).isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> q.toArray(new Integer[0])).isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> q.addAll(Arrays.asList(4, 5))).isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> q.containsAll(Arrays.asList(4, 5)))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> q.removeAll(Arrays.asList(4, 5)))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> q.retainAll(Arrays.asList(4, 5)))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @RepeatedTest(5)
+    public void testBoundedQueueWithConcurrentProducers() throws InterruptedException {
+        checkConcurrentProducers(new MpscArrayQueue<>(64));
+    }
+
+    @RepeatedTest(5)
+    public void testUnboundedQueueWithConcurrentProducers() throws InterruptedException {
+        checkConcurrentProducers(new MpscLinkedArrayQueue<>(16));
+    }
+
+    /**
+     * Each producer offers increasing values tagged with its id: every value must be received once, and the values of
+     * each producer must be received in order.
+     */
+    private void checkConcurrentProducers(Queue<long[]> queue) throws InterruptedException {
+        int producers = 4;
+        int count = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < count; i++) {
+                    long[] item = { id, i };
+                    while (!queue.offer(item)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        long[] next = new long[producers];
+        int received = 0;
+        start.countDown();
+        while (received < producers * count) {
+            long[] item = queue.poll();
+            if (item == null) {
+                Thread.yield();
+                continue;
+            }
+            assertThat(item[1]).isEqualTo(next[(int) item[0]]);
+            next[(int) item[0]]++;
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.poll()).isNull();
+    }
+}
@@ -8,6 +8,7 @@ import java.util.function.*;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.tuples.Functions;
 
 public class CallbackDecoratorTest {
@@ -29,6 +30,9 @@ public class CallbackDecoratorTest {
     BinaryOperator<Integer> binOp = Integer::sum;
     LongConsumer longConsumer = l -> {
     };
+    ToIntFunction<Integer> toInt = i -> i;
+    ToLongFunction<Integer> toLong = i -> i;
+    ToDoubleFunction<Integer> toDouble = i -> i;
 
     Functions.Function3<Integer, Integer, Integer, Integer> fn3 = (a, b, c) -> 0;
     Functions.Function4<Integer, Integer, Integer, Integer, Integer> fn4 = (a, b, c, d) -> 0;
@@ -60,6 +64,9 @@ public class CallbackDecoratorTest {
         assertThat(Infrastructure.decorate(triConsumer)).isSameAs(triConsumer);
         assertThat(Infrastructure.decorate(binOp)).isSameAs(binOp);
         assertThat(Infrastructure.decorate(longConsumer)).isSameAs(longConsumer);
+        assertThat(Infrastructure.decorate(toInt)).isSameAs(toInt);
+        assertThat(Infrastructure.decorate(toLong)).isSameAs(toLong);
+        assertThat(Infrastructure.decorate(toDouble)).isSameAs(toDouble);
 
         assertThat(Infrastructure.decorate(fn3)).isSameAs(fn3);
         assertThat(Infrastructure.decorate(fn4)).isSameAs(fn4);
@@ -89,6 +96,9 @@ public class CallbackDecoratorTest {
         assertThat(decorator.decorate(triConsumer)).isSameAs(triConsumer);
         assertThat(decorator.decorate(binOp)).isSameAs(binOp);
         assertThat(decorator.decorate(longConsumer)).isSameAs(longConsumer);
+        assertThat(decorator.decorate(toInt)).isSameAs(toInt);
+        assertThat(decorator.decorate(toLong)).isSameAs(toLong);
+        assertThat(decorator.decorate(toDouble)).isSameAs(toDouble);
 
         assertThat(decorator.decorate(fn3)).isSameAs(fn3);
         assertThat(decorator.decorate(fn4)).isSameAs(fn4);
@@ -146,6 +156,33 @@ public class CallbackDecoratorTest {
         assertThat(decorator.decorate(fn4).apply(1, 2, 3, 4)).isNull();
     }
 
+    @Test
+    public void testPrimitiveTransformationsAreDecorated() {
+        CallbackDecorator decorator = new CallbackDecorator() {
+            @Override
+            public <T> ToIntFunction<T> decorate(ToIntFunction<T> function) {
+                return t -> function.applyAsInt(t) * 10;
+            }
+
+            @Override
+            public <T> ToLongFunction<T> decorate(ToLongFunction<T> function) {
+                return t -> function.applyAsLong(t) * 100;
+            }
+
+            @Override
+            public <T> ToDoubleFunction<T> decorate(ToDoubleFunction<T> function) {
+                return t -> function.applyAsDouble(t) / 2;
+            }
+        };
+
+        InfrastructureHelper.registerCallbackDecorator(decorator);
+
+        Multi<Integer> multi = Multi.createFrom().items(1, 2, 3);
+        assertThat(multi.onItem().transformToInt(i -> i).sum().await().indefinitely()).isEqualTo(60L);
+        assertThat(multi.onItem().transformToLong(i -> i).sum().await().indefinitely()).isEqualTo(600L);
+        assertThat(multi.onItem().transformToDouble(i -> i).sum().await().indefinitely()).isEqualTo(3.0);
+    }
+
     @Test
     public void testOrdering() {
         Runnable another = () -> {
@@ -38,6 +38,18 @@ public class InfrastructureHelper {
         }
     }
 
+    public static void registerMultiInterceptor(MultiInterceptor itcp) {
+        try {
+            MultiInterceptor[] array = (MultiInterceptor[]) multi_interceptors.get(null);
+            List<MultiInterceptor> list = new ArrayList<>(Arrays.asList(array));
+            list.add(itcp);
+            list.sort(Comparator.comparingInt(MutinyInterceptor::ordinal));
+            multi_interceptors.set(null, list.toArray(new MultiInterceptor[0]));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public static void registerCallbackDecorator(CallbackDecorator cd) {
         try {
             CallbackDecorator[] array = (CallbackDecorator[]) callback_decorators.get(null);
@@ -0,0 +1,136 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+
+public class MetricsProviderTest {
+
+    private InMemoryMetricsProvider provider;
+
+    @BeforeEach
+    public void init() {
+        provider = new InMemoryMetricsProvider();
+        Infrastructure.setMetricsProvider(provider);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        Infrastructure.reloadMetricsProvider();
+    }
+
+    @Test
+    public void testNoProviderByDefault() {
+        Infrastructure.reloadMetricsProvider();
+        assertThat(Infrastructure.getMetricsProvider()).isNull();
+
+        Multi<Integer> multi = Multi.createFrom().items(1, 2, 3);
+        assertThat(multi.instrument("multi")).isSameAs(multi);
+        Uni<Integer> uni = Uni.createFrom().item(1);
+        assertThat(uni.instrument("uni")).isSameAs(uni);
+    }
+
+    @Test
+    public void testNameCannotBeNull() {
+        assertThatThrownBy(() -> Multi.createFrom().item(1).instrument(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Uni.createFrom().item(1).instrument(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testMultiCompletion() {
+        Multi<Integer> multi = Multi.createFrom().range(0, 10).instrument("range");
+        AssertSubscriber<Integer> subscriber = multi.subscribe().withSubscriber(AssertSubscriber.create(3));
+        subscriber.request(7).assertCompleted();
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)).assertCompleted();
+
+        InMemoryMetricsProvider.Metrics metrics = provider.get("range");
+        assertThat(metrics.getName()).isEqualTo("range");
+        assertThat(metrics.getSubscriptions()).isEqualTo(2);
+        assertThat(metrics.getActiveSubscriptions()).isZero();
+        assertThat(metrics.getItems()).isEqualTo(20);
+        assertThat(metrics.getItemsPerSecond()).isPositive();
+        assertThat(metrics.getRequested()).isEqualTo(Long.MAX_VALUE);
+        assertThat(metrics.getCompletions()).isEqualTo(2);
+        assertThat(metrics.getFailures()).isZero();
+        assertThat(metrics.getCancellations()).isZero();
+        assertThat(metrics.getTimeToFirstItem().getCount()).isEqualTo(2);
+        assertThat(metrics.getSubscriptionLifetime().getCount()).isEqualTo(2);
+        assertThat(metrics.getSubscriptionLifetime().getMax())
+                .isGreaterThanOrEqualTo(metrics.getSubscriptionLifetime().getMean());
+    }
+
+    @Test
+    public void testMultiFailureAndCancellation() {
+        Multi.createFrom().<Integer> failure(new IOException("boom"))
+                .instrument("pipeline")
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .assertFailedWith(IOException.class, "boom");
+
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(e -> e.emit(0).emit(1))
+                .instrument("pipeline")
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+        InMemoryMetricsProvider.Metrics metrics = provider.get("pipeline");
+        assertThat(metrics.getActiveSubscriptions()).isEqualTo(1);
+        subscriber.assertItems(0, 1);
+        subscriber.cancel();
+        subscriber.cancel();
+
+        assertThat(metrics.getSubscriptions()).isEqualTo(2);
+        assertThat(metrics.getActiveSubscriptions()).isZero();
+        assertThat(metrics.getItems()).isEqualTo(2);
+        assertThat(metrics.getRequested()).isEqualTo(3);
+        assertThat(metrics.getFailures()).isEqualTo(1);
+        assertThat(metrics.getCancellations()).isEqualTo(1);
+        assertThat(metrics.getTimeToFirstItem().getCount()).isEqualTo(1);
+        assertThat(metrics.getTimeToFirstItem().getMean()).isPositive();
+    }
+
+    @Test
+    public void testUni() {
+        Uni.createFrom().item(1).onItem().delayIt().by(Duration.ofMillis(10))
+                .instrument("uni")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .await().assertItem(1);
+        Uni.createFrom().failure(new IOException("boom"))
+                .instrument("uni")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IOException.class, "boom");
+        UniAssertSubscriber<Object> subscriber = Uni.createFrom().nothing()
+                .instrument("uni")
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        subscriber.cancel();
+
+        InMemoryMetricsProvider.Metrics metrics = provider.get("uni");
+        assertThat(metrics.getSubscriptions()).isEqualTo(3);
+        assertThat(metrics.getActiveSubscriptions()).isZero();
+        assertThat(metrics.getItems()).isEqualTo(1);
+        assertThat(metrics.getRequested()).isZero();
+        assertThat(metrics.getCompletions()).isEqualTo(1);
+        assertThat(metrics.getFailures()).isEqualTo(1);
+        assertThat(metrics.getCancellations()).isEqualTo(1);
+        assertThat(metrics.getTimeToFirstItem().getMax()).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+    }
+
+    @Test
+    public void testProviderReset() {
+        Multi.createFrom().item(1).instrument("a").subscribe().withSubscriber(AssertSubscriber.create(1));
+        Uni.createFrom().item(1).instrument("b").subscribe().withSubscriber(UniAssertSubscriber.create());
+        assertThat(provider.getAll()).containsOnlyKeys("a", "b");
+        provider.reset();
+        assertThat(provider.getAll()).isEmpty();
+        assertThat(provider.get("a")).isNull();
+    }
+}
@@ -0,0 +1,408 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+public class TimerWheelSchedulerTest {
+
+    private ExecutorService executor;
+    private TimerWheelScheduler scheduler;
+
+    @BeforeEach
+    public void init() {
+        AtomicInteger count = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(4, r -> new Thread(r, "wheel-thread-" + count.getAndIncrement()));
+        scheduler = new TimerWheelScheduler(executor);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSchedulingARunnable() throws InterruptedException, ExecutionException, TimeoutException {
+        AtomicReference<String> thread = new AtomicReference<>();
+        long begin = System.nanoTime();
+        RunnableScheduledFuture<?> future = (RunnableScheduledFuture<?>) scheduler.schedule(
+                () -> thread.set(Thread.currentThread().getName()), 10, TimeUnit.MILLISECONDS);
+        future.get(1, TimeUnit.SECONDS);
+        assertThat(System.nanoTime() - begin).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(thread.get()).startsWith("wheel-thread-");
+        assertThat(future.isDone()).isTrue();
+        assertThat(future.isCancelled()).isFalse();
+        assertThat(future.isPeriodic()).isFalse();
+        assertThat(future.getDelay(TimeUnit.MILLISECONDS)).isLessThanOrEqualTo(0);
+    }
+
+    @Test
+    public void testSchedulingACallable() throws InterruptedException, ExecutionException, TimeoutException {
+        ScheduledFuture<Integer> future = scheduler.schedule(() -> 1, 1, TimeUnit.MILLISECONDS);
+        assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(future.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testSchedulingWithoutDelay() throws InterruptedException, ExecutionException, TimeoutException {
+        ScheduledFuture<Integer> future = scheduler.schedule(() -> 1, 0, TimeUnit.MILLISECONDS);
+        assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    @Test
+    public void testFailingCallable() {
+        ScheduledFuture<Integer> future = scheduler.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, 1, TimeUnit.MILLISECONDS);
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testDelayLongerThanOneRotation() throws InterruptedException, ExecutionException, TimeoutException {
+        TimerWheelScheduler small = new TimerWheelScheduler(executor, 1, TimeUnit.MILLISECONDS, 4);
+        try {
+            long begin = System.nanoTime();
+            ScheduledFuture<Long> future = small.schedule(System::nanoTime, 50, TimeUnit.MILLISECONDS);
+            long executedAt = future.get(1, TimeUnit.SECONDS);
+            assertThat(executedAt - begin).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        } finally {
+            small.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOrdering() throws InterruptedException {
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+        scheduler.schedule(() -> {
+            order.add(3);
+            latch.countDown();
+        }, 60, TimeUnit.MILLISECONDS);
+        scheduler.schedule(() -> {
+            order.add(1);
+            latch.countDown();
+        }, 10, TimeUnit.MILLISECONDS);
+        scheduler.schedule(() -> {
+            order.add(2);
+            latch.countDown();
+        }, 30, TimeUnit.MILLISECONDS);
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void testCancellation() throws InterruptedException {
+        AtomicBoolean executed = new AtomicBoolean();
+        ScheduledFuture<?> future = scheduler.schedule(() -> executed.set(true), 20, TimeUnit.MILLISECONDS);
+        assertThat(future.cancel(false)).isTrue();
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(future.isDone()).isTrue();
+        Thread.sleep(50);
+        assertThat(executed).isFalse();
+    }
+
+    @Test
+    public void testMassiveCancellation() throws InterruptedException {
+        AtomicInteger executed = new AtomicInteger();
+        List<ScheduledFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            futures.add(scheduler.schedule(executed::incrementAndGet, 100 + (i % 100), TimeUnit.MILLISECONDS));
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.schedule(latch::countDown, 300, TimeUnit.MILLISECONDS);
+        int expected = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            // Tasks already executed cannot be cancelled.
+            if (i % 10 == 0 || !futures.get(i).cancel(false)) {
+                expected++;
+            }
+        }
+        assertThat(expected).isLessThan(100_000);
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).hasValue(expected);
+    }
+
+    @Test
+    public void testConcurrentScheduling() throws InterruptedException {
+        int producers = 4;
+        int tasks = 10_000;
+        CountDownLatch done = new CountDownLatch(producers * tasks);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        try {
+            for (int p = 0; p < producers; p++) {
+                pool.execute(() -> {
+                    for (int i = 0; i < tasks; i++) {
+                        scheduler.schedule(done::countDown, i % 20, TimeUnit.MILLISECONDS);
+                    }
+                });
+            }
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSchedulingAfterIdle() throws InterruptedException, ExecutionException, TimeoutException {
+        assertThat(scheduler.schedule(() -> 1, 1, TimeUnit.MILLISECONDS).get(1, TimeUnit.SECONDS)).isEqualTo(1);
+        Thread.sleep(50);
+        long begin = System.nanoTime();
+        assertThat(scheduler.schedule(() -> 2, 10, TimeUnit.MILLISECONDS).get(1, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(System.nanoTime() - begin).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    @Test
+    public void testFixedRate() {
+        AtomicInteger count = new AtomicInteger();
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(count::incrementAndGet, 0, 5, TimeUnit.MILLISECONDS);
+        await().untilAtomic(count, greaterThanOrEqualTo(5));
+        assertThat(((RunnableScheduledFuture<?>) future).isPeriodic()).isTrue();
+        future.cancel(false);
+        int current = count.get();
+        await().pollDelay(Duration.ofMillis(50)).untilAsserted(() -> assertThat(count.get()).isLessThanOrEqualTo(current + 1));
+    }
+
+    @Test
+    public void testFixedDelay() {
+        AtomicInteger count = new AtomicInteger();
+        ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(count::incrementAndGet, 1, 5,
+                TimeUnit.MILLISECONDS);
+        await().untilAtomic(count, greaterThanOrEqualTo(5));
+        future.cancel(false);
+        assertThat(future.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void testShutdown() throws InterruptedException {
+        AtomicBoolean executed = new AtomicBoolean();
+        scheduler.schedule(() -> executed.set(true), 20, TimeUnit.MILLISECONDS);
+        scheduler.shutdown();
+        assertThat(scheduler.isShutdown()).isTrue();
+        assertThatThrownBy(() -> scheduler.schedule(() -> {
+        }, 1, TimeUnit.MILLISECONDS)).isInstanceOf(RejectedExecutionException.class);
+        assertThat(scheduler.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(scheduler.isTerminated()).isTrue();
+        assertThat(executed).isTrue();
+    }
+
+    @Test
+    public void testShutdownCancelsPeriodicTasks() throws InterruptedException {
+        AtomicBoolean executed = new AtomicBoolean();
+        ScheduledFuture<?> periodic = scheduler.scheduleAtFixedRate(() -> {
+        }, 1, 1, TimeUnit.HOURS);
+        ScheduledFuture<?> delayed = scheduler.schedule(() -> executed.set(true), 20, TimeUnit.MILLISECONDS);
+        scheduler.shutdown();
+        assertThat(scheduler.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(periodic.isCancelled()).isTrue();
+        assertThat(delayed.isDone()).isTrue();
+        assertThat(executed).isTrue();
+    }
+
+    @Test
+    public void testShutdownCancelsRunningPeriodicTasks() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ScheduledFuture<?> periodic = scheduler.scheduleAtFixedRate(() -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 0, 1, TimeUnit.MILLISECONDS);
+        assertThat(running.await(1, TimeUnit.SECONDS)).isTrue();
+        scheduler.shutdown();
+        release.countDown();
+        await().until(periodic::isCancelled);
+        assertThat(scheduler.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testTerminationWaitsForTheRunningTasks() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        scheduler.schedule(() -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 1, TimeUnit.MILLISECONDS);
+        assertThat(running.await(1, TimeUnit.SECONDS)).isTrue();
+        scheduler.shutdown();
+        assertThat(scheduler.awaitTermination(50, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(scheduler.isTerminated()).isFalse();
+        release.countDown();
+        assertThat(scheduler.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(scheduler.isTerminated()).isTrue();
+    }
+
+    @Test
+    public void testPeriodicTasksContinueAfterShutdownWhenConfigured() throws InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        scheduler.setContinueExistingPeriodicTasksAfterShutdownPolicy(true);
+        assertThat(scheduler.getContinueExistingPeriodicTasksAfterShutdownPolicy()).isTrue();
+        ScheduledFuture<?> periodic = scheduler.scheduleAtFixedRate(executions::incrementAndGet, 0, 5,
+                TimeUnit.MILLISECONDS);
+        await().until(() -> executions.get() >= 2);
+        scheduler.shutdown();
+        int executed = executions.get();
+        await().until(() -> executions.get() >= executed + 2);
+        assertThat(scheduler.isTerminated()).isFalse();
+
+        periodic.cancel(false);
+        assertThat(scheduler.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testShutdownNow() throws InterruptedException {
+        scheduler.schedule(() -> {
+        }, 1, TimeUnit.HOURS);
+        scheduler.schedule(() -> {
+        }, 2, TimeUnit.HOURS).cancel(false);
+        List<Runnable> remaining = scheduler.shutdownNow();
+        assertThat(remaining).hasSize(1);
+        assertThat(scheduler.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(scheduler.shutdownNow()).isEmpty();
+    }
+
+    @Test
+    public void testShutdownBeforeStart() {
+        TimerWheelScheduler unused = new TimerWheelScheduler(executor);
+        assertThat(unused.isTerminated()).isFalse();
+        unused.shutdown();
+        assertThat(unused.isShutdown()).isTrue();
+        assertThat(unused.isTerminated()).isTrue();
+    }
+
+    @Test
+    public void testSubmit() throws InterruptedException, ExecutionException, TimeoutException {
+        assertThat(scheduler.submit(() -> "hello").get(1, TimeUnit.SECONDS)).isEqualTo("hello");
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        assertThatThrownBy(() -> new TimerWheelScheduler(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimerWheelScheduler(executor, 0, TimeUnit.MILLISECONDS, 8))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimerWheelScheduler(executor, 1, TimeUnit.MILLISECONDS, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scheduler.scheduleAtFixedRate(() -> {
+        }, 0, 0, TimeUnit.MILLISECONDS)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testVeryLargeDelayDoesNotOverflow() throws InterruptedException {
+        AtomicBoolean executed = new AtomicBoolean();
+        ScheduledFuture<?> future = scheduler.schedule(() -> executed.set(true), Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        ScheduledFuture<?> other = scheduler.schedule(() -> executed.set(true), Long.MAX_VALUE, TimeUnit.DAYS);
+        Thread.sleep(50);
+        assertThat(executed).isFalse();
+        assertThat(future.isDone()).isFalse();
+        assertThat(future.getDelay(TimeUnit.DAYS)).isPositive();
+        assertThat(other.isDone()).isFalse();
+        assertThat(other.getDelay(TimeUnit.DAYS)).isPositive();
+    }
+
+    @Test
+    public void testReplacingTheDefaultSchedulerShutsDownThePreviousOne() {
+        ScheduledExecutorService previous = Infrastructure.getDefaultWorkerPool();
+        Infrastructure.setDefaultSchedulerFactory(TimerWheelScheduler::new);
+        try {
+            assertThat(previous.isShutdown()).isTrue();
+            previous = Infrastructure.getDefaultWorkerPool();
+        } finally {
+            Infrastructure.resetDefaultSchedulerFactory();
+        }
+        assertThat(previous.isShutdown()).isTrue();
+        assertThat(Infrastructure.getDefaultWorkerPool().isShutdown()).isFalse();
+    }
+
+    @Test
+    public void testChangingTheDefaultExecutorShutsDownThePreviousScheduler() {
+        ExecutorService custom = Executors.newSingleThreadExecutor();
+        Infrastructure.setDefaultSchedulerFactory(TimerWheelScheduler::new);
+        try {
+            ScheduledExecutorService previous = Infrastructure.getDefaultWorkerPool();
+            Infrastructure.setDefaultExecutor(custom);
+            assertThat(previous.isShutdown()).isTrue();
+            assertThat(Infrastructure.getDefaultWorkerPool()).isInstanceOf(TimerWheelScheduler.class)
+                    .isNotSameAs(previous);
+        } finally {
+            Infrastructure.setDefaultExecutor();
+            Infrastructure.resetDefaultSchedulerFactory();
+        }
+        assertThat(custom.isShutdown()).isTrue();
+    }
+
+    @Test
+    public void testReplacingTheDefaultSchedulerKeepsTheTicksRunning() throws InterruptedException {
+        Infrastructure.setDefaultSchedulerFactory(TimerWheelScheduler::new);
+        ScheduledExecutorService previous = Infrastructure.getDefaultWorkerPool();
+        AssertSubscriber<Long> subscriber = Multi.createFrom().ticks().every(Duration.ofMillis(5))
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        try {
+            await().until(() -> subscriber.getItems().size() >= 2);
+            Infrastructure.resetDefaultSchedulerFactory();
+            assertThat(previous.isShutdown()).isTrue();
+
+            int received = subscriber.getItems().size();
+            await().until(() -> subscriber.getItems().size() >= received + 2);
+            subscriber.assertNotTerminated();
+            assertThat(previous.isTerminated()).isFalse();
+        } finally {
+            subscriber.cancel();
+            Infrastructure.resetDefaultSchedulerFactory();
+        }
+        assertThat(previous.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testAsDefaultScheduler() {
+        Infrastructure.setDefaultSchedulerFactory(TimerWheelScheduler::new);
+        try {
+            assertThat(Infrastructure.getDefaultWorkerPool()).isInstanceOf(TimerWheelScheduler.class);
+
+            assertThatThrownBy(() -> Uni.createFrom().emitter(e -> {
+                // do nothing
+            })
+                    .ifNoItem().after(Duration.ofMillis(10)).fail()
+                    .await().indefinitely()).isInstanceOf(io.smallrye.mutiny.TimeoutException.class);
+
+            String res = Uni.createFrom().item("hello")
+                    .onItem().delayIt().by(Duration.ofMillis(10))
+                    .await().indefinitely();
+            assertThat(res).isEqualTo("hello");
+
+            List<Long> ticks = Multi.createFrom().ticks().every(Duration.ofMillis(5))
+                    .select().first(5)
+                    .collect().asList()
+                    .await().indefinitely();
+            assertThat(ticks).containsExactly(0L, 1L, 2L, 3L, 4L);
+        } finally {
+            Infrastructure.resetDefaultSchedulerFactory();
+        }
+        assertThat(Infrastructure.getDefaultWorkerPool()).isInstanceOf(MutinyScheduler.class);
+    }
+}
@@ -0,0 +1,74 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+
+public class VirtualThreadSupportTest {
+
+    @AfterEach
+    public void cleanup() {
+        Infrastructure.resetCanCallerThreadBeBlockedSupplier();
+    }
+
+    @Test
+    public void testPlatformThreadsAreNotVirtual() {
+        assertThat(VirtualThreads.isVirtual(Thread.currentThread())).isFalse();
+        assertThat(Infrastructure.isVirtualThread()).isFalse();
+        Infrastructure.setCanCallerThreadBeBlockedSupplier(() -> false);
+        assertThat(Infrastructure.canCallerThreadBeBlocked()).isFalse();
+    }
+
+    @Test
+    public void testWithoutVirtualThreadSupport() {
+        assumeFalse(Infrastructure.isVirtualThreadSupported());
+        assertThatThrownBy(Infrastructure::getVirtualThreadExecutor)
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(new VirtualThreadExecutorConfiguration().getDefaultWorkerExecutor())
+                .isSameAs(ForkJoinPool.commonPool());
+    }
+
+    @Test
+    public void testVirtualThreadExecutor() throws Exception {
+        assumeTrue(Infrastructure.isVirtualThreadSupported());
+        assertThat(Infrastructure.getVirtualThreadExecutor()).isSameAs(Infrastructure.getVirtualThreadExecutor());
+        assertThat(new VirtualThreadExecutorConfiguration().getDefaultWorkerExecutor())
+                .isSameAs(Infrastructure.getVirtualThreadExecutor());
+
+        // The supplier decides, a supplier combined with isVirtualThread() allows blocking on virtual threads.
+        Infrastructure.setCanCallerThreadBeBlockedSupplier(Infrastructure::isVirtualThread);
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Uni.createFrom().item(() -> {
+            assertThat(VirtualThreads.isVirtual(Thread.currentThread())).isTrue();
+            return Uni.createFrom().item("hello").await().indefinitely();
+        })
+                .runSubscriptionOn(Infrastructure.getVirtualThreadExecutor())
+                .subscribe().with(result::complete, result::completeExceptionally);
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("hello");
+
+        assertThatThrownBy(() -> Uni.createFrom().item("hello").await().indefinitely())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testSupplierForbiddingBlockingOnVirtualThreads() {
+        assumeTrue(Infrastructure.isVirtualThreadSupported());
+        Infrastructure.setCanCallerThreadBeBlockedSupplier(() -> false);
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Uni.createFrom().item(() -> Uni.createFrom().item("hello").await().indefinitely())
+                .runSubscriptionOn(Infrastructure.getVirtualThreadExecutor())
+                .subscribe().with(result::complete, result::completeExceptionally);
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+}
@@ -1,6 +1,10 @@
 package io.smallrye.mutiny.operators;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -67,4 +71,59 @@ public class MultiCacheTest {
         s1.assertItems(1, 2).request(1).assertItems(1, 2, 3).assertCompleted();
         s2.assertItems(1, 2, 3).assertCompleted();
     }
+
+    @Test
+    public void testCachingALongStream() {
+        Multi<Integer> multi = Multi.createFrom().range(0, 10_000).cache();
+        AssertSubscriber<Integer> s1 = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted();
+        assertThat(s1.getItems()).hasSize(10_000).startsWith(0, 1).endsWith(9_998, 9_999);
+
+        AssertSubscriber<Integer> s2 = multi.subscribe().withSubscriber(AssertSubscriber.create(100))
+                .assertNotTerminated();
+        assertThat(s2.getItems()).hasSize(100).endsWith(99);
+        s2.request(10_000).assertCompleted();
+        assertThat(s2.getItems()).isEqualTo(s1.getItems());
+    }
+
+    @Test
+    public void testCancellationDuringTheReplay() {
+        Multi<Integer> multi = Multi.createFrom().range(0, 1_000).cache();
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)).assertCompleted();
+
+        AssertSubscriber<Integer> subscriber = multi.subscribe().withSubscriber(AssertSubscriber.create(10));
+        subscriber.cancel();
+        subscriber.request(100);
+        assertThat(subscriber.getItems()).hasSize(10);
+        subscriber.assertNotTerminated();
+    }
+
+    @Test
+    public void testSubscribersJoiningWhileTheUpstreamEmits() throws InterruptedException {
+        int count = 100_000;
+        AtomicReference<MultiEmitter<? super Integer>> reference = new AtomicReference<>();
+        Multi<Integer> multi = Multi.createFrom().<Integer> emitter(reference::set).cache();
+        AssertSubscriber<Integer> first = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                reference.get().emit(i);
+            }
+            reference.get().complete();
+        });
+        producer.start();
+
+        List<AssertSubscriber<Integer>> subscribers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            subscribers.add(multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)));
+        }
+        producer.join();
+
+        first.await().assertCompleted();
+        assertThat(first.getItems()).hasSize(count);
+        for (AssertSubscriber<Integer> subscriber : subscribers) {
+            subscriber.await().assertCompleted();
+            assertThat(subscriber.getItems()).isEqualTo(first.getItems());
+        }
+    }
 }
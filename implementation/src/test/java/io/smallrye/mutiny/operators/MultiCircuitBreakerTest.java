@@ -0,0 +1,74 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.CircuitBreakerOpenException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.CircuitBreaker;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+public class MultiCircuitBreakerTest {
+
+    @Test
+    public void testItemsAreForwardedWhenClosed() {
+        CircuitBreaker breaker = CircuitBreaker.create();
+        Multi.createFrom().range(1, 4)
+                .plug(breaker::protect)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(1, 2, 3);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testOpenBreakerDoesNotSubscribe() {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(2, 2);
+        AtomicInteger subscriptions = new AtomicInteger();
+        Multi<Integer> multi = Multi.createFrom().<Integer> emitter(e -> e.emit(1).fail(new IOException("boom")))
+                .onSubscribe().invoke(s -> subscriptions.incrementAndGet())
+                .onFailure().circuitBreaker(breaker);
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(IOException.class, "boom")
+                .assertItems(1);
+        multi.subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(IOException.class, "boom");
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(CircuitBreakerOpenException.class, "open")
+                .assertHasNotReceivedAnyItem();
+        assertThat(subscriptions).hasValue(2);
+    }
+
+    @Test
+    public void testOnlyTheFailuresMatchingThePredicateAreRecorded() {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(2, 2);
+        Multi<Integer> multi = Multi.createFrom().<Integer> failure(new IllegalArgumentException("invalid"))
+                .onFailure(IOException.class).circuitBreaker(breaker);
+
+        for (int i = 0; i < 5; i++) {
+            multi.subscribe().withSubscriber(AssertSubscriber.create(10))
+                    .assertFailedWith(IllegalArgumentException.class, "invalid");
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testCancellationIsNotRecorded() {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(1, 1);
+        AssertSubscriber<Object> subscriber = Multi.createFrom().nothing()
+                .plug(breaker::protect)
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+        subscriber.cancel();
+        Multi.createFrom().failure(new IOException("boom")).plug(breaker::protect)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(IOException.class, "boom");
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
@@ -7,11 +7,15 @@ import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 import org.reactivestreams.Subscriber;
@@ -20,6 +24,9 @@ import org.reactivestreams.Subscription;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.TestException;
 import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.operators.multi.distinct.DistinctStore;
+import io.smallrye.mutiny.operators.multi.distinct.DistinctStores;
+import io.smallrye.mutiny.operators.multi.distinct.TimeWindowDistinctStore;
 import io.smallrye.mutiny.subscription.MultiEmitter;
 
 @SuppressWarnings("ConstantConditions")
@@ -387,4 +394,130 @@ public class MultiDistinctTest {
         }
     }
 
+    @Test
+    public void testDistinctByKey() {
+        Multi.createFrom().items("a1", "b1", "a2", "c1", "b2")
+                .select().distinctBy(s -> s.charAt(0))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems("a1", "b1", "c1");
+    }
+
+    @Test
+    public void testDistinctByKeyExtractorFailureOrNull() {
+        Multi.createFrom().items(1, 2, 3)
+                .select().distinctBy(i -> {
+                    if (i == 2) {
+                        throw new TestException("boom");
+                    }
+                    return i;
+                })
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(TestException.class, "boom")
+                .assertItems(1);
+
+        Multi.createFrom().items(1, 2, 3)
+                .select().distinctBy(i -> null)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(NullPointerException.class, "`null`");
+    }
+
+    @Test
+    public void testDistinctByWithNullParameters() {
+        assertThrows(IllegalArgumentException.class, () -> Multi.createFrom().items(1).select().distinctBy(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> Multi.createFrom().items(1).select().distinctBy(i -> i, null));
+    }
+
+    @Test
+    public void testDistinctWithLruStore() {
+        Multi.createFrom().items(1, 2, 1, 3, 1, 2, 4, 1)
+                .select().distinctBy(Function.identity(), DistinctStores.lru(2))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                // Seeing 1 again keeps it, so 2 is forgotten when 3 is added, 3 when 2 is added again, 1 when 4 is added
+                .assertItems(1, 2, 3, 2, 4, 1);
+    }
+
+    @Test
+    public void testDistinctWithTimeWindowStore() {
+        AtomicLong clock = new AtomicLong();
+        AtomicReference<MultiEmitter<? super Integer>> emitter = new AtomicReference<>();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(emitter::set)
+                .select().distinctBy(Function.identity(), () -> new TimeWindowDistinctStore<>(100, clock::get))
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        emitter.get().emit(1).emit(2).emit(1);
+        clock.set(50);
+        emitter.get().emit(3).emit(1);
+        clock.set(100);
+        // 1 and 2 are forgotten, 3 is still remembered
+        emitter.get().emit(1).emit(3).emit(2);
+        clock.set(150);
+        emitter.get().emit(3).complete();
+
+        subscriber.assertCompleted().assertItems(1, 2, 3, 1, 2, 3);
+    }
+
+    @Test
+    public void testDistinctWithTimeWindowStoreUsingTheSystemClock() {
+        Multi.createFrom().items(1, 2, 1, 2)
+                .select().distinctBy(Function.identity(), DistinctStores.timeWindow(Duration.ofMinutes(1)))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(1, 2);
+    }
+
+    @Test
+    public void testDistinctWithBloomFilterStore() {
+        int count = 10_000;
+        List<Integer> items = Multi.createFrom().range(0, count)
+                .onItem().transformToIterable(i -> Arrays.asList(i, i))
+                .select().distinctBy(Function.identity(), DistinctStores.bloomFilter(count, 0.01))
+                .collect().asList()
+                .await().indefinitely();
+
+        // No duplicates, and only a few false positives dropped
+        assertThat(items).doesNotHaveDuplicates().hasSizeGreaterThan(count - count / 50);
+    }
+
+    @Test
+    public void testInvalidStoresConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> DistinctStores.lru(0));
+        assertThrows(IllegalArgumentException.class, () -> DistinctStores.timeWindow(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> DistinctStores.bloomFilter(0, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> DistinctStores.bloomFilter(10, 1.0));
+    }
+
+    @Test
+    public void testStoreIsClearedOnTermination() {
+        List<String> events = new ArrayList<>();
+        DistinctStore<Integer> store = new DistinctStore<Integer>() {
+            @Override
+            public boolean add(Integer key) {
+                events.add("add-" + key);
+                return true;
+            }
+
+            @Override
+            public void clear() {
+                events.add("clear");
+            }
+        };
+        Multi.createFrom().items(1, 2)
+                .select().distinctBy(Function.identity(), () -> store)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted();
+        assertThat(events).containsExactly("add-1", "add-2", "clear");
+    }
+
+    @Test
+    public void testStoreSupplierFailure() {
+        Multi.createFrom().items(1, 2)
+                .select().distinctBy(Function.identity(), () -> {
+                    throw new TestException("boom");
+                })
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(TestException.class, "boom");
+    }
 }
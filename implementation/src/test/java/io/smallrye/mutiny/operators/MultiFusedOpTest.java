@@ -0,0 +1,203 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.spies.MultiOnCancellationSpy;
+import io.smallrye.mutiny.helpers.spies.MultiOnRequestSpy;
+import io.smallrye.mutiny.helpers.spies.Spy;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.operators.multi.MultiFusedOp;
+import io.smallrye.mutiny.operators.multi.MultiMapOp;
+import io.smallrye.mutiny.operators.multi.MultiSelectWhereOp;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+
+public class MultiFusedOpTest {
+
+    @Test
+    public void testThatSingleStagesAreNotFused() {
+        Multi<Integer> upstream = Multi.createFrom().range(1, 4);
+        assertThat(upstream.map(i -> i + 1)).isInstanceOf(MultiMapOp.class);
+        assertThat(upstream.filter(i -> i > 1)).isInstanceOf(MultiSelectWhereOp.class);
+    }
+
+    @Test
+    public void testThatConsecutiveStagesAreFused() {
+        Multi<Integer> multi = Multi.createFrom().range(1, 4)
+                .map(i -> i + 1)
+                .filter(i -> i > 1)
+                .invoke(i -> {
+                    // noop
+                })
+                .map(i -> i * 2);
+        assertThat(multi).isInstanceOf(MultiFusedOp.class);
+        assertThat(((MultiFusedOp<Integer>) multi).stages()).isEqualTo(4);
+    }
+
+    @Test
+    public void testThatFusionStopsAtOtherOperators() {
+        Multi<Integer> multi = Multi.createFrom().range(1, 4)
+                .map(i -> i + 1)
+                .filter(i -> i > 1)
+                .select().first(2)
+                .map(i -> i * 2)
+                .filter(i -> i > 1);
+        assertThat(multi).isInstanceOf(MultiFusedOp.class);
+        assertThat(((MultiFusedOp<Integer>) multi).stages()).isEqualTo(2);
+    }
+
+    @Test
+    public void testNullParameters() {
+        Multi<Integer> multi = Multi.createFrom().range(1, 4).map(i -> i + 1);
+        assertThrows(IllegalArgumentException.class, () -> multi.map(null));
+        assertThrows(IllegalArgumentException.class, () -> multi.filter(null));
+        assertThrows(IllegalArgumentException.class, () -> multi.invoke((java.util.function.Consumer<Integer>) null));
+        assertThrows(NullPointerException.class, () -> multi.map(i -> i).subscribe(null));
+    }
+
+    @Test
+    public void testChainOfStages() {
+        List<Integer> invoked = new CopyOnWriteArrayList<>();
+        List<Integer> list = Multi.createFrom().range(0, 20)
+                .map(i -> i + 1)
+                .filter(i -> i % 2 == 0)
+                .invoke(invoked::add)
+                .map(i -> i * 10)
+                .filter(i -> i % 3 != 0)
+                .map(i -> "" + i)
+                .map(Integer::parseInt)
+                .collect().asList()
+                .await().indefinitely();
+        assertThat(invoked).containsExactly(2, 4, 6, 8, 10, 12, 14, 16, 18, 20);
+        assertThat(list).containsExactly(20, 40, 80, 100, 140, 160, 200);
+    }
+
+    @Test
+    public void testThatIntermediateStagesCanStillBeSubscribed() {
+        Multi<Integer> first = Multi.createFrom().range(1, 6).map(i -> i * 2);
+        Multi<Integer> second = first.filter(i -> i > 4);
+        assertThat(first.collect().asList().await().indefinitely()).containsExactly(2, 4, 6, 8, 10);
+        assertThat(second.collect().asList().await().indefinitely()).containsExactly(6, 8, 10);
+        assertThat(first.map(i -> -i).collect().asList().await().indefinitely()).containsExactly(-2, -4, -6, -8, -10);
+    }
+
+    @Test
+    public void testThatDroppedItemsAreReplenished() {
+        MultiOnRequestSpy<Integer> spy = Spy.onRequest(Multi.createFrom().range(1, 21));
+        AssertSubscriber<Integer> subscriber = spy
+                .map(i -> i + 1)
+                .filter(i -> i % 2 == 0)
+                .map(i -> i * 2)
+                .filter(i -> i % 3 == 0)
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        subscriber.assertItems(12);
+        subscriber.request(1);
+        subscriber.assertItems(12, 24);
+        subscriber.request(5);
+        subscriber.assertItems(12, 24, 36).assertCompleted();
+        assertThat(spy.requestedCount()).isGreaterThan(7);
+    }
+
+    @Test
+    public void testRequestingMaxDoesNotReplenish() {
+        MultiOnRequestSpy<Integer> spy = Spy.onRequest(Multi.createFrom().range(1, 11));
+        spy.map(i -> i + 1)
+                .filter(i -> i % 2 == 0)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(2, 4, 6, 8, 10);
+        assertThat(spy.requestedCount()).isEqualTo(Long.MAX_VALUE);
+        assertThat(spy.invocationCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testInvalidRequest() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 4)
+                .map(i -> i + 1)
+                .filter(i -> i % 2 == 0)
+                .subscribe().withSubscriber(AssertSubscriber.create());
+        subscriber.request(0);
+        subscriber.assertFailedWith(IllegalArgumentException.class, "request must be positive");
+    }
+
+    @Test
+    public void testMapperReturningNull() {
+        MultiOnCancellationSpy<Integer> spy = Spy.onCancellation(Multi.createFrom().range(1, 5));
+        spy
+                .map(i -> i + 1)
+                .map(i -> i == 3 ? null : i)
+                .filter(i -> true)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(NullPointerException.class, "")
+                .assertItems(2);
+        assertThat(spy.invoked()).isTrue();
+    }
+
+    @Test
+    public void testFailingStages() {
+        AtomicInteger invoked = new AtomicInteger();
+        Multi.createFrom().range(1, 5)
+                .map(i -> i + 1)
+                .filter(i -> {
+                    if (i == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return true;
+                })
+                .invoke(i -> invoked.incrementAndGet())
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(2);
+        assertThat(invoked).hasValue(1);
+
+        Multi.createFrom().range(1, 5)
+                .map(i -> i + 1)
+                .invoke(i -> {
+                    if (i == 4) {
+                        throw new IllegalStateException("boom");
+                    }
+                })
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(2, 3);
+    }
+
+    @Test
+    public void testUpstreamFailure() {
+        Multi.createBy().concatenating().streams(
+                Multi.createFrom().items(1, 2),
+                Multi.createFrom().<Integer> failure(new IOException("boom")))
+                .map(i -> i + 1)
+                .filter(i -> i > 0)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(IOException.class, "boom")
+                .assertItems(2, 3);
+    }
+
+    @Test
+    public void testNoEmissionAfterCancellation() {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create();
+        AssertSubscriber<Integer> subscriber = processor
+                .map(i -> i + 1)
+                .filter(i -> i % 2 == 0)
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        processor.onNext(1);
+        processor.onNext(2);
+        processor.onNext(3);
+        subscriber.cancel();
+        processor.onNext(5);
+        processor.onComplete();
+
+        subscriber.assertItems(2, 4).assertNotTerminated();
+    }
+}
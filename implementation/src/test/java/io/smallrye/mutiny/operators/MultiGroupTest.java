@@ -1,6 +1,7 @@
 package io.smallrye.mutiny.operators;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -14,6 +15,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,7 @@ import io.smallrye.mutiny.GroupedMulti;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.TestException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.groups.MultiGroup;
 import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
@@ -517,6 +520,94 @@ public class MultiGroupTest {
         assertThat(subscriber.getItems()).hasSize(9);
     }
 
+    @Test
+    public void testGroupsWithPrefetchAndReplenishment() {
+        List<Long> requests = new ArrayList<>();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100)
+                .onRequest().invoke(requests::add)
+                .group().intoGroups().withPrefetch(10).withReplenishmentRatio(0.5).by(i -> i % 2)
+                .flatMap(gm -> gm)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(100);
+        assertThat(requests.get(0)).isEqualTo(10L);
+        assertThat(requests.subList(1, requests.size())).isNotEmpty().allSatisfy(n -> assertThat(n).isGreaterThanOrEqualTo(5L));
+    }
+
+    @Test
+    public void testMaxGroups() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AssertSubscriber<GroupedMulti<Integer, Integer>> subscriber = Multi.createFrom().range(0, 10)
+                .onCancellation().invoke(() -> cancelled.set(true))
+                .group().intoGroups().withMaxGroups(3).by(i -> i)
+                .subscribe().withSubscriber(AssertSubscriber.create(100));
+
+        subscriber.assertFailedWith(IllegalStateException.class, "maximum number of groups (3)");
+        assertThat(subscriber.getItems()).hasSize(3);
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    public void testCancelledGroupsDoNotCountInMaxGroups() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .group().intoGroups().withMaxGroups(1).by(i -> i)
+                .flatMap(gm -> gm.select().first())
+                .subscribe().withSubscriber(AssertSubscriber.create(100));
+
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    public void testIdleGroupsEviction() {
+        AtomicReference<MultiEmitter<? super String>> emitter = new AtomicReference<>();
+        List<AssertSubscriber<String>> groups = new ArrayList<>();
+        AssertSubscriber<GroupedMulti<String, String>> subscriber = Multi.createFrom().<String> emitter(emitter::set)
+                .group().intoGroups().evictingIdleGroupsAfter(Duration.ofMillis(50)).by(s -> s.substring(0, 1))
+                .onItem().invoke(gm -> groups.add(gm.subscribe().withSubscriber(AssertSubscriber.create(10))))
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        emitter.get().emit("a1");
+        await().until(() -> groups.size() == 1 && groups.get(0).hasCompleted());
+        groups.get(0).assertItems("a1");
+
+        emitter.get().emit("a2").emit("b1");
+        assertThat(subscriber.getItems()).hasSize(3).extracting(GroupedMulti::key).containsExactly("a", "a", "b");
+        groups.get(1).assertItems("a2");
+        groups.get(2).assertItems("b1");
+        subscriber.assertNotTerminated();
+
+        emitter.get().complete();
+        subscriber.assertCompleted();
+        groups.forEach(AssertSubscriber::assertCompleted);
+    }
+
+    @Test
+    public void testActiveGroupsAreNotEvicted() {
+        AssertSubscriber<Long> subscriber = Multi.createFrom().ticks().every(Duration.ofMillis(5))
+                .select().first(40)
+                .group().intoGroups().evictingIdleGroupsAfter(Duration.ofMillis(100)).by(l -> 0)
+                .flatMap(gm -> gm)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.await().assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(40);
+    }
+
+    @Test
+    public void testInvalidGroupsConfiguration() {
+        MultiGroup<Integer> group = Multi.createFrom().range(1, 10).group();
+        assertThrows(IllegalArgumentException.class, () -> group.intoGroups().withPrefetch(0));
+        assertThrows(IllegalArgumentException.class, () -> group.intoGroups().withReplenishmentRatio(0));
+        assertThrows(IllegalArgumentException.class, () -> group.intoGroups().withReplenishmentRatio(1.5));
+        assertThrows(IllegalArgumentException.class, () -> group.intoGroups().withMaxGroups(-1));
+        assertThrows(IllegalArgumentException.class, () -> group.intoGroups().evictingIdleGroupsAfter(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> group.intoGroups().evictingIdleGroupsAfter(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> group.intoGroups().by(null));
+    }
+
     @Test
     public void requestingIsResumedAfterCancellationOfAGroupedMulti() {
         final List<AssertSubscriber<Integer>> subscribers = new ArrayList<>();
@@ -916,4 +1007,129 @@ public class MultiGroupTest {
             assertThat(batch.size()).isBetween(1, 3);
         }
     }
+
+    @Test
+    public void testGroupIntoListsFusedWithASyncSource() {
+        AssertSubscriber<List<Integer>> subscriber = Multi.createFrom().range(0, 10)
+                .group().intoLists().of(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        subscriber.assertItems(Arrays.asList(0, 1, 2, 3)).assertNotTerminated();
+        subscriber.request(5);
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).containsExactly(Arrays.asList(0, 1, 2, 3), Arrays.asList(4, 5, 6, 7),
+                Arrays.asList(8, 9));
+    }
+
+    @Test
+    public void testGroupIntoListsFusedCompletesWithoutPendingRequestsWhenExhausted() {
+        Multi.createFrom().items(1, 2, 3, 4)
+                .group().intoLists().of(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(2))
+                .assertCompleted()
+                .assertItems(Arrays.asList(1, 2), Arrays.asList(3, 4));
+    }
+
+    @Test
+    public void testGroupIntoListsFusedWithAFailingSyncSource() {
+        Multi.createFrom().items(() -> Stream.of(1, 2, 3).map(i -> {
+            if (i == 3) {
+                throw new IllegalStateException("boom");
+            }
+            return i;
+        }))
+                .group().intoLists().of(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(Arrays.asList(1, 2));
+    }
+
+    @Test
+    public void testGroupIntoListsWithAnAsyncSourceIsNotFused() {
+        AtomicInteger requests = new AtomicInteger();
+        Multi.createFrom().<Integer> emitter(e -> e.emit(1).emit(2).emit(3).complete())
+                .onRequest().invoke(n -> requests.incrementAndGet())
+                .group().intoLists().of(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(Arrays.asList(1, 2), Collections.singletonList(3));
+        assertThat(requests).hasPositiveValue();
+    }
+
+    @Test
+    public void testCancellationOfFusedGroupIntoListsClosesTheStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Multi.createFrom().items(() -> Stream.of(1, 2, 3, 4, 5, 6, 7, 8).onClose(() -> closed.set(true)))
+                .group().intoLists().of(3)
+                .select().first(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6));
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void testCancellationOfFusedGroupIntoListsWithoutPendingRequestsClosesTheStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        AssertSubscriber<List<Integer>> subscriber = Multi.createFrom()
+                .items(() -> Stream.of(1, 2, 3, 4, 5, 6, 7, 8).onClose(() -> closed.set(true)))
+                .group().intoLists().of(3)
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+        subscriber.assertItems(Arrays.asList(1, 2, 3));
+        assertThat(closed).isFalse();
+        subscriber.cancel();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void testInvalidRequestOnFusedGroupIntoLists() {
+        AtomicBoolean closed = new AtomicBoolean();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        List<List<Integer>> items = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        // Not an AssertSubscriber: its strict wrapper would reject the invalid request before the operator
+        Multi.createFrom()
+                .items(() -> Stream.of(1, 2, 3, 4, 5, 6, 7, 8).onClose(() -> closed.set(true)))
+                .group().intoLists().of(3)
+                .subscribe().withSubscriber(new MultiSubscriber<List<Integer>>() {
+                    @Override
+                    public void onSubscribe(Subscription s) {
+                        subscription.set(s);
+                        s.request(1);
+                    }
+
+                    @Override
+                    public void onItem(List<Integer> item) {
+                        items.add(item);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable t) {
+                        failure.set(t);
+                    }
+
+                    @Override
+                    public void onCompletion() {
+                        fail("Unexpected completion");
+                    }
+                });
+        assertThat(items).containsExactly(Arrays.asList(1, 2, 3));
+
+        subscription.get().request(0);
+        assertThat(failure.get()).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must be greater than 0");
+        assertThat(items).containsExactly(Arrays.asList(1, 2, 3));
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void testCompletionOfFusedGroupIntoListsClosesTheStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Multi.createFrom().items(() -> Stream.of(1, 2, 3, 4).onClose(() -> closed.set(true)))
+                .group().intoLists().of(3)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(Arrays.asList(1, 2, 3), Collections.singletonList(4));
+        assertThat(closed).isTrue();
+    }
 }
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.groups.MultiRetry;
+import io.smallrye.mutiny.helpers.RetryBudget;
 import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 
 public class MultiOnFailureRetryTest {
@@ -164,4 +165,64 @@ public class MultiOnFailureRetryTest {
                 .onFailure().retry().withJitter(2));
     }
 
+    @Test
+    public void testRetryWithFullJitter() {
+        AssertSubscriber<Integer> subscriber = failing
+                .onFailure().retry().withBackOff(Duration.ofMillis(10), Duration.ofMillis(50)).withFullJitter()
+                .atMost(3)
+                .subscribe().withSubscriber(AssertSubscriber.create(100));
+
+        subscriber.await()
+                .assertFailedWith(IllegalStateException.class, "Retries exhausted: 3/3")
+                .assertItems(1, 2, 3, 1, 2, 3, 1, 2, 3);
+        assertThat(numberOfSubscriptions).hasValue(3);
+    }
+
+    @Test
+    public void testRetryWithDecorrelatedJitterRespectsTheRequests() {
+        AssertSubscriber<Integer> subscriber = failing
+                .onFailure().retry().withBackOff(Duration.ofMillis(10), Duration.ofMillis(50)).withDecorrelatedJitter()
+                .atMost(3)
+                .subscribe().withSubscriber(AssertSubscriber.create(4));
+
+        await().until(() -> subscriber.getItems().size() == 4);
+        subscriber.assertNotTerminated().assertItems(1, 2, 3, 1);
+        subscriber.request(100);
+        subscriber.await()
+                .assertFailedWith(IllegalStateException.class, "Retries exhausted: 3/3")
+                .assertItems(1, 2, 3, 1, 2, 3, 1, 2, 3);
+    }
+
+    @Test
+    public void testRetryBudget() {
+        RetryBudget budget = new RetryBudget(0.5, 1);
+        Multi<Integer> multi = failing.onFailure().retry().withBudget(budget).indefinitely();
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(100))
+                .assertFailedWith(IOException.class, "boom")
+                .assertItems(1, 2, 3, 1, 2, 3);
+        assertThat(numberOfSubscriptions).hasValue(2);
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(100))
+                .assertFailedWith(IOException.class, "boom")
+                .assertItems(1, 2, 3);
+        multi.subscribe().withSubscriber(AssertSubscriber.create(100))
+                .assertFailedWith(IOException.class, "boom")
+                .assertItems(1, 2, 3, 1, 2, 3);
+        assertThat(numberOfSubscriptions).hasValue(5);
+    }
+
+    @Test
+    public void testCancellationCancelsTheScheduledRetry() throws InterruptedException {
+        AssertSubscriber<Integer> subscriber = failing
+                .onFailure().retry().withBackOff(Duration.ofMillis(200)).withDecorrelatedJitter()
+                .indefinitely()
+                .subscribe().withSubscriber(AssertSubscriber.create(100));
+
+        await().until(() -> subscriber.getItems().size() == 3);
+        subscriber.cancel();
+        Thread.sleep(500);
+        assertThat(numberOfSubscriptions).hasValue(1);
+        subscriber.assertNotTerminated();
+    }
 }
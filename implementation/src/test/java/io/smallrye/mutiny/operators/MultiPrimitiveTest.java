@@ -0,0 +1,198 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.IntSummaryStatistics;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+public class MultiPrimitiveTest {
+
+    @Test
+    public void testIntRangeBoxed() {
+        Multi.createFrom().intRange(0, 5).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void testInvalidRanges() {
+        assertThatThrownBy(() -> Multi.createFrom().intRange(2, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Multi.createFrom().longRange(3, 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testMapAndFilterWithBackPressure() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().intRange(0, 100)
+                .filter(i -> i % 10 == 0)
+                .map(i -> i * 2)
+                .boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        subscriber.assertHasNotReceivedAnyItem().assertNotTerminated();
+        subscriber.request(3);
+        subscriber.assertItems(0, 20, 40).assertNotTerminated();
+        subscriber.request(7);
+        // The last values are filtered, so the completion needs more requests
+        subscriber.assertNotTerminated();
+        subscriber.request(1);
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(10).endsWith(180);
+    }
+
+    @Test
+    public void testCancellation() {
+        AssertSubscriber<Long> subscriber = Multi.createFrom().longRange(0, Long.MAX_VALUE).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+        subscriber.cancel();
+        subscriber.request(10);
+        subscriber.assertItems(0L, 1L).assertNotTerminated();
+    }
+
+    @Test
+    public void testInvalidRequest() {
+        Multi.createFrom().ints(1, 2, 3).boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create())
+                .request(-1)
+                .assertFailedWith(IllegalArgumentException.class, "");
+    }
+
+    @Test
+    public void testEmptyArrays() {
+        Multi.createFrom().doubles().boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(0))
+                .assertCompleted()
+                .assertHasNotReceivedAnyItem();
+        Multi.createFrom().ints().max()
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertItem(null);
+        Multi.createFrom().longs().sum()
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertItem(0L);
+    }
+
+    @Test
+    public void testReductions() {
+        assertThat(Multi.createFrom().intRange(1, 101).sum().await().indefinitely()).isEqualTo(5050L);
+        assertThat(Multi.createFrom().ints(4, -2, 9).min().await().indefinitely()).isEqualTo(-2);
+        assertThat(Multi.createFrom().ints(4, -2, 9).max().await().indefinitely()).isEqualTo(9);
+        assertThat(Multi.createFrom().longs(1, 2).average().await().indefinitely()).isEqualTo(1.5);
+        assertThat(Multi.createFrom().doubles(0.5, 1.5, 3.0).sum().await().indefinitely()).isEqualTo(5.0);
+        assertThat(Multi.createFrom().intRange(0, 1000).filter(i -> i % 2 == 0).count().await().indefinitely())
+                .isEqualTo(500L);
+
+        IntSummaryStatistics stats = Multi.createFrom().ints(3, 1, 2).summaryStatistics().await().indefinitely();
+        assertThat(stats.getCount()).isEqualTo(3);
+        assertThat(stats.getMin()).isEqualTo(1);
+        assertThat(stats.getMax()).isEqualTo(3);
+    }
+
+    @Test
+    public void testIntSumDoesNotOverflow() {
+        assertThat(Multi.createFrom().ints(Integer.MAX_VALUE, Integer.MAX_VALUE).sum().await().indefinitely())
+                .isEqualTo(2L * Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testConversions() {
+        Multi.createFrom().ints(1, 2, 3)
+                .mapToLong(i -> i * 10_000_000_000L)
+                .mapToDouble(l -> l / 2.0)
+                .mapToInt(d -> (int) (d / 1_000_000_000))
+                .mapToObj(i -> "v" + i)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems("v5", "v10", "v15");
+    }
+
+    @Test
+    public void testMapperFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        Multi.createFrom().intRange(0, 10)
+                .map(i -> {
+                    calls.incrementAndGet();
+                    if (i == 2) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                })
+                .boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(0, 1);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    public void testMapToObjReturningNull() {
+        Multi.createFrom().ints(1).mapToObj(i -> null)
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .assertFailedWith(NullPointerException.class, "`null`");
+    }
+
+    @Test
+    public void testFromMultiReplenishesFilteredItems() {
+        AtomicInteger requests = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 20)
+                .onRequest().invoke(n -> requests.incrementAndGet())
+                .onItem().transformToInt(Integer::intValue)
+                .filter(i -> i % 5 == 0)
+                .boxed()
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.assertItems(0, 5).assertNotTerminated();
+        subscriber.request(10);
+        subscriber.assertItems(0, 5, 10, 15).assertCompleted();
+        assertThat(requests.get()).isGreaterThan(2);
+    }
+
+    @Test
+    public void testFromMultiReduction() {
+        assertThat(Multi.createFrom().items("a", "bb", "ccc")
+                .onItem().transformToLong(String::length)
+                .sum()
+                .await().indefinitely()).isEqualTo(6L);
+        assertThat(Multi.createFrom().items(1.0, 2.0)
+                .onItem().transformToDouble(Double::doubleValue)
+                .max()
+                .await().indefinitely()).isEqualTo(2.0);
+    }
+
+    @Test
+    public void testFromMultiFailure() {
+        Multi.createFrom().<Integer> failure(new IllegalStateException("boom"))
+                .onItem().transformToInt(Integer::intValue)
+                .sum()
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    public void testReductionCancellation() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Cancellable cancellable = Multi.createFrom().<Integer> nothing()
+                .onCancellation().invoke(() -> cancelled.set(true))
+                .onItem().transformToInt(Integer::intValue)
+                .sum()
+                .subscribe().with(x -> {
+                });
+        cancellable.cancel();
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    public void testResubscription() {
+        Multi<Integer> multi = Multi.createFrom().intRange(0, 3).map(i -> i + 1).boxed();
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)).assertItems(1, 2, 3);
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)).assertItems(1, 2, 3);
+    }
+}
@@ -0,0 +1,379 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.infrastructure.InfrastructureHelper;
+import io.smallrye.mutiny.infrastructure.MultiInterceptor;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.QueueSubscription;
+
+public class MultiQueueFusionTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void init() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdown();
+        Infrastructure.clearInterceptors();
+    }
+
+    @Test
+    public void testSyncFusionWithItems() {
+        AtomicReference<QueueSubscription<Integer>> reference = new AtomicReference<>();
+        Multi.createFrom().items(1, 2, 3).subscribe().withSubscriber(new FusingSubscriber<>(reference));
+
+        QueueSubscription<Integer> qs = reference.get();
+        assertThat(qs.requestFusion(QueueSubscription.ASYNC)).isEqualTo(QueueSubscription.NONE);
+        assertThat(qs.requestFusion(QueueSubscription.ANY)).isEqualTo(QueueSubscription.SYNC);
+        assertThat(qs.isEmpty()).isFalse();
+        assertThat(qs.poll()).isEqualTo(1);
+        assertThat(qs.poll()).isEqualTo(2);
+        qs.clear();
+        assertThat(qs.isEmpty()).isTrue();
+        assertThat(qs.poll()).isNull();
+    }
+
+    @Test
+    public void testSyncFusionWithIterable() {
+        AtomicReference<QueueSubscription<Integer>> reference = new AtomicReference<>();
+        Multi.createFrom().iterable(Arrays.asList(1, 2)).subscribe().withSubscriber(new FusingSubscriber<>(reference));
+
+        QueueSubscription<Integer> qs = reference.get();
+        assertThat(qs.requestFusion(QueueSubscription.ANY)).isEqualTo(QueueSubscription.SYNC);
+        assertThat(qs.poll()).isEqualTo(1);
+        assertThat(qs.isEmpty()).isFalse();
+        assertThat(qs.poll()).isEqualTo(2);
+        assertThat(qs.isEmpty()).isTrue();
+        assertThat(qs.poll()).isNull();
+    }
+
+    @Test
+    public void testSyncFusionWithFailingIterator() {
+        AtomicReference<QueueSubscription<Integer>> reference = new AtomicReference<>();
+        Multi.createFrom().iterable(() -> new FailingIterator(1))
+                .subscribe().withSubscriber(new FusingSubscriber<>(reference));
+
+        QueueSubscription<Integer> qs = reference.get();
+        assertThat(qs.requestFusion(QueueSubscription.SYNC)).isEqualTo(QueueSubscription.SYNC);
+        assertThat(qs.poll()).isEqualTo(0);
+        // isEmpty does not throw, the failure is reported by poll
+        assertThat(qs.isEmpty()).isFalse();
+        try {
+            qs.poll();
+            throw new AssertionError("Exception expected");
+        } catch (IllegalStateException e) {
+            assertThat(e).hasMessage("boom");
+        }
+        assertThat(qs.poll()).isNull();
+    }
+
+    @Test
+    public void testEmitOnWithItems() {
+        List<String> threads = new CopyOnWriteArrayList<>();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 1000)
+                .emitOn(executor)
+                .onItem().invoke(i -> threads.add(Thread.currentThread().getName()))
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        await().until(() -> subscriber.getItems().size() == 10);
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.await().assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(1000).startsWith(0, 1, 2).endsWith(998, 999);
+        assertThat(threads).allSatisfy(name -> assertThat(name).startsWith("pool-"));
+    }
+
+    @Test
+    public void testEmitOnWithCollection() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().iterable(list)
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.await().assertCompleted();
+        assertThat(subscriber.getItems()).containsExactlyElementsOf(list);
+    }
+
+    @Test
+    public void testEmitOnWithFailingIterator() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().iterable(() -> new FailingIterator(3))
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.await()
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(0, 1, 2);
+    }
+
+    @Test
+    public void testEmitOnCancellationClosesTheStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom()
+                .items(() -> Stream.of(1, 2, 3, 4).onClose(() -> closed.set(true)))
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        await().until(() -> subscriber.getItems().size() == 2);
+        subscriber.cancel();
+        await().untilTrue(closed);
+        subscriber.assertItems(1, 2).assertNotTerminated();
+    }
+
+    @Test
+    public void testEmitOnCompletionClosesTheStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom()
+                .items(() -> Stream.of(1, 2, 3).onClose(() -> closed.set(true)))
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(3));
+
+        subscriber.await().assertCompleted().assertItems(1, 2, 3);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void testEmitOnWithUnicastProcessor() {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        AssertSubscriber<Integer> subscriber = processor
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        for (int i = 0; i < 100; i++) {
+            processor.onNext(i);
+        }
+        await().until(() -> subscriber.getItems().size() == 100);
+        processor.onNext(100);
+        processor.onComplete();
+        subscriber.await().assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(101).startsWith(0, 1, 2).endsWith(99, 100);
+    }
+
+    @Test
+    public void testEmitOnWithFailingUnicastProcessor() {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        AssertSubscriber<Integer> subscriber = processor
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        processor.onNext(1);
+        await().until(() -> subscriber.getItems().size() == 1);
+        processor.onError(new IllegalStateException("boom"));
+        subscriber.await()
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(1);
+    }
+
+    @Test
+    public void testInterceptorForwardingTheSubscriptionPreventsFusion() {
+        List<Object> seen = new CopyOnWriteArrayList<>();
+        InfrastructureHelper.registerMultiInterceptor(new MultiInterceptor() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> Subscriber<? super T> onSubscription(Publisher<? extends T> instance,
+                    Subscriber<? super T> subscriber) {
+                if (!(instance instanceof UnicastProcessor)) {
+                    return subscriber;
+                }
+                return new ForwardingSubscriber<>((MultiSubscriber<T>) subscriber, seen);
+            }
+        });
+
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        // The deferred Multi subscribes to the processor through the interceptors
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().deferred(() -> processor)
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        processor.onNext(1);
+        processor.onNext(2);
+        processor.onComplete();
+        subscriber.await().assertCompleted().assertItems(1, 2);
+        // The items went through the interceptor's subscriber instead of being polled by emitOn
+        assertThat(seen).containsExactly(1, 2);
+    }
+
+    @Test
+    public void testNonFuseableSubscription() {
+        AtomicReference<QueueSubscription<Integer>> reference = new AtomicReference<>();
+        Multi.createFrom().items(1, 2, 3).subscribe().withSubscriber(new FusingSubscriber<>(reference));
+
+        Subscription subscription = Subscriptions.nonFuseable(reference.get());
+        assertThat(subscription).isNotInstanceOf(QueueSubscription.class);
+        Subscription plain = Subscriptions.empty();
+        assertThat(Subscriptions.nonFuseable(plain)).isSameAs(plain);
+    }
+
+    @Test
+    public void testFlatMapWithSyncInners() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100)
+                .onItem().transformToMulti(i -> Multi.createFrom().items(i, i))
+                .merge(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(5));
+
+        subscriber.assertItems(0, 0, 1, 1, 2);
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(200);
+    }
+
+    @Test
+    public void testFlatMapWithFailingSyncInner() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().items(1, 2)
+                .onItem().transformToMulti(i -> Multi.createFrom().iterable(() -> new FailingIterator(i)))
+                .merge()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertFailedWith(IllegalStateException.class, "boom").assertItems(0);
+    }
+
+    @Test
+    public void testFlatMapWithFailingSyncInnerAndDelayedFailures() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().items(1, 2)
+                .onItem().transformToMulti(i -> Multi.createFrom().iterable(() -> new FailingIterator(i)))
+                .collectFailures().merge()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertFailedWith(CompositeException.class, "boom").assertItems(0, 0, 1);
+    }
+
+    @Test
+    public void testFlatMapWithAsyncInner() {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().item(processor)
+                .onItem().transformToMulti(p -> p)
+                .merge()
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        processor.onNext(1);
+        processor.onNext(2);
+        processor.onNext(3);
+        subscriber.assertItems(1, 2).assertNotTerminated();
+        subscriber.request(10);
+        subscriber.assertItems(1, 2, 3).assertNotTerminated();
+        processor.onComplete();
+        subscriber.assertCompleted();
+    }
+
+    private static class FusingSubscriber<T> implements MultiSubscriber<T> {
+
+        private final AtomicReference<QueueSubscription<T>> reference;
+
+        FusingSubscriber(AtomicReference<QueueSubscription<T>> reference) {
+            this.reference = reference;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            reference.set((QueueSubscription<T>) subscription);
+        }
+
+        @Override
+        public void onItem(T item) {
+            throw new AssertionError("Unexpected item");
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            throw new AssertionError("Unexpected failure");
+        }
+
+        @Override
+        public void onCompletion() {
+            throw new AssertionError("Unexpected completion");
+        }
+    }
+
+    /**
+     * Subscriber recording the items and forwarding everything, including the subscription, as-is.
+     */
+    private static class ForwardingSubscriber<T> implements MultiSubscriber<T> {
+
+        private final MultiSubscriber<T> downstream;
+        private final List<Object> seen;
+
+        ForwardingSubscriber(MultiSubscriber<T> downstream, List<Object> seen) {
+            this.downstream = downstream;
+            this.seen = seen;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onItem(T item) {
+            seen.add(item == null ? "null" : item);
+            downstream.onItem(item);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            downstream.onFailure(failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            downstream.onCompletion();
+        }
+    }
+
+    /**
+     * Iterator emitting {@code count} items and then failing.
+     */
+    private static class FailingIterator implements Iterator<Integer> {
+
+        private final int count;
+        private int index;
+
+        FailingIterator(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (index == count) {
+                throw new IllegalStateException("boom");
+            }
+            return true;
+        }
+
+        @Override
+        public Integer next() {
+            return index++;
+        }
+    }
+}
@@ -1324,4 +1324,25 @@ public class MultiTransformToMultiTest {
                 .containsExactly(0, 1, 2, 3, 4, -5, 6, 7, 8, 9, -10, 11, 12, 13, 14, -15, 16, 17, 18, 19);
     }
 
+    @Test
+    public void testTransformToMultiAndConcatenateConcurrently() {
+        UnicastProcessor<Integer> first = UnicastProcessor.create();
+        UnicastProcessor<Integer> second = UnicastProcessor.create();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().items(first, second)
+                .onItem().transformToMulti(p -> p)
+                .withRequests(4)
+                .concatenate(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        // Both streams are subscribed, the items of the second one are buffered until the first one completes
+        second.onNext(10);
+        second.onNext(11);
+        first.onNext(1);
+        subscriber.assertItems(1);
+        second.onComplete();
+        first.onNext(2);
+        subscriber.assertItems(1, 2).assertNotTerminated();
+        first.onComplete();
+        subscriber.assertCompleted().assertItems(1, 2, 10, 11);
+    }
 }
@@ -1,10 +1,15 @@
 package io.smallrye.mutiny.operators;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -223,4 +228,118 @@ public class MultiTransformToUniTest {
 
         assertThat(list).containsExactly(2, 3, 4);
     }
+
+    @Test
+    public void testTransformToUniAndMergeWithManyUnisCompletingOnDifferentThreads() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int concurrency : new int[] { 1, 3, 64, 1024 }) {
+                List<Integer> list = Multi.createFrom().range(0, 5000)
+                        .onItem().transformToUni(i -> Uni.createFrom().item(i).emitOn(executor))
+                        .merge(concurrency)
+                        .collect().asList().await().atMost(Duration.ofSeconds(30));
+
+                assertThat(list).hasSize(5000).doesNotHaveDuplicates();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTransformToUniAndConcatenateConcurrently() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<Integer> list = Multi.createFrom().range(0, 200)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i)
+                        // The later items complete first
+                        .onItem().delayIt().by(Duration.ofMillis(i % 4 == 0 ? 8 : 1))
+                        .onSubscribe().invoke(() -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                        .onTermination().invoke(inFlight::decrementAndGet))
+                .concatenate(4)
+                .collect().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(list).hasSize(200).isSorted();
+        assertThat(maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    public void testTransformToUniAndConcatenateConcurrentlyWithRequests() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .concatenate(3)
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        subscriber.assertItems(0, 1).assertNotTerminated();
+        subscriber.request(5);
+        subscriber.assertItems(0, 1, 2, 3, 4, 5, 6).assertNotTerminated();
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertCompleted().assertItems(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    public void testTransformToUniAndConcatenateConcurrentlyWithFailure() {
+        Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> i == 3 ? Uni.createFrom().<Integer> failure(new RuntimeException("boom"))
+                        : Uni.createFrom().item(i))
+                .concatenate(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(RuntimeException.class, "boom")
+                .assertItems(0, 1, 2);
+    }
+
+    @Test
+    public void testTransformToUniAndConcatenateConcurrentlyWithUniOfVoid() {
+        Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> i % 2 == 0 ? Uni.createFrom().voidItem().replaceWith(i)
+                        : Uni.createFrom().nullItem())
+                .concatenate(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(0, 2, 4, 6, 8);
+    }
+
+    @Test
+    public void testTransformToUniAndConcatenateConcurrentlyWithInvalidConcurrency() {
+        Multi<Integer> multi = Multi.createFrom().range(0, 10);
+        assertThatThrownBy(() -> multi.onItem().transformToUni(i -> Uni.createFrom().item(i)).concatenate(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testTransformToUniAndMergeAdaptively() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<Integer> list = Multi.createFrom().range(0, 300)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i)
+                        .onItem().delayIt().by(Duration.ofMillis(2))
+                        .onSubscribe().invoke(() -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                        .onTermination().invoke(inFlight::decrementAndGet))
+                .mergeAdaptively(1, 8)
+                .collect().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(list).hasSize(300).doesNotHaveDuplicates();
+        // The latency does not depend on the concurrency, so the concurrency grows, up to the maximum
+        assertThat(maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    public void testTransformToUniAndMergeAdaptivelyWithFailure() {
+        Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> i == 3 ? Uni.createFrom().failure(new RuntimeException("boom"))
+                        : Uni.createFrom().item(i))
+                .mergeAdaptively(1, 4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(RuntimeException.class, "boom")
+                .assertItems(0, 1, 2);
+    }
+
+    @Test
+    public void testTransformToUniAndMergeAdaptivelyWithInvalidBounds() {
+        Multi<Integer> multi = Multi.createFrom().range(0, 10);
+        assertThatThrownBy(() -> multi.onItem().transformToUni(i -> Uni.createFrom().item(i)).mergeAdaptively(0, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> multi.onItem().transformToUni(i -> Uni.createFrom().item(i)).mergeAdaptively(5, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -5,16 +5,22 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.TimeoutException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import io.smallrye.mutiny.tuples.*;
 
@@ -321,4 +327,203 @@ public class UniAndTest {
                 .assertItem(1 + 2 + 3 + 4 + 5 + 6 + 7 + 8 + 9);
     }
 
+    @Test
+    public void testWithManyUnis() {
+        List<Uni<Integer>> list = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            list.add(Uni.createFrom().item(i));
+        }
+
+        UniAssertSubscriber<List<?>> subscriber = Uni
+                .combine().all().unis(list)
+                .<List<?>> combinedWith(items -> items)
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+
+        subscriber.assertCompleted();
+        List<?> items = subscriber.getItem();
+        assertThat(items).hasSize(20_000);
+        for (int i = 0; i < 20_000; i++) {
+            assertThat(items.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    public void testWithConcurrencyLimit() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Uni<Integer>> list = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                list.add(Uni.createFrom().item(i)
+                        .emitOn(executor)
+                        .onSubscribe().invoke(() -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                        .onItem().invoke(inFlight::decrementAndGet));
+            }
+
+            List<?> items = Uni.combine().all().unis(list)
+                    .usingConcurrencyOf(3)
+                    .<List<?>> combinedWith(l -> l)
+                    .await().atMost(Duration.ofSeconds(10));
+
+            assertThat(items).hasSize(200);
+            for (int i = 0; i < 200; i++) {
+                assertThat(items.get(i)).isEqualTo(i);
+            }
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWithConcurrencyLimitAndSynchronousUnis() {
+        // The subscriptions are not nested, so a large number of synchronous unis does not overflow the stack
+        List<Uni<Integer>> list = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(Uni.createFrom().item(1));
+        }
+
+        UniAssertSubscriber<Integer> subscriber = Uni.combine().all().unis(list)
+                .usingConcurrencyOf(1)
+                .combinedWith(items -> items.size())
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+
+        subscriber.assertCompleted().assertItem(100_000);
+    }
+
+    @Test
+    public void testWithConcurrencyLimitAndFailure() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        List<Uni<Integer>> list = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int value = i;
+            list.add(Uni.createFrom().item(value)
+                    .onSubscribe().invoke(subscriptions::incrementAndGet)
+                    .onItem().transform(v -> {
+                        if (v == 2) {
+                            throw new IllegalStateException("boom");
+                        }
+                        return v;
+                    }));
+        }
+
+        Uni.combine().all().unis(list)
+                .usingConcurrencyOf(2)
+                .discardItems()
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalStateException.class, "boom");
+        // The unis after the failing one are not subscribed
+        assertThat(subscriptions.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testWithConcurrencyLimitAndCollectedFailures() {
+        List<Uni<Integer>> list = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i % 3 == 0 ? Uni.createFrom().failure(new IOException("boom-" + i)) : Uni.createFrom().item(i));
+        }
+
+        UniAssertSubscriber<Void> subscriber = Uni.combine().all().unis(list)
+                .usingConcurrencyOf(2)
+                .collectFailures()
+                .discardItems()
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        subscriber.assertFailedWith(CompositeException.class, "boom-0");
+        assertThat(((CompositeException) subscriber.getFailure()).getCauses()).hasSize(4);
+    }
+
+    @Test
+    public void testWithInvalidConcurrencyLimit() {
+        List<Uni<Integer>> list = Arrays.asList(Uni.createFrom().item(1), Uni.createFrom().item(2));
+        assertThrows(IllegalArgumentException.class, () -> Uni.combine().all().unis(list).usingConcurrencyOf(0));
+    }
+
+    @Test
+    public void testAsMultiInCompletionOrder() {
+        List<Uni<Integer>> list = Arrays.asList(
+                Uni.createFrom().item(1).onItem().delayIt().by(Duration.ofMillis(100)),
+                Uni.createFrom().item(2),
+                Uni.createFrom().item(3).onItem().delayIt().by(Duration.ofMillis(20)));
+
+        AssertSubscriber<Integer> subscriber = Uni.combine().all().unis(list)
+                .<Integer> asMulti(false)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.await().assertCompleted().assertItems(2, 3, 1);
+    }
+
+    @Test
+    public void testAsMultiInOrder() {
+        List<Uni<Integer>> list = Arrays.asList(
+                Uni.createFrom().item(1).onItem().delayIt().by(Duration.ofMillis(100)),
+                Uni.createFrom().item(2),
+                Uni.createFrom().item(3).onItem().delayIt().by(Duration.ofMillis(20)));
+
+        AssertSubscriber<Integer> subscriber = Uni.combine().all().unis(list)
+                .<Integer> asMulti(true)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.await().assertCompleted().assertItems(1, 2, 3);
+    }
+
+    @Test
+    public void testAsMultiWithConcurrencyLimit() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<Uni<Integer>> list = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            list.add(Uni.createFrom().item(i)
+                    .onItem().delayIt().by(Duration.ofMillis(1))
+                    .onSubscribe().invoke(() -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                    .onItem().invoke(inFlight::decrementAndGet));
+        }
+
+        List<Integer> items = Uni.combine().all().unis(list)
+                .usingConcurrencyOf(4)
+                .<Integer> asMulti(true)
+                .collect().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(items).hasSize(50).isSorted();
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    public void testAsMultiWithFailure() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        List<Uni<Integer>> list = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add((i == 2 ? Uni.createFrom().<Integer> failure(new IOException("boom")) : Uni.createFrom().item(i))
+                    .onSubscribe().invoke(subscriptions::incrementAndGet));
+        }
+
+        Uni.combine().all().unis(list)
+                .usingConcurrencyOf(2)
+                .<Integer> asMulti(false)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IOException.class, "boom")
+                .assertItems(0, 1);
+        // The unis after the failing one are not subscribed
+        assertThat(subscriptions.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testAsMultiWithCollectedFailures() {
+        Uni<Integer> source = Uni.createFrom().item(0);
+        List<Uni<Integer>> list = Arrays.asList(
+                Uni.createFrom().failure(new IOException("boom-1")),
+                Uni.createFrom().item(2),
+                Uni.createFrom().failure(new IOException("boom-3")));
+
+        Multi<Integer> multi = source.and().unis(list)
+                .collectFailures()
+                .asMulti(true);
+        AssertSubscriber<Integer> subscriber = multi
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertFailedWith(CompositeException.class, "boom-1").assertItems(0, 2);
+    }
 }
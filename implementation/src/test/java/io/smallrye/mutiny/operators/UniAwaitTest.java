@@ -96,6 +96,48 @@ public class UniAwaitTest {
         assertThat(exception.get()).hasCauseInstanceOf(InterruptedException.class);
     }
 
+    @Test
+    @Timeout(5)
+    public void testInterruptedWhileWaitingIndefinitely() {
+        AtomicBoolean awaiting = new AtomicBoolean();
+        AtomicReference<RuntimeException> exception = new AtomicReference<>();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Thread thread = new Thread(() -> {
+            try {
+                awaiting.set(true);
+                Uni.createFrom().nothing().await().indefinitely();
+            } catch (RuntimeException e) {
+                interrupted.set(Thread.currentThread().isInterrupted());
+                exception.set(e);
+            }
+        });
+        thread.start();
+        await().untilTrue(awaiting);
+        thread.interrupt();
+        await().until(() -> exception.get() != null);
+        assertThat(exception.get()).hasCauseInstanceOf(InterruptedException.class);
+        assertThat(interrupted).isTrue();
+    }
+
+    @Test
+    @Timeout(10)
+    public void testAwaitingOnADelayedUni() {
+        assertThat(Uni.createFrom().item(1).onItem().delayIt().by(Duration.ofMillis(50)).await().indefinitely())
+                .isEqualTo(1);
+        assertThat(Uni.createFrom().item(2).onItem().delayIt().by(Duration.ofMillis(50)).await()
+                .atMost(Duration.ofSeconds(5))).isEqualTo(2);
+    }
+
+    @Test
+    @Timeout(10)
+    public void testAwaitingOnManyAsyncUnis() {
+        for (int i = 0; i < 10_000; i++) {
+            int value = i;
+            assertThat(Uni.createFrom().item(value).emitOn(Infrastructure.getDefaultExecutor()).await().indefinitely())
+                    .isEqualTo(value);
+        }
+    }
+
     @Test
     public void testAwaitAsOptionalWithResult() {
         assertThat(
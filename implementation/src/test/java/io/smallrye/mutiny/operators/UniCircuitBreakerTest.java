@@ -0,0 +1,124 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.CircuitBreakerOpenException;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.CircuitBreaker;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+
+public class UniCircuitBreakerTest {
+
+    @Test
+    public void testThatBreakerCannotBeNull() {
+        assertThrows(IllegalArgumentException.class, () -> Uni.createFrom().item(1)
+                .onFailure().circuitBreaker(null));
+    }
+
+    @Test
+    public void testItemsAreForwardedWhenClosed() {
+        CircuitBreaker breaker = CircuitBreaker.create();
+        Uni.createFrom().item(1)
+                .plug(breaker::protect)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertItem(1);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testOpenBreakerDoesNotSubscribe() {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(2, 2);
+        AtomicInteger subscriptions = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().<Integer> failure(new IOException("boom"))
+                .onSubscribe().invoke(s -> subscriptions.incrementAndGet())
+                .onFailure().circuitBreaker(breaker);
+
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IOException.class, "boom");
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IOException.class, "boom");
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(CircuitBreakerOpenException.class, "open");
+        assertThat(subscriptions).hasValue(2);
+    }
+
+    @Test
+    public void testOnlyTheFailuresMatchingThePredicateAreRecorded() {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(2, 2);
+        Uni<Integer> uni = Uni.createFrom().<Integer> failure(new IllegalArgumentException("invalid"))
+                .onFailure(IOException.class).circuitBreaker(breaker);
+
+        for (int i = 0; i < 5; i++) {
+            uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                    .assertFailedWith(IllegalArgumentException.class, "invalid");
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testRecoveryThroughHalfOpen() {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(1, 1)
+                .withOpenDuration(Duration.ofMillis(50)).withPermittedCallsInHalfOpen(1);
+        AtomicInteger count = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().item(() -> {
+            if (count.getAndIncrement() == 0) {
+                throw new IllegalStateException("boom");
+            }
+            return count.get();
+        }).onFailure().circuitBreaker(breaker);
+
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalStateException.class, "boom");
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(CircuitBreakerOpenException.class, "open");
+
+        await().until(() -> breaker.state() == CircuitBreaker.State.HALF_OPEN);
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertItem(2);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testCancellationIsNotRecorded() {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(1, 1)
+                .withOpenDuration(Duration.ofMillis(50)).withPermittedCallsInHalfOpen(1);
+        breaker.tryAcquirePermission().onFailure();
+        await().until(() -> breaker.state() == CircuitBreaker.State.HALF_OPEN);
+
+        UniAssertSubscriber<Object> subscriber = Uni.createFrom().nothing()
+                .plug(breaker::protect)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        // The only permitted call is in progress
+        Uni.createFrom().item(1).plug(breaker::protect)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(CircuitBreakerOpenException.class, "open");
+
+        subscriber.cancel();
+        Uni.createFrom().item(1).plug(breaker::protect)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertItem(1);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testThatPredicateFailuresArePropagated() {
+        CircuitBreaker breaker = CircuitBreaker.create().withSlidingWindow(1, 1);
+        Uni.createFrom().<Integer> failure(new IOException("boom"))
+                .onFailure(t -> {
+                    throw new IllegalArgumentException("bad predicate");
+                }).circuitBreaker(breaker)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailed();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,143 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.operators.uni.hedging.AdaptiveHedgeDelay;
+import io.smallrye.mutiny.operators.uni.hedging.HedgeBudget;
+
+public class UniHedgeTest {
+
+    @Test
+    public void testNoHedgeWhenTheItemIsEmittedBeforeTheDelay() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().item(1)
+                .onSubscribe().invoke(subscriptions::incrementAndGet)
+                .ifNoItem().after(Duration.ofMillis(100)).hedge().resubscribe();
+
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .await().assertCompleted().assertItem(1);
+        assertThat(subscriptions.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFirstItemWinsAndTheLoserIsCancelled() {
+        AtomicInteger cancellations = new AtomicInteger();
+        Uni<String> slow = Uni.createFrom().item("slow")
+                .onItem().delayIt().by(Duration.ofSeconds(5))
+                .onCancellation().invoke(cancellations::incrementAndGet);
+
+        Uni<String> uni = slow
+                .ifNoItem().after(Duration.ofMillis(20)).hedge()
+                .using(() -> Uni.createFrom().item("hedge"));
+
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .await().assertCompleted().assertItem("hedge");
+        assertThat(cancellations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testHedgesAreCapped() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().item(() -> subscriptions.incrementAndGet())
+                .onItem().delayIt().by(Duration.ofMillis(200))
+                .ifNoItem().after(Duration.ofMillis(10)).hedge()
+                .atMost(2)
+                .resubscribe();
+
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .await().assertCompleted().assertItem(1);
+        assertThat(subscriptions.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testFailureIsPropagatedOnceNoAttemptIsRunning() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().<Integer> failure(new IOException("boom"))
+                .onSubscribe().invoke(subscriptions::incrementAndGet)
+                .ifNoItem().after(Duration.ofMillis(10)).hedge().resubscribe();
+
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .await().assertFailedWith(IOException.class, "boom");
+        // A failure is not hedged
+        assertThat(subscriptions.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFailingHedgeLetsTheFirstAttemptWin() {
+        Uni<String> uni = Uni.createFrom().item("first")
+                .onItem().delayIt().by(Duration.ofMillis(100))
+                .ifNoItem().after(Duration.ofMillis(10)).hedge()
+                .using(() -> Uni.createFrom().failure(new IOException("boom")));
+
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .await().assertCompleted().assertItem("first");
+    }
+
+    @Test
+    public void testExhaustedBudgetPreventsHedges() {
+        AtomicInteger hedges = new AtomicInteger();
+        HedgeBudget budget = new HedgeBudget(0.5, 1);
+        Uni<String> uni = Uni.createFrom().item("first")
+                .onItem().delayIt().by(Duration.ofMillis(50))
+                .ifNoItem().after(Duration.ofMillis(5)).hedge()
+                .withBudget(budget)
+                .using(() -> Uni.createFrom().item("hedge").onSubscribe().invoke(hedges::incrementAndGet));
+
+        // Each subscription deposits half a hedge: the second subscription can hedge, not the first and third ones
+        assertThat(uni.await().atMost(Duration.ofSeconds(5))).isEqualTo("first");
+        assertThat(uni.await().atMost(Duration.ofSeconds(5))).isEqualTo("hedge");
+        assertThat(uni.await().atMost(Duration.ofSeconds(5))).isEqualTo("first");
+        assertThat(hedges.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testAdaptiveDelay() {
+        AdaptiveHedgeDelay delay = new AdaptiveHedgeDelay(0.9);
+        AtomicInteger hedges = new AtomicInteger();
+        Uni<String> uni = Uni.createFrom().item("first")
+                .ifNoItem().after(Duration.ofSeconds(10)).hedge()
+                .withAdaptiveDelay(delay)
+                .using(() -> Uni.createFrom().item("hedge").onSubscribe().invoke(hedges::incrementAndGet));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(uni.await().atMost(Duration.ofSeconds(5))).isEqualTo("first");
+        }
+        // The latencies of the immediate items have been recorded
+        assertThat(delay.delayNanos()).isPositive().isLessThan(Duration.ofSeconds(1).toNanos());
+
+        // The recorded latencies are short, so a slow attempt is hedged without waiting for the configured delay
+        Uni<String> slow = Uni.createFrom().item("first")
+                .onItem().delayIt().by(Duration.ofSeconds(5))
+                .ifNoItem().after(Duration.ofSeconds(10)).hedge()
+                .withAdaptiveDelay(delay)
+                .using(() -> Uni.createFrom().item("hedge").onSubscribe().invoke(hedges::incrementAndGet));
+        assertThat(slow.await().atMost(Duration.ofSeconds(2))).isEqualTo("hedge");
+        assertThat(hedges.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCancellationCancelsAllTheAttempts() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        AtomicInteger cancellations = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().<Integer> nothing()
+                .onSubscribe().invoke(subscriptions::incrementAndGet)
+                .onCancellation().invoke(cancellations::incrementAndGet)
+                .ifNoItem().after(Duration.ofMillis(10)).hedge().resubscribe();
+
+        UniAssertSubscriber<Integer> subscriber = uni.subscribe().withSubscriber(UniAssertSubscriber.create());
+        // Wait for the hedge
+        await().until(() -> subscriptions.get() == 2);
+        subscriber.cancel();
+        assertThat(cancellations.get()).isEqualTo(2);
+        subscriber.assertNotTerminated();
+    }
+}
@@ -1,12 +1,17 @@
 package io.smallrye.mutiny.operators;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.RetryBudget;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 
 public class UniOnFailureRetryTest {
@@ -84,4 +89,119 @@ public class UniOnFailureRetryTest {
                 .subscribe().withSubscriber(UniAssertSubscriber.create())
                 .assertItem(1);
     }
+
+    @Test
+    public void testRetryWithFullJitter() {
+        AtomicInteger count = new AtomicInteger();
+        Uni.createFrom().item(() -> {
+            if (count.getAndIncrement() < 3) {
+                throw new RuntimeException("boom");
+            }
+            return count.get();
+        })
+                .onFailure().retry().withBackOff(Duration.ofMillis(10), Duration.ofMillis(50)).withFullJitter()
+                .atMost(5)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .await()
+                .assertItem(4);
+    }
+
+    @Test
+    public void testRetryWithDecorrelatedJitterExhausted() {
+        AtomicInteger count = new AtomicInteger();
+        Uni.createFrom().<Integer> failure(() -> {
+            count.incrementAndGet();
+            return new IOException("boom");
+        })
+                .onFailure().retry().withBackOff(Duration.ofMillis(10), Duration.ofMillis(50)).withDecorrelatedJitter()
+                .atMost(4)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .await()
+                .assertFailedWith(IllegalStateException.class, "Retries exhausted: 4/4");
+        assertThat(count).hasValue(4);
+    }
+
+    @Test
+    public void testRetryWithBackOffAndPredicate() {
+        AtomicInteger count = new AtomicInteger();
+        Uni.createFrom().<Integer> failure(() -> {
+            if (count.incrementAndGet() < 3) {
+                return new IOException("retry");
+            }
+            return new IllegalArgumentException("stop");
+        })
+                .onFailure(IOException.class).retry().withBackOff(Duration.ofMillis(10)).withDecorrelatedJitter()
+                .atMost(10)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .await()
+                .assertFailedWith(IllegalArgumentException.class, "stop");
+        assertThat(count).hasValue(3);
+    }
+
+    @Test
+    public void testRetryBudgetSharedBetweenSubscriptions() {
+        AtomicInteger count = new AtomicInteger();
+        RetryBudget budget = new RetryBudget(0.5, 2);
+        Uni<Integer> uni = Uni.createFrom().<Integer> failure(() -> {
+            count.incrementAndGet();
+            return new IOException("boom");
+        }).onFailure().retry().withBudget(budget).indefinitely();
+
+        // The budget starts with 2 retries
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IOException.class, "boom");
+        assertThat(count).hasValue(3);
+
+        // Each subscription deposits half a retry
+        count.set(0);
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IOException.class, "boom");
+        assertThat(count).hasValue(1);
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IOException.class, "boom");
+        assertThat(count).hasValue(3);
+    }
+
+    @Test
+    public void testRetryBudgetWithBackOff() {
+        AtomicInteger count = new AtomicInteger();
+        Uni.createFrom().<Integer> failure(() -> {
+            count.incrementAndGet();
+            return new IOException("boom");
+        })
+                .onFailure().retry().withBackOff(Duration.ofMillis(5)).withFullJitter()
+                .withBudget(new RetryBudget(0.1, 3))
+                .atMost(100)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .await()
+                .assertFailedWith(IOException.class, "boom");
+        assertThat(count).hasValue(4);
+    }
+
+    @Test
+    public void testCancellationCancelsTheScheduledRetry() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        UniAssertSubscriber<Integer> subscriber = Uni.createFrom().<Integer> failure(() -> {
+            count.incrementAndGet();
+            return new IOException("boom");
+        })
+                .onFailure().retry().withBackOff(Duration.ofMillis(200)).withDecorrelatedJitter()
+                .indefinitely()
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        await().until(() -> count.get() == 1);
+        subscriber.cancel();
+        Thread.sleep(700);
+        assertThat(count).hasValue(1);
+        subscriber.assertNotTerminated();
+    }
+
+    @Test
+    public void testExpireInWithDecorrelatedJitter() {
+        Uni.createFrom().<Integer> failure(new IOException("boom"))
+                .onFailure().retry().withBackOff(Duration.ofMillis(10), Duration.ofMillis(20)).withDecorrelatedJitter()
+                .expireIn(100)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .await()
+                .assertFailed();
+    }
 }
@@ -0,0 +1,51 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveConcurrencyLimitTest {
+
+    @Test
+    public void testLimitGrowsWhileTheLatencyIsStable() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 50);
+        assertThat(limit.limit()).isEqualTo(2);
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(1_000_000, false);
+        }
+        int grown = limit.limit();
+        assertThat(grown).isGreaterThan(2);
+        for (int i = 0; i < 500; i++) {
+            limit.onSample(1_000_000, false);
+        }
+        assertThat(limit.limit()).isGreaterThan(grown).isEqualTo(50);
+    }
+
+    @Test
+    public void testLimitShrinksWhenTheLatencyIncreases() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 100);
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(1_000_000, false);
+        }
+        int before = limit.limit();
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(10_000_000, false);
+        }
+        assertThat(limit.limit()).isLessThan(before);
+    }
+
+    @Test
+    public void testLimitIsHalvedOnFailuresUpToTheMinimum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(3, 100);
+        for (int i = 0; i < 500; i++) {
+            limit.onSample(1_000_000, false);
+        }
+        assertThat(limit.limit()).isEqualTo(100);
+        limit.onSample(1_000_000, true);
+        assertThat(limit.limit()).isEqualTo(50);
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(1_000_000, true);
+        }
+        assertThat(limit.limit()).isEqualTo(3);
+    }
+}
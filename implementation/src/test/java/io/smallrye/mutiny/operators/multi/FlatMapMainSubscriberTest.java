@@ -162,12 +162,12 @@ public class FlatMapMainSubscriberTest {
 
         sub.onSubscribe(mock(Subscription.class));
 
-        sub.wip.getAndIncrement();
+        sub.wip = 1;
 
         sub.onNext(1);
-        assertThat(sub.failures.get()).isInstanceOf(BackPressureFailure.class);
+        assertThat(sub.failures).isInstanceOf(BackPressureFailure.class);
 
-        sub.wip.set(0);
+        sub.wip = 0;
         sub.done = true;
         sub.drain();
 
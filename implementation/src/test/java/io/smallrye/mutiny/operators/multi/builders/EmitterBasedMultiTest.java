@@ -5,6 +5,7 @@ import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -238,6 +239,45 @@ public class EmitterBasedMultiTest {
         service.shutdown();
     }
 
+    @RepeatedTest(10)
+    public void testSerializedWithManyConcurrentProducers() throws InterruptedException {
+        AtomicReference<MultiEmitter<? super Integer>> reference = new AtomicReference<>();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(reference::set).subscribe()
+                .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        await().until(() -> reference.get() != null);
+
+        int producers = 4;
+        int count = 10_000;
+        CountDownLatch latch = new CountDownLatch(producers);
+        ExecutorService service = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            int offset = p * count;
+            service.submit(() -> {
+                latch.countDown();
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    // Ignore me.
+                }
+                for (int i = 0; i < count; i++) {
+                    reference.get().emit(offset + i);
+                }
+            });
+        }
+
+        await().until(() -> subscriber.getItems().size() == producers * count);
+        service.shutdown();
+
+        // Items from the same producer are received in order
+        int[] last = new int[producers];
+        Arrays.fill(last, -1);
+        for (int item : subscriber.getItems()) {
+            int producer = item / count;
+            assertThat(item).isGreaterThan(last[producer]);
+            last[producer] = item;
+        }
+    }
+
     @Test
     public void testSerializedWithConcurrentEmissionsAndFailure() {
         AtomicReference<MultiEmitter<? super Integer>> reference = new AtomicReference<>();
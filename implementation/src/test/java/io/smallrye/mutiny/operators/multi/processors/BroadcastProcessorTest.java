@@ -5,10 +5,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
@@ -432,6 +434,109 @@ public class BroadcastProcessorTest {
         latch.await(5, TimeUnit.SECONDS);
     }
 
+    @RepeatedTest(20)
+    public void testConcurrentSubscriptionsAndCancellationsDuringEmission() throws InterruptedException {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create();
+        AssertSubscriber<Integer> stable = processor.subscribe()
+                .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        int count = 10_000;
+        int churners = 3;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch churned = new CountDownLatch(churners);
+        List<AssertSubscriber<Integer>> joiners = new CopyOnWriteArrayList<>();
+        AtomicBoolean emitting = new AtomicBoolean(true);
+        for (int t = 0; t < churners; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    while (emitting.get()) {
+                        AssertSubscriber<Integer> joiner = AssertSubscriber.create(Long.MAX_VALUE);
+                        processor.subscribe(joiner);
+                        joiners.add(joiner);
+                        joiner.cancel();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    churned.countDown();
+                }
+            });
+        }
+        executor.submit(() -> {
+            start.countDown();
+            for (int i = 0; i < count; i++) {
+                processor.onNext(i);
+            }
+            emitting.set(false);
+        });
+
+        assertThat(churned.await(10, TimeUnit.SECONDS)).isTrue();
+        // The cancelled subscribers have left, only the stable one remains
+        assertThat(processor.subscribers.get()).hasSize(1);
+        processor.onComplete();
+
+        stable.assertCompleted();
+        assertThat(stable.getItems()).hasSize(count).isSorted();
+        for (AssertSubscriber<Integer> joiner : joiners) {
+            // A subscriber receives a contiguous sequence of items until it cancels, and then nothing
+            List<Integer> items = joiner.getItems();
+            for (int i = 1; i < items.size(); i++) {
+                assertThat(items.get(i)).isEqualTo(items.get(i - 1) + 1);
+            }
+            joiner.assertNotTerminated();
+        }
+    }
+
+    @RepeatedTest(20)
+    public void testConcurrentLateSubscribersAfterCompletion() throws InterruptedException {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create();
+        int count = 100;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(count);
+        List<AssertSubscriber<Integer>> subscribers = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < count; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    AssertSubscriber<Integer> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+                    subscribers.add(subscriber);
+                    processor.subscribe(subscriber);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        processor.onNext(1);
+        processor.onComplete();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // Subscribers racing with the completion, or arriving later, all get exactly one completion event
+        assertThat(subscribers).hasSize(count);
+        for (AssertSubscriber<Integer> subscriber : subscribers) {
+            subscriber.await(Duration.ofSeconds(5)).assertCompleted();
+            assertThat(subscriber.getItems()).hasSizeLessThanOrEqualTo(1);
+        }
+        assertThat(processor.subscribers.get()).isSameAs(BroadcastProcessor.TERMINATED);
+    }
+
+    @Test
+    public void testLateSubscribersAfterFailure() {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create();
+        processor.onError(new IOException("boom"));
+        processor.onNext(1);
+
+        for (int i = 0; i < 10; i++) {
+            AssertSubscriber<Integer> subscriber = processor.subscribe()
+                    .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+            subscriber.assertFailedWith(IOException.class, "boom").assertHasNotReceivedAnyItem();
+        }
+        assertThat(processor.subscribers.get()).isSameAs(BroadcastProcessor.TERMINATED);
+    }
+
     @Test
     public void testWithTransformToMultiAndMerge() {
         BroadcastProcessor<Integer> processor = BroadcastProcessor.create();
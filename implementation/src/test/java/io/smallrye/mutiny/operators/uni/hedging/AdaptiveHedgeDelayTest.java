@@ -0,0 +1,52 @@
+package io.smallrye.mutiny.operators.uni.hedging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveHedgeDelayTest {
+
+    @Test
+    public void testNoDelayUntilEnoughSamples() {
+        AdaptiveHedgeDelay delay = new AdaptiveHedgeDelay(0.95);
+        for (int i = 0; i < AdaptiveHedgeDelay.MIN_SAMPLES - 1; i++) {
+            delay.record(10);
+        }
+        assertThat(delay.delayNanos()).isEqualTo(-1L);
+        delay.record(10);
+        assertThat(delay.delayNanos()).isEqualTo(10L);
+    }
+
+    @Test
+    public void testDelayFollowsThePercentile() {
+        AdaptiveHedgeDelay delay = new AdaptiveHedgeDelay(0.95);
+        for (int i = 1; i <= 100; i++) {
+            delay.record(i);
+        }
+        // Recomputed every UPDATE_INTERVAL samples, the last update happened after 96 samples
+        assertThat(delay.delayNanos()).isEqualTo(92L);
+        for (int i = 101; i <= AdaptiveHedgeDelay.WINDOW; i++) {
+            delay.record(i);
+        }
+        assertThat(delay.delayNanos()).isEqualTo(973L);
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        AdaptiveHedgeDelay delay = new AdaptiveHedgeDelay(0.5);
+        for (int i = 0; i < AdaptiveHedgeDelay.WINDOW; i++) {
+            delay.record(1000);
+        }
+        for (int i = 0; i < AdaptiveHedgeDelay.WINDOW; i++) {
+            delay.record(10);
+        }
+        assertThat(delay.delayNanos()).isEqualTo(10L);
+    }
+
+    @Test
+    public void testInvalidPercentile() {
+        assertThatThrownBy(() -> new AdaptiveHedgeDelay(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveHedgeDelay(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,42 @@
+package io.smallrye.mutiny.operators.uni.hedging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+public class HedgeBudgetTest {
+
+    @Test
+    public void testBudgetFollowsTheRatio() {
+        HedgeBudget budget = new HedgeBudget(0.1, 100);
+        assertThat(budget.tryAcquire()).isFalse();
+
+        int hedges = 0;
+        for (int i = 0; i < 1000; i++) {
+            budget.onRequest();
+            if (budget.tryAcquire()) {
+                hedges++;
+            }
+        }
+        assertThat(hedges).isEqualTo(100);
+    }
+
+    @Test
+    public void testBalanceIsCapped() {
+        HedgeBudget budget = new HedgeBudget(0.5, 2);
+        for (int i = 0; i < 100; i++) {
+            budget.onRequest();
+        }
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        assertThatThrownBy(() -> new HedgeBudget(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HedgeBudget(1.5, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HedgeBudget(0.1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,27 @@
+package tck;
+
+import org.reactivestreams.Publisher;
+
+public class MultiFusedTckTest extends AbstractPublisherTck<Long> {
+
+    @Override
+    public Publisher<Long> createPublisher(long elements) {
+        return upstream(elements)
+                .map(x -> x + 1)
+                .filter(x -> true)
+                .invoke(x -> {
+                    // noop
+                })
+                .map(x -> x - 1);
+    }
+
+    @Override
+    public Publisher<Long> createFailedPublisher() {
+        return failedUpstream()
+                .map(x -> x + 1)
+                .filter(x -> true)
+                .invoke(x -> {
+                    // noop
+                });
+    }
+}
@@ -0,0 +1,22 @@
+package tck;
+
+import org.reactivestreams.Publisher;
+
+import io.smallrye.mutiny.Uni;
+
+public class MultiOnItemTransformToUniAndConcatenateConcurrentlyTckTest extends AbstractPublisherTck<Long> {
+
+    @Override
+    public Publisher<Long> createPublisher(long elements) {
+        return upstream(elements)
+                .onItem().transformToUni(x -> Uni.createFrom().item(x))
+                .concatenate(4);
+    }
+
+    @Override
+    public Publisher<Long> createFailedPublisher() {
+        return failedUpstream()
+                .onItem().transformToUni(x -> Uni.createFrom().item(x))
+                .concatenate(4);
+    }
+}
@@ -0,0 +1,22 @@
+package tck;
+
+import org.reactivestreams.Publisher;
+
+import io.smallrye.mutiny.Uni;
+
+public class MultiOnItemTransformToUniAndMergeAdaptivelyTckTest extends AbstractPublisherTck<Long> {
+
+    @Override
+    public Publisher<Long> createPublisher(long elements) {
+        return upstream(elements)
+                .onItem().transformToUni(x -> Uni.createFrom().item(x))
+                .mergeAdaptively(1, 8);
+    }
+
+    @Override
+    public Publisher<Long> createFailedPublisher() {
+        return failedUpstream()
+                .onItem().transformToUni(x -> Uni.createFrom().item(x))
+                .mergeAdaptively(1, 8);
+    }
+}